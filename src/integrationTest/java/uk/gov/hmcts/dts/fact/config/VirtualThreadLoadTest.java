@@ -0,0 +1,160 @@
+package uk.gov.hmcts.dts.fact.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import uk.gov.hmcts.dts.fact.mapit.MapitClient;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.mapit.MapitPostcodeCache;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test for running requests on virtual threads, against a Mapit stub that takes a second to answer.
+ *
+ * <p>With the 200 platform request threads Tomcat has by default, 1,000 concurrent searches would take at least
+ * five Mapit delays, and every other request would queue behind them. On virtual threads they all wait on Mapit at
+ * once, while the database work is queued by the {@link BoundedDataSource}.</p>
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.threads.virtual.enabled=true",
+        "resilience4j.ratelimiter.instances.default.limit-for-period=1000000",
+        "virtual-threads.datasource.maximum-waiting=2000"
+    }
+)
+@SuppressWarnings("PMD.DoNotUseThreads")
+class VirtualThreadLoadTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+    private static final Duration MAPIT_DELAY = Duration.ofSeconds(1);
+    private static final int SEARCHES = 1000;
+    private static final int PLATFORM_REQUEST_THREADS = 200;
+    private static final int OK = 200;
+    private static final MapitData MAPIT_DATA = new MapitData(51.75, -1.25, null, null);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MapitPostcodeCache mapitPostcodeCache;
+
+    @MockitoBean
+    private MapitClient mapitClient;
+
+    private final AtomicInteger mapitCalls = new AtomicInteger();
+    private final HttpClient httpClient = HttpClient.newBuilder().build();
+
+    @BeforeEach
+    void setUp() {
+        mapitPostcodeCache.invalidateAll();
+        when(mapitClient.getMapitData(anyString())).thenAnswer(invocation -> {
+            mapitCalls.incrementAndGet();
+            Thread.sleep(MAPIT_DELAY.toMillis());
+            return MAPIT_DATA;
+        });
+    }
+
+    @Test
+    void shouldGuardTheConnectionPool() {
+        assertThat(dataSource).isInstanceOf(BoundedDataSource.class);
+    }
+
+    @Test
+    void shouldAnswerConcurrentSearchesWhileMapitIsSlow() throws Exception {
+        // Warm up with a handful of searches, which also builds the search indexes
+        search(IntStream.range(0, 10).mapToObj(i -> "OX9 " + i + "ZZ").collect(Collectors.toList()));
+
+        final long start = System.nanoTime();
+        final List<Integer> statuses = search(postcodes());
+        final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        LOG.info("{} searches with a {}ms Mapit delay took {}ms, {} searches a second",
+                 SEARCHES, MAPIT_DELAY.toMillis(), elapsed.toMillis(), SEARCHES * 1000L / elapsed.toMillis());
+        assertThat(statuses).hasSize(SEARCHES).allMatch(status -> status == OK);
+        assertThat(elapsed).isLessThan(MAPIT_DELAY.multipliedBy(SEARCHES / PLATFORM_REQUEST_THREADS - 1));
+    }
+
+    @Test
+    void shouldAnswerCourtDetailsWhileSearchesWaitOnMapit() throws Exception {
+        final String courtPath = "/courts/aylesbury-magistrates-court-and-family-court";
+        assertThat(get(courtPath).statusCode()).isEqualTo(OK);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final CompletableFuture<List<Integer>> searches =
+                CompletableFuture.supplyAsync(() -> search(postcodes()), executor);
+            while (mapitCalls.get() < SEARCHES / 2 && !searches.isDone()) {
+                Thread.sleep(10);
+            }
+
+            final long start = System.nanoTime();
+            final HttpResponse<String> court = get(courtPath);
+            final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            LOG.info("Court details took {}ms with {} searches waiting on Mapit", elapsed.toMillis(), mapitCalls.get());
+            assertThat(court.statusCode()).isEqualTo(OK);
+            assertThat(elapsed).isLessThan(MAPIT_DELAY);
+            assertThat(searches.join()).allMatch(status -> status == OK);
+        }
+    }
+
+    private List<String> postcodes() {
+        return IntStream.range(0, SEARCHES)
+            .mapToObj(i -> "OX" + (i / 10 + 1) + " " + (i % 10) + "AA")
+            .collect(Collectors.toList());
+    }
+
+    private List<Integer> search(final List<String> postcodes) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<CompletableFuture<Integer>> responses = postcodes.stream()
+                .map(postcode -> CompletableFuture.supplyAsync(() -> get(
+                    "/search/results?serviceArea=money-claims&postcode="
+                        + URLEncoder.encode(postcode, StandardCharsets.UTF_8)
+                ).statusCode(), executor))
+                .collect(Collectors.toList());
+            return responses.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        }
+    }
+
+    private HttpResponse<String> get(final String path) {
+        try {
+            return httpClient.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString()
+            );
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the plans of the keyset audit queries, to make sure each page seeks into the creation time index at the
+ * cursor instead of reading and discarding every newer audit.
+ *
+ * <p>Each test first adds enough audits for the planner to choose the index by itself, as it would against the
+ * production data. The audits are rolled back with the test's transaction.</p>
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class AuditQueryPlanTest {
+
+    private static final int AUDITS = 20_000;
+    private static final LocalDateTime CURSOR_TIME = LocalDateTime.now().minusDays(7);
+    private static final String CREATION_TIME = "creationTime";
+
+    private static final String SEED_AUDITS =
+        "INSERT INTO admin_audit (user_email, action_id, location, creation_time) "
+        + "SELECT 'user' || (i % 50) || '@justice.gov.uk', (SELECT MIN(id) FROM admin_audittype), "
+        + "'court-' || (i % 400), now() - i * interval '1 minute' "
+        + "FROM generate_series(1, " + AUDITS + ") AS i";
+    private static final String ANALYZE = "ANALYZE admin_audit";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        List.of(SEED_AUDITS, ANALYZE).forEach(jdbcTemplate.getJdbcTemplate()::execute);
+    }
+
+    @Test
+    void shouldSeekToTheCursorForAuditsBefore() throws NoSuchMethodException {
+        final List<String> plan = explain(
+            query("findAllBefore", String.class, String.class, LocalDateTime.class, int.class, Pageable.class),
+            Map.of(CREATION_TIME, CURSOR_TIME, "id", Integer.MAX_VALUE)
+        );
+
+        assertSeeksToCursor(plan);
+    }
+
+    @Test
+    void shouldSeekToTheCursorForAuditsBetweenDatesBefore() throws NoSuchMethodException {
+        final List<String> plan = explain(
+            query("findAllBetweenBefore", String.class, String.class, LocalDateTime.class, LocalDateTime.class,
+                  LocalDateTime.class, int.class, Pageable.class),
+            Map.of("dateFrom", CURSOR_TIME.minusDays(7), "dateTo", CURSOR_TIME.plusDays(1),
+                   CREATION_TIME, CURSOR_TIME, "id", Integer.MAX_VALUE)
+        );
+
+        assertSeeksToCursor(plan);
+    }
+
+    private static void assertSeeksToCursor(final List<String> plan) {
+        assertThat(plan).noneMatch(line -> line.contains("Seq Scan on admin_audit"));
+        assertThat(plan).anyMatch(line -> line.contains("creation_time_id_idx"));
+        assertThat(plan).anyMatch(line -> line.contains("Index Cond:") && line.contains("creation_time <="));
+    }
+
+    private List<String> explain(final String sql, final Map<String, ?> parameters) {
+        // The service pages with unfiltered location and email searches by default, and the repository adds the limit
+        final Map<String, Object> allParameters = new HashMap<>(parameters);
+        allParameters.put("location", "");
+        allParameters.put("email", "");
+        return jdbcTemplate.queryForList("EXPLAIN " + sql + " LIMIT 11", allParameters, String.class);
+    }
+
+    // The SQL of a keyset query, with the escaped LIKE parameters Spring Data binds written as plain ones
+    private static String query(final String method, final Class<?>... parameterTypes)
+        throws NoSuchMethodException {
+        return AuditRepository.class.getMethod(method, parameterTypes).getAnnotation(Query.class).value()
+            .replace("%:#{escape([0])}%", "concat('%', :location, '%')")
+            .replace("%:#{escape([1])}%", "concat('%', :email, '%')")
+            .replace(":#{escapeCharacter()}", "'\\'");
+    }
+}
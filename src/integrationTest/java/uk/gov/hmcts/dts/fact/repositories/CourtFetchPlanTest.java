@@ -0,0 +1,111 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.dts.fact.model.Court;
+import uk.gov.hmcts.dts.fact.model.CourtForDownload;
+import uk.gov.hmcts.dts.fact.model.CourtReference;
+import uk.gov.hmcts.dts.fact.services.CourtReadModelLoader;
+import uk.gov.hmcts.dts.fact.services.CourtService;
+import uk.gov.hmcts.dts.fact.services.admin.AdminService;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the statements run to build each shape of court, to stop the court collections going back to being loaded
+ * one query per court.
+ *
+ * <p>Each shape is built in a transaction, as it is with the session held open for the request. The limits allow
+ * one statement per association of the shape, and the statements for many courts must stay below the number of
+ * courts.</p>
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CourtFetchPlanTest {
+
+    private static final String SLUG = "birmingham-civil-and-family-justice-centre";
+    private static final List<String> COURT_TYPES = List.of("magistrates", "family");
+    private static final long DETAIL_STATEMENTS = 25;
+    private static final long LIST_STATEMENTS = 2;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CourtRepository courtRepository;
+
+    @Autowired
+    private CourtService courtService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private CourtReadModelLoader courtReadModelLoader;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldBuildCourtDetailsWithABoundedNumberOfStatements() {
+        final Court court = inTransaction(() -> courtRepository.findBySlug(SLUG).map(Court::new).orElseThrow());
+
+        assertThat(court.getAddresses()).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(DETAIL_STATEMENTS);
+    }
+
+    @Test
+    void shouldBuildCourtsByCourtTypeWithFewerStatementsThanCourts() {
+        final List<Court> courts = inTransaction(() -> courtService.getCourtsByCourtTypes(COURT_TYPES));
+
+        assertThat(courts).hasSizeGreaterThan((int) DETAIL_STATEMENTS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(courts.size());
+    }
+
+    @Test
+    void shouldBuildTheReadModelWithFewerStatementsThanCourts() {
+        final long courts = courtRepository.count();
+        statistics.clear();
+
+        courtReadModelLoader.load(0);
+
+        assertThat(courts).isGreaterThan(DETAIL_STATEMENTS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(courts);
+    }
+
+    @Test
+    void shouldListCourtsWithoutLoadingTheirDetailsOneByOne() {
+        final List<CourtReference> courts = inTransaction(adminService::getAllCourtReferences);
+
+        assertThat(courts).isNotEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(LIST_STATEMENTS);
+    }
+
+    @Test
+    void shouldBuildTheDownloadWithFewerStatementsThanCourts() {
+        final List<CourtForDownload> courts = inTransaction(adminService::getAllCourtsForDownload);
+
+        assertThat(courts).hasSizeGreaterThan((int) DETAIL_STATEMENTS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(courts.size());
+    }
+
+    private <T> T inTransaction(final Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
@@ -67,13 +67,13 @@ class CourtPostcodeRepositoryTest {
 
     @Test
     void shouldDeleteByCourtIdAndPostcode() {
-        // Add a postcode twice and test both instances can be deleted
-        courtPostcodeRepository.save(new CourtPostcode(TEST_POSTCODE, court.get()));
+        // A court can only have each postcode once
         courtPostcodeRepository.save(new CourtPostcode(TEST_POSTCODE, court.get()));
 
         final SoftAssertions softly = new SoftAssertions();
         softly.assertThat(courtPostcodeRepository.findByCourtIdAndPostcode(courtId, TEST_POSTCODE)).isNotEmpty();
-        softly.assertThat(courtPostcodeRepository.deleteByCourtIdAndPostcode(courtId, TEST_POSTCODE)).hasSize(2);
+        softly.assertThat(courtPostcodeRepository.countByCourtId(courtId)).isPositive();
+        softly.assertThat(courtPostcodeRepository.deleteByCourtIdAndPostcode(courtId, TEST_POSTCODE)).hasSize(1);
         softly.assertThat(courtPostcodeRepository.findByCourtIdAndPostcode(courtId, TEST_POSTCODE)).isEmpty();
         softly.assertAll();
     }
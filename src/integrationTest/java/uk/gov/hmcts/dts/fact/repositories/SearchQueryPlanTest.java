@@ -0,0 +1,132 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the plans of the hot search queries, to make sure the indexes they rely on exist and are chosen.
+ *
+ * <p>The test data is small enough for Postgres to prefer sequential scans anyway, so each test first adds enough
+ * courts, addresses and court postcodes for the planner to choose the indexes by itself, as it would against the
+ * production data. The rows are rolled back with the test's transaction.</p>
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest
+class SearchQueryPlanTest {
+
+    private static final double LAT = 51.8;
+    private static final double LON = -1.3;
+    private static final String QUERY = "query";
+    private static final String AOL = "aol";
+    private static final String INCLUDE_CLOSED = "includeClosed";
+    private static final List<String> SEEDED_TABLES =
+        List.of("search_court", "search_courtaddress", "search_courtpostcode");
+
+    private static final String SEED_COURTS =
+        "INSERT INTO search_court (name, slug, displayed, hide_aols, welsh_enabled, lat, lon) "
+        + "SELECT 'Plan test court ' || i, 'plan-test-court-' || i, true, false, false, "
+        + "50 + (i % 500) / 100.0, -5 + (i / 500) / 10.0 "
+        + "FROM generate_series(1, 20000) AS i";
+    private static final String SEED_ADDRESSES =
+        "INSERT INTO search_courtaddress (court_id, address_type_id, address, town_name, postcode) "
+        + "SELECT c.id, (SELECT MIN(id) FROM search_addresstype WHERE id != 5881), "
+        + "'Plan test street', 'Plan test town', 'ZZ' || c.id "
+        + "FROM search_court c WHERE c.slug LIKE 'plan-test-court-%'";
+    private static final String SEED_POSTCODES =
+        "INSERT INTO search_courtpostcode (court_id, postcode) "
+        + "SELECT c.id, 'ZZ' || c.id FROM search_court c WHERE c.slug LIKE 'plan-test-court-%'";
+    private static final String ANALYZE = "ANALYZE search_court, search_courtaddress, search_courtpostcode";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        List.of(SEED_COURTS, SEED_ADDRESSES, SEED_POSTCODES, ANALYZE).forEach(jdbcTemplate.getJdbcTemplate()::execute);
+    }
+
+    @Test
+    void shouldUseTrigramIndexesForExactMatchSearch() throws NoSuchMethodException {
+        final List<String> plan = explain(
+            query(CourtRepository.class, "findCourtByNameAddressTownOrPartialPostcodeExactMatch", String.class),
+            Map.of(QUERY, "Oxford")
+        );
+
+        assertNoSeqScans(plan);
+        assertThat(plan).anyMatch(line -> line.contains("trgm_idx_name_normalised"));
+        assertThat(plan).anyMatch(line -> line.contains("trgm_idx_town_name_normalised"));
+    }
+
+    @Test
+    void shouldUseTrigramIndexesForCourtSearch() throws NoSuchMethodException {
+        final List<String> plan = explain(
+            query(CourtRepository.class, "queryBy", String.class, Boolean.class),
+            Map.of(QUERY, "Oxford", INCLUDE_CLOSED, false)
+        );
+
+        assertNoSeqScans(plan);
+        assertThat(plan).anyMatch(line -> line.contains("trgm_idx_postcode_compact"));
+    }
+
+    @Test
+    void shouldUseIndexesForCourtCodeAndFullPostcodeSearch() throws NoSuchMethodException {
+        assertNoSeqScans(explain(
+            query(CourtRepository.class, "findCourtByCourtCode", Integer.class),
+            Map.of("code", 180)
+        ));
+        assertNoSeqScans(explain(
+            query(CourtRepository.class, "findCourtByFullPostcode", String.class),
+            Map.of("postcode", "OX1 1TL")
+        ));
+    }
+
+    @Test
+    void shouldUseIndexesForNearestCourts() throws NoSuchMethodException {
+        final List<String> nearestTen = explain(
+            query(CourtWithDistanceRepository.class, "findNearestTen", Double.class, Double.class),
+            Map.of("lat", LAT, "lon", LON)
+        );
+        assertNoSeqScans(nearestTen);
+        assertThat(nearestTen).anyMatch(line -> line.contains("search_court_earth_idx"));
+
+        assertNoSeqScans(explain(
+            query(CourtWithDistanceRepository.class, "findNearestTenByAreaOfLaw",
+                  Double.class, Double.class, String.class, Boolean.class),
+            Map.of("lat", LAT, "lon", LON, AOL, "Tax", INCLUDE_CLOSED, true)
+        ));
+        assertNoSeqScans(explain(
+            query(CourtWithDistanceRepository.class, "findNearestTenByAreaOfLawAndCourtPostcode",
+                  Double.class, Double.class, String.class, String.class, Boolean.class),
+            Map.of("lat", LAT, "lon", LON, AOL, "Money claims", "postcode", "NW62HH", INCLUDE_CLOSED, true)
+        ));
+        assertNoSeqScans(explain(
+            query(CourtWithDistanceRepository.class, "findNearestTenByAreaOfLawAndLocalAuthority",
+                  Double.class, Double.class, String.class, String.class, Boolean.class),
+            Map.of("lat", LAT, "lon", LON, AOL, "Children", "localAuthority", "Oxfordshire County Council",
+                   INCLUDE_CLOSED, false)
+        ));
+    }
+
+    private static void assertNoSeqScans(final List<String> plan) {
+        SEEDED_TABLES.forEach(table -> assertThat(plan).noneMatch(line -> line.contains("Seq Scan on " + table + " ")));
+    }
+
+    private List<String> explain(final String sql, final Map<String, ?> parameters) {
+        return jdbcTemplate.queryForList("EXPLAIN " + sql, parameters, String.class);
+    }
+
+    private static String query(final Class<?> repository, final String method, final Class<?>... parameterTypes)
+        throws NoSuchMethodException {
+        return repository.getMethod(method, parameterTypes).getAnnotation(Query.class).value();
+    }
+}
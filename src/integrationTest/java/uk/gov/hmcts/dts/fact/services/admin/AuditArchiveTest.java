@@ -0,0 +1,100 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.dts.fact.entity.Audit;
+import uk.gov.hmcts.dts.fact.model.admin.AuditSlice;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Moves a month of audits from its partition to the archive, and reads them back through the audit search.
+ */
+@SpringBootTest
+class AuditArchiveTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2001, 1);
+    private static final String LOCATION = "archive test court";
+
+    @Autowired
+    private AuditArchive auditArchive;
+
+    @Autowired
+    private AdminAuditService adminAuditService;
+
+    @Autowired
+    private AuditWriter auditWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        auditArchive.createPartition(MONTH);
+        for (int day = 1; day <= 3; day++) {
+            jdbcTemplate.update(AuditWriter.INSERT, "archive" + day + "@justice.gov.uk", 1, "before", "after",
+                                LOCATION, Timestamp.valueOf(MONTH.atDay(day).atTime(12, 0)), "FULL");
+        }
+        auditWriter.flush();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM admin_audit_archive WHERE month = ?", Date.valueOf(MONTH.atDay(1)));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS admin_audit_p200101");
+    }
+
+    @Test
+    void shouldMoveAMonthToTheArchive() {
+        assertThat(auditArchive.findPartitions()).contains(MONTH);
+
+        assertThat(auditArchive.archive(MONTH)).isEqualTo(3);
+
+        assertThat(auditArchive.findPartitions()).doesNotContain(MONTH);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM admin_audit WHERE location = ?",
+                                               Integer.class, LOCATION)).isZero();
+        assertThat(auditArchive.findHotFrom()).isPresent();
+    }
+
+    @Test
+    void shouldFindArchivedAuditsNewestFirst() {
+        auditArchive.archive(MONTH);
+
+        final List<Audit> audits = auditArchive.find(LOCATION, "archive", Optional.empty(), Optional.empty(),
+                                                     AuditCursor.FIRST, 10);
+
+        assertThat(audits).extracting(Audit::getUserEmail)
+            .containsExactly("archive3@justice.gov.uk", "archive2@justice.gov.uk", "archive1@justice.gov.uk");
+        assertThat(audits).allMatch(audit -> audit.getAuditType() != null);
+    }
+
+    @Test
+    void shouldSearchTheArchiveWhenTheDateRangeReachesIt() {
+        auditArchive.archive(MONTH);
+        final Optional<LocalDateTime> dateFrom = Optional.of(MONTH.atDay(1).atStartOfDay());
+        final Optional<LocalDateTime> dateTo = Optional.of(MONTH.atEndOfMonth().atStartOfDay());
+
+        final AuditSlice first = adminAuditService.getAuditDataAfter("", 2, Optional.of(LOCATION), Optional.empty(),
+                                                                     dateFrom, dateTo);
+        final AuditSlice second = adminAuditService.getAuditDataAfter(first.getNextCursor(), 2, Optional.of(LOCATION),
+                                                                      Optional.empty(), dateFrom, dateTo);
+
+        assertThat(first.getAudits()).hasSize(2);
+        assertThat(second.getAudits()).hasSize(1);
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(adminAuditService.getAllAuditData(1, 2, Optional.of(LOCATION), Optional.empty(), dateFrom, dateTo))
+            .extracting(uk.gov.hmcts.dts.fact.model.admin.Audit::getUserEmail)
+            .containsExactly("archive1@justice.gov.uk");
+    }
+}
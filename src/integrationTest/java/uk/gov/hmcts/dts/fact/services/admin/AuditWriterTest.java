@@ -0,0 +1,70 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.dts.fact.util.AuditDataEncoding;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Writes audits to the outbox, in and out of a transaction, and moves them into the audit table.
+ */
+@SpringBootTest
+class AuditWriterTest {
+
+    private static final String LOCATION = "audit writer test court";
+
+    @Autowired
+    private AuditWriter auditWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM admin_audit_outbox WHERE location = ?", LOCATION);
+        jdbcTemplate.update("DELETE FROM admin_audit WHERE location = ?", LOCATION);
+    }
+
+    @Test
+    void shouldMoveTheOutboxIntoTheAuditTable() {
+        auditWriter.write(audit());
+
+        auditWriter.flush();
+
+        assertThat(count("admin_audit_outbox")).isZero();
+        assertThat(count("admin_audit")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotAuditAChangeThatIsRolledBack() {
+        transactionTemplate.executeWithoutResult(status -> {
+            auditWriter.write(audit());
+            status.setRollbackOnly();
+        });
+
+        auditWriter.flush();
+
+        assertThat(count("admin_audit_outbox")).isZero();
+        assertThat(count("admin_audit")).isZero();
+    }
+
+    private int count(final String table) {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM " + table + " WHERE location = ?", Integer.class, LOCATION);
+    }
+
+    private static PendingAudit audit() {
+        return new PendingAudit("user@justice.gov.uk", 1, "[]", "[]", LOCATION, LocalDateTime.now(),
+                                AuditDataEncoding.FULL);
+    }
+}
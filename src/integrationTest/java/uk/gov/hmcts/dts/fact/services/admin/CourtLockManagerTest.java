@@ -0,0 +1,90 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.dts.fact.exception.LockExistsException;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Takes the same court lock from many threads at once, each with a manager of its own as if on its own instance.
+ */
+@SpringBootTest
+@SuppressWarnings("PMD.DoNotUseThreads")
+class CourtLockManagerTest {
+
+    private static final String SLUG = "court-lock-manager-test";
+    private static final int ADMINS = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM admin_courtlock WHERE court_slug = ?", SLUG);
+    }
+
+    @Test
+    void shouldGiveTheLockToOneAdminOnly() {
+        final List<Boolean> acquired;
+        try (ExecutorService executor = Executors.newFixedThreadPool(ADMINS)) {
+            final List<CompletableFuture<Boolean>> attempts = IntStream.range(0, ADMINS)
+                .mapToObj(admin -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return newManager().acquire(SLUG, "admin" + admin + "@justice.gov.uk").isAcquired();
+                    } catch (final LockExistsException ex) {
+                        return false;
+                    }
+                }, executor))
+                .collect(Collectors.toList());
+            acquired = attempts.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        }
+
+        assertThat(acquired).containsOnlyOnce(true);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM admin_courtlock WHERE court_slug = ?",
+                                               Integer.class, SLUG)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRenewTheLockForTheSameAdmin() {
+        final CourtLockManager courtLockManager = newManager();
+
+        assertThat(courtLockManager.acquire(SLUG, "mosh@justice.gov.uk").isAcquired()).isTrue();
+        assertThat(newManager().acquire(SLUG, "mosh@justice.gov.uk").isAcquired()).isFalse();
+        assertThatThrownBy(() -> newManager().acquire(SLUG, "kupo@justice.gov.uk"))
+            .isInstanceOf(LockExistsException.class);
+    }
+
+    @Test
+    void shouldTakeOverAnExpiredLock() {
+        newManager().acquire(SLUG, "mosh@justice.gov.uk");
+        jdbcTemplate.update("UPDATE admin_courtlock SET lock_acquired = ? WHERE court_slug = ?",
+                            Timestamp.valueOf(LocalDateTime.now(ZoneOffset.UTC).minusMinutes(21)), SLUG);
+
+        final CourtLockLease lease = newManager().acquire(SLUG, "kupo@justice.gov.uk");
+
+        assertThat(lease.isAcquired()).isTrue();
+        assertThat(lease.getCourtLock().getUserEmail()).isEqualTo("kupo@justice.gov.uk");
+        assertThat(lease.getPrevious()).hasValueSatisfying(
+            previous -> assertThat(previous.getUserEmail()).isEqualTo("mosh@justice.gov.uk"));
+    }
+
+    private CourtLockManager newManager() {
+        return new CourtLockManager(jdbcTemplate, Duration.ofMinutes(20), Duration.ofMinutes(1));
+    }
+}
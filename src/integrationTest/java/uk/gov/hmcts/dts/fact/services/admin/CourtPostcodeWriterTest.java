@@ -0,0 +1,85 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Adds, moves and deletes a catchment of postcodes, rolling back after each test.
+ */
+@SpringBootTest
+@Transactional
+class CourtPostcodeWriterTest {
+
+    private static final int CATCHMENT_SIZE = 5000;
+
+    @Autowired
+    private CourtPostcodeWriter courtPostcodeWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Integer sourceCourtId;
+    private Integer destinationCourtId;
+
+    @BeforeEach
+    void setUp() {
+        final List<Integer> courtIds = jdbcTemplate.queryForList(
+            "SELECT id FROM search_court ORDER BY id LIMIT 2", Integer.class);
+        sourceCourtId = courtIds.get(0);
+        destinationCourtId = courtIds.get(1);
+    }
+
+    @Test
+    void shouldAddACatchmentInOneStatement() {
+        final List<String> catchment = catchment();
+
+        assertThat(courtPostcodeWriter.insert(sourceCourtId, catchment)).hasSize(CATCHMENT_SIZE);
+        assertThat(count(sourceCourtId)).isEqualTo(CATCHMENT_SIZE);
+    }
+
+    @Test
+    void shouldSkipPostcodesTheCourtAlreadyHas() {
+        courtPostcodeWriter.insert(sourceCourtId, asList("ZZ11AA", "ZZ11AB"));
+
+        assertThat(courtPostcodeWriter.insert(sourceCourtId, asList("ZZ11AB", "ZZ11AC")))
+            .containsExactly("ZZ11AC");
+        assertThat(count(sourceCourtId)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldMoveAndDeleteACatchment() {
+        final List<String> catchment = catchment();
+        courtPostcodeWriter.insert(sourceCourtId, catchment);
+
+        assertThat(courtPostcodeWriter.move(sourceCourtId, destinationCourtId, catchment.subList(0, 10)))
+            .hasSize(10);
+        assertThat(count(sourceCourtId)).isEqualTo(CATCHMENT_SIZE - 10);
+        assertThat(count(destinationCourtId)).isEqualTo(10);
+
+        assertThat(courtPostcodeWriter.delete(sourceCourtId, catchment)).hasSize(CATCHMENT_SIZE - 10);
+        assertThat(count(sourceCourtId)).isZero();
+    }
+
+    private static List<String> catchment() {
+        return IntStream.range(0, CATCHMENT_SIZE)
+            .mapToObj(i -> String.format("ZZ%d%dA%c", i / 1000, i % 1000, (char) ('A' + i % 26)))
+            .collect(Collectors.toList());
+    }
+
+    private int count(final Integer courtId) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM search_courtpostcode WHERE court_id = ? AND postcode LIKE 'ZZ%'",
+            Integer.class, courtId);
+    }
+}
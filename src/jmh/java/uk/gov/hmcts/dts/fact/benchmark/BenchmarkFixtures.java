@@ -0,0 +1,268 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository.CourtPostcodeValue;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository.LocalAuthorityCatchment;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.search.CourtSpatialIndex;
+import uk.gov.hmcts.dts.fact.services.search.CourtSpatialIndexLoader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the fixture data the benchmarks run against from the classpath, so they need no database or network.
+ */
+final class BenchmarkFixtures {
+
+    /** The area of law every family regional court is in. */
+    static final String CHILDREN = "Children";
+    /** The area of law every family non-regional court is in. */
+    static final String ADOPTION = "Adoption";
+    /** The area of law every civil court is in. */
+    static final String MONEY_CLAIMS = "Money claims";
+    /** An area of law searched by proximity only. */
+    static final String TAX = "Tax";
+    /** The postcode of the two-tier Mapit data. */
+    static final String TWO_TIER_POSTCODE = "OX1 1TL";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final List<String> AREAS_OF_LAW = List.of(CHILDREN, ADOPTION, MONEY_CLAIMS, TAX, "Divorce");
+    private static final String LOCAL_AUTHORITY = "Oxfordshire County Council";
+    private static final int COURTS = 400;
+    private static final int REGIONAL_EVERY = 10;
+    private static final double CENTRE_LAT = 51.75;
+    private static final double CENTRE_LON = -1.26;
+    private static final int BUILD_ATTEMPTS = 500;
+    private static final long BUILD_WAIT_MILLIS = 10;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Get the postcodes users search with, from full and partial to misspelt ones.
+     * @return the postcodes, in the order they appear in the fixture
+     */
+    static List<String> postcodes() {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(open("postcodes.txt"), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get a fully populated court, with the facilities, addresses, contacts, emails and opening times of a busy
+     * court centre.
+     * @return the court entity
+     */
+    static Court court() {
+        return read("court-entity.json", Court.class);
+    }
+
+    /**
+     * Get the Mapit data for a postcode within a county council and a district council.
+     * @return the Mapit data
+     */
+    static MapitData twoTierMapitData() {
+        return read("mapit-two-tier.json", MapitData.class);
+    }
+
+    /**
+     * Get the Mapit data for a postcode within a unitary authority.
+     * @return the Mapit data
+     */
+    static MapitData unitaryMapitData() {
+        return read("mapit-unitary.json", MapitData.class);
+    }
+
+    /**
+     * Get a spatial index built over a few hundred courts spread across England, about as many as the
+     * service has. Each court is in two areas of law, with a local authority catchment for each of them, and some
+     * are regional or registered against the postcodes of the Mapit fixtures. The index is built before it is
+     * returned, so no search made on it goes to the repository.
+     * @return the court spatial index
+     */
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    static CourtSpatialIndex courtSpatialIndex() {
+        final CourtWithDistanceRepository repository = courtRepository();
+        final CourtSpatialIndex courtSpatialIndex = new CourtSpatialIndex(
+            repository,
+            new CourtSpatialIndexLoader(repository),
+            new DataVersion(new StoredDataVersion()),
+            new SimpleMeterRegistry()
+        );
+        courtSpatialIndex.warmUp();
+
+        // Until the index is built the searches go to the repository, which finds nothing
+        for (int attempt = 0; courtSpatialIndex.findNearestTen(CENTRE_LAT, CENTRE_LON).isEmpty(); attempt++) {
+            if (attempt == BUILD_ATTEMPTS) {
+                throw new IllegalStateException("The court spatial index wasn't built");
+            }
+            try {
+                Thread.sleep(BUILD_WAIT_MILLIS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        return courtSpatialIndex;
+    }
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private static CourtWithDistanceRepository courtRepository() {
+        final List<CourtWithDistance> courts = new ArrayList<>();
+        final List<LocalAuthorityCatchment> catchments = new ArrayList<>();
+        final List<Integer> regionalCourtIds = new ArrayList<>();
+        final List<CourtPostcodeValue> courtPostcodes = new ArrayList<>();
+        for (int id = 1; id <= COURTS; id++) {
+            final CourtWithDistance court = courtWithDistance(id);
+            courts.add(court);
+            for (final AreaOfLaw areaOfLaw : court.getAreasOfLaw()) {
+                final String localAuthority = id % 8 == 0 ? LOCAL_AUTHORITY : "Council " + id % 40;
+                catchments.add(new Catchment(id, areaOfLaw.getName(), localAuthority));
+            }
+            if (id % REGIONAL_EVERY == 0) {
+                regionalCourtIds.add(id);
+            }
+            courtPostcodes.add(new CourtPostcode(id, id % 16 == 0 ? TWO_TIER_POSTCODE : "ZZ" + id));
+        }
+
+        // Only the queries the index is loaded from are answered, any other query finds nothing
+        final Map<String, List<?>> loadQueries = Map.of(
+            "findAllWithoutDistance", courts,
+            "findAllLocalAuthorityCatchments", catchments,
+            "findRegionalCourtIds", regionalCourtIds,
+            "findAllCourtPostcodes", courtPostcodes
+        );
+        return (CourtWithDistanceRepository) Proxy.newProxyInstance(
+            CourtWithDistanceRepository.class.getClassLoader(),
+            new Class<?>[] {CourtWithDistanceRepository.class},
+            (proxy, method, args) -> {
+                if (!method.getReturnType().isAssignableFrom(List.class)) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                return loadQueries.getOrDefault(method.getName(), Collections.emptyList());
+            }
+        );
+    }
+
+    private static CourtWithDistance courtWithDistance(final int id) {
+        final CourtWithDistance court = new CourtWithDistance();
+        court.setId(id);
+        court.setName("Court " + id);
+        court.setSlug("court-" + id);
+        court.setDisplayed(id % 25 != 0);
+        court.setLat(50.5 + id % 20 * 0.15);
+        court.setLon(-3.5 + id / 20 * 0.2);
+        court.setAreasOfLaw(List.of(
+            areaOfLaw(id % AREAS_OF_LAW.size()),
+            areaOfLaw((id + 2) % AREAS_OF_LAW.size())
+        ));
+        court.setAreasOfLawSpoe(Collections.emptyList());
+        court.setAddresses(Collections.emptyList());
+        return court;
+    }
+
+    private static AreaOfLaw areaOfLaw(final int index) {
+        final AreaOfLaw areaOfLaw = new AreaOfLaw();
+        areaOfLaw.setId(index + 1);
+        areaOfLaw.setName(AREAS_OF_LAW.get(index));
+        return areaOfLaw;
+    }
+
+    private static <T> T read(final String resource, final Class<T> type) {
+        try (InputStream inputStream = open(resource)) {
+            return OBJECT_MAPPER.readValue(inputStream, type);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream open(final String resource) {
+        final InputStream inputStream = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(resource);
+        if (inputStream == null) {
+            throw new IllegalStateException("Missing benchmark fixture " + resource);
+        }
+        return inputStream;
+    }
+
+    /**
+     * A JDBC template reading the data version marker as it is in a new database, as the benchmarks have none.
+     */
+    private static final class StoredDataVersion extends JdbcTemplate {
+        @Override
+        public <T> T queryForObject(final String sql, final Class<T> requiredType) {
+            return requiredType.cast(0L);
+        }
+    }
+
+    private static final class Catchment implements LocalAuthorityCatchment {
+        private final Integer courtId;
+        private final String areaOfLaw;
+        private final String localAuthority;
+
+        private Catchment(final Integer courtId, final String areaOfLaw, final String localAuthority) {
+            this.courtId = courtId;
+            this.areaOfLaw = areaOfLaw;
+            this.localAuthority = localAuthority;
+        }
+
+        @Override
+        public Integer getCourtId() {
+            return courtId;
+        }
+
+        @Override
+        public String getAreaOfLaw() {
+            return areaOfLaw;
+        }
+
+        @Override
+        public String getLocalAuthority() {
+            return localAuthority;
+        }
+    }
+
+    private static final class CourtPostcode implements CourtPostcodeValue {
+        private final Integer courtId;
+        private final String postcode;
+
+        private CourtPostcode(final Integer courtId, final String postcode) {
+            this.courtId = courtId;
+            this.postcode = postcode;
+        }
+
+        @Override
+        public Integer getCourtId() {
+            return courtId;
+        }
+
+        @Override
+        public String getPostcode() {
+            return postcode;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.i18n.LocaleContextHolder;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.model.CourtForDownload;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks mapping a fully populated court entity to the court details and to the court download row.
+ *
+ * <p>The court details choose between English and Welsh text by the request locale, so they are measured in both.
+ * The locale is set on the benchmark thread, as a request would set it.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CourtModelBenchmark {
+
+    @Param({"en", "cy"})
+    private String language;
+
+    private Court court;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        court = BenchmarkFixtures.court();
+        LocaleContextHolder.setLocale(Locale.forLanguageTag(language));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Benchmark
+    public uk.gov.hmcts.dts.fact.model.Court courtDetails() {
+        return new uk.gov.hmcts.dts.fact.model.Court(court);
+    }
+
+    @Benchmark
+    public CourtForDownload courtForDownload() {
+        return new CourtForDownload(court);
+    }
+}
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks finding the local authority in a Mapit response, for both shapes the council shortcut comes in.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapitDataBenchmark {
+
+    private MapitData twoTier;
+    private MapitData unitary;
+
+    @Setup
+    public void setUp() {
+        twoTier = BenchmarkFixtures.twoTierMapitData();
+        unitary = BenchmarkFixtures.unitaryMapitData();
+    }
+
+    @Benchmark
+    public Optional<String> getLocalAuthorityForTwoTierCouncil() {
+        return twoTier.getLocalAuthority();
+    }
+
+    @Benchmark
+    public Optional<String> getLocalAuthorityForUnitaryAuthority() {
+        return unitary.getLocalAuthority();
+    }
+}
@@ -0,0 +1,58 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.gov.hmcts.dts.fact.services.validation.PostcodeValidator;
+import uk.gov.hmcts.dts.fact.util.Utils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the postcode checks every postcode search goes through, over the whole postcode fixture so that
+ * matching and non-matching postcodes are both measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostcodeBenchmark {
+
+    private String[] postcodes;
+
+    @Setup
+    public void setUp() {
+        postcodes = BenchmarkFixtures.postcodes().toArray(new String[0]);
+    }
+
+    @Benchmark
+    public void isFullPostcodeFormat(final Blackhole blackhole) {
+        for (final String postcode : postcodes) {
+            blackhole.consume(PostcodeValidator.isFullPostcodeFormat(postcode));
+        }
+    }
+
+    @Benchmark
+    public void isScottishPostcode(final Blackhole blackhole) {
+        for (final String postcode : postcodes) {
+            blackhole.consume(Utils.isScottishPostcode(postcode));
+        }
+    }
+
+    @Benchmark
+    public void upperCaseAndStripAllSpaces(final Blackhole blackhole) {
+        for (final String postcode : postcodes) {
+            blackhole.consume(Utils.upperCaseAndStripAllSpaces(postcode));
+        }
+    }
+}
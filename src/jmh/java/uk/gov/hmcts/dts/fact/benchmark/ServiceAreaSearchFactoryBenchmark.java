@@ -0,0 +1,130 @@
+package uk.gov.hmcts.dts.fact.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.entity.ServiceAreaCourt;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.services.search.CivilSearch;
+import uk.gov.hmcts.dts.fact.services.search.CourtSpatialIndex;
+import uk.gov.hmcts.dts.fact.services.search.DefaultSearch;
+import uk.gov.hmcts.dts.fact.services.search.FallbackProximitySearch;
+import uk.gov.hmcts.dts.fact.services.search.FamilyNonRegionalSearch;
+import uk.gov.hmcts.dts.fact.services.search.FamilyRegionalSearch;
+import uk.gov.hmcts.dts.fact.services.search.FamilySearchFactory;
+import uk.gov.hmcts.dts.fact.services.search.ServiceAreaSearchFactory;
+import uk.gov.hmcts.dts.fact.util.Action;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks searching a service area for the courts near a postcode: choosing the search for the service area and
+ * running it against the in-memory spatial index, built over the courts of {@link BenchmarkFixtures}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceAreaSearchFactoryBenchmark {
+
+    private static final String FAMILY = "family";
+    private static final String LOCAL_AUTHORITY = "local-authority";
+
+    private CourtSpatialIndex courtSpatialIndex;
+    private ServiceAreaSearchFactory serviceAreaSearchFactory;
+    private MapitData mapitData;
+    private ServiceArea familyRegional;
+    private ServiceArea familyNonRegional;
+    private ServiceArea civil;
+    private ServiceArea other;
+
+    @Setup
+    public void setUp() {
+        courtSpatialIndex = BenchmarkFixtures.courtSpatialIndex();
+        final FallbackProximitySearch fallbackProximitySearch = new FallbackProximitySearch(courtSpatialIndex);
+        final DefaultSearch defaultSearch = new DefaultSearch(courtSpatialIndex);
+        serviceAreaSearchFactory = new ServiceAreaSearchFactory(
+            defaultSearch,
+            new FamilySearchFactory(
+                new FamilyRegionalSearch(courtSpatialIndex),
+                new FamilyNonRegionalSearch(courtSpatialIndex, fallbackProximitySearch),
+                defaultSearch
+            ),
+            new CivilSearch(courtSpatialIndex, fallbackProximitySearch)
+        );
+        mapitData = BenchmarkFixtures.twoTierMapitData();
+
+        familyRegional = serviceArea("childcare-arrangements", BenchmarkFixtures.CHILDREN, FAMILY, LOCAL_AUTHORITY,
+                                     "regional");
+        familyNonRegional = serviceArea("adoption", BenchmarkFixtures.ADOPTION, FAMILY, LOCAL_AUTHORITY, "local");
+        civil = serviceArea("money-claims", BenchmarkFixtures.MONEY_CLAIMS, "civil", "postcode", "local");
+        other = serviceArea("tax", BenchmarkFixtures.TAX, "other", "proximity", "national");
+    }
+
+    @TearDown
+    public void tearDown() {
+        courtSpatialIndex.shutdown();
+    }
+
+    @Benchmark
+    public List<CourtWithDistance> familyRegional() {
+        return search(familyRegional, Action.DOCUMENTS);
+    }
+
+    @Benchmark
+    public List<CourtWithDistance> familyNonRegional() {
+        return search(familyNonRegional, Action.DOCUMENTS);
+    }
+
+    @Benchmark
+    public List<CourtWithDistance> civil() {
+        return search(civil, Action.DOCUMENTS);
+    }
+
+    @Benchmark
+    public List<CourtWithDistance> other() {
+        return search(other, Action.DOCUMENTS);
+    }
+
+    @Benchmark
+    public List<CourtWithDistance> nearest() {
+        return search(familyRegional, Action.NEAREST);
+    }
+
+    private List<CourtWithDistance> search(final ServiceArea serviceArea, final Action action) {
+        return serviceAreaSearchFactory.getSearchFor(serviceArea, mapitData, action)
+            .searchWith(serviceArea, mapitData, BenchmarkFixtures.TWO_TIER_POSTCODE, false);
+    }
+
+    private static ServiceArea serviceArea(final String slug, final String areaOfLawName, final String type,
+                                           final String catchmentMethod, final String catchmentType) {
+        final ServiceAreaCourt serviceAreaCourt = new ServiceAreaCourt();
+        serviceAreaCourt.setCatchmentType(catchmentType);
+
+        final AreaOfLaw areaOfLaw = new AreaOfLaw();
+        areaOfLaw.setName(areaOfLawName);
+
+        final ServiceArea serviceArea = new ServiceArea();
+        serviceArea.setSlug(slug);
+        serviceArea.setAreaOfLaw(areaOfLaw);
+        serviceArea.setType(type);
+        serviceArea.setCatchmentMethod(catchmentMethod);
+        serviceArea.setServiceAreaCourts(Collections.singletonList(serviceAreaCourt));
+        return serviceArea;
+    }
+}
@@ -5,11 +5,13 @@ import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import uk.gov.hmcts.dts.fact.mapit.MapitClient;
 
 @SpringBootApplication
 @EnableFeignClients(basePackageClasses = MapitClient.class)
 @ImportAutoConfiguration({FeignAutoConfiguration.class})
+@EnableScheduling
 @SuppressWarnings("HideUtilityClassConstructor") // Spring needs a constructor, its not a utility class
 public class Application {
 
@@ -0,0 +1,34 @@
+package uk.gov.hmcts.dts.fact.config;
+
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+
+/**
+ * Bumps the data version once an admin write request has completed. The admin services are called from the
+ * controllers, so by the time the controller method returns any transaction started underneath it has been
+ * committed and the new data is visible to whatever gets rebuilt. Court locks don't change court data, and
+ * the lock heartbeats are far too frequent to trigger rebuilds, so they are excluded.
+ */
+@Aspect
+@Component
+public class AdminDataChangeAspect {
+
+    private final DataVersion dataVersion;
+
+    @Autowired
+    public AdminDataChangeAspect(final DataVersion dataVersion) {
+        this.dataVersion = dataVersion;
+    }
+
+    @AfterReturning("within(uk.gov.hmcts.dts.fact.controllers.admin..*)"
+        + " && !within(uk.gov.hmcts.dts.fact.controllers.admin.AdminCourtLockController)"
+        + " && (@annotation(org.springframework.web.bind.annotation.PostMapping)"
+        + " || @annotation(org.springframework.web.bind.annotation.PutMapping)"
+        + " || @annotation(org.springframework.web.bind.annotation.DeleteMapping))")
+    public void adminDataChanged() {
+        dataVersion.increment();
+    }
+}
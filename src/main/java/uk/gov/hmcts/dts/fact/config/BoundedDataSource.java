@@ -0,0 +1,131 @@
+package uk.gov.hmcts.dts.fact.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+
+/**
+ * A data source that lets at most a fixed number of connections be open at once, and only a bounded number of
+ * threads wait for one.
+ *
+ * <p>With requests on virtual threads there is no longer a request thread pool limiting how many threads want a
+ * connection. The permits match the connection pool, so threads queue here, first come first served, instead of
+ * in the pool. Once the queue is full, or a thread has waited for the timeout, getting a connection fails straight
+ * away with a {@link SQLTransientConnectionException}, as it would when the pool times out.</p>
+ */
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class BoundedDataSource extends DelegatingDataSource {
+
+    private final int maximumConnections;
+    private final int maximumWaiting;
+    private final Duration timeout;
+    private final Semaphore permits;
+
+    /**
+     * Constructor for the BoundedDataSource.
+     * @param dataSource The data source to get connections from
+     * @param maximumConnections The most connections open at once
+     * @param maximumWaiting The most threads waiting for a connection at once
+     * @param timeout How long a thread waits for a connection
+     */
+    public BoundedDataSource(final DataSource dataSource, final int maximumConnections, final int maximumWaiting,
+                             final Duration timeout) {
+        super(dataSource);
+        this.maximumConnections = maximumConnections;
+        this.maximumWaiting = maximumWaiting;
+        this.timeout = timeout;
+        this.permits = new Semaphore(maximumConnections, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection());
+        } catch (final SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquire();
+        try {
+            return releaseOnClose(super.getConnection(username, password));
+        } catch (final SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+    }
+
+    /**
+     * Get the number of threads waiting for a connection.
+     * @return the number of waiting threads
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.getQueueLength() >= maximumWaiting) {
+            throw new SQLTransientConnectionException(
+                String.format("%d threads are already waiting for one of %d connections",
+                              maximumWaiting, maximumConnections));
+        }
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                    String.format("Timed out after %dms waiting for one of %d connections",
+                                  timeout.toMillis(), maximumConnections));
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a connection", ex);
+        }
+    }
+
+    private Connection releaseOnClose(final Connection connection) {
+        final AtomicBoolean released = new AtomicBoolean();
+        final InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    try {
+                        return invoke(connection, method, args);
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                default:
+                    return invoke(connection, method, args);
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(
+            BoundedDataSource.class.getClassLoader(), new Class<?>[] {Connection.class}, handler);
+    }
+
+    private static Object invoke(final Connection connection, final Method method, final Object[] args)
+        throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (final InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.dts.fact.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Configures the executor searches look their postcodes up on, while they read their service area.
+ */
+@Configuration
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class SearchExecutorConfiguration {
+
+    /**
+     * The executor for the postcode lookups of searches. Each lookup gets a virtual thread of its own, whether or not
+     * requests run on virtual threads, so lookups never queue behind each other and use up the search deadline
+     * waiting for a thread. The lookups only wait on the gazetteer and Mapit, and Mapit calls are bounded by its
+     * circuit breaker and timeouts rather than by this executor.
+     * @return the executor
+     */
+    @Bean(name = "searchExecutor", destroyMethod = "shutdown")
+    public ExecutorService searchExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("search-", 1).factory());
+    }
+}
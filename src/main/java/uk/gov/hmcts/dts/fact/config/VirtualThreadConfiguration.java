@@ -0,0 +1,47 @@
+package uk.gov.hmcts.dts.fact.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+
+/**
+ * Configuration for running requests on virtual threads, enabled with {@code spring.threads.virtual.enabled}.
+ *
+ * <p>Spring Boot then runs Tomcat's request handling, and so the Mapit calls made while handling a request, on
+ * virtual threads. A request waiting on a slow Mapit no longer holds one of a fixed pool of request threads, so
+ * other requests aren't queued behind it. As nothing else bounds how many requests run at once, the connection
+ * pool is wrapped in a {@link BoundedDataSource}, so requests queue for a connection in a bounded, fair queue.</p>
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfiguration {
+
+    /**
+     * Wraps the connection pool in a {@link BoundedDataSource} with as many permits as the pool has connections,
+     * waiting as long for one as the pool would.
+     * @param environment The environment, for the most threads that may wait for a connection
+     * @return the bean post processor
+     */
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(final Environment environment) {
+        final int maximumWaiting = environment.getProperty("virtual-threads.datasource.maximum-waiting",
+                                                           Integer.class, 200);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof HikariDataSource) {
+                    final HikariDataSource dataSource = (HikariDataSource) bean;
+                    return new BoundedDataSource(dataSource, dataSource.getMaximumPoolSize(), maximumWaiting,
+                                                 Duration.ofMillis(dataSource.getConnectionTimeout()));
+                }
+                return bean;
+            }
+        };
+    }
+}
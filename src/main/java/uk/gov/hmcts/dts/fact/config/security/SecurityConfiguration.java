@@ -18,7 +18,9 @@ public class SecurityConfiguration {
                 .requestMatchers(HttpMethod.GET, "/admin/**").authenticated()
                 .requestMatchers(HttpMethod.GET, "/courts/").authenticated()
                 .requestMatchers(HttpMethod.GET, "/courts/all").authenticated()
+                .requestMatchers(HttpMethod.GET, "/courts/export").authenticated()
                 .requestMatchers(HttpMethod.GET, "/courts/{slug}/courtPhoto").authenticated()
+                .requestMatchers(HttpMethod.POST, "/search/results/batch").authenticated()
                 .requestMatchers(HttpMethod.DELETE, "/*").authenticated()
                 .requestMatchers(HttpMethod.POST, "/*").authenticated()
                 .requestMatchers(HttpMethod.PUT, "/*").authenticated()
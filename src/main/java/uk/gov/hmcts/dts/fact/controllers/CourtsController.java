@@ -2,6 +2,8 @@ package uk.gov.hmcts.dts.fact.controllers;
 
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.constraints.NotBlank;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.dts.fact.http.JsonResponseCache;
 import uk.gov.hmcts.dts.fact.model.Court;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
 import uk.gov.hmcts.dts.fact.model.CourtReferenceWithHistoricalName;
@@ -26,6 +29,7 @@ import java.util.List;
 
 import static org.springframework.http.ResponseEntity.noContent;
 import static org.springframework.http.ResponseEntity.ok;
+import static uk.gov.hmcts.dts.fact.http.JsonResponseCache.latest;
 
 /**
  * Controller for retrieving courts.
@@ -40,10 +44,12 @@ import static org.springframework.http.ResponseEntity.ok;
 public class CourtsController {
 
     private final CourtService courtService;
+    private final JsonResponseCache jsonResponseCache;
 
     @Autowired
-    public CourtsController(final CourtService courtService) {
+    public CourtsController(final CourtService courtService, final JsonResponseCache jsonResponseCache) {
         this.courtService = courtService;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     /**
@@ -78,8 +84,10 @@ public class CourtsController {
      */
     @GetMapping(path = "/{slug}")
     @Operation(summary = "Find court details by slug")
-    public ResponseEntity<Court> findCourtByName(@PathVariable String slug) {
-        return ok(courtService.getCourtBySlug(slug));
+    @ApiResponse(responseCode = "200", description = "Successful",
+        content = @Content(schema = @Schema(implementation = Court.class)))
+    public ResponseEntity<byte[]> findCourtByName(@PathVariable String slug) {
+        return jsonResponseCache.getEncoded("courts/" + slug, () -> courtService.getCourtBySlug(slug));
     }
 
     /**
@@ -103,12 +111,17 @@ public class CourtsController {
     @GetMapping(path = "/court-types/{courtTypes}")
     @Operation(summary = "Find courts by court types. This endpoint can be used to search for "
         + "courts that have a court type associated to it")
-    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "200", description = "Successful",
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = Court.class))))
     @ApiResponse(responseCode = "404", description = "Not Found")
     @Schema(title = "Court types list", name = "CourtTypes", type = "List<String>", example = "magistrates,family,"
         + "crown,tribunal,county")
-    public ResponseEntity<List<Court>> findByCourtTypes(@PathVariable List<String> courtTypes) {
-        return ok(courtService.getCourtsByCourtTypes(courtTypes));
+    public ResponseEntity<byte[]> findByCourtTypes(@PathVariable List<String> courtTypes) {
+        return jsonResponseCache.get(
+            "courts/court-types/" + String.join(",", courtTypes),
+            () -> courtService.getCourtsByCourtTypes(courtTypes),
+            courts -> latest(courts, Court::getLastModified)
+        );
     }
 
     /**
@@ -3,6 +3,7 @@ package uk.gov.hmcts.dts.fact.controllers;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Description;
@@ -11,12 +12,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
 import uk.gov.hmcts.dts.fact.model.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.model.PostcodeServiceAreaSearch;
 import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.services.BatchSearchService;
 import uk.gov.hmcts.dts.fact.services.CourtService;
 import uk.gov.hmcts.dts.fact.util.Action;
 
@@ -36,11 +41,12 @@ import static org.springframework.http.ResponseEntity.ok;
 public class SearchController {
 
     private final CourtService courtService;
-    private static final String CHILDRENAREAOFLAW = "Children";
+    private final BatchSearchService batchSearchService;
 
     @Autowired
-    public SearchController(final CourtService courtService) {
+    public SearchController(final CourtService courtService, final BatchSearchService batchSearchService) {
         this.courtService = courtService;
+        this.batchSearchService = batchSearchService;
     }
 
     /**
@@ -108,31 +114,31 @@ public class SearchController {
         @RequestParam("action") Optional<Action> action
     ) {
         if (postcode.isPresent() && serviceAreaSlug.isPresent()) {
-            if (action.isPresent() && Action.isNearest(action.get())) {
-                return ok(courtService.getNearestCourtsByPostcodeActionAndAreaOfLawSearch(
-                    postcode.get(),
-                    serviceAreaSlug.get(),
-                    Action.NEAREST,
-                    includeClosed
-                ));
-            } else if ("childcare-arrangements".equals(serviceAreaSlug.get())) {
-                return ok(courtService.getNearestCourtsByAreaOfLawSinglePointOfEntry(
-                    postcode.get(),
-                    serviceAreaSlug.get(),
-                    CHILDRENAREAOFLAW,
-                    Action.UNDEFINED,
-                    includeClosed
-                ));
-            } else {
-                return ok(courtService.getNearestCourtsByPostcodeSearch(
-                    postcode.get(),
-                    serviceAreaSlug.get(),
-                    includeClosed,
-                    Action.UNDEFINED
-                ));
-            }
+            return ok(courtService.getNearestCourtsByPostcodeAndServiceArea(
+                postcode.get(),
+                serviceAreaSlug.get(),
+                action.orElse(Action.UNDEFINED),
+                includeClosed
+            ));
         } else {
             return badRequest().build();
         }
     }
+
+    /**
+     * Find courts for a batch of postcode and Service Area searches, for consumers that resolve many postcodes at
+     * once. Each search is answered as {@link #findCourtsByPostcodeAndServiceArea} would answer it, except that a
+     * postcode or service area that can't be found gives a result with no courts, and a postcode that couldn't be
+     * looked up in time gives a result with no courts marked as postcode unavailable. As the postcodes are looked up
+     * in mapit, the batch search needs authentication.
+     * @param searches The searches
+     * @return a ServiceAreaWithCourtReferencesWithDistance per search, in the order of the searches
+     */
+    @PostMapping(path = "/results/batch", consumes = {MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Find courts for a batch of postcode and Service Area searches")
+    public ResponseEntity<List<ServiceAreaWithCourtReferencesWithDistance>> findCourtsByPostcodesAndServiceAreas(
+        @RequestBody List<@Valid PostcodeServiceAreaSearch> searches
+    ) {
+        return ok(batchSearchService.getNearestCourtsByPostcodeSearches(searches));
+    }
 }
@@ -2,6 +2,10 @@ package uk.gov.hmcts.dts.fact.controllers;
 
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -9,12 +13,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import uk.gov.hmcts.dts.fact.http.JsonResponseCache;
 import uk.gov.hmcts.dts.fact.model.Service;
 import uk.gov.hmcts.dts.fact.model.ServiceArea;
 import uk.gov.hmcts.dts.fact.services.ServiceService;
 
-import java.util.List;
-
 import static org.springframework.http.ResponseEntity.ok;
 
 /**
@@ -28,14 +31,17 @@ import static org.springframework.http.ResponseEntity.ok;
 public class ServicesController {
 
     private final ServiceService serviceService;
+    private final JsonResponseCache jsonResponseCache;
 
     /**
      * Construct a new ServicesController.
      * @param serviceService the 'service' service
+     * @param jsonResponseCache the cache of encoded responses
      */
     @Autowired
-    public ServicesController(final ServiceService serviceService) {
+    public ServicesController(final ServiceService serviceService, final JsonResponseCache jsonResponseCache) {
         this.serviceService = serviceService;
+        this.jsonResponseCache = jsonResponseCache;
     }
 
     /**
@@ -44,8 +50,10 @@ public class ServicesController {
      */
     @GetMapping(path = "/services")
     @Operation(summary = "Return all services")
-    public ResponseEntity<List<Service>> getAllServices() {
-        return ok(serviceService.getAllServices());
+    @ApiResponse(responseCode = "200", description = "Successful",
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = Service.class))))
+    public ResponseEntity<byte[]> getAllServices() {
+        return jsonResponseCache.get("services", serviceService::getAllServices, services -> null);
     }
 
     /**
@@ -66,7 +74,13 @@ public class ServicesController {
      */
     @GetMapping(path = "/services/{serviceSlug}/service-areas")
     @Operation(summary = "Return all service areas for a service")
-    public ResponseEntity<List<ServiceArea>> getServiceAreas(@PathVariable String serviceSlug) {
-        return ok(serviceService.getServiceAreas(serviceSlug));
+    @ApiResponse(responseCode = "200", description = "Successful",
+        content = @Content(array = @ArraySchema(schema = @Schema(implementation = ServiceArea.class))))
+    public ResponseEntity<byte[]> getServiceAreas(@PathVariable String serviceSlug) {
+        return jsonResponseCache.get(
+            "services/" + serviceSlug + "/service-areas",
+            () -> serviceService.getServiceAreas(serviceSlug),
+            serviceAreas -> null
+        );
     }
 }
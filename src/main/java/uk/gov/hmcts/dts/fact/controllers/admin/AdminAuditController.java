@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.model.admin.Audit;
+import uk.gov.hmcts.dts.fact.model.admin.AuditSlice;
 import uk.gov.hmcts.dts.fact.services.admin.AdminAuditService;
 
 import java.time.LocalDateTime;
@@ -69,11 +70,50 @@ public class AdminAuditController {
                                                      @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> dateTo) {
 
         // Return with an error if one or the other is set, but not both
+        if (isPartialDateRange(dateFrom, dateTo)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        return ok(adminAuditService.getAllAuditData(page, size, location, email, dateFrom, dateTo));
+    }
+
+    /**
+     * Get a page of audits after a cursor, newest first, without counting the matching audits.
+     * @param cursor the cursor returned with the previous page, empty for the first page
+     * @param size the page size
+     * @param location the location
+     * @param email the email
+     * @param dateFrom the date from
+     * @param dateTo the date to
+     * @return the page of audits, with the cursor for the next page if there is one
+     */
+    @GetMapping(params = {"cursor", "size", "!page"})
+    @Operation(summary = "Find a page of audits after a cursor based on the provided parameters.")
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or date range")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden")
+    @Role({FACT_SUPER_ADMIN})
+    public ResponseEntity<AuditSlice> getAuditsAfter(@RequestParam("cursor") String cursor,
+                                                     @RequestParam("size") int size,
+                                                     @RequestParam(value = "location", required = false) Optional<String> location,
+                                                     @RequestParam(value = "email", required = false) Optional<String> email,
+                                                     @RequestParam(value = "dateFrom", required = false)
+                                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> dateFrom,
+                                                     @RequestParam(value = "dateTo", required = false)
+                                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> dateTo) {
+
+        if (isPartialDateRange(dateFrom, dateTo)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+        return ok(adminAuditService.getAuditDataAfter(cursor, size, location, email, dateFrom, dateTo));
+    }
+
+    private static boolean isPartialDateRange(Optional<LocalDateTime> dateFrom, Optional<LocalDateTime> dateTo) {
         if (dateFrom.isPresent() && dateTo.isEmpty() || dateFrom.isEmpty() && dateTo.isPresent()) {
             log.error("Both date-from and date-to request parameters need to be set if present, and in the format "
                           + "of yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+            return true;
         }
-        return ok(adminAuditService.getAllAuditData(page, size, location, email, dateFrom, dateTo));
+        return false;
     }
 }
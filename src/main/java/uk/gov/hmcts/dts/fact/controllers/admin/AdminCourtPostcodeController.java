@@ -19,10 +19,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.exception.InvalidPostcodeException;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeImport;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtLockService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtPostcodeService;
 import uk.gov.hmcts.dts.fact.services.validation.ValidationService;
+import uk.gov.hmcts.dts.fact.util.PostcodeCsv;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 
@@ -31,6 +35,7 @@ import static org.springframework.http.ResponseEntity.ok;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_VIEWER;
+import static uk.gov.hmcts.dts.fact.util.Utils.distinctPostcodes;
 
 /**
  * Controller for updating court postcodes.
@@ -83,6 +88,7 @@ public class AdminCourtPostcodeController {
      * @param postcodes a list of postcodes to be added
      * @return A list of postcodes created if successful.
      *      If one of more input postcodes are invalid, return the invalid postcodes and a '400' response.
+     *      If one of more input postcodes can't be checked against mapit, return a '503' response.
      *      If one of more input postcodes already exist in the database, return the existed postcodes and a '409' response.
      */
     @PostMapping(path = "/{slug}/postcodes")
@@ -93,6 +99,7 @@ public class AdminCourtPostcodeController {
     @ApiResponse(responseCode = "403", description = "Forbidden")
     @ApiResponse(responseCode = "404", description = "Court not Found")
     @ApiResponse(responseCode = "409", description = "Postcodes already exist")
+    @ApiResponse(responseCode = "503", description = "Postcodes could not be checked")
     @Role(FACT_SUPER_ADMIN)
     public ResponseEntity<List<String>> addCourtPostcodes(@PathVariable String slug,
                                                           @RequestBody List<String> postcodes,
@@ -106,6 +113,57 @@ public class AdminCourtPostcodeController {
         throw new InvalidPostcodeException(invalidPostcodes);
     }
 
+    /**
+     * Imports postcodes to be handled by the court for civil service type, such as a whole catchment.
+     * Unlike adding postcodes, postcodes the court already handles are skipped rather than rejected.
+     *
+     * @param slug      Court slug
+     * @param postcodes a list of postcodes to be imported
+     * @return The postcodes added and those the court already handled if successful.
+     *      If one of more input postcodes are invalid, return the invalid postcodes and a '400' response.
+     *      If one of more input postcodes can't be checked against mapit, return a '503' response.
+     */
+    @PostMapping(path = "/{slug}/postcodes/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Import court postcodes")
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "400", description = "Invalid postcodes")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden")
+    @ApiResponse(responseCode = "404", description = "Court not Found")
+    @ApiResponse(responseCode = "503", description = "Postcodes could not be checked")
+    @Role(FACT_SUPER_ADMIN)
+    public ResponseEntity<PostcodeImport> importCourtPostcodes(@PathVariable String slug,
+                                                               @RequestBody List<String> postcodes,
+                                                               Authentication authentication) {
+        return importPostcodes(slug, postcodes, authentication);
+    }
+
+    /**
+     * Imports postcodes to be handled by the court for civil service type from a CSV upload, with one postcode per
+     * row in the first column. Postcodes the court already handles are skipped rather than rejected.
+     *
+     * @param slug Court slug
+     * @param csv  the CSV upload
+     * @return The postcodes added and those the court already handled if successful.
+     *      If one of more input postcodes are invalid, return the invalid postcodes and a '400' response.
+     *      If one of more input postcodes can't be checked against mapit, return a '503' response.
+     * @throws IOException if the upload can't be read
+     */
+    @PostMapping(path = "/{slug}/postcodes/import", consumes = "text/csv")
+    @Operation(summary = "Import court postcodes from CSV")
+    @ApiResponse(responseCode = "200", description = "Successful")
+    @ApiResponse(responseCode = "400", description = "Invalid postcodes")
+    @ApiResponse(responseCode = "401", description = "Unauthorized")
+    @ApiResponse(responseCode = "403", description = "Forbidden")
+    @ApiResponse(responseCode = "404", description = "Court not Found")
+    @ApiResponse(responseCode = "503", description = "Postcodes could not be checked")
+    @Role(FACT_SUPER_ADMIN)
+    public ResponseEntity<PostcodeImport> importCourtPostcodesCsv(@PathVariable String slug,
+                                                                  InputStream csv,
+                                                                  Authentication authentication) throws IOException {
+        return importPostcodes(slug, PostcodeCsv.read(csv), authentication);
+    }
+
     /**
      * Deletes existing postcodes currently handled by the court for civil service type.
      *
@@ -113,6 +171,7 @@ public class AdminCourtPostcodeController {
      * @param postcodes a list of postcodes to be deleted
      * @return The number of postcodes deleted if successful
      *      If one of more input postcodes are invalid, return the invalid postcodes and a '400' response.
+     *      If one of more input postcodes can't be checked against mapit, return a '503' response.
      *      If one of more input postcodes do not exist in the database, return the not found postcodes and a '404' response.
      */
     @DeleteMapping(path = "/{slug}/postcodes")
@@ -122,6 +181,7 @@ public class AdminCourtPostcodeController {
     @ApiResponse(responseCode = "401", description = "Unauthorized")
     @ApiResponse(responseCode = "403", description = "Forbidden")
     @ApiResponse(responseCode = "404", description = "Postcodes do not exist")
+    @ApiResponse(responseCode = "503", description = "Postcodes could not be checked")
     @Role(FACT_SUPER_ADMIN)
     public ResponseEntity deleteCourtPostcodes(@PathVariable String slug,
                                                @RequestBody List<String> postcodes,
@@ -144,6 +204,7 @@ public class AdminCourtPostcodeController {
      * @return A successful response if the courts have been moved from the source court to the destination court
      *      and also return a list of strings that have been updated.
      *      If one of more input postcodes are invalid, return the invalid postcodes and a '400' response.
+     *      If one of more input postcodes can't be checked against mapit, return a '503' response.
      *      If one of more input postcodes do not exist in the source court, return the not found postcodes and a '404' response.
      *      If one of more input postcodes already exist in the destination court, return the conflicting postcodes and a '409' response.
      */
@@ -155,6 +216,7 @@ public class AdminCourtPostcodeController {
     @ApiResponse(responseCode = "403", description = "Forbidden")
     @ApiResponse(responseCode = "404", description = "Postcodes do not exist")
     @ApiResponse(responseCode = "409", description = "Postcodes already exist")
+    @ApiResponse(responseCode = "503", description = "Postcodes could not be checked")
     @Role(FACT_SUPER_ADMIN)
     public ResponseEntity<List<String>> movePostcodes(@PathVariable String sourceSlug,
                                                       @PathVariable String destinationSlug,
@@ -165,4 +227,17 @@ public class AdminCourtPostcodeController {
         }
         throw new InvalidPostcodeException(invalidPostcodes);
     }
+
+    private ResponseEntity<PostcodeImport> importPostcodes(final String slug,
+                                                           final List<String> received,
+                                                           final Authentication authentication) {
+        // Each postcode is only validated and written once, however many times it is given
+        final List<String> postcodes = distinctPostcodes(received);
+        final List<String> invalidPostcodes = validationService.validatePostcodes(postcodes);
+        if (CollectionUtils.isEmpty(invalidPostcodes)) {
+            adminCourtLockService.updateCourtLock(slug, authentication.getName());
+            return ok(adminService.importCourtPostcodes(slug, postcodes));
+        }
+        throw new InvalidPostcodeException(invalidPostcodes);
+    }
 }
@@ -5,6 +5,8 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -17,14 +19,17 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import uk.gov.hmcts.dts.fact.config.security.Role;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
 import uk.gov.hmcts.dts.fact.model.admin.Court;
 import uk.gov.hmcts.dts.fact.model.admin.CourtInfoUpdate;
 import uk.gov.hmcts.dts.fact.model.admin.ImageFile;
 import uk.gov.hmcts.dts.fact.model.admin.NewCourt;
+import uk.gov.hmcts.dts.fact.services.admin.AdminCourtExportService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtLockService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminService;
+import uk.gov.hmcts.dts.fact.services.admin.CourtExportFormat;
 import uk.gov.hmcts.dts.fact.util.Utils;
 
 import java.net.URI;
@@ -51,6 +56,7 @@ public class AdminCourtsController {
 
     private final AdminService adminService;
     private final AdminCourtLockService adminCourtLockService;
+    private final AdminCourtExportService adminCourtExportService;
     private static final String FORBIDDEN = "Forbidden";
     private static final String FORBIDDEN_CODE = "403";
     private static final String UNAUTHORISED = "Unauthorised";
@@ -61,9 +67,11 @@ public class AdminCourtsController {
      */
     @Autowired
     public AdminCourtsController(final AdminService adminService,
-                                 AdminCourtLockService adminCourtLockService) {
+                                 AdminCourtLockService adminCourtLockService,
+                                 final AdminCourtExportService adminCourtExportService) {
         this.adminService = adminService;
         this.adminCourtLockService = adminCourtLockService;
+        this.adminCourtExportService = adminCourtExportService;
     }
 
     /**
@@ -90,6 +98,30 @@ public class AdminCourtsController {
         return ok(adminService.getAllCourtsForDownload());
     }
 
+    /**
+     * Export all courts for download as newline delimited JSON, one court per line, streamed as it is read.
+     *
+     * @return the courts, in name order
+     */
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Role({FACT_ADMIN, FACT_VIEWER, FACT_SUPER_ADMIN})
+    @Operation(summary = "Stream court data for download as newline delimited JSON")
+    public ResponseEntity<StreamingResponseBody> exportCourtsAsNdjson() {
+        return exportCourts(CourtExportFormat.NDJSON);
+    }
+
+    /**
+     * Export all courts for download as CSV, one court per row after a header row, streamed as it is read.
+     *
+     * @return the courts, in name order
+     */
+    @GetMapping(path = "/export", produces = "text/csv")
+    @Role({FACT_ADMIN, FACT_VIEWER, FACT_SUPER_ADMIN})
+    @Operation(summary = "Stream court data for download as CSV")
+    public ResponseEntity<StreamingResponseBody> exportCourtsAsCsv() {
+        return exportCourts(CourtExportFormat.CSV);
+    }
+
     /**
      * Update selected courts info.
      *
@@ -211,4 +243,14 @@ public class AdminCourtsController {
         adminCourtLockService.updateCourtLock(slug, authentication.getName());
         return ok(adminService.updateCourtImage(slug, imageFile.getImageName()));
     }
+
+    private ResponseEntity<StreamingResponseBody> exportCourts(final CourtExportFormat format) {
+        return ok()
+            .contentType(MediaType.parseMediaType(format.getMediaType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("courts." + format.getFileExtension())
+                .build()
+                .toString())
+            .body(outputStream -> adminCourtExportService.exportCourts(format, outputStream));
+    }
 }
@@ -2,6 +2,8 @@ package uk.gov.hmcts.dts.fact.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -9,10 +11,10 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import uk.gov.hmcts.dts.fact.util.AuditDataEncoding;
 
 import java.time.LocalDateTime;
 
@@ -21,7 +23,6 @@ import java.time.LocalDateTime;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class Audit {
     @Id
     @SequenceGenerator(name = "seq-gen-a", sequenceName = "admin_audit_id_seq", allocationSize = 1)
@@ -39,6 +40,16 @@ public class Audit {
     private String location;
     @Column(name = "creation_time")
     private LocalDateTime creationTime;
+    @Column(name = "action_data_encoding")
+    @Enumerated(EnumType.STRING)
+    private AuditDataEncoding actionDataEncoding = AuditDataEncoding.FULL;
+
+    public Audit(Integer id, String userEmail, final AuditType auditType,
+                 String actionDataBefore, String actionDataAfter,
+                 String location, LocalDateTime creationTime) {
+        this(userEmail, auditType, actionDataBefore, actionDataAfter, location, creationTime);
+        this.id = id;
+    }
 
     public Audit(String userEmail, final AuditType auditType,
                  String actionDataBefore, String actionDataAfter,
@@ -8,6 +8,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.OrderBy;
@@ -26,12 +29,56 @@ import java.util.stream.Stream;
 import static java.util.Comparator.comparing;
 import static java.util.Optional.ofNullable;
 
+/**
+ * A court, with named entity graphs for the shapes it is read in.
+ *
+ * <p>The in-person and service centre details are mapped by the other side, so Hibernate can't load them lazily and
+ * would otherwise read them with two queries per court. Every graph fetches them with the court. At most one of the
+ * collections can be fetched in the same query, so the graphs for the detail and download shapes fetch the addresses,
+ * and the other collections are batch fetched for all courts in the persistence context. The download only writes out
+ * the type of each address, so its graph doesn't fetch the county the details show.</p>
+ */
 @Entity
 @Table(name = "search_court")
+@NamedEntityGraph(
+    name = Court.LIST_GRAPH,
+    attributeNodes = {@NamedAttributeNode("inPerson"), @NamedAttributeNode("serviceCentre")}
+)
+@NamedEntityGraph(
+    name = Court.DETAIL_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("inPerson"),
+        @NamedAttributeNode("serviceCentre"),
+        @NamedAttributeNode(value = "addresses", subgraph = "addresses")
+    },
+    subgraphs = @NamedSubgraph(
+        name = "addresses",
+        attributeNodes = {@NamedAttributeNode("addressType"), @NamedAttributeNode("county")}
+    )
+)
+@NamedEntityGraph(
+    name = Court.DOWNLOAD_GRAPH,
+    attributeNodes = {
+        @NamedAttributeNode("inPerson"),
+        @NamedAttributeNode("serviceCentre"),
+        @NamedAttributeNode(value = "addresses", subgraph = "addresses")
+    },
+    subgraphs = @NamedSubgraph(
+        name = "addresses",
+        attributeNodes = @NamedAttributeNode("addressType")
+    )
+)
 @Getter
 @Setter
 @SuppressWarnings("PMD.TooManyFields")
 public class Court {
+    /** The graph for courts listed by name, slug and region only. */
+    public static final String LIST_GRAPH = "Court.list";
+    /** The graph for courts resolved into their public details. */
+    public static final String DETAIL_GRAPH = "Court.detail";
+    /** The graph for courts written out for download. */
+    public static final String DOWNLOAD_GRAPH = "Court.download";
+
     private static final String COURT_ID = "court_id";
     private static final String COURT_STRING = "court";
     private static final String SORT = "sort";
@@ -9,6 +9,7 @@ import jakarta.persistence.OneToMany;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -122,4 +123,45 @@ public class CourtWithDistance {
     public List<String> getAreasOfLawSpoe() {
         return areasOfLawSpoe.stream().map(AreaOfLaw::getName).collect(Collectors.toList());
     }
+
+    /**
+     * Create a detached copy of this court with the given distance. The collections are copied so that the copy
+     * can be sorted and read independently of the original, which is shared by the in-memory search indexes.
+     * @param distance The distance to set on the copy
+     * @return A copy of this court
+     */
+    public CourtWithDistance withDistance(final Double distance) {
+        final CourtWithDistance copy = new CourtWithDistance();
+        copy.id = id;
+        copy.name = name;
+        copy.nameCy = nameCy;
+        copy.slug = slug;
+        copy.info = info;
+        copy.infoCy = infoCy;
+        copy.displayed = displayed;
+        copy.directions = directions;
+        copy.directionsCy = directionsCy;
+        copy.lat = lat;
+        copy.lon = lon;
+        copy.number = number;
+        copy.cciCode = cciCode;
+        copy.magistrateCode = magistrateCode;
+        copy.hideAols = hideAols;
+        copy.areasOfLaw = copyOf(areasOfLaw);
+        copy.areasOfLawSpoe = copyOf(areasOfLawSpoe);
+        copy.courtTypes = copyOf(courtTypes);
+        copy.emails = copyOf(emails);
+        copy.contacts = copyOf(contacts);
+        copy.dxCodes = copyOf(dxCodes);
+        copy.openingTimes = copyOf(openingTimes);
+        copy.facilities = copyOf(facilities);
+        copy.addresses = copyOf(addresses);
+        copy.gbs = gbs;
+        copy.distance = distance;
+        return copy;
+    }
+
+    private static <T> List<T> copyOf(final List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
 }
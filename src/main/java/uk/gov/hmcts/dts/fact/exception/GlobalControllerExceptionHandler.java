@@ -19,6 +19,7 @@ public class GlobalControllerExceptionHandler {
     private static final String MESSAGE = "message";
     private static final String CONTENT_TYPE = "Content-Type";
     private static final String APPLICATION_JSON = "application/json";
+    private static final String RETRY_AFTER_SECONDS = "30";
 
     /**
      * Handles NotFoundException.
@@ -107,6 +108,42 @@ public class GlobalControllerExceptionHandler {
         return new ResponseEntity<>(new ObjectMapper().writeValueAsString(error), responseHeaders, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles SearchTimeoutException.
+     *
+     * @param ex the exception
+     * @return the response entity
+     * @throws JsonProcessingException if the response entity cannot be converted to a string
+     */
+    @ExceptionHandler(SearchTimeoutException.class)
+    ResponseEntity<String> searchTimeoutExceptionHandler(final SearchTimeoutException ex) throws JsonProcessingException {
+        HashMap<String, String> error = new HashMap<>();
+        HttpHeaders responseHeaders = new HttpHeaders();
+        log.warn("Search timed out: {}", ex.getMessage());
+        responseHeaders.set(CONTENT_TYPE, APPLICATION_JSON);
+        error.put(MESSAGE, ex.getMessage());
+        return new ResponseEntity<>(new ObjectMapper().writeValueAsString(error), responseHeaders, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    /**
+     * Handles PostcodeCheckUnavailableException.
+     *
+     * @param ex the exception
+     * @return the response entity
+     * @throws JsonProcessingException if the response entity cannot be converted to a string
+     */
+    @ExceptionHandler(PostcodeCheckUnavailableException.class)
+    ResponseEntity<String> postcodeCheckUnavailableExceptionHandler(final PostcodeCheckUnavailableException ex)
+        throws JsonProcessingException {
+        HashMap<String, String> error = new HashMap<>();
+        HttpHeaders responseHeaders = new HttpHeaders();
+        log.warn("Postcodes could not be checked: {}", ex.getPostcodes());
+        responseHeaders.set(CONTENT_TYPE, APPLICATION_JSON);
+        responseHeaders.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        error.put(MESSAGE, ex.getMessage());
+        return new ResponseEntity<>(new ObjectMapper().writeValueAsString(error), responseHeaders, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handles PostcodeExistedException.
      *
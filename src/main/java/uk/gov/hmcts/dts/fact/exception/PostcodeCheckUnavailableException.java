@@ -0,0 +1,36 @@
+package uk.gov.hmcts.dts.fact.exception;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Thrown when postcodes couldn't be checked against mapit, because it failed or its quota or circuit breaker
+ * didn't permit the call. The postcodes aren't known to be invalid, so the check can be tried again later.
+ */
+@Getter
+public class PostcodeCheckUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 2306541823640976915L;
+    private final List<String> postcodes = new ArrayList<>();
+
+    /**
+     * Constructs a new postcode check unavailable exception for a postcode.
+     *
+     * @param postcode postcode string
+     */
+    public PostcodeCheckUnavailableException(final String postcode) {
+        this(List.of(postcode));
+    }
+
+    /**
+     * Constructs a new postcode check unavailable exception for a list of postcodes.
+     *
+     * @param postcodes list of postcodes
+     */
+    public PostcodeCheckUnavailableException(final List<String> postcodes) {
+        super("Postcodes could not be checked, try again later: " + postcodes);
+        this.postcodes.addAll(postcodes);
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.dts.fact.exception;
+
+/**
+ * Thrown when a search gives up waiting for its postcode lookups, because they didn't complete before the search
+ * deadline or the wait was interrupted. The search may succeed if it is tried again.
+ */
+public class SearchTimeoutException extends RuntimeException {
+
+    private static final long serialVersionUID = 4829173365201874411L;
+
+    /**
+     * Constructs a new search timeout exception with the specified detail message.
+     *
+     * @param message the detail message, saying whether the search timed out or was interrupted
+     */
+    public SearchTimeoutException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,126 @@
+package uk.gov.hmcts.dts.fact.gazetteer;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Local postcode gazetteer, answering postcode lookups from a memory-mapped file instead of calling Mapit.
+ *
+ * <p>The gazetteer is optional: if {@code gazetteer.path} isn't set, or the file can't be read, every lookup
+ * returns empty and the callers fall back to Mapit. Postcodes missing from the file (for example ones issued
+ * after the extract was taken) also fall back to Mapit.</p>
+ *
+ * <p>The mapit data returned has the same shape as the Mapit response, with the council in the shortcuts and the
+ * council and region in the areas, so that {@link MapitData#getLocalAuthority()} and
+ * {@link MapitData#getRegionFromMapitData()} work as they do for data from Mapit.</p>
+ */
+@Component
+@Slf4j
+public class Gazetteer {
+
+    private static final String NAME = "name";
+    private static final String TYPE = "type";
+    private static final String COUNCIL_TYPE = "UTA";
+    private static final String REGION_ID = "region";
+
+    private final GazetteerFile gazetteerFile;
+
+    /**
+     * Constructor for the Gazetteer.
+     *
+     * @param path the path of the gazetteer file, blank if there isn't one
+     */
+    @Autowired
+    public Gazetteer(@Value("${gazetteer.path:}") final String path) {
+        this(load(path));
+    }
+
+    Gazetteer(final GazetteerFile gazetteerFile) {
+        this.gazetteerFile = gazetteerFile;
+    }
+
+    /**
+     * Get the mapit data for a full postcode.
+     *
+     * @param postcode the postcode
+     * @return the mapit data, or empty if the postcode isn't in the gazetteer
+     */
+    public Optional<MapitData> getMapitData(final String postcode) {
+        if (gazetteerFile == null || StringUtils.isBlank(postcode)) {
+            return Optional.empty();
+        }
+        final OptionalInt index = gazetteerFile.find(postcode);
+        return index.isPresent() ? Optional.of(toMapitData(index.getAsInt())) : Optional.empty();
+    }
+
+    /**
+     * Get the mapit data for an outward code, e.g. "OX1", positioned at the centre of its postcodes.
+     *
+     * @param postcode the outward code
+     * @return the mapit data, or empty if the gazetteer has no postcodes for the outward code
+     */
+    public Optional<MapitData> getMapitDataWithPartial(final String postcode) {
+        if (gazetteerFile == null || StringUtils.isBlank(postcode)) {
+            return Optional.empty();
+        }
+        final int[] range = gazetteerFile.findOutwardCode(postcode);
+        if (range[0] >= range[1]) {
+            return Optional.empty();
+        }
+        double lat = 0;
+        double lon = 0;
+        for (int index = range[0]; index < range[1]; index++) {
+            lat += gazetteerFile.lat(index);
+            lon += gazetteerFile.lon(index);
+        }
+        final int count = range[1] - range[0];
+        return Optional.of(new MapitData(lat / count, lon / count, null, null));
+    }
+
+    private MapitData toMapitData(final int index) {
+        final ObjectNode shortcuts = JsonNodeFactory.instance.objectNode();
+        final ObjectNode areas = JsonNodeFactory.instance.objectNode();
+
+        final String councilCode = gazetteerFile.councilCode(index);
+        if (councilCode != null) {
+            shortcuts.put("council", councilCode);
+            areas.putObject(councilCode)
+                .put(NAME, gazetteerFile.councilName(index))
+                .put(TYPE, COUNCIL_TYPE);
+        }
+        final String regionName = gazetteerFile.regionName(index);
+        if (regionName != null) {
+            areas.putObject(REGION_ID)
+                .put(NAME, regionName)
+                .put(TYPE, gazetteerFile.regionType(index));
+        }
+
+        return new MapitData(gazetteerFile.lat(index), gazetteerFile.lon(index), shortcuts, areas);
+    }
+
+    private static GazetteerFile load(final String path) {
+        if (StringUtils.isBlank(path)) {
+            log.info("No gazetteer file configured, postcodes will be looked up in Mapit");
+            return null;
+        }
+        try {
+            final GazetteerFile file = GazetteerFile.open(Path.of(path));
+            log.info("Loaded gazetteer of {} postcodes from {}", file.size(), path);
+            return file;
+        } catch (final IOException | IllegalArgumentException ex) {
+            log.error("Failed to load the gazetteer from {}, postcodes will be looked up in Mapit", path, ex);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package uk.gov.hmcts.dts.fact.gazetteer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.regex.Pattern;
+
+/**
+ * Read-only view of a memory-mapped gazetteer file.
+ *
+ * <p>The file starts with a header holding the council and region tables, followed by one fixed width record per
+ * postcode, sorted by postcode:</p>
+ * <pre>
+ *   magic        8 bytes  "FACTGAZ1"
+ *   councils     int count, then (code, name) per council
+ *   regions      int count, then (name, Mapit area type) per region
+ *   records      int count, then 20 bytes per postcode:
+ *                  key      8 bytes  ASCII postcode, outward code padded to 4 characters, e.g. "OX1 1RZ\0"
+ *                  lat      float
+ *                  lon      float
+ *                  council  unsigned short index into the council table, 0xFFFF if unknown
+ *                  region   unsigned short index into the region table, 0xFFFF if unknown
+ * </pre>
+ * <p>Strings are written as an unsigned short byte length followed by the UTF-8 bytes. The key of each record is
+ * read as a single big-endian long, which sorts the same way as the ASCII postcode, so a lookup is a binary search
+ * over longs without any decoding or allocation.</p>
+ */
+final class GazetteerFile {
+
+    static final byte[] MAGIC = "FACTGAZ1".getBytes(StandardCharsets.US_ASCII);
+    static final int KEY_LENGTH = 8;
+    static final int RECORD_LENGTH = KEY_LENGTH + Float.BYTES + Float.BYTES + Short.BYTES + Short.BYTES;
+    static final int NONE = 0xFFFF;
+
+    private static final int OUTWARD_CODE_LENGTH = 4;
+    private static final int INWARD_CODE_LENGTH = 3;
+    private static final Pattern FULL_POSTCODE = Pattern.compile("^[A-Z]{1,2}\\d[A-Z\\d]?\\d[A-Z]{2}$");
+    private static final Pattern OUTWARD_CODE = Pattern.compile("^[A-Z]{1,2}\\d[A-Z\\d]?$");
+    private static final int LAT_OFFSET = KEY_LENGTH;
+    private static final int LON_OFFSET = LAT_OFFSET + Float.BYTES;
+    private static final int COUNCIL_OFFSET = LON_OFFSET + Float.BYTES;
+    private static final int REGION_OFFSET = COUNCIL_OFFSET + Short.BYTES;
+
+    private final ByteBuffer buffer;
+    private final String[] councilCodes;
+    private final String[] councilNames;
+    private final String[] regionNames;
+    private final String[] regionTypes;
+    private final int recordsOffset;
+    private final int recordCount;
+
+    private GazetteerFile(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        final ByteBuffer header = buffer.duplicate();
+
+        final byte[] magic = new byte[MAGIC.length];
+        header.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IllegalArgumentException("Not a gazetteer file");
+        }
+
+        final int councilCount = header.getInt();
+        councilCodes = new String[councilCount];
+        councilNames = new String[councilCount];
+        for (int i = 0; i < councilCount; i++) {
+            councilCodes[i] = readString(header);
+            councilNames[i] = readString(header);
+        }
+
+        final int regionCount = header.getInt();
+        regionNames = new String[regionCount];
+        regionTypes = new String[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            regionNames[i] = readString(header);
+            regionTypes[i] = readString(header);
+        }
+
+        recordCount = header.getInt();
+        recordsOffset = header.position();
+        if ((long) recordsOffset + (long) recordCount * RECORD_LENGTH > buffer.limit()) {
+            throw new IllegalArgumentException("Gazetteer file is truncated");
+        }
+    }
+
+    /**
+     * Memory-map a gazetteer file. The mapping stays valid after the channel is closed.
+     * @param path The path of the file
+     * @return the gazetteer file
+     * @throws IOException if the file can't be read
+     */
+    static GazetteerFile open(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new GazetteerFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Wrap a gazetteer already held in memory.
+     * @param buffer The contents of a gazetteer file
+     * @return the gazetteer file
+     */
+    static GazetteerFile wrap(final ByteBuffer buffer) {
+        return new GazetteerFile(buffer);
+    }
+
+    int size() {
+        return recordCount;
+    }
+
+    /**
+     * Find the record of a full postcode.
+     * @param postcode The postcode, in any case and with or without spaces
+     * @return the index of the record, or empty if the postcode isn't in the gazetteer
+     */
+    OptionalInt find(final String postcode) {
+        final String normalised = normalise(postcode);
+        if (!FULL_POSTCODE.matcher(normalised).matches()) {
+            return OptionalInt.empty();
+        }
+        final long key = toKey(toKeyString(normalised));
+        final int index = lowerBound(key);
+        return index < recordCount && keyAt(index) == key ? OptionalInt.of(index) : OptionalInt.empty();
+    }
+
+    /**
+     * Find the range of records for an outward code, e.g. "OX1".
+     * @param outwardCode The outward code, in any case and with or without spaces
+     * @return the first and last (exclusive) record indexes, an empty range if the outward code isn't valid
+     */
+    int[] findOutwardCode(final String outwardCode) {
+        final String normalised = normalise(outwardCode);
+        if (!OUTWARD_CODE.matcher(normalised).matches()) {
+            return new int[] {0, 0};
+        }
+        final long from = toKey(padOutwardCode(normalised));
+        // Every key starting with the outward code is at most the prefix followed by all ones
+        final long to = from | (1L << Byte.SIZE * (KEY_LENGTH - OUTWARD_CODE_LENGTH)) - 1;
+        return new int[] {lowerBound(from), upperBound(to)};
+    }
+
+    double lat(final int index) {
+        return buffer.getFloat(offset(index) + LAT_OFFSET);
+    }
+
+    double lon(final int index) {
+        return buffer.getFloat(offset(index) + LON_OFFSET);
+    }
+
+    String councilCode(final int index) {
+        final int council = unsignedShortAt(offset(index) + COUNCIL_OFFSET);
+        return council == NONE ? null : councilCodes[council];
+    }
+
+    String councilName(final int index) {
+        final int council = unsignedShortAt(offset(index) + COUNCIL_OFFSET);
+        return council == NONE ? null : councilNames[council];
+    }
+
+    String regionName(final int index) {
+        final int region = unsignedShortAt(offset(index) + REGION_OFFSET);
+        return region == NONE ? null : regionNames[region];
+    }
+
+    String regionType(final int index) {
+        final int region = unsignedShortAt(offset(index) + REGION_OFFSET);
+        return region == NONE ? null : regionTypes[region];
+    }
+
+    private int offset(final int index) {
+        return recordsOffset + index * RECORD_LENGTH;
+    }
+
+    private int unsignedShortAt(final int offset) {
+        return Short.toUnsignedInt(buffer.getShort(offset));
+    }
+
+    private long keyAt(final int index) {
+        return buffer.getLong(offset(index));
+    }
+
+    private int lowerBound(final long key) {
+        int low = 0;
+        int high = recordCount;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (keyAt(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(final long key) {
+        int low = 0;
+        int high = recordCount;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (keyAt(middle) <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Convert a postcode into the key string stored in the file, e.g. "ox11rz" to "OX1 1RZ".
+     * @param postcode The postcode
+     * @return the key string, or null if the postcode isn't a valid full postcode
+     */
+    static String toKeyString(final String postcode) {
+        final String normalised = normalise(postcode);
+        if (!FULL_POSTCODE.matcher(normalised).matches()) {
+            return null;
+        }
+        final int split = normalised.length() - INWARD_CODE_LENGTH;
+        return padOutwardCode(normalised.substring(0, split)) + normalised.substring(split);
+    }
+
+    /**
+     * Pack up to eight ASCII characters into a big-endian long, padding with zeros.
+     * @param keyString The key string
+     * @return the key
+     */
+    static long toKey(final String keyString) {
+        long key = 0;
+        for (int i = 0; i < KEY_LENGTH; i++) {
+            key = key << Byte.SIZE | (i < keyString.length() ? keyString.charAt(i) & 0x7F : 0);
+        }
+        return key;
+    }
+
+    private static String normalise(final String postcode) {
+        return postcode.replaceAll("\\s+", "").toUpperCase(Locale.ROOT);
+    }
+
+    private static String padOutwardCode(final String outwardCode) {
+        final StringBuilder padded = new StringBuilder(OUTWARD_CODE_LENGTH).append(outwardCode);
+        while (padded.length() < OUTWARD_CODE_LENGTH) {
+            padded.append(' ');
+        }
+        return padded.toString();
+    }
+
+    private static String readString(final ByteBuffer header) {
+        final byte[] bytes = new byte[Short.toUnsignedInt(header.getShort())];
+        header.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,182 @@
+package uk.gov.hmcts.dts.fact.gazetteer;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts a postcode CSV extract into the binary format read by {@link GazetteerFile}.
+ *
+ * <p>The CSV must have a header row and the columns {@code postcode, lat, lon, council_code, council_name,
+ * region_name, region_type}, where the names are the ones Mapit uses for the council and region areas and the
+ * region type is the Mapit area type ({@code ER} for English regions, {@code WAE} for Welsh ones). An extract of
+ * the ONS Postcode Directory joined to the ONS names files has everything that is needed. Rows without coordinates,
+ * and rows that aren't valid full postcodes, are skipped.</p>
+ *
+ * <p>Run with {@code ./gradlew buildGazetteer -PgazetteerCsv=<csv> -PgazetteerFile=<output>}.</p>
+ */
+public final class GazetteerFileWriter {
+
+    private static final int POSTCODE = 0;
+    private static final int LAT = 1;
+    private static final int LON = 2;
+    private static final int COUNCIL_CODE = 3;
+    private static final int COUNCIL_NAME = 4;
+    private static final int REGION_NAME = 5;
+    private static final int REGION_TYPE = 6;
+    private static final int COLUMNS = 7;
+
+    private GazetteerFileWriter() {
+    }
+
+    /**
+     * Convert a CSV extract into a gazetteer file.
+     * @param args The path of the CSV extract and the path of the gazetteer file to write
+     * @throws IOException if either file can't be read or written
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: GazetteerFileWriter <csv extract> <gazetteer file>");
+        }
+        try (Reader csv = Files.newBufferedReader(Path.of(args[0]), StandardCharsets.UTF_8);
+             OutputStream output = Files.newOutputStream(Path.of(args[1]))) {
+            write(csv, output);
+        }
+    }
+
+    /**
+     * Convert a CSV extract into a gazetteer file.
+     * @param csv The CSV extract
+     * @param output Where to write the gazetteer file
+     * @return the number of postcodes written
+     * @throws IOException if the extract can't be read or the file can't be written
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    public static int write(final Reader csv, final OutputStream output) throws IOException {
+        final Map<String, Integer> councils = new LinkedHashMap<>();
+        final Map<String, String> councilNames = new LinkedHashMap<>();
+        final Map<String, Integer> regions = new LinkedHashMap<>();
+        final Map<String, String> regionTypes = new LinkedHashMap<>();
+        final List<Entry> entries = new ArrayList<>();
+
+        final BufferedReader reader = new BufferedReader(csv);
+        reader.readLine();
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            final List<String> columns = split(line);
+            if (columns.size() < COLUMNS) {
+                continue;
+            }
+            final String keyString = GazetteerFile.toKeyString(columns.get(POSTCODE));
+            if (keyString == null || columns.get(LAT).isBlank() || columns.get(LON).isBlank()) {
+                continue;
+            }
+            final int council = index(councils, columns.get(COUNCIL_CODE));
+            councilNames.putIfAbsent(columns.get(COUNCIL_CODE), columns.get(COUNCIL_NAME));
+            final int region = index(regions, columns.get(REGION_NAME));
+            regionTypes.putIfAbsent(columns.get(REGION_NAME), columns.get(REGION_TYPE));
+            entries.add(new Entry(GazetteerFile.toKey(keyString), Float.parseFloat(columns.get(LAT)),
+                                  Float.parseFloat(columns.get(LON)), council, region));
+        }
+        entries.sort(Comparator.comparingLong(e -> e.key));
+        for (int i = 1; i < entries.size(); i++) {
+            if (entries.get(i).key == entries.get(i - 1).key) {
+                throw new IllegalArgumentException("The CSV extract contains duplicate postcodes");
+            }
+        }
+
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+        out.write(GazetteerFile.MAGIC);
+        out.writeInt(councils.size());
+        for (final String code : councils.keySet()) {
+            writeString(out, code);
+            writeString(out, councilNames.get(code));
+        }
+        out.writeInt(regions.size());
+        for (final String name : regions.keySet()) {
+            writeString(out, name);
+            writeString(out, regionTypes.get(name));
+        }
+        out.writeInt(entries.size());
+        for (final Entry entry : entries) {
+            out.writeLong(entry.key);
+            out.writeFloat(entry.lat);
+            out.writeFloat(entry.lon);
+            out.writeShort(entry.council);
+            out.writeShort(entry.region);
+        }
+        out.flush();
+        return entries.size();
+    }
+
+    private static int index(final Map<String, Integer> table, final String value) {
+        if (value == null || value.isBlank()) {
+            return GazetteerFile.NONE;
+        }
+        final int index = table.computeIfAbsent(value, v -> table.size());
+        if (index >= GazetteerFile.NONE) {
+            throw new IllegalArgumentException("Too many distinct values in the CSV extract: " + value);
+        }
+        return index;
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        final byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Split a CSV line, allowing for quoted values that contain commas (such as "Bristol, City of").
+     */
+    private static List<String> split(final String line) {
+        final List<String> columns = new ArrayList<>();
+        final StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+        int position = 0;
+        while (position < line.length()) {
+            final char character = line.charAt(position++);
+            if (character == '"') {
+                if (quoted && position < line.length() && line.charAt(position) == '"') {
+                    column.append('"');
+                    position++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (character == ',' && !quoted) {
+                columns.add(column.toString().trim());
+                column.setLength(0);
+            } else {
+                column.append(character);
+            }
+        }
+        columns.add(column.toString().trim());
+        return columns;
+    }
+
+    private static final class Entry {
+        private final long key;
+        private final float lat;
+        private final float lon;
+        private final int council;
+        private final int region;
+
+        private Entry(final long key, final float lat, final float lon, final int council, final int region) {
+            this.key = key;
+            this.lat = lat;
+            this.lon = lon;
+            this.council = council;
+            this.region = region;
+        }
+    }
+}
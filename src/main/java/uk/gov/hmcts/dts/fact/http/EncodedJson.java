@@ -0,0 +1,63 @@
+package uk.gov.hmcts.dts.fact.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.time.Instant;
+
+/**
+ * A JSON response body encoded once, with its strong ETag, a hash of its bytes, and the {@code Last-Modified} date
+ * of the data it was built from when there is one.
+ *
+ * <p>The bytes are never changed once encoded, so one encoded body can be served to any number of requests.</p>
+ */
+public final class EncodedJson {
+
+    private final byte[] body;
+    private final String etag;
+    private final Instant lastModified;
+
+    private EncodedJson(final byte[] body, final String etag, final Instant lastModified) {
+        this.body = body;
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Encode a response body.
+     *
+     * @param objectMapper the object mapper to encode the body with
+     * @param value the response body
+     * @param lastModified when the data in the body was last modified, or null if it isn't known
+     * @return the encoded body
+     */
+    public static EncodedJson encode(final ObjectMapper objectMapper, final Object value, final Instant lastModified) {
+        try {
+            final byte[] bytes = objectMapper.writeValueAsBytes(value);
+            return new EncodedJson(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"", lastModified);
+        } catch (final JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to encode the response", ex);
+        }
+    }
+
+    /**
+     * Get the response serving the encoded body. As the body depends on the language resolved from
+     * {@code Accept-Language}, the response varies on that header.
+     *
+     * @return the response, with its ETag and Last-Modified headers
+     */
+    public ResponseEntity<byte[]> toResponse() {
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .eTag(etag)
+            .varyBy(HttpHeaders.ACCEPT_LANGUAGE);
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        return response.body(body);
+    }
+}
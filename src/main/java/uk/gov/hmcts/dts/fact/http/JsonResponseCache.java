@@ -0,0 +1,116 @@
+package uk.gov.hmcts.dts.fact.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.util.AsyncCaches;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.isWelshPreferred;
+
+/**
+ * Bounded cache of encoded JSON responses for the public read endpoints, keyed on the request and its language.
+ *
+ * <p>Responses are serialised once per {@link DataVersion} and the UTF-8 bytes served from then on, as
+ * {@link EncodedJson} with an ETag and {@code Last-Modified} date, so Spring MVC answers conditional requests with
+ * {@code 304 Not Modified}. Bodies already encoded elsewhere, such as those of the court read model, are cached
+ * as they are. Hit, miss and eviction counts are published to the meter registry under the {@code json.response}
+ * cache name.</p>
+ */
+@Component
+public class JsonResponseCache {
+
+    private static final String WELSH = "cy";
+    private static final String ENGLISH = "en";
+
+    private final ObjectMapper objectMapper;
+    private final DataVersion dataVersion;
+    private final AsyncCache<String, EncodedJson> responses;
+
+    /**
+     * Constructor for the JsonResponseCache.
+     *
+     * @param objectMapper the object mapper used to encode the responses
+     * @param dataVersion the version of the court data
+     * @param meterRegistry the registry to publish the cache metrics to
+     * @param maximumSize the maximum number of responses held in the cache
+     */
+    @Autowired
+    public JsonResponseCache(final ObjectMapper objectMapper,
+                             final DataVersion dataVersion,
+                             final MeterRegistry meterRegistry,
+                             @Value("${response-cache.maximum-size}") final long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.dataVersion = dataVersion;
+        this.responses = CaffeineCacheMetrics.monitor(
+            meterRegistry, Caffeine.newBuilder().maximumSize(maximumSize).recordStats().buildAsync(), "json.response");
+    }
+
+    /**
+     * Get the encoded response for a request, building and encoding it if it isn't cached for the current data
+     * version.
+     *
+     * @param key identifies the request, without the language
+     * @param body builds the response body. Exceptions thrown are passed on and nothing is cached
+     * @param lastModified gets when the data in the body was last modified, or null if it isn't known
+     * @param <T> the type of the response body
+     * @return the response, with its ETag and Last-Modified headers
+     */
+    public <T> ResponseEntity<byte[]> get(final String key, final Supplier<T> body,
+                                          final Function<T, Instant> lastModified) {
+        return getEncoded(key, () -> {
+            final T value = body.get();
+            return EncodedJson.encode(objectMapper, value, lastModified.apply(value));
+        });
+    }
+
+    /**
+     * Get the response for a request whose body is encoded by the caller, caching it for the current data version.
+     *
+     * @param key identifies the request, without the language
+     * @param encoded gets the encoded response body. Exceptions thrown are passed on and nothing is cached
+     * @return the response, with its ETag and Last-Modified headers
+     */
+    public ResponseEntity<byte[]> getEncoded(final String key, final Supplier<EncodedJson> encoded) {
+        // The version is read before the body is built, so a body built from newer data is at worst cached under
+        // an older version, which is never read again once the version moves on
+        final String cacheKey = dataVersion.current() + ":" + (isWelshPreferred() ? WELSH : ENGLISH) + ":" + key;
+        // Built outside the cache's locks, as the body may be read from the database, see AsyncCaches
+        return AsyncCaches.get(responses, cacheKey, encoded).toResponse();
+    }
+
+    /**
+     * Get the latest of the last modified dates of a collection.
+     *
+     * @param values the values
+     * @param lastModified gets when a value was last modified, or null if it isn't known
+     * @param <T> the type of the values
+     * @return the latest last modified date, or null if none of the values has one
+     */
+    public static <T> Instant latest(final Collection<T> values, final Function<T, Instant> lastModified) {
+        return values.stream()
+            .map(lastModified)
+            .filter(Objects::nonNull)
+            .max(Instant::compareTo)
+            .orElse(null);
+    }
+
+    /**
+     * Discard every cached response.
+     */
+    public void invalidateAll() {
+        responses.synchronous().invalidateAll();
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.mapit;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
@@ -10,18 +11,31 @@ import java.io.IOException;
 
 @Component
 public class MapitHealthIndicator implements HealthIndicator {
+    private static final String CIRCUIT_BREAKER = "circuitBreaker";
+
     @Autowired
     private MapItHealthService mapItService;
 
+    @Autowired
+    private ResilientMapitClient mapitClient;
+
     @Override
-    // Mapit health will be marked as 'down' if the 'quota' endpoint can't be reached or the usage limit reached
+    // Mapit health will be marked as 'down' if the circuit breaker is open, or the 'quota' endpoint can't be reached
+    // or the usage limit reached. The quota endpoint isn't called while the breaker is open.
     public Health health() {
+        final CircuitBreaker.State state = mapitClient.getCircuitBreakerState();
+        if (state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN) {
+            return Health.down().withDetail(CIRCUIT_BREAKER, state).build();
+        }
         try {
-            return mapItService.isUp()
-                ? Health.up().build()
-                : Health.down().build();
+            return (mapItService.isUp() ? Health.up() : Health.down())
+                .withDetail(CIRCUIT_BREAKER, state)
+                .build();
         } catch (final IOException | MapitUsageException e) {
-            return Health.down().withDetail("error", e.getLocalizedMessage()).build();
+            return Health.down()
+                .withDetail(CIRCUIT_BREAKER, state)
+                .withDetail("error", e.getLocalizedMessage())
+                .build();
         }
     }
 }
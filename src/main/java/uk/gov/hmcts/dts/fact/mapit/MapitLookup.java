@@ -0,0 +1,75 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import java.util.Optional;
+
+/**
+ * The result of looking a postcode up: found with coordinates, not found, or failed because Mapit couldn't be
+ * asked. A postcode that couldn't be looked up isn't known to be invalid, so callers shouldn't treat it as one.
+ */
+public final class MapitLookup {
+
+    /**
+     * The result of a lookup.
+     */
+    public enum Result {
+        FOUND,
+        NOT_FOUND,
+        FAILED
+    }
+
+    private static final MapitLookup NOT_FOUND = new MapitLookup(Result.NOT_FOUND, null);
+    private static final MapitLookup FAILED = new MapitLookup(Result.FAILED, null);
+
+    private final Result result;
+    private final MapitData mapitData;
+
+    private MapitLookup(final Result result, final MapitData mapitData) {
+        this.result = result;
+        this.mapitData = mapitData;
+    }
+
+    /**
+     * A postcode that was found with coordinates.
+     *
+     * @param mapitData the mapit data of the postcode
+     * @return the lookup
+     */
+    public static MapitLookup found(final MapitData mapitData) {
+        return new MapitLookup(Result.FOUND, mapitData);
+    }
+
+    /**
+     * A postcode that Mapit doesn't know, or has no coordinates for.
+     *
+     * @return the lookup
+     */
+    public static MapitLookup notFound() {
+        return NOT_FOUND;
+    }
+
+    /**
+     * A postcode that couldn't be looked up, because Mapit failed or the call wasn't permitted.
+     *
+     * @return the lookup
+     */
+    public static MapitLookup failed() {
+        return FAILED;
+    }
+
+    public Result getResult() {
+        return result;
+    }
+
+    public boolean isFailed() {
+        return result == Result.FAILED;
+    }
+
+    /**
+     * Get the mapit data of the postcode.
+     *
+     * @return the mapit data, or empty if the postcode wasn't found or couldn't be looked up
+     */
+    public Optional<MapitData> getMapitData() {
+        return Optional.ofNullable(mapitData);
+    }
+}
@@ -0,0 +1,222 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.util.AsyncCaches;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
+
+/**
+ * Bounded cache of Mapit lookups, keyed on the normalised postcode.
+ *
+ * <p>Full and partial postcodes are held in separate caches, as Mapit answers them from different endpoints.
+ * Lookups that failed aren't cached, so the postcode is looked up again by the next caller. Postcodes that Mapit
+ * has no coordinates for are cached, but only for the (shorter) negative TTL, so a postcode that has just been
+ * added to Mapit is picked up quickly. Hit, miss and eviction counts are published to the meter registry under
+ * the {@code mapit.postcode} and {@code mapit.partial-postcode} cache names.</p>
+ *
+ * <p>Coordinates older than the TTL are stale, but are kept for the stale TTL after it. A stale postcode is
+ * answered straight away from the cache while it is looked up again in the background, so a slow or unavailable
+ * Mapit only delays postcodes that have never been looked up. If the lookup fails the stale coordinates are kept,
+ * and looked up again on the next request.</p>
+ *
+ * <p>Lookups run outside the cache's locks, see {@link AsyncCaches}, so a slow Mapit doesn't pin virtual
+ * threads. Concurrent lookups of the same postcode wait for the first, and are counted as coalesced
+ * {@code singleflight.calls} under the cache name.</p>
+ */
+@Component
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class MapitPostcodeCache {
+
+    private final AsyncCache<String, CachedPostcode> postcodes;
+    private final AsyncCache<String, CachedPostcode> partialPostcodes;
+    private final Counter coalescedPostcodes;
+    private final Counter coalescedPartialPostcodes;
+    private final long ttlNanos;
+    private final Ticker ticker;
+    private final Executor revalidator;
+
+    /**
+     * Constructor for the MapitPostcodeCache.
+     *
+     * @param meterRegistry the registry to publish the cache metrics to
+     * @param maximumSize the maximum number of postcodes held in each cache
+     * @param ttl how long postcodes with coordinates are cached for
+     * @param negativeTtl how long postcodes without coordinates are cached for
+     * @param staleTtl how long postcodes with coordinates are kept after the TTL, while they are looked up again
+     */
+    @Autowired
+    public MapitPostcodeCache(final MeterRegistry meterRegistry,
+                              @Value("${mapit.cache.maximum-size}") final long maximumSize,
+                              @Value("${mapit.cache.ttl}") final Duration ttl,
+                              @Value("${mapit.cache.negative-ttl}") final Duration negativeTtl,
+                              @Value("${mapit.cache.stale-ttl}") final Duration staleTtl) {
+        this(meterRegistry, maximumSize, ttl, negativeTtl, staleTtl, Ticker.systemTicker(),
+             Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    MapitPostcodeCache(final MeterRegistry meterRegistry, final long maximumSize, final Duration ttl,
+                       final Duration negativeTtl, final Duration staleTtl, final Ticker ticker,
+                       final Executor revalidator) {
+        final Duration keepFor = ttl.plus(staleTtl);
+        this.postcodes = CaffeineCacheMetrics.monitor(
+            meterRegistry, buildCache(maximumSize, keepFor, negativeTtl, ticker), "mapit.postcode");
+        this.partialPostcodes = CaffeineCacheMetrics.monitor(
+            meterRegistry, buildCache(maximumSize, keepFor, negativeTtl, ticker), "mapit.partial-postcode");
+        this.coalescedPostcodes = coalesced("mapit.postcode", meterRegistry);
+        this.coalescedPartialPostcodes = coalesced("mapit.partial-postcode", meterRegistry);
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.revalidator = revalidator;
+    }
+
+    /**
+     * Get the mapit data for a full postcode, looking it up if it isn't cached.
+     *
+     * @param postcode the postcode
+     * @param lookup looks the postcode up in Mapit
+     * @return the lookup
+     */
+    public MapitLookup getPostcode(final String postcode, final Function<String, MapitLookup> lookup) {
+        return get(postcodes, coalescedPostcodes, postcode, lookup);
+    }
+
+    /**
+     * Get the mapit data for a partial postcode, looking it up if it isn't cached.
+     *
+     * @param postcode the partial postcode
+     * @param lookup looks the partial postcode up in Mapit
+     * @return the lookup
+     */
+    public MapitLookup getPartialPostcode(final String postcode, final Function<String, MapitLookup> lookup) {
+        return get(partialPostcodes, coalescedPartialPostcodes, postcode, lookup);
+    }
+
+    /**
+     * Remove every cached postcode.
+     */
+    public void invalidateAll() {
+        postcodes.synchronous().invalidateAll();
+        partialPostcodes.synchronous().invalidateAll();
+    }
+
+    private MapitLookup get(final AsyncCache<String, CachedPostcode> cache, final Counter coalesced,
+                            final String postcode, final Function<String, MapitLookup> lookup) {
+        final String key = upperCaseAndStripAllSpaces(postcode);
+        final CachedPostcode cached = AsyncCaches.get(cache, key, () -> load(postcode, lookup), coalesced::increment);
+        if (cached == null) {
+            return MapitLookup.failed();
+        }
+        if (cached.isStale(ticker.read()) && cached.revalidating.compareAndSet(false, true)) {
+            revalidator.execute(() -> revalidate(cache, key, postcode, lookup, cached));
+        }
+        return cached.lookup;
+    }
+
+    private void revalidate(final AsyncCache<String, CachedPostcode> cache, final String key, final String postcode,
+                            final Function<String, MapitLookup> lookup, final CachedPostcode stale) {
+        final CachedPostcode fresh = load(postcode, lookup);
+        if (fresh == null) {
+            stale.revalidating.set(false);
+        } else {
+            cache.put(key, CompletableFuture.completedFuture(fresh));
+        }
+    }
+
+    /**
+     * Look a postcode up. A failed lookup gives no value, which {@link AsyncCaches} doesn't cache.
+     */
+    private CachedPostcode load(final String postcode, final Function<String, MapitLookup> lookup) {
+        final MapitLookup result = lookup.apply(postcode);
+        return result.isFailed() ? null : new CachedPostcode(result, ticker.read() + ttlNanos);
+    }
+
+    private static Counter coalesced(final String cacheName, final MeterRegistry meterRegistry) {
+        return Counter.builder("singleflight.calls")
+            .description("Calls made, and calls that shared a call already being made")
+            .tag("name", cacheName)
+            .tag("result", "coalesced")
+            .register(meterRegistry);
+    }
+
+    private static AsyncCache<String, CachedPostcode> buildCache(final long maximumSize, final Duration keepFor,
+                                                            final Duration negativeTtl, final Ticker ticker) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new PostcodeExpiry(keepFor.toNanos(), negativeTtl.toNanos()))
+            .ticker(ticker)
+            .recordStats()
+            .buildAsync();
+    }
+
+    /**
+     * A cached lookup, with the time its coordinates become stale and whether they are being looked up again.
+     */
+    private static final class CachedPostcode {
+        private final MapitLookup lookup;
+        private final long refreshAfter;
+        private final AtomicBoolean revalidating = new AtomicBoolean();
+
+        private CachedPostcode(final MapitLookup lookup, final long refreshAfter) {
+            this.lookup = lookup;
+            this.refreshAfter = refreshAfter;
+        }
+
+        private boolean hasCoordinates() {
+            return lookup.getResult() == MapitLookup.Result.FOUND;
+        }
+
+        /**
+         * Postcodes without coordinates are never stale, they expire after the negative TTL instead.
+         */
+        private boolean isStale(final long now) {
+            return hasCoordinates() && now - refreshAfter >= 0;
+        }
+    }
+
+    /**
+     * Expires postcodes with coordinates once they have been stale for the stale TTL, and those without after the
+     * negative TTL.
+     */
+    private static final class PostcodeExpiry implements Expiry<String, CachedPostcode> {
+        private final long keepForNanos;
+        private final long negativeTtlNanos;
+
+        private PostcodeExpiry(final long keepForNanos, final long negativeTtlNanos) {
+            this.keepForNanos = keepForNanos;
+            this.negativeTtlNanos = negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(final String key, final CachedPostcode value, final long currentTime) {
+            return value.hasCoordinates() ? keepForNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CachedPostcode value, final long currentTime,
+                                      final long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CachedPostcode value, final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Calls {@link MapitClient} through the {@code mapit} circuit breaker, hedging slow postcode lookups.
+ *
+ * <p>Each call is bounded by the connect and read timeouts of the {@code mappitApi} Feign client. A postcode
+ * lookup that hasn't answered by the 95th percentile of recent lookups, kept between the minimum and maximum hedge
+ * delay, is sent again, and whichever answers first is used while the other is cancelled. A lookup is only sent
+ * again if the {@code mapit} rate limiter has a permit free, so hedges count against the Mapit quota and stop
+ * when it is used up. Once too many calls fail the breaker opens, and calls
+ * fail straight away with {@link CallNotPermittedException} instead of waiting on Mapit, until a few trial calls
+ * are let through again. Lookup times and hedges are published as {@code mapit.lookups} and
+ * {@code mapit.hedges}.</p>
+ */
+@Component
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class ResilientMapitClient {
+
+    private static final double P95 = 0.95;
+
+    private final MapitClient mapitClient;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+    private final Timer lookups;
+    private final Counter hedges;
+    private final Duration minimumHedgeDelay;
+    private final Duration maximumHedgeDelay;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Constructor for the ResilientMapitClient.
+     *
+     * @param mapitClient the client to call Mapit with
+     * @param circuitBreakerRegistry the registry holding the {@code mapit} circuit breaker
+     * @param rateLimiterRegistry the registry holding the {@code mapit} rate limiter, which hedges take a permit from
+     * @param meterRegistry the registry to publish the lookup times and hedges to
+     * @param minimumHedgeDelay the least time to wait for a lookup before sending it again
+     * @param maximumHedgeDelay the most time to wait for a lookup before sending it again
+     */
+    @Autowired
+    public ResilientMapitClient(final MapitClient mapitClient,
+                                final CircuitBreakerRegistry circuitBreakerRegistry,
+                                final RateLimiterRegistry rateLimiterRegistry,
+                                final MeterRegistry meterRegistry,
+                                @Value("${mapit.hedge.minimum-delay}") final Duration minimumHedgeDelay,
+                                @Value("${mapit.hedge.maximum-delay}") final Duration maximumHedgeDelay) {
+        this(mapitClient, circuitBreakerRegistry.circuitBreaker("mapit"), rateLimiterRegistry.rateLimiter("mapit"),
+             meterRegistry, minimumHedgeDelay, maximumHedgeDelay);
+    }
+
+    ResilientMapitClient(final MapitClient mapitClient, final CircuitBreaker circuitBreaker,
+                         final RateLimiter rateLimiter, final MeterRegistry meterRegistry,
+                         final Duration minimumHedgeDelay, final Duration maximumHedgeDelay) {
+        this.mapitClient = mapitClient;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.minimumHedgeDelay = minimumHedgeDelay;
+        this.maximumHedgeDelay = maximumHedgeDelay;
+        this.lookups = Timer.builder("mapit.lookups")
+            .description("Time taken by Mapit to answer postcode lookups")
+            .publishPercentiles(P95)
+            .register(meterRegistry);
+        this.hedges = Counter.builder("mapit.hedges")
+            .description("Mapit postcode lookups sent a second time")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Get the mapit data for a full postcode.
+     *
+     * @param postcode the postcode
+     * @return the mapit data
+     * @throws CallNotPermittedException if the circuit breaker is open
+     */
+    public MapitData getMapitData(final String postcode) {
+        return circuitBreaker.executeSupplier(() -> hedged(() -> mapitClient.getMapitData(postcode)));
+    }
+
+    /**
+     * Get the mapit data for a partial postcode.
+     *
+     * @param postcode the partial postcode
+     * @return the mapit data
+     * @throws CallNotPermittedException if the circuit breaker is open
+     */
+    public MapitData getMapitDataWithPartial(final String postcode) {
+        return circuitBreaker.executeSupplier(() -> hedged(() -> mapitClient.getMapitDataWithPartial(postcode)));
+    }
+
+    /**
+     * Get the local authorities with a name. These aren't hedged, as they are only looked up by admin changes.
+     *
+     * @param area the name of the local authority
+     * @param types the Mapit area types to look in
+     * @return the matching areas
+     * @throws CallNotPermittedException if the circuit breaker is open
+     */
+    public Map<String, MapitArea> getMapitDataForLocalAuthorities(final String area, final String types) {
+        return circuitBreaker.executeSupplier(() -> mapitClient.getMapitDataForLocalAuthorities(area, types));
+    }
+
+    /**
+     * Get the state of the circuit breaker.
+     *
+     * @return the state
+     */
+    public CircuitBreaker.State getCircuitBreakerState() {
+        return circuitBreaker.getState();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Get how long to wait for a lookup before sending it again: the 95th percentile of recent lookups, kept between
+     * the minimum and maximum hedge delay.
+     *
+     * @return the hedge delay
+     */
+    Duration hedgeDelay() {
+        final long p95 = Arrays.stream(lookups.takeSnapshot().percentileValues())
+            .filter(value -> value.percentile() == P95)
+            .mapToLong(value -> (long) value.value(TimeUnit.NANOSECONDS))
+            .findFirst()
+            .orElse(0L);
+        final Duration delay = Duration.ofNanos(p95);
+        if (delay.compareTo(minimumHedgeDelay) < 0) {
+            return minimumHedgeDelay;
+        }
+        return delay.compareTo(maximumHedgeDelay) > 0 ? maximumHedgeDelay : delay;
+    }
+
+    private MapitData hedged(final Supplier<MapitData> lookup) {
+        final CompletableFuture<MapitData> first = new CompletableFuture<>();
+        final Future<?> firstCall = executor.submit(() -> complete(first, () -> timed(lookup)));
+        try {
+            return first.get(hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException ex) {
+            return hedge(first, lookup);
+        } catch (final ExecutionException ex) {
+            throw unwrap(ex.getCause());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for Mapit", ex);
+        } finally {
+            // Interrupts the lookup if the hedge answered first, or the caller gave up waiting
+            firstCall.cancel(true);
+        }
+    }
+
+    /**
+     * Send a slow lookup again, if the rate limiter has a permit free, and answer with whichever lookup answers
+     * first. The other is cancelled.
+     */
+    private MapitData hedge(final CompletableFuture<MapitData> first, final Supplier<MapitData> lookup) {
+        if (rateLimiter.getMetrics().getAvailablePermissions() <= 0) {
+            return join(first);
+        }
+        hedges.increment();
+        final CompletableFuture<MapitData> second = new CompletableFuture<>();
+        final Future<?> secondCall = executor.submit(() -> complete(second, () -> {
+            if (!rateLimiter.acquirePermission()) {
+                throw RequestNotPermitted.createRequestNotPermitted(rateLimiter);
+            }
+            return timed(lookup);
+        }));
+        try {
+            return join(firstAnswer(first, second));
+        } finally {
+            secondCall.cancel(true);
+        }
+    }
+
+    private static void complete(final CompletableFuture<MapitData> future, final Supplier<MapitData> lookup) {
+        try {
+            future.complete(lookup.get());
+        } catch (final RuntimeException ex) {
+            future.completeExceptionally(ex);
+        } finally {
+            // Only has an effect if the lookup threw an error, so the caller doesn't wait forever
+            future.cancel(false);
+        }
+    }
+
+    private static MapitData join(final CompletableFuture<MapitData> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            throw unwrap(ex.getCause());
+        }
+    }
+
+    private MapitData timed(final Supplier<MapitData> lookup) {
+        final long start = System.nanoTime();
+        final MapitData mapitData = lookup.get();
+        lookups.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return mapitData;
+    }
+
+    /**
+     * Complete with the first of two lookups to answer, or with the failure of the last if neither does.
+     */
+    private static <T> CompletableFuture<T> firstAnswer(final CompletableFuture<T> first,
+                                                        final CompletableFuture<T> second) {
+        final CompletableFuture<T> answer = new CompletableFuture<>();
+        final BiConsumer<T, Throwable> complete = (value, failure) -> {
+            if (failure == null) {
+                answer.complete(value);
+            } else if (first.isCompletedExceptionally() && second.isCompletedExceptionally()) {
+                answer.completeExceptionally(failure);
+            }
+        };
+        first.whenComplete(complete);
+        second.whenComplete(complete);
+        return answer;
+    }
+
+    private static RuntimeException unwrap(final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+            ? failure.getCause()
+            : failure;
+        return cause instanceof RuntimeException
+            ? (RuntimeException) cause
+            : new IllegalStateException(cause);
+    }
+}
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
@@ -18,6 +19,7 @@ import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.html.sanitizer.OwaspHtmlSanitizer;
 import uk.gov.hmcts.dts.fact.util.AddressType;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
@@ -78,6 +80,8 @@ public class Court {
     @JsonProperty("service_centre")
     private ServiceCentre serviceCentre;
     private Integer regionId;
+    @JsonIgnore
+    private Instant lastModified;
 
     public Court(uk.gov.hmcts.dts.fact.entity.Court courtEntity) {
         this.name = chooseString(courtEntity.getNameCy(), courtEntity.getName());
@@ -111,6 +115,7 @@ public class Court {
         this.serviceCentre = getServiceCentreDetails(courtEntity);
         this.commonFlag = courtEntity.getInPerson() == null ? null : courtEntity.getInPerson().getCommonPlatform();
         this.regionId = courtEntity.getRegionId();
+        this.lastModified = courtEntity.getUpdatedAt() == null ? null : courtEntity.getUpdatedAt().toInstant();
     }
 
     private ServiceCentre getServiceCentreDetails(final uk.gov.hmcts.dts.fact.entity.Court courtEntity) {
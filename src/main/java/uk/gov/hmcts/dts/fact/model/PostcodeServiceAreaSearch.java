@@ -0,0 +1,23 @@
+package uk.gov.hmcts.dts.fact.model;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One search in a batch of postcode and service area searches, with the same parameters as a single search.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostcodeServiceAreaSearch {
+    @NotBlank
+    private String postcode;
+    @NotBlank
+    private String serviceArea;
+    private String action;
+    private boolean includeClosed;
+}
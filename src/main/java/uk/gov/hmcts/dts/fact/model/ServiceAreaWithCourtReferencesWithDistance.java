@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -16,6 +17,11 @@ public class ServiceAreaWithCourtReferencesWithDistance {
     private String onlineText;
     private String onlineUrl;
     private List<CourtReferenceWithDistance> courts;
+    /**
+     * Set on the results of a batch search whose postcode couldn't be looked up, so may be repeated later.
+     */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean postcodeUnavailable;
 
     public ServiceAreaWithCourtReferencesWithDistance(final String slug) {
         this.slug = slug;
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.dts.fact.model.admin;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostcodeImport {
+    @JsonProperty("postcode_count")
+    private int postcodeCount;
+    private List<String> added;
+    @JsonProperty("already_present")
+    private List<String> alreadyPresent;
+}
@@ -1,8 +1,9 @@
 package uk.gov.hmcts.dts.fact.repositories;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.dts.fact.entity.Audit;
 
@@ -11,9 +12,38 @@ import java.time.LocalDateTime;
 @Transactional
 public interface AuditRepository extends JpaRepository<Audit, Long> {
 
-    Page<Audit> findAllByLocationContainingAndUserEmailContainingOrderByCreationTimeDesc(String location, String email, Pageable pageable);
+    Slice<Audit> findAllByLocationContainingAndUserEmailContainingOrderByCreationTimeDesc(String location, String email, Pageable pageable);
 
-    Page<Audit> findAllByLocationContainingAndUserEmailContainingAndCreationTimeBetweenOrderByCreationTimeDesc(String location, String email,
-                                                                                                               LocalDateTime dateFrom, LocalDateTime dateTo,
-                                                                                                               Pageable pageable);
+    Slice<Audit> findAllByLocationContainingAndUserEmailContainingAndCreationTimeBetweenOrderByCreationTimeDesc(String location, String email,
+                                                                                                                LocalDateTime dateFrom, LocalDateTime dateTo,
+                                                                                                                Pageable pageable);
+
+    long countByLocationContainingAndUserEmailContaining(String location, String email);
+
+    long countByLocationContainingAndUserEmailContainingAndCreationTimeBetween(String location, String email,
+                                                                              LocalDateTime dateFrom, LocalDateTime dateTo);
+
+    // The keyset queries escape the location and email as the derived Containing queries do, so that an _ or % in
+    // them is matched literally and both kinds of query find the same audits
+    String MATCHING_LOCATION_AND_EMAIL = "SELECT a.* FROM admin_audit a "
+        + "WHERE a.location LIKE %:#{escape([0])}% ESCAPE :#{escapeCharacter()} "
+        + "AND a.user_email LIKE %:#{escape([1])}% ESCAPE :#{escapeCharacter()} ";
+    // The first bound is implied by the second, but Postgres can only start the index scan at the cursor from it
+    String BEFORE_CURSOR = "AND a.creation_time <= :creationTime "
+        + "AND (a.creation_time < :creationTime OR (a.creation_time = :creationTime AND a.id < :id)) ";
+    String NEWEST_FIRST = "ORDER BY a.creation_time DESC, a.id DESC";
+
+    @Query(nativeQuery = true,
+        value = MATCHING_LOCATION_AND_EMAIL
+            + BEFORE_CURSOR
+            + NEWEST_FIRST)
+    Slice<Audit> findAllBefore(String location, String email, LocalDateTime creationTime, int id, Pageable pageable);
+
+    @Query(nativeQuery = true,
+        value = MATCHING_LOCATION_AND_EMAIL
+            + "AND a.creation_time BETWEEN :dateFrom AND :dateTo "
+            + BEFORE_CURSOR
+            + NEWEST_FIRST)
+    Slice<Audit> findAllBetweenBefore(String location, String email, LocalDateTime dateFrom, LocalDateTime dateTo,
+                                      LocalDateTime creationTime, int id, Pageable pageable);
 }
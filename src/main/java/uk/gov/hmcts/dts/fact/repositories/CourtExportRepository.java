@@ -0,0 +1,61 @@
+package uk.gov.hmcts.dts.fact.repositories;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import uk.gov.hmcts.dts.fact.entity.Court;
+
+import java.util.List;
+
+/**
+ * Queries for exporting courts a chunk at a time.
+ *
+ * <p>Courts are read in name order, continuing from the last court of the previous chunk. The collections of a
+ * chunk are then loaded one query per collection, for all courts of the chunk at once, rather than one query per
+ * court and collection. Each query loads the collection into the courts already in the persistence context.</p>
+ */
+public interface CourtExportRepository extends Repository<Court, Integer> {
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.inPerson LEFT JOIN FETCH c.serviceCentre "
+        + "ORDER BY c.name, c.id")
+    List<Court> findFirstChunk(Pageable chunk);
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.inPerson LEFT JOIN FETCH c.serviceCentre "
+        + "WHERE c.name > :name OR (c.name = :name AND c.id > :id) "
+        + "ORDER BY c.name, c.id")
+    List<Court> findChunkAfter(String name, Integer id, Pageable chunk);
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.addresses a LEFT JOIN FETCH a.addressType "
+        + "LEFT JOIN FETCH a.county WHERE c.id IN :ids")
+    List<Court> fetchAddresses(List<Integer> ids);
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.areasOfLaw WHERE c.id IN :ids")
+    List<Court> fetchAreasOfLaw(List<Integer> ids);
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.courtTypes WHERE c.id IN :ids")
+    List<Court> fetchCourtTypes(List<Integer> ids);
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.facilities f LEFT JOIN FETCH f.facilityType "
+        + "WHERE c.id IN :ids")
+    List<Court> fetchFacilities(List<Integer> ids);
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.courtEmails ce LEFT JOIN FETCH ce.email e "
+        + "LEFT JOIN FETCH e.adminType WHERE c.id IN :ids")
+    List<Court> fetchEmails(List<Integer> ids);
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.courtContacts cc LEFT JOIN FETCH cc.contact ct "
+        + "LEFT JOIN FETCH ct.adminType WHERE c.id IN :ids")
+    List<Court> fetchContacts(List<Integer> ids);
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.courtOpeningTimes co LEFT JOIN FETCH co.openingTime ot "
+        + "LEFT JOIN FETCH ot.adminType WHERE c.id IN :ids")
+    List<Court> fetchOpeningTimes(List<Integer> ids);
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.courtApplicationUpdates cu "
+        + "LEFT JOIN FETCH cu.applicationUpdate WHERE c.id IN :ids")
+    List<Court> fetchApplicationUpdates(List<Integer> ids);
+
+    @Query("SELECT c FROM Court c LEFT JOIN FETCH c.courtDxCodes cd LEFT JOIN FETCH cd.dxCode "
+        + "WHERE c.id IN :ids")
+    List<Court> fetchDxCodes(List<Integer> ids);
+}
@@ -11,4 +11,6 @@ public interface CourtPostcodeRepository extends JpaRepository<CourtPostcode, In
     List<CourtPostcode> findByCourtIdAndPostcodeIn(Integer courtId, List<String> postcodes);
 
     List<CourtPostcode> deleteByCourtIdAndPostcode(Integer courtId, String postcode);
+
+    long countByCourtId(Integer courtId);
 }
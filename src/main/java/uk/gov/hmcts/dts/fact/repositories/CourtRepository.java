@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.repositories;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +10,8 @@ import uk.gov.hmcts.dts.fact.entity.Court;
 import java.util.List;
 import java.util.Optional;
 
+import static org.springframework.data.jpa.repository.EntityGraph.EntityGraphType.LOAD;
+
 @SuppressWarnings({"PMD.AvoidDuplicateLiterals", "PMD.TooManyMethods"})
 public interface CourtRepository extends JpaRepository<Court, Integer> {
 
@@ -19,12 +22,38 @@ public interface CourtRepository extends JpaRepository<Court, Integer> {
      */
     Optional<Court> findCourtByIdAndDisplayedIsTrue(int id);
 
+    @EntityGraph(value = Court.DETAIL_GRAPH, type = LOAD)
     Optional<Court> findBySlug(String slug);
 
     Optional<Court> findCourtById(int id);
 
+    @EntityGraph(value = Court.DETAIL_GRAPH, type = LOAD)
     List<Court> findByCourtTypesSearchIgnoreCaseInAndDisplayedIsTrueOrderByName(List<String> courtTypes);
 
+    /**
+     * Get all courts, to be resolved into their public details.
+     * @return all courts
+     */
+    @EntityGraph(value = Court.DETAIL_GRAPH, type = LOAD)
+    @Query("SELECT c FROM Court c")
+    List<Court> findAllForDetails();
+
+    /**
+     * Get all courts, to be listed by name, slug and region.
+     * @return all courts
+     */
+    @EntityGraph(value = Court.LIST_GRAPH, type = LOAD)
+    @Query("SELECT c FROM Court c")
+    List<Court> findAllForList();
+
+    /**
+     * Get all courts, to be written out for download.
+     * @return all courts
+     */
+    @EntityGraph(value = Court.DOWNLOAD_GRAPH, type = LOAD)
+    @Query("SELECT c FROM Court c")
+    List<Court> findAllForDownload();
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Court c SET c.info = :info, c.infoCy = :infoCy WHERE c.slug in :slugs")
     void updateInfoForSlugs(@Param("slugs") List<String> slugs, @Param("info") String info, @Param("infoCy") String infoCy);
@@ -42,28 +71,44 @@ public interface CourtRepository extends JpaRepository<Court, Integer> {
     @Query(value = "UPDATE search_court SET image_file = :imageFile WHERE slug = :slug RETURNING image_file", nativeQuery = true)
     String updateCourtImageBySlug(String slug, String imageFile);
 
+    @EntityGraph(value = Court.LIST_GRAPH, type = LOAD)
     List<Court> findCourtByNameStartingWithIgnoreCaseAndDisplayedOrderByNameAsc(String prefix, boolean active);
 
+    /**
+     * Searching by court code, name, address, town or postcode containing the query.
+     * The courts and addresses matching the query are found first, from their trigram indexes, and the results are
+     * then limited to the court and address pairs where either the court or the address matched.
+     *
+     * @param query the search string
+     * @param includeClosed whether courts that are not displayed are included
+     * @return a list of courts matching the search string
+     */
     @Query(nativeQuery = true,
-        value = "SELECT c.* FROM search_court c LEFT JOIN search_courtaddress ca ON ca.court_id = c.id AND ca"
+        value = "WITH court_match AS ("
+        + "  SELECT id FROM search_court "
+        + "  WHERE CAST (cci_code AS text) ILIKE concat('%', :query, '%') "
+        + "    OR CAST (number AS text) ILIKE concat('%', :query, '%') "
+        + "    OR CAST (magistrate_code AS text) ILIKE concat('%', :query, '%') "
+        + "    OR name ILIKE concat('%', :query, '%') "
+        + "    OR name_cy ILIKE concat('%', :query, '%')"
+        + "), address_match AS ("
+        + "  SELECT id, court_id FROM search_courtaddress "
+        + "  WHERE address_type_id != 5881 AND ("
+        + "    address ILIKE concat('%', :query, '%') "
+        + "    OR address_cy ILIKE concat('%', :query, '%') "
+        + "    OR town_name ILIKE concat('%', :query, '%') "
+        + "    OR town_name_cy ILIKE concat('%', :query, '%') "
+        + "    OR REPLACE(postcode, ' ', '') ILIKE REPLACE(concat('%', :query, '%'), ' ', ''))"
+        + ") "
+        + "SELECT c.* FROM search_court c LEFT JOIN search_courtaddress ca ON ca.court_id = c.id AND ca"
             + ".address_type_id != 5881 "
         + "WHERE "
         + "CASE "
         + "     WHEN :includeClosed THEN c.displayed IS NOT NULL "
         + "     ELSE c.displayed "
         + "END "
-        + " AND ("
-        + "  CAST (c.cci_code AS text) ILIKE concat('%', :query, '%') "
-        + "  OR CAST (c.number AS text) ILIKE concat('%', :query, '%') "
-        + "  OR CAST (c.magistrate_code AS text) ILIKE concat('%', :query, '%') "
-        + "  OR c.name ILIKE concat('%', :query, '%') "
-        + "  OR c.name_cy ILIKE concat('%', :query, '%') "
-        + "  OR ca.address ILIKE concat('%', :query, '%') "
-        + "  OR ca.address_cy ILIKE concat('%', :query, '%') "
-        + "  OR ca.town_name ILIKE concat('%', :query, '%') "
-        + "  OR ca.town_name_cy ILIKE concat('%', :query, '%') "
-        + "  OR REPLACE(ca.postcode, ' ', '') ILIKE REPLACE(concat('%', :query, '%'), ' ', '') "
-        + ") "
+        + " AND c.id IN (SELECT id FROM court_match UNION SELECT court_id FROM address_match) "
+        + " AND (c.id IN (SELECT id FROM court_match) OR ca.id IN (SELECT id FROM address_match)) "
         + "ORDER BY "
         + "  CASE WHEN REPLACE(COALESCE(ca.postcode, ''), ' ', '') ILIKE REPLACE(concat('%', :query, '%'), ' ', '') THEN 1 ELSE 0 END DESC, "
         + "  CASE WHEN "
@@ -127,7 +172,8 @@ public interface CourtRepository extends JpaRepository<Court, Integer> {
 
     /**
      * Searching by court name, town name, court address or partial postcode by exact match only (i.e. the input search string matches all/part of the record in the database).
-     * Notes: Punctuations are stripped off before the comparison, and casing are ignored.
+     * Notes: Punctuations are stripped off before the comparison, and casing are ignored. The matching courts and addresses are found
+     * first, from the trigram indexes on their texts with punctuation stripped off.
      * Sorting of the results is in the following order:
      * - Exact match to the court name in alphabetical order
      * - Exact match to the town name in alphabetical order
@@ -138,16 +184,24 @@ public interface CourtRepository extends JpaRepository<Court, Integer> {
      * @return a list of courts matching the search string
      */
     @Query(nativeQuery = true,
-        value = "SELECT c.* FROM search_court c LEFT JOIN search_courtaddress ca"
+        value = "WITH court_match AS ("
+            + "    SELECT id FROM search_court"
+            + "    WHERE regexp_replace(name, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
+            + "      OR regexp_replace(name_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
+            + "  ), address_match AS ("
+            + "    SELECT id, court_id FROM search_courtaddress"
+            + "    WHERE address_type_id != 5881 AND ("
+            + "      regexp_replace(address, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
+            + "      OR regexp_replace(address_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
+            + "      OR regexp_replace(town_name, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
+            + "      OR regexp_replace(town_name_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
+            + "      OR regexp_replace(postcode, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%'))"
+            + "  ) "
+            + "SELECT c.* FROM search_court c LEFT JOIN search_courtaddress ca"
             + "    ON ca.court_id = c.id AND ca.address_type_id != 5881"
-            + "  WHERE displayed = true AND ("
-            + "    regexp_replace(c.name, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(c.name_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(ca.address, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(ca.address_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(ca.town_name, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(ca.town_name_cy, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%')"
-            + "    OR regexp_replace(ca.postcode, '[^A-Za-z0-9]+', '', 'g') ILIKE concat('%', :query, '%'))"
+            + "  WHERE displayed = true"
+            + "    AND c.id IN (SELECT id FROM court_match UNION SELECT court_id FROM address_match)"
+            + "    AND (c.id IN (SELECT id FROM court_match) OR ca.id IN (SELECT id FROM address_match))"
             + "  ORDER BY"
             + "    CASE WHEN COALESCE(regexp_replace(c.name, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', :query, '%')"
             + "           OR COALESCE(regexp_replace(c.name_cy, '[^A-Za-z0-9]+', '', 'g'), '') ILIKE concat('%', :query, '%')"
@@ -12,7 +12,11 @@ public interface CourtWithDistanceRepository extends JpaRepository<CourtWithDist
         + ":lat)) as distance ";
     String FROM_SEARCH_COURT_AS_C = "FROM search_court as c ";
     String WHERE_C_DISPLAYED = "WHERE c.displayed ";
-    String ORDER_BY_DISTANCE_C_NAME = "ORDER BY distance, c.name ";
+    /**
+     * Orders courts by the straight line distance between their points on the earth, which orders them the same as
+     * the distance returned and is served by the GiST index on {@code ll_to_earth(lat, lon)}.
+     */
+    String ORDER_BY_DISTANCE_C_NAME = "ORDER BY ll_to_earth(c.lat, c.lon) <-> ll_to_earth(:lat, :lon), c.name ";
     String LIMIT_10 = "LIMIT 10";
     String LIMIT_1 = "LIMIT 1";
     String LAT = "lat";
@@ -24,11 +28,17 @@ public interface CourtWithDistanceRepository extends JpaRepository<CourtWithDist
         + "   ELSE c.displayed "
         + "END ";
 
+    /**
+     * Get the ten nearest displayed courts.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @return the nearest courts, with their distance in miles
+     */
     @Query(nativeQuery = true,
         value = SELECT_POINT_C_LON_C_LAT_POINT_LON_LAT_AS_DISTANCE
             + FROM_SEARCH_COURT_AS_C
             + WHERE_C_DISPLAYED
-            + "ORDER BY distance, name "
+            + ORDER_BY_DISTANCE_C_NAME
             + LIMIT_10)
     List<CourtWithDistance> findNearestTen(@Param(LAT) Double lat, @Param(LON) Double lon);
 
@@ -96,4 +106,61 @@ public interface CourtWithDistanceRepository extends JpaRepository<CourtWithDist
             + ORDER_BY_DISTANCE_C_NAME
             + LIMIT_1)
     List<CourtWithDistance> findNearestRegionalByAreaOfLaw(@Param(LAT) Double lat, @Param(LON) Double lon, String aol);
+
+    /**
+     * Get every court, with no distance, for building the in-memory search indexes.
+     * @return all courts, open and closed
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT c.*, CAST(NULL AS double precision) as distance "
+            + FROM_SEARCH_COURT_AS_C)
+    List<CourtWithDistance> findAllWithoutDistance();
+
+    /**
+     * Get the local authority catchments of every court, with the area of law and local authority names upper-cased
+     * to match the comparisons made by the queries above.
+     * @return a row per court, area of law and local authority
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT claaol.court_id AS courtId, UPPER(aol.name) AS areaOfLaw, UPPER(la.name) AS localAuthority "
+            + "FROM search_courtlocalauthorityareaoflaw claaol "
+            + "JOIN search_localauthority la ON la.id = claaol.local_authority_id "
+            + "JOIN search_areaoflaw aol ON aol.id = claaol.area_of_law_id")
+    List<LocalAuthorityCatchment> findAllLocalAuthorityCatchments();
+
+    /**
+     * Get the ids of the courts that have a regional catchment for any service area.
+     * @return the court ids
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT DISTINCT sac.court_id FROM search_serviceareacourt sac WHERE sac.catchment_type = 'regional'")
+    List<Integer> findRegionalCourtIds();
+
+    /**
+     * Get the postcodes every court is registered against.
+     * @return a row per court and postcode
+     */
+    @Query(nativeQuery = true,
+        value = "SELECT cp.court_id AS courtId, cp.postcode AS postcode FROM search_courtpostcode cp")
+    List<CourtPostcodeValue> findAllCourtPostcodes();
+
+    /**
+     * A court's catchment for an area of law within a local authority.
+     */
+    interface LocalAuthorityCatchment {
+        Integer getCourtId();
+
+        String getAreaOfLaw();
+
+        String getLocalAuthority();
+    }
+
+    /**
+     * A postcode a court is registered against.
+     */
+    interface CourtPostcodeValue {
+        Integer getCourtId();
+
+        String getPostcode();
+    }
 }
@@ -0,0 +1,174 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.mapit.MapitLookup;
+import uk.gov.hmcts.dts.fact.model.PostcodeServiceAreaSearch;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.util.Action;
+import uk.gov.hmcts.dts.fact.util.ActionConverter;
+import uk.gov.hmcts.dts.fact.util.AsyncCaches;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
+
+/**
+ * Service to answer batches of postcode and service area searches, for consumers that resolve many postcodes at
+ * once.
+ *
+ * <p>Each distinct postcode in a batch is looked up once, concurrently, each on a virtual thread, but at most
+ * {@code search.batch.concurrency} at a time across all requests, and the lookups not answered by the gazetteer or
+ * cache are limited by the {@code mapit} rate limiter. A search whose postcode couldn't be looked up, because mapit
+ * failed or its rate limiter or circuit breaker didn't permit the call, gets a result marked as unavailable rather
+ * than failing the whole batch, so the consumer can repeat just those searches later.</p>
+ *
+ * <p>The searches themselves run one after another on the request thread, once their postcodes are cached. They
+ * need the request's locale and read the courts of service areas lazily in the request's session, neither of which
+ * another thread has. With its postcode cached each search is answered from the in-memory indexes and caches, so
+ * the time a batch takes goes on the postcode lookups, which do run concurrently.</p>
+ */
+@Service
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class BatchSearchService {
+
+    private static final ActionConverter ACTION_CONVERTER = new ActionConverter();
+
+    private final CourtService courtService;
+    private final MapitService mapitService;
+    private final RateLimiter mapitRateLimiter;
+    private final Semaphore mapitPermits;
+    private final int maximumBatchSize;
+
+    /**
+     * Constructor for the BatchSearchService.
+     *
+     * @param courtService the court service, which answers each search
+     * @param mapitService the mapit service
+     * @param rateLimiterRegistry the registry holding the {@code mapit} rate limiter, which the postcode lookups take
+     *                            a permit from
+     * @param maximumBatchSize the most searches a batch may hold
+     * @param mapitConcurrency the most postcodes looked up at once, across all batches
+     */
+    @Autowired
+    public BatchSearchService(final CourtService courtService,
+                              final MapitService mapitService,
+                              final RateLimiterRegistry rateLimiterRegistry,
+                              @Value("${search.batch.maximum-size:200}") final int maximumBatchSize,
+                              @Value("${search.batch.concurrency:8}") final int mapitConcurrency) {
+        this.courtService = courtService;
+        this.mapitService = mapitService;
+        this.mapitRateLimiter = rateLimiterRegistry.rateLimiter("mapit");
+        this.mapitPermits = new Semaphore(mapitConcurrency, true);
+        this.maximumBatchSize = maximumBatchSize;
+    }
+
+    /**
+     * Find the nearest courts for a batch of postcode and service area searches, each answered as
+     * {@link CourtService#getNearestCourtsByPostcodeAndServiceArea} answers a single search. Each distinct postcode
+     * is looked up first, so the searches then find their postcodes cached.
+     *
+     * <p>A search whose postcode or service area can't be found gets a result with no courts, and a search whose
+     * postcode couldn't be looked up gets a result with no courts marked as postcode unavailable, rather than
+     * failing the batch.</p>
+     *
+     * @param searches the searches
+     * @return a result per search, in the order of the searches
+     */
+    public List<ServiceAreaWithCourtReferencesWithDistance> getNearestCourtsByPostcodeSearches(
+        final List<PostcodeServiceAreaSearch> searches) {
+
+        if (searches.size() > maximumBatchSize) {
+            throw new IllegalArgumentException(
+                String.format("A batch may hold at most %d searches, but has %d", maximumBatchSize, searches.size()));
+        }
+
+        final Map<String, MapitLookup> lookups = lookUpPostcodes(searches);
+
+        // The searches run on this thread, as it has the locale of the request, and service areas read from the
+        // database load their courts lazily in this request's session
+        final List<ServiceAreaWithCourtReferencesWithDistance> results = new ArrayList<>(searches.size());
+        for (final PostcodeServiceAreaSearch search : searches) {
+            final MapitLookup lookup = lookups.get(search.getPostcode());
+            if (lookup.isFailed()) {
+                results.add(postcodeUnavailable(search));
+            } else if (lookup.getMapitData().isPresent()) {
+                results.add(search(search));
+            } else {
+                results.add(new ServiceAreaWithCourtReferencesWithDistance(search.getServiceArea()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Look each distinct postcode up once, concurrently within the permits.
+     *
+     * @return the lookup of each postcode, keyed by the postcode as the searches give it
+     */
+    private Map<String, MapitLookup> lookUpPostcodes(final List<PostcodeServiceAreaSearch> searches) {
+        final Map<String, CompletableFuture<MapitLookup>> futures = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final PostcodeServiceAreaSearch search : searches) {
+                futures.computeIfAbsent(upperCaseAndStripAllSpaces(search.getPostcode()), key -> supplyAsync(
+                    () -> withMapitPermit(() -> mapitService.lookUpPostcode(search.getPostcode(), mapitRateLimiter)),
+                    executor
+                ));
+            }
+        }
+
+        final Map<String, MapitLookup> lookups = new LinkedHashMap<>();
+        for (final PostcodeServiceAreaSearch search : searches) {
+            lookups.computeIfAbsent(search.getPostcode(), postcode -> AsyncCaches.join(
+                futures.get(upperCaseAndStripAllSpaces(postcode))));
+        }
+        return lookups;
+    }
+
+    private MapitLookup withMapitPermit(final Supplier<MapitLookup> lookUp) {
+        try {
+            mapitPermits.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting to look up a postcode", ex);
+        }
+        try {
+            return lookUp.get();
+        } finally {
+            mapitPermits.release();
+        }
+    }
+
+    private static ServiceAreaWithCourtReferencesWithDistance postcodeUnavailable(
+        final PostcodeServiceAreaSearch search) {
+        final ServiceAreaWithCourtReferencesWithDistance result =
+            new ServiceAreaWithCourtReferencesWithDistance(search.getServiceArea());
+        result.setPostcodeUnavailable(true);
+        return result;
+    }
+
+    private ServiceAreaWithCourtReferencesWithDistance search(final PostcodeServiceAreaSearch search) {
+        final Action action = search.getAction() == null
+            ? Action.UNDEFINED : ACTION_CONVERTER.convert(search.getAction());
+        try {
+            return courtService.getNearestCourtsByPostcodeAndServiceArea(
+                search.getPostcode(), search.getServiceArea(), action, search.isIncludeClosed());
+        } catch (final NotFoundException ex) {
+            return new ServiceAreaWithCourtReferencesWithDistance(search.getServiceArea());
+        }
+    }
+}
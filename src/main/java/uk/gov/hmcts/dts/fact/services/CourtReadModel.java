@@ -0,0 +1,82 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.http.EncodedJson;
+import uk.gov.hmcts.dts.fact.model.Court;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.util.Optional;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.isWelshPreferred;
+
+/**
+ * Read model of the court details returned by the public court endpoint.
+ *
+ * <p>Every court is resolved into its {@link Court} details and encoded as JSON once, in both English and Welsh,
+ * instead of walking the court's collections on each request. Every request for a court is served the same encoded
+ * bytes, which nothing can change. The read model is built at startup and rebuilt in the background whenever
+ * the {@link DataVersion} moves on, which happens after every admin write. Until a build for the current version
+ * is available courts are read from the repository, so the details never lag behind an admin change.</p>
+ */
+@Component
+public class CourtReadModel {
+
+    private final CourtRepository courtRepository;
+    private final ObjectMapper objectMapper;
+    private final VersionedSnapshot<ResolvedCourts> resolvedCourts;
+
+    /**
+     * Constructor for the CourtReadModel.
+     * @param courtRepository The repository for courts, used until the read model is built
+     * @param courtReadModelLoader The loader for the read model
+     * @param dataVersion The version of the court data
+     * @param objectMapper The object mapper courts read from the repository are encoded with
+     */
+    public CourtReadModel(final CourtRepository courtRepository,
+                          final CourtReadModelLoader courtReadModelLoader,
+                          final DataVersion dataVersion,
+                          final ObjectMapper objectMapper) {
+        this.courtRepository = courtRepository;
+        this.objectMapper = objectMapper;
+        this.resolvedCourts = new VersionedSnapshot<>("court-read-model", dataVersion, courtReadModelLoader::load);
+    }
+
+    /**
+     * Build the read model once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        resolvedCourts.scheduleRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resolvedCourts.shutdown();
+    }
+
+    /**
+     * Find the encoded details of a court in the locale of the current request.
+     * @param slug The court slug
+     * @return the encoded court details, or empty if there is no court with the slug
+     */
+    public Optional<EncodedJson> findBySlug(final String slug) {
+        return resolvedCourts.current()
+            .map(courts -> courts.get(slug, isWelshPreferred()))
+            .orElseGet(() -> courtRepository.findBySlug(slug).map(Court::new).map(this::encode));
+    }
+
+    private EncodedJson encode(final Court court) {
+        return EncodedJson.encode(objectMapper, court, court.getLastModified());
+    }
+
+    /**
+     * Rebuild the read model for the current data version.
+     */
+    void rebuild() {
+        resolvedCourts.rebuild();
+    }
+}
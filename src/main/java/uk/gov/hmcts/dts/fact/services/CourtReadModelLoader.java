@@ -0,0 +1,79 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.http.EncodedJson;
+import uk.gov.hmcts.dts.fact.model.Court;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Loads the {@link CourtReadModel} in a read-only transaction of its own, resolving every court in English and in
+ * Welsh while its lazy collections can still be read, and encoding each as the JSON the court endpoint returns.
+ */
+@Component
+public class CourtReadModelLoader {
+
+    private static final Locale ENGLISH = Locale.forLanguageTag("en");
+    private static final Locale WELSH = Locale.forLanguageTag("cy");
+
+    private final CourtRepository courtRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructor for the CourtReadModelLoader.
+     * @param courtRepository The repository for courts
+     * @param objectMapper The object mapper the court details are encoded with
+     */
+    public CourtReadModelLoader(final CourtRepository courtRepository, final ObjectMapper objectMapper) {
+        this.courtRepository = courtRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Load, resolve and encode every court.
+     * @param version The data version the load is for
+     * @return the resolved courts
+     */
+    @Transactional(readOnly = true)
+    public ResolvedCourts load(final long version) {
+        final Map<String, EncodedJson> english = new HashMap<>();
+        final Map<String, EncodedJson> welsh = new HashMap<>();
+        for (final uk.gov.hmcts.dts.fact.entity.Court court : courtRepository.findAllForDetails()) {
+            english.put(court.getSlug(), resolve(court, ENGLISH));
+            welsh.put(court.getSlug(), resolve(court, WELSH));
+        }
+        return new ResolvedCourts(english, welsh);
+    }
+
+    /**
+     * Resolve and encode a court as it would be for a request in the given locale.
+     * @param court The court entity
+     * @param locale The locale
+     * @return the encoded court details
+     */
+    private EncodedJson resolve(final uk.gov.hmcts.dts.fact.entity.Court court, final Locale locale) {
+        final LocaleContext previous = LocaleContextHolder.getLocaleContext();
+        LocaleContextHolder.setLocale(locale);
+        try {
+            return encode(new Court(court));
+        } finally {
+            LocaleContextHolder.setLocaleContext(previous);
+        }
+    }
+
+    /**
+     * Encode the details of a court as the court endpoint returns them.
+     * @param court The court details
+     * @return the encoded court details
+     */
+    private EncodedJson encode(final Court court) {
+        return EncodedJson.encode(objectMapper, court, court.getLastModified());
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.exception.InvalidPostcodeException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.http.EncodedJson;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
 import uk.gov.hmcts.dts.fact.model.Court;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
@@ -16,8 +17,9 @@ import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
 import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
 import uk.gov.hmcts.dts.fact.repositories.CourtHistoryRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.search.CourtSpatialIndex;
+import uk.gov.hmcts.dts.fact.services.search.CourtTextIndex;
 import uk.gov.hmcts.dts.fact.services.search.FallbackProximitySearch;
 import uk.gov.hmcts.dts.fact.services.search.ProximitySearch;
 import uk.gov.hmcts.dts.fact.services.search.ServiceAreaSearchFactory;
@@ -45,14 +47,21 @@ public class CourtService {
 
     private static final String IMMIGRATION_AREA_OF_LAW = "Immigration";
     private static final String GLASGOW_TRIBUNAL_CENTRE = "Glasgow Tribunals Centre";
+    private static final String CHILDCARE_ARRANGEMENTS = "childcare-arrangements";
+    private static final String CHILDREN_AREA_OF_LAW = "Children";
 
     private final MapitService mapitService;
+    private final SearchLookups searchLookups;
     private final CourtRepository courtRepository;
+    private final CourtReadModel courtReadModel;
     private final ProximitySearch proximitySearch;
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtSpatialIndex courtSpatialIndex;
+    private final CourtTextIndex courtTextIndex;
     private final ServiceAreaRepository serviceAreaRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
     private final ServiceAreaSearchFactory serviceAreaSearchFactory;
     private final FallbackProximitySearch fallbackProximitySearch;
+    private final SearchResultCache searchResultCache;
 
     private final CourtHistoryRepository courtHistoryRepository;
 
@@ -60,30 +69,45 @@ public class CourtService {
      * Constructor for the CourtService.
      *
      * @param mapitService               the mapit service
+     * @param searchLookups              the lookups searches run in parallel
      * @param courtRepository            the repository to get courts from
+     * @param courtReadModel             the read model to get court details from
      * @param proximitySearch            the proximity search
-     * @param courtWithDistanceRepository the repository to get courts with distance from
+     * @param courtSpatialIndex          the spatial index to get courts with distance from
+     * @param courtTextIndex             the text index to search courts by name, address, town or postcode
      * @param serviceAreaRepository      the repository to get service areas from
+     * @param referenceDataCatalogue     the catalogue to get service areas from while it is up to date
      * @param serviceAreaSearchFactory   the service area search factory
      * @param fallbackProximitySearch    the fallback proximity search
+     * @param searchResultCache          the cache of postcode search results
      * @param courtHistoryRepository the repository for getting court histories
      */
     @Autowired
     public CourtService(final MapitService mapitService,
+                        final SearchLookups searchLookups,
                         final CourtRepository courtRepository,
+                        final CourtReadModel courtReadModel,
                         final ProximitySearch proximitySearch,
-                        final CourtWithDistanceRepository courtWithDistanceRepository,
+                        final CourtSpatialIndex courtSpatialIndex,
+                        final CourtTextIndex courtTextIndex,
                         final ServiceAreaRepository serviceAreaRepository,
+                        final ReferenceDataCatalogue referenceDataCatalogue,
                         final ServiceAreaSearchFactory serviceAreaSearchFactory,
                         final FallbackProximitySearch fallbackProximitySearch,
+                        final SearchResultCache searchResultCache,
                         final CourtHistoryRepository courtHistoryRepository) {
         this.mapitService = mapitService;
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+        this.searchLookups = searchLookups;
+        this.courtSpatialIndex = courtSpatialIndex;
+        this.courtTextIndex = courtTextIndex;
         this.proximitySearch = proximitySearch;
         this.courtRepository = courtRepository;
+        this.courtReadModel = courtReadModel;
         this.serviceAreaRepository = serviceAreaRepository;
+        this.referenceDataCatalogue = referenceDataCatalogue;
         this.serviceAreaSearchFactory = serviceAreaSearchFactory;
         this.fallbackProximitySearch = fallbackProximitySearch;
+        this.searchResultCache = searchResultCache;
         this.courtHistoryRepository = courtHistoryRepository;
     }
 
@@ -100,14 +124,13 @@ public class CourtService {
     }
 
     /**
-     * Get court by slug.
+     * Get court by slug, encoded as JSON in the locale of the current request.
      *
-     * @return a court
+     * @return the encoded court
      */
-    public Court getCourtBySlug(final String slug) {
-        return courtRepository
+    public EncodedJson getCourtBySlug(final String slug) {
+        return courtReadModel
             .findBySlug(slug)
-            .map(Court::new)
             .orElseThrow(() -> new NotFoundException(slug));
     }
 
@@ -152,7 +175,7 @@ public class CourtService {
      */
     public List<CourtWithDistance> getNearestCourtsByPostcode(final String postcode) {
         return mapitService.getMapitData(postcode)
-            .map(value -> courtWithDistanceRepository
+            .map(value -> courtSpatialIndex
                 .findNearestTen(value.getLat(), value.getLon())
                 .stream()
                 .map(CourtWithDistance::new)
@@ -171,7 +194,7 @@ public class CourtService {
         }
 
         return mapitService.getMapitData(postcode)
-            .map(value -> courtWithDistanceRepository
+            .map(value -> courtSpatialIndex
                 .findNearestTenByAreaOfLaw(value.getLat(), value.getLon(), areaOfLaw, includeClosed)
                 .stream()
                 .filter(getCourtWithDistancePredicate(postcode, areaOfLaw))
@@ -200,7 +223,7 @@ public class CourtService {
         final MapitData mapitData = optionalMapitData.get();
 
         List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courtsWithDistance = mapitData.getLocalAuthority()
-            .map(localAuthority -> courtWithDistanceRepository
+            .map(localAuthority -> courtSpatialIndex
                 .findNearestTenByAreaOfLawAndLocalAuthority(
                     mapitData.getLat(),
                     mapitData.getLon(),
@@ -216,12 +239,26 @@ public class CourtService {
             .collect(toList());
     }
 
+    /**
+     * Get the courts nearest a postcode. Results are cached until the court data changes, see
+     * {@link SearchResultCache}.
+     *
+     * @param postcode the postcode
+     * @return the nearest courts, or an empty list if the postcode isn't found
+     */
     public List<CourtReferenceWithDistance> getNearestCourtReferencesByPostcode(final String postcode) {
+        final List<CourtReferenceWithDistance> courtReferences = searchResultCache.getNearestCourtSearch(
+            postcode, () -> searchNearestCourtReferencesByPostcode(postcode));
+        // Empty so the frontend logic can be invoked
+        return courtReferences == null ? emptyList() : courtReferences;
+    }
+
+    private List<CourtReferenceWithDistance> searchNearestCourtReferencesByPostcode(final String postcode) {
         final Optional<MapitData> optionalMapitData = mapitService.getMapitData(postcode);
 
         if (optionalMapitData.isEmpty()) {
             log.error("No mapit data found for provided postcode: {}", postcode);
-            return emptyList(); // Return empty so the frontend logic can be invoked
+            return null;
         }
 
         List<CourtReferenceWithDistance> courtReferences = convert(proximitySearch.searchWith(optionalMapitData.get()));
@@ -231,17 +268,77 @@ public class CourtService {
         return courtReferences;
     }
 
+    /**
+     * Get the nearest courts for a service area by postcode, as a user searches for them. Only the nearest action
+     * changes the search, and a childcare arrangements search that isn't for the nearest courts only gives the nearest
+     * court that is a single point of entry for children.
+     *
+     * @param postcode the postcode
+     * @param serviceAreaSlug the slug of the service area
+     * @param action the action the user wants to take
+     * @param includeClosed whether to include closed courts
+     * @return the service area with the nearest courts
+     * @throws NotFoundException if a nearest or childcare arrangements search can't find the postcode or service area
+     */
+    public ServiceAreaWithCourtReferencesWithDistance getNearestCourtsByPostcodeAndServiceArea(final String postcode,
+                                                                                               final String serviceAreaSlug,
+                                                                                               final Action action,
+                                                                                               final Boolean includeClosed) {
+        if (Action.isNearest(action)) {
+            return getNearestCourtsByPostcodeActionAndAreaOfLawSearch(postcode, serviceAreaSlug, Action.NEAREST,
+                                                                      includeClosed);
+        } else if (CHILDCARE_ARRANGEMENTS.equals(serviceAreaSlug)) {
+            return getNearestCourtsByAreaOfLawSinglePointOfEntry(postcode, serviceAreaSlug, CHILDREN_AREA_OF_LAW,
+                                                                 Action.UNDEFINED, includeClosed);
+        }
+        return getNearestCourtsByPostcodeSearch(postcode, serviceAreaSlug, includeClosed, Action.UNDEFINED);
+    }
+
+    /**
+     * Get the nearest courts for a service area by postcode. The postcode is looked up while the service area is
+     * read, and the lookup is cancelled if there is no such service area. Results are cached until the court data
+     * changes, see {@link SearchResultCache}.
+     *
+     * @param postcode the postcode
+     * @param serviceAreaSlug the slug of the service area
+     * @param includeClosed whether to include closed courts
+     * @param action the action the user wants to take
+     * @return the service area with the nearest courts, or without courts if the postcode or service area isn't found
+     */
     public ServiceAreaWithCourtReferencesWithDistance getNearestCourtsByPostcodeSearch(final String postcode,
                                                                                        final String serviceAreaSlug,
                                                                                        final Boolean includeClosed,
                                                                                        final Action action
     ) {
+        final ServiceAreaWithCourtReferencesWithDistance result = searchResultCache.getServiceAreaSearch(
+            "service-area", postcode, serviceAreaSlug, action, includeClosed,
+            () -> searchNearestCourtsByPostcode(postcode, serviceAreaSlug, includeClosed, action)
+        );
+        return result == null ? new ServiceAreaWithCourtReferencesWithDistance(serviceAreaSlug) : result;
+    }
 
-        final Optional<ServiceArea> serviceAreaOptional = serviceAreaRepository.findBySlugIgnoreCase(serviceAreaSlug);
-        final Optional<MapitData> optionalMapitData = mapitService.getMapitData(postcode);
+    /**
+     * Run a search for the nearest courts for a service area by postcode.
+     *
+     * @return the service area with the nearest courts, or null if the postcode or service area isn't found
+     */
+    private ServiceAreaWithCourtReferencesWithDistance searchNearestCourtsByPostcode(final String postcode,
+                                                                                     final String serviceAreaSlug,
+                                                                                     final Boolean includeClosed,
+                                                                                     final Action action) {
+        final SearchLookups.Lookup<Optional<MapitData>> mapitDataLookup = searchLookups.lookUpPostcode(postcode);
+
+        // The service area is read on this thread, as when it comes from the database its courts are loaded lazily
+        // in this request's session
+        final Optional<ServiceArea> serviceAreaOptional = findServiceArea(serviceAreaSlug);
+        if (serviceAreaOptional.isEmpty()) {
+            mapitDataLookup.cancel();
+            return null;
+        }
 
-        if (serviceAreaOptional.isEmpty() || optionalMapitData.isEmpty()) {
-            return new ServiceAreaWithCourtReferencesWithDistance(serviceAreaSlug);
+        final Optional<MapitData> optionalMapitData = mapitDataLookup.await();
+        if (optionalMapitData.isEmpty()) {
+            return null;
         }
 
         final ServiceArea serviceArea = serviceAreaOptional.get();
@@ -255,9 +352,20 @@ public class CourtService {
     }
 
     public ServiceAreaWithCourtReferencesWithDistance getNearestCourtsByPostcodeActionAndAreaOfLawSearch(final String postcode, final String serviceAreaSlug, final Action action, final Boolean includeClosed) {
-        final ServiceArea serviceArea = serviceAreaRepository.findBySlugIgnoreCase(serviceAreaSlug).orElseThrow(() -> new NotFoundException(
-            serviceAreaSlug));
-        final MapitData mapitData = mapitService.getMapitData(postcode).orElseThrow(() -> new NotFoundException(
+        return searchResultCache.getServiceAreaSearch(
+            "service-area-action", postcode, serviceAreaSlug, action, includeClosed,
+            () -> searchNearestCourtsByPostcodeAndAction(postcode, serviceAreaSlug, action, includeClosed)
+        );
+    }
+
+    private ServiceAreaWithCourtReferencesWithDistance searchNearestCourtsByPostcodeAndAction(final String postcode, final String serviceAreaSlug, final Action action, final Boolean includeClosed) {
+        final SearchLookups.Lookup<Optional<MapitData>> mapitDataLookup = searchLookups.lookUpPostcode(postcode);
+
+        final ServiceArea serviceArea = findServiceArea(serviceAreaSlug).orElseThrow(() -> {
+            mapitDataLookup.cancel();
+            return new NotFoundException(serviceAreaSlug);
+        });
+        final MapitData mapitData = mapitDataLookup.await().orElseThrow(() -> new NotFoundException(
             serviceAreaSlug));
         final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courts = serviceAreaSearchFactory
             .getSearchFor(serviceArea, mapitData, action)
@@ -293,6 +401,13 @@ public class CourtService {
             .collect(toList());
     }
 
+    private Optional<ServiceArea> findServiceArea(final String slug) {
+        return referenceDataCatalogue.get(
+            data -> data.findServiceAreaBySlug(slug),
+            () -> serviceAreaRepository.findBySlugIgnoreCase(slug)
+        );
+    }
+
     private List<CourtReferenceWithDistance> convert(final List<uk.gov.hmcts.dts.fact.entity.CourtWithDistance> courtsWithDistance) {
         return courtsWithDistance.stream()
             .map(CourtReferenceWithDistance::new)
@@ -309,17 +424,17 @@ public class CourtService {
 
     private List<uk.gov.hmcts.dts.fact.entity.Court> getCourtsFromRepository(final String query) {
         if (query.matches("^\\d+$")) {
-            return courtRepository.findCourtByCourtCode(Integer.valueOf(query));
+            return courtTextIndex.findCourtByCourtCode(Integer.valueOf(query));
         } else if (isFullPostcodeFormat(query)) {
-            return courtRepository.findCourtByFullPostcode(query);
+            return courtTextIndex.findCourtByFullPostcode(query);
         }
 
         // For court name, address or town name search, we first search using exact match only (ignore punctuations and casing). If this
         // doesn't return any result, fuzzy match searching will then be attempted.
-        List<uk.gov.hmcts.dts.fact.entity.Court> courts = courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(
+        List<uk.gov.hmcts.dts.fact.entity.Court> courts = courtTextIndex.findCourtByNameAddressTownOrPartialPostcodeExactMatch(
             query.replaceAll("[^A-Za-z0-9]+", ""));
         if (courts.isEmpty()) {
-            courts = courtRepository.findCourtByNameAddressOrTownFuzzyMatch(query);
+            courts = courtTextIndex.findCourtByNameAddressOrTownFuzzyMatch(query);
         }
         return courts;
     }
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global version counter for court and reference data.
+ *
+ * <p>Every admin write bumps the version, and the in-memory structures built from the database (such as the
+ * court spatial index) compare the version they were built at with the current one to decide whether they are
+ * stale. Admin writes also bump a marker row in the database, which each instance checks on a fixed interval, so
+ * that writes made through other instances of the application are picked up within that interval. The version
+ * only moves on when the marker has, so instances don't rebuild their structures unless the data changed.</p>
+ */
+@Component
+@Slf4j
+public class DataVersion {
+
+    static final String READ_STORED_VERSION = "SELECT version FROM admin_data_version WHERE id = 1";
+    static final String BUMP_STORED_VERSION =
+        "UPDATE admin_data_version SET version = version + 1 WHERE id = 1 RETURNING version";
+
+    private static final long UNKNOWN = -1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong storedVersion = new AtomicLong(UNKNOWN);
+
+    /**
+     * Constructor for the DataVersion. The marker is read here, so that a write made on another instance between
+     * this instance starting and its first check is still seen.
+     * @param jdbcTemplate The JDBC template for the data version marker
+     */
+    public DataVersion(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        try {
+            storedVersion.set(readStoredVersion());
+        } catch (final DataAccessException ex) {
+            log.warn("Could not read the stored data version, the first check will mark the data as changed", ex);
+        }
+    }
+
+    /**
+     * Get the current data version.
+     * @return the current data version
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Mark the court and reference data as changed, here and, through the marker in the database, on the other
+     * instances.
+     * @return the new data version
+     */
+    public long increment() {
+        try {
+            final Long stored = jdbcTemplate.queryForObject(BUMP_STORED_VERSION, Long.class);
+            if (stored != null) {
+                storedVersion.accumulateAndGet(stored, Math::max);
+            }
+        } catch (final DataAccessException ex) {
+            log.error("Could not bump the stored data version, other instances won't see this change", ex);
+        }
+        return bump();
+    }
+
+    /**
+     * Periodically check the marker in the database, and mark the data as changed if another instance has changed
+     * it since the last check.
+     */
+    @Scheduled(fixedDelayString = "${cache.refresh-interval}", initialDelayString = "${cache.refresh-interval}")
+    public void scheduledRefresh() {
+        final long stored;
+        try {
+            stored = readStoredVersion();
+        } catch (final DataAccessException ex) {
+            log.warn("Could not read the stored data version, changes on other instances aren't seen yet", ex);
+            return;
+        }
+        if (stored > storedVersion.getAndAccumulate(stored, Math::max)) {
+            bump();
+        }
+    }
+
+    private long readStoredVersion() {
+        final Long stored = jdbcTemplate.queryForObject(READ_STORED_VERSION, Long.class);
+        return stored == null ? UNKNOWN : stored;
+    }
+
+    private long bump() {
+        final long newVersion = version.incrementAndGet();
+        log.debug("Data version bumped to {}", newVersion);
+        return newVersion;
+    }
+}
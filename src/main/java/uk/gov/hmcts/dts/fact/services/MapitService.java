@@ -1,14 +1,21 @@
 package uk.gov.hmcts.dts.fact.services;
 
 import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import uk.gov.hmcts.dts.fact.mapit.MapitClient;
+import uk.gov.hmcts.dts.fact.gazetteer.Gazetteer;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.mapit.MapitLookup;
+import uk.gov.hmcts.dts.fact.mapit.MapitPostcodeCache;
+import uk.gov.hmcts.dts.fact.mapit.ResilientMapitClient;
 
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Service to get mapit data.
@@ -16,65 +23,77 @@ import java.util.Optional;
 @Service
 public class MapitService {
 
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+
     private final Logger logger;
-    private final MapitClient mapitClient;
+    private final ResilientMapitClient mapitClient;
+    private final MapitPostcodeCache mapitPostcodeCache;
+    private final Gazetteer gazetteer;
 
     /**
      * Constructor for the MapitService.
      *
      * @param logger the logger
-     * @param mapitClient the client to get mapit data from
+     * @param mapitClient the client to get mapit data from, through the mapit circuit breaker
+     * @param mapitPostcodeCache the cache of previous postcode lookups
+     * @param gazetteer the local gazetteer, checked before calling mapit
      */
     @Autowired
-    public MapitService(final Logger logger, final MapitClient mapitClient) {
+    public MapitService(final Logger logger, final ResilientMapitClient mapitClient,
+                        final MapitPostcodeCache mapitPostcodeCache, final Gazetteer gazetteer) {
         this.logger = logger;
         this.mapitClient = mapitClient;
+        this.mapitPostcodeCache = mapitPostcodeCache;
+        this.gazetteer = gazetteer;
     }
 
     /**
-     * Get mapit data for a postcode.
+     * Get mapit data for a postcode, from the local gazetteer if it has the postcode, otherwise from mapit.
      *
      * @param postcode the postcode to get mapit data for
      * @return the mapit data
      */
     public Optional<MapitData> getMapitData(final String postcode) {
+        return lookUpPostcode(postcode, mapitClient::getMapitData).getMapitData();
+    }
 
-        if (!postcode.isBlank()) {
-            try {
-                final MapitData mapitData = mapitClient.getMapitData(postcode);
-
-                if (mapitData.hasLatAndLonValues()) {
-                    return Optional.of(mapitData);
-                }
-            } catch (final FeignException ex) {
-                logger.warn("HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
-            }
-        }
-
-        return Optional.empty();
+    /**
+     * Look a postcode up as {@link #getMapitData(String)} does, only calling mapit once the rate limiter permits.
+     * Postcodes found in the gazetteer or the cache don't use a permit. Unlike {@link #getMapitData(String)}, a
+     * postcode that couldn't be looked up is told apart from one that wasn't found.
+     *
+     * @param postcode the postcode to look up
+     * @param rateLimiter the rate limiter for the calls to mapit
+     * @return the lookup, which failed if no permit was given in time or mapit couldn't be called
+     */
+    public MapitLookup lookUpPostcode(final String postcode, final RateLimiter rateLimiter) {
+        return lookUpPostcode(postcode, RateLimiter.decorateFunction(rateLimiter, mapitClient::getMapitData));
     }
 
     /**
-     * Get mapit data for a partial postcode.
+     * Get mapit data for a partial postcode, from the local gazetteer if it has the postcode, otherwise from mapit.
      *
      * @param postcode the partial postcode to get mapit data for
      * @return the mapit data
      */
     public Optional<MapitData> getMapitDataWithPartial(final String postcode) {
+        return lookUpPartialPostcode(postcode, mapitClient::getMapitDataWithPartial).getMapitData();
+    }
 
-        if (!StringUtils.isBlank(postcode)) {
-            try {
-                final MapitData mapitData = mapitClient.getMapitDataWithPartial(postcode);
-
-                if (mapitData.hasLatAndLonValues()) {
-                    return Optional.of(mapitData);
-                }
-            } catch (final FeignException ex) {
-                logger.warn("HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
-            }
-        }
-
-        return Optional.empty();
+    /**
+     * Look a partial postcode up as {@link #getMapitDataWithPartial(String)} does, only calling mapit once the rate
+     * limiter permits. Postcodes found in the gazetteer or the cache don't use a permit. Unlike
+     * {@link #getMapitDataWithPartial(String)}, a postcode that couldn't be looked up is told apart from one that
+     * wasn't found.
+     *
+     * @param postcode the partial postcode to look up
+     * @param rateLimiter the rate limiter for the calls to mapit
+     * @return the lookup, which failed if no permit was given in time or mapit couldn't be called
+     */
+    public MapitLookup lookUpPartialPostcode(final String postcode, final RateLimiter rateLimiter) {
+        return lookUpPartialPostcode(
+            postcode, RateLimiter.decorateFunction(rateLimiter, mapitClient::getMapitDataWithPartial));
     }
 
     /**
@@ -99,8 +118,55 @@ public class MapitService {
                     ex
                 );
                 return false;
+            } catch (final CallNotPermittedException ex) {
+                logger.warn("Mapit API call (local authority validation) not permitted: {}", ex.getMessage());
+                return false;
             }
         }
         return false;
     }
+
+    private MapitLookup lookUpPostcode(final String postcode, final Function<String, MapitData> client) {
+
+        if (!postcode.isBlank()) {
+            return gazetteer.getMapitData(postcode)
+                .map(MapitLookup::found)
+                .orElseGet(() -> mapitPostcodeCache.getPostcode(postcode, p -> lookUp(client, p)));
+        }
+
+        return MapitLookup.notFound();
+    }
+
+    private MapitLookup lookUpPartialPostcode(final String postcode, final Function<String, MapitData> client) {
+
+        if (!StringUtils.isBlank(postcode)) {
+            return gazetteer.getMapitDataWithPartial(postcode)
+                .map(MapitLookup::found)
+                .orElseGet(() -> mapitPostcodeCache.getPartialPostcode(postcode, p -> lookUp(client, p)));
+        }
+
+        return MapitLookup.notFound();
+    }
+
+    /**
+     * Look a postcode up in Mapit. A lookup fails, rather than finding nothing, if the call failed or wasn't
+     * permitted by the rate limiter or circuit breaker, so it isn't cached.
+     *
+     * @param client the Mapit endpoint to call
+     * @param postcode the postcode to look up
+     * @return the lookup
+     */
+    private MapitLookup lookUp(final Function<String, MapitData> client, final String postcode) {
+        try {
+            final MapitData mapitData = client.apply(postcode);
+            return mapitData.hasLatAndLonValues() ? MapitLookup.found(mapitData) : MapitLookup.notFound();
+        } catch (final FeignException ex) {
+            logger.warn("HTTP Status: {} Message: {}", ex.status(), ex.getMessage(), ex);
+            return ex.status() == BAD_REQUEST || ex.status() == NOT_FOUND
+                ? MapitLookup.notFound() : MapitLookup.failed();
+        } catch (final RequestNotPermitted | CallNotPermittedException ex) {
+            logger.warn("Mapit lookup of {} not permitted: {}", postcode, ex.getMessage());
+            return MapitLookup.failed();
+        }
+    }
 }
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import uk.gov.hmcts.dts.fact.entity.AddressType;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.ContactType;
+import uk.gov.hmcts.dts.fact.entity.County;
+import uk.gov.hmcts.dts.fact.entity.CourtType;
+import uk.gov.hmcts.dts.fact.entity.FacilityType;
+import uk.gov.hmcts.dts.fact.entity.LocalAuthority;
+import uk.gov.hmcts.dts.fact.entity.OpeningType;
+import uk.gov.hmcts.dts.fact.entity.Region;
+import uk.gov.hmcts.dts.fact.entity.Service;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toUnmodifiableMap;
+
+/**
+ * The reference data lists, as loaded by {@link ReferenceDataLoader}: services, service areas, areas of law and the
+ * types and places courts are described with.
+ *
+ * <p>The entities are detached, with every association the public and admin models read already loaded, so they
+ * can be read on any thread. They are shared between requests, so must not be modified.</p>
+ */
+@Getter
+@SuppressWarnings("PMD.ExcessiveParameterList")
+public final class ReferenceData {
+
+    private final List<Service> services;
+    private final List<ServiceArea> serviceAreas;
+    private final List<AreaOfLaw> areasOfLaw;
+    private final List<CourtType> courtTypes;
+    private final List<FacilityType> facilityTypes;
+    private final List<ContactType> contactTypes;
+    private final List<OpeningType> openingTypes;
+    private final List<AddressType> addressTypes;
+    private final List<County> counties;
+    private final List<Region> regions;
+    private final List<LocalAuthority> localAuthorities;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Service> servicesBySlug;
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ServiceArea> serviceAreasBySlug;
+
+    /**
+     * Constructor for the ReferenceData. The lists are copied, and can't be modified through the getters.
+     * @param services The services, with their service areas
+     * @param serviceAreas The service areas, with their area of law and courts
+     * @param areasOfLaw The areas of law
+     * @param courtTypes The court types
+     * @param facilityTypes The facility types
+     * @param contactTypes The contact types
+     * @param openingTypes The opening types
+     * @param addressTypes The address types
+     * @param counties The counties
+     * @param regions The regions
+     * @param localAuthorities The local authorities
+     */
+    public ReferenceData(final List<Service> services,
+                         final List<ServiceArea> serviceAreas,
+                         final List<AreaOfLaw> areasOfLaw,
+                         final List<CourtType> courtTypes,
+                         final List<FacilityType> facilityTypes,
+                         final List<ContactType> contactTypes,
+                         final List<OpeningType> openingTypes,
+                         final List<AddressType> addressTypes,
+                         final List<County> counties,
+                         final List<Region> regions,
+                         final List<LocalAuthority> localAuthorities) {
+        this.services = List.copyOf(services);
+        this.serviceAreas = List.copyOf(serviceAreas);
+        this.areasOfLaw = List.copyOf(areasOfLaw);
+        this.courtTypes = List.copyOf(courtTypes);
+        this.facilityTypes = List.copyOf(facilityTypes);
+        this.contactTypes = List.copyOf(contactTypes);
+        this.openingTypes = List.copyOf(openingTypes);
+        this.addressTypes = List.copyOf(addressTypes);
+        this.counties = List.copyOf(counties);
+        this.regions = List.copyOf(regions);
+        this.localAuthorities = List.copyOf(localAuthorities);
+        this.servicesBySlug = bySlug(this.services, Service::getSlug);
+        this.serviceAreasBySlug = bySlug(this.serviceAreas, ServiceArea::getSlug);
+    }
+
+    /**
+     * Find a service by slug, ignoring case as the repository does.
+     * @param slug The slug of the service
+     * @return the service, or empty if there is no service with the slug
+     */
+    public Optional<Service> findServiceBySlug(final String slug) {
+        return Optional.ofNullable(servicesBySlug.get(slug.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Find a service area by slug, ignoring case as the repository does.
+     * @param slug The slug of the service area
+     * @return the service area, or empty if there is no service area with the slug
+     */
+    public Optional<ServiceArea> findServiceAreaBySlug(final String slug) {
+        return Optional.ofNullable(serviceAreasBySlug.get(slug.toLowerCase(Locale.ROOT)));
+    }
+
+    private static <T> Map<String, T> bySlug(final List<T> values, final Function<T, String> slug) {
+        return values.stream()
+            .filter(value -> slug.apply(value) != null)
+            .collect(toUnmodifiableMap(value -> slug.apply(value).toLowerCase(Locale.ROOT), Function.identity(),
+                                       (first, second) -> first));
+    }
+}
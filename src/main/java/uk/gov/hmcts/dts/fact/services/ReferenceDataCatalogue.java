@@ -0,0 +1,67 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory catalogue of the {@link ReferenceData}, so searches, the public service endpoints and the admin list
+ * checks don't read whole tables on every request.
+ *
+ * <p>The catalogue is built at startup and rebuilt in the background whenever the {@link DataVersion} moves on,
+ * which happens after every admin write, and the new build replaces the old one in a single step. Until a build for
+ * the current version is available the data is read from the database, so an admin change is seen straight away,
+ * including by the uniqueness checks of the next write.</p>
+ */
+@Component
+public class ReferenceDataCatalogue {
+
+    private final VersionedSnapshot<ReferenceData> referenceData;
+
+    /**
+     * Constructor for the ReferenceDataCatalogue.
+     * @param referenceDataLoader The loader for the reference data
+     * @param dataVersion The version of the court and reference data
+     */
+    public ReferenceDataCatalogue(final ReferenceDataLoader referenceDataLoader, final DataVersion dataVersion) {
+        this.referenceData = new VersionedSnapshot<>("reference-data-catalogue", dataVersion,
+                                                     referenceDataLoader::load);
+    }
+
+    /**
+     * Build the catalogue once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        referenceData.scheduleRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        referenceData.shutdown();
+    }
+
+    /**
+     * Get some of the reference data, from the catalogue if it is up to date, otherwise from the database.
+     * @param fromCatalogue Gets the data from the catalogue
+     * @param fromDatabase Gets the same data from the database
+     * @param <T> The type of the data
+     * @return the data
+     */
+    public <T> T get(final Function<ReferenceData, T> fromCatalogue, final Supplier<T> fromDatabase) {
+        return referenceData.current()
+            .map(fromCatalogue)
+            .orElseGet(fromDatabase);
+    }
+
+    /**
+     * Rebuild the catalogue for the current data version.
+     */
+    void rebuild() {
+        referenceData.rebuild();
+    }
+}
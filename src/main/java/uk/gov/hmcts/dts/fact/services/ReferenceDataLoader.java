@@ -0,0 +1,107 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.entity.Service;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.repositories.AddressTypeRepository;
+import uk.gov.hmcts.dts.fact.repositories.AreasOfLawRepository;
+import uk.gov.hmcts.dts.fact.repositories.ContactTypeRepository;
+import uk.gov.hmcts.dts.fact.repositories.CountyRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtTypeRepository;
+import uk.gov.hmcts.dts.fact.repositories.FacilityTypeRepository;
+import uk.gov.hmcts.dts.fact.repositories.LocalAuthorityRepository;
+import uk.gov.hmcts.dts.fact.repositories.OpeningTypeRepository;
+import uk.gov.hmcts.dts.fact.repositories.RegionRepository;
+import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.repositories.ServiceRepository;
+
+import java.util.List;
+
+/**
+ * Loads the {@link ReferenceData} in a read-only transaction of its own, loading the lazy associations of services
+ * and service areas while they can still be read.
+ */
+@Component
+@SuppressWarnings("PMD.ExcessiveParameterList")
+public class ReferenceDataLoader {
+
+    private final ServiceRepository serviceRepository;
+    private final ServiceAreaRepository serviceAreaRepository;
+    private final AreasOfLawRepository areasOfLawRepository;
+    private final CourtTypeRepository courtTypeRepository;
+    private final FacilityTypeRepository facilityTypeRepository;
+    private final ContactTypeRepository contactTypeRepository;
+    private final OpeningTypeRepository openingTypeRepository;
+    private final AddressTypeRepository addressTypeRepository;
+    private final CountyRepository countyRepository;
+    private final RegionRepository regionRepository;
+    private final LocalAuthorityRepository localAuthorityRepository;
+
+    /**
+     * Constructor for the ReferenceDataLoader.
+     * @param serviceRepository The repository for services
+     * @param serviceAreaRepository The repository for service areas
+     * @param areasOfLawRepository The repository for areas of law
+     * @param courtTypeRepository The repository for court types
+     * @param facilityTypeRepository The repository for facility types
+     * @param contactTypeRepository The repository for contact types
+     * @param openingTypeRepository The repository for opening types
+     * @param addressTypeRepository The repository for address types
+     * @param countyRepository The repository for counties
+     * @param regionRepository The repository for regions
+     * @param localAuthorityRepository The repository for local authorities
+     */
+    public ReferenceDataLoader(final ServiceRepository serviceRepository,
+                               final ServiceAreaRepository serviceAreaRepository,
+                               final AreasOfLawRepository areasOfLawRepository,
+                               final CourtTypeRepository courtTypeRepository,
+                               final FacilityTypeRepository facilityTypeRepository,
+                               final ContactTypeRepository contactTypeRepository,
+                               final OpeningTypeRepository openingTypeRepository,
+                               final AddressTypeRepository addressTypeRepository,
+                               final CountyRepository countyRepository,
+                               final RegionRepository regionRepository,
+                               final LocalAuthorityRepository localAuthorityRepository) {
+        this.serviceRepository = serviceRepository;
+        this.serviceAreaRepository = serviceAreaRepository;
+        this.areasOfLawRepository = areasOfLawRepository;
+        this.courtTypeRepository = courtTypeRepository;
+        this.facilityTypeRepository = facilityTypeRepository;
+        this.contactTypeRepository = contactTypeRepository;
+        this.openingTypeRepository = openingTypeRepository;
+        this.addressTypeRepository = addressTypeRepository;
+        this.countyRepository = countyRepository;
+        this.regionRepository = regionRepository;
+        this.localAuthorityRepository = localAuthorityRepository;
+    }
+
+    /**
+     * Load the reference data. Service areas are loaded with their courts, so whether a service area is regional
+     * can be answered without going back to the database.
+     * @param version The data version the load is for
+     * @return the reference data
+     */
+    @Transactional(readOnly = true)
+    public ReferenceData load(final long version) {
+        final List<ServiceArea> serviceAreas = serviceAreaRepository.findAll();
+        serviceAreas.forEach(serviceArea -> Hibernate.initialize(serviceArea.getServiceAreaCourts()));
+        final List<Service> services = serviceRepository.findAll();
+        services.forEach(service -> Hibernate.initialize(service.getServiceAreas()));
+
+        return new ReferenceData(
+            services,
+            serviceAreas,
+            areasOfLawRepository.findAll(),
+            courtTypeRepository.findAll(),
+            facilityTypeRepository.findAll(),
+            contactTypeRepository.findAll(),
+            openingTypeRepository.findAll(),
+            addressTypeRepository.findAll(),
+            countyRepository.findAll(),
+            regionRepository.findAll(),
+            localAuthorityRepository.findAll()
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import uk.gov.hmcts.dts.fact.http.EncodedJson;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The fully resolved court details of every court, encoded as JSON in English and Welsh, keyed on the court slug.
+ *
+ * <p>The details are encoded once, when the read model is built, and the same bytes are served to every request,
+ * so no request can change what another is served.</p>
+ */
+public final class ResolvedCourts {
+
+    private final Map<String, EncodedJson> english;
+    private final Map<String, EncodedJson> welsh;
+
+    /**
+     * Constructor for the ResolvedCourts.
+     * @param english The courts encoded in English, keyed on slug
+     * @param welsh The courts encoded in Welsh, keyed on slug
+     */
+    public ResolvedCourts(final Map<String, EncodedJson> english, final Map<String, EncodedJson> welsh) {
+        this.english = Map.copyOf(english);
+        this.welsh = Map.copyOf(welsh);
+    }
+
+    /**
+     * Get the encoded court details for a slug.
+     * @param slug The court slug
+     * @param welshPreferred True for the Welsh variant, false for the English one
+     * @return the encoded court details, or empty if there is no court with the slug
+     */
+    public Optional<EncodedJson> get(final String slug, final boolean welshPreferred) {
+        return Optional.ofNullable((welshPreferred ? welsh : english).get(slug));
+    }
+}
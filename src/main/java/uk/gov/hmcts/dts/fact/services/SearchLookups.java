@@ -0,0 +1,109 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.exception.SearchTimeoutException;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * Starts the lookups a search needs on the search executor, so a search can run its other lookups while they are
+ * in flight. A search waits for a lookup for at most {@code search.deadline} from when it started the lookup, so
+ * it takes about as long as its slowest lookup, and never more than the deadline.
+ */
+@Component
+public class SearchLookups {
+
+    private final MapitService mapitService;
+    private final ExecutorService searchExecutor;
+    private final Duration timeout;
+
+    /**
+     * Constructor for the SearchLookups.
+     *
+     * @param mapitService the mapit service
+     * @param searchExecutor the executor to run lookups on
+     * @param timeout how long a search may wait for its lookups
+     */
+    @Autowired
+    public SearchLookups(final MapitService mapitService,
+                         @Qualifier("searchExecutor") final ExecutorService searchExecutor,
+                         @Value("${search.deadline:PT10S}") final Duration timeout) {
+        this.mapitService = mapitService;
+        this.searchExecutor = searchExecutor;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Start looking a postcode up in the gazetteer or Mapit.
+     *
+     * @param postcode the postcode to look up
+     * @return the lookup, which gives the mapit data if the postcode is found
+     */
+    public Lookup<Optional<MapitData>> lookUpPostcode(final String postcode) {
+        return new Lookup<>(
+            supplyAsync(() -> mapitService.getMapitData(postcode), searchExecutor),
+            System.nanoTime() + timeout.toNanos()
+        );
+    }
+
+    /**
+     * A lookup in flight, which a search must have the result of within its deadline.
+     *
+     * @param <T> the type of the result of the lookup
+     */
+    public static final class Lookup<T> {
+
+        private final CompletableFuture<T> result;
+        private final long expiresAt;
+
+        private Lookup(final CompletableFuture<T> result, final long expiresAt) {
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Wait for the result of the lookup until the deadline. A lookup that hasn't completed by then is cancelled.
+         *
+         * @return the result of the lookup
+         * @throws SearchTimeoutException if the lookup doesn't complete before the deadline
+         */
+        public T await() {
+            try {
+                return result.get(Math.max(0, expiresAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (final TimeoutException ex) {
+                cancel();
+                throw new SearchTimeoutException("The search timed out waiting for its lookups");
+            } catch (final InterruptedException ex) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new SearchTimeoutException("The search was interrupted waiting for its lookups");
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+
+        /**
+         * Cancel the lookup, when the search no longer needs its result. A lookup that hasn't started yet then
+         * doesn't run at all, while one already running completes, as other searches may be waiting on the same
+         * Mapit call.
+         */
+        public void cancel() {
+            result.cancel(false);
+        }
+    }
+}
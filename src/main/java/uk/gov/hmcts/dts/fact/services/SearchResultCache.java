@@ -0,0 +1,133 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.util.Action;
+import uk.gov.hmcts.dts.fact.util.AsyncCaches;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.isWelshPreferred;
+
+/**
+ * Bounded cache of the results of postcode searches, keyed on the search parameters and the language.
+ *
+ * <p>A search result only changes when the court data does, so results are cached per {@link DataVersion}, which
+ * every admin write moves on. A repeat search is then answered without looking the postcode up in Mapit or
+ * searching the courts. The postcode is part of the key as given, as some searches match it against the court
+ * postcodes part by part. Searches for postcodes that couldn't be looked up aren't cached, as the lookup may
+ * have failed for a reason that soon passes. Hit, miss and eviction counts are published to the meter registry
+ * under the {@code search.service-area} and {@code search.nearest} cache names.</p>
+ *
+ * <p>Each caller gets its own copy of the result, so a result changed by one caller isn't seen by the next.</p>
+ */
+@Component
+public class SearchResultCache {
+
+    private static final String WELSH = "cy";
+    private static final String ENGLISH = "en";
+
+    private final DataVersion dataVersion;
+    private final AsyncCache<String, ServiceAreaWithCourtReferencesWithDistance> serviceAreaSearches;
+    private final AsyncCache<String, List<CourtReferenceWithDistance>> nearestCourtSearches;
+
+    /**
+     * Constructor for the SearchResultCache.
+     *
+     * @param dataVersion the version of the court data
+     * @param meterRegistry the registry to publish the cache metrics to
+     * @param maximumSize the maximum number of results held in each cache
+     */
+    @Autowired
+    public SearchResultCache(final DataVersion dataVersion,
+                             final MeterRegistry meterRegistry,
+                             @Value("${search.result-cache.maximum-size}") final long maximumSize) {
+        this.dataVersion = dataVersion;
+        this.serviceAreaSearches = CaffeineCacheMetrics.monitor(
+            meterRegistry, Caffeine.newBuilder().maximumSize(maximumSize).recordStats().buildAsync(),
+            "search.service-area");
+        this.nearestCourtSearches = CaffeineCacheMetrics.monitor(
+            meterRegistry, Caffeine.newBuilder().maximumSize(maximumSize).recordStats().buildAsync(),
+            "search.nearest");
+    }
+
+    /**
+     * Get the result of a search for the courts of a service area near a postcode, running the search if it isn't
+     * cached for the current data version.
+     *
+     * @param search the name of the search, as searches with the same parameters may give different results
+     * @param postcode the postcode
+     * @param serviceAreaSlug the slug of the service area
+     * @param action the action the user wants to take
+     * @param includeClosed whether closed courts are included
+     * @param result runs the search. Returns null if the result shouldn't be cached
+     * @return a copy of the result, or null if the search returned null
+     */
+    public ServiceAreaWithCourtReferencesWithDistance getServiceAreaSearch(
+        final String search, final String postcode, final String serviceAreaSlug, final Action action,
+        final Boolean includeClosed, final Supplier<ServiceAreaWithCourtReferencesWithDistance> result) {
+
+        final String key = key(search, postcode, serviceAreaSlug, action, includeClosed);
+        final ServiceAreaWithCourtReferencesWithDistance cached = AsyncCaches.get(serviceAreaSearches, key, result);
+        return cached == null ? null : copyOf(cached);
+    }
+
+    /**
+     * Get the result of a search for the courts nearest a postcode, running the search if it isn't cached for the
+     * current data version.
+     *
+     * @param postcode the postcode
+     * @param result runs the search. Returns null if the result shouldn't be cached
+     * @return a copy of the result, or null if the search returned null
+     */
+    public List<CourtReferenceWithDistance> getNearestCourtSearch(
+        final String postcode, final Supplier<List<CourtReferenceWithDistance>> result) {
+
+        final List<CourtReferenceWithDistance> cached = AsyncCaches.get(nearestCourtSearches, key(postcode), result);
+        return cached == null ? null : new ArrayList<>(cached);
+    }
+
+    /**
+     * Discard every cached result.
+     */
+    public void invalidateAll() {
+        serviceAreaSearches.synchronous().invalidateAll();
+        nearestCourtSearches.synchronous().invalidateAll();
+    }
+
+    /**
+     * Build the key of a search. The version is read before the search is run, so a result built from newer data
+     * is at worst cached under an older version, which is never read again once the version moves on.
+     */
+    private String key(final Object... parameters) {
+        final StringBuilder key = new StringBuilder()
+            .append(dataVersion.current())
+            .append(':')
+            .append(isWelshPreferred() ? WELSH : ENGLISH);
+        for (final Object parameter : parameters) {
+            key.append(':').append(parameter);
+        }
+        return key.toString();
+    }
+
+    private static ServiceAreaWithCourtReferencesWithDistance copyOf(
+        final ServiceAreaWithCourtReferencesWithDistance result) {
+
+        final ServiceAreaWithCourtReferencesWithDistance copy = new ServiceAreaWithCourtReferencesWithDistance();
+        copy.setSlug(result.getSlug());
+        copy.setName(result.getName());
+        copy.setOnlineText(result.getOnlineText());
+        copy.setOnlineUrl(result.getOnlineUrl());
+        copy.setCourts(result.getCourts() == null ? null : new ArrayList<>(result.getCourts()));
+        return copy;
+    }
+}
@@ -17,15 +17,19 @@ import static java.util.stream.Collectors.toList;
 public class ServiceAreaService {
 
     private final ServiceAreaRepository serviceAreaRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the ServiceAreaService.
      *
      * @param serviceAreaRepository the repository to get service areas from
+     * @param referenceDataCatalogue the catalogue to get service areas from while it is up to date
      */
     @Autowired
-    public ServiceAreaService(final ServiceAreaRepository serviceAreaRepository) {
+    public ServiceAreaService(final ServiceAreaRepository serviceAreaRepository,
+                              final ReferenceDataCatalogue referenceDataCatalogue) {
         this.serviceAreaRepository = serviceAreaRepository;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -35,8 +39,8 @@ public class ServiceAreaService {
      * @return the service area
      */
     public ServiceArea getServiceArea(final String slug) {
-        return serviceAreaRepository
-            .findBySlugIgnoreCase(slug)
+        return referenceDataCatalogue
+            .get(data -> data.findServiceAreaBySlug(slug), () -> serviceAreaRepository.findBySlugIgnoreCase(slug))
             .map(ServiceArea::new)
             .orElseThrow(() -> new NotFoundException(slug));
     }
@@ -47,8 +51,7 @@ public class ServiceAreaService {
      * @return the list of service areas
      */
     public List<ServiceArea> getAllServiceAreas() {
-        return serviceAreaRepository
-            .findAll()
+        return referenceDataCatalogue.get(ReferenceData::getServiceAreas, serviceAreaRepository::findAll)
             .stream()
             .map(ServiceArea::new).collect(toList());
     }
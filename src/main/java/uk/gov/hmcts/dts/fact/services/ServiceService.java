@@ -6,6 +6,7 @@ import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.repositories.ServiceRepository;
 
 import java.util.List;
+import java.util.Optional;
 
 import static java.util.stream.Collectors.toList;
 
@@ -16,15 +17,19 @@ import static java.util.stream.Collectors.toList;
 public class ServiceService {
 
     private final ServiceRepository serviceRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the ServiceService.
      *
      * @param serviceRepository the repository to get services from
+     * @param referenceDataCatalogue the catalogue to get services from while it is up to date
      */
     @Autowired
-    public ServiceService(final ServiceRepository serviceRepository) {
+    public ServiceService(final ServiceRepository serviceRepository,
+                          final ReferenceDataCatalogue referenceDataCatalogue) {
         this.serviceRepository = serviceRepository;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -33,8 +38,7 @@ public class ServiceService {
      * @return the list of services
      */
     public List<uk.gov.hmcts.dts.fact.model.Service> getAllServices() {
-        return serviceRepository
-            .findAll()
+        return referenceDataCatalogue.get(ReferenceData::getServices, serviceRepository::findAll)
             .stream()
             .map(uk.gov.hmcts.dts.fact.model.Service::new)
             .collect(toList());
@@ -47,8 +51,7 @@ public class ServiceService {
      * @return the service
      */
     public uk.gov.hmcts.dts.fact.model.Service getService(String slug) {
-        return serviceRepository
-            .findBySlugIgnoreCase(slug)
+        return findBySlug(slug)
             .map(uk.gov.hmcts.dts.fact.model.Service::new)
             .orElseThrow(() -> new NotFoundException(slug));
     }
@@ -60,10 +63,16 @@ public class ServiceService {
      * @return the list of service areas
      */
     public List<uk.gov.hmcts.dts.fact.model.ServiceArea> getServiceAreas(String serviceSlug) {
-        return serviceRepository
-            .findBySlugIgnoreCase(serviceSlug)
+        return findBySlug(serviceSlug)
             .map(uk.gov.hmcts.dts.fact.model.Service::new)
             .map(uk.gov.hmcts.dts.fact.model.Service::getServiceAreas)
             .orElseThrow(() -> new NotFoundException(serviceSlug));
     }
+
+    private Optional<uk.gov.hmcts.dts.fact.entity.Service> findBySlug(final String slug) {
+        return referenceDataCatalogue.get(
+            data -> data.findServiceBySlug(slug),
+            () -> serviceRepository.findBySlugIgnoreCase(slug)
+        );
+    }
 }
@@ -0,0 +1,104 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongFunction;
+
+/**
+ * An in-memory snapshot built from the database, tied to the {@link DataVersion} it was built at.
+ *
+ * <p>Once the data version moves on the snapshot is stale: {@link #current()} returns empty, so the caller can
+ * answer from the database instead, and a rebuild is scheduled on a background thread of its own. At most one
+ * rebuild is queued at a time.</p>
+ *
+ * @param <T> the type of the snapshot
+ */
+@Slf4j
+@SuppressWarnings({"PMD.AvoidUsingVolatile", "PMD.DoNotUseThreads"})
+public final class VersionedSnapshot<T> {
+
+    private final String name;
+    private final DataVersion dataVersion;
+    private final LongFunction<T> loader;
+    private final ExecutorService rebuildExecutor;
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private volatile Built<T> built;
+
+    /**
+     * Constructor for the VersionedSnapshot.
+     * @param name The name of the snapshot, used for the rebuild thread and in logs
+     * @param dataVersion The version of the court data
+     * @param loader Loads the snapshot for a data version
+     */
+    public VersionedSnapshot(final String name, final DataVersion dataVersion, final LongFunction<T> loader) {
+        this.name = name;
+        this.dataVersion = dataVersion;
+        this.loader = loader;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get the snapshot if it is up to date with the data version, otherwise schedule a rebuild.
+     * @return the current snapshot, or empty if the database should be used instead
+     */
+    public Optional<T> current() {
+        final Built<T> snapshot = built;
+        if (snapshot != null && snapshot.version == dataVersion.current()) {
+            return Optional.of(snapshot.value);
+        }
+        scheduleRebuild();
+        return Optional.empty();
+    }
+
+    /**
+     * Rebuild the snapshot in the background, unless a rebuild is already queued.
+     */
+    public void scheduleRebuild() {
+        if (rebuildScheduled.compareAndSet(false, true)) {
+            rebuildExecutor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * Rebuild the snapshot for the current data version. If the version moves on while the data is being loaded,
+     * the snapshot built here is already stale and the next read schedules another rebuild.
+     */
+    public void rebuild() {
+        rebuildScheduled.set(false);
+        final long version = dataVersion.current();
+        try {
+            final T value = loader.apply(version);
+            if (value != null) {
+                built = new Built<>(version, value);
+                log.info("Built {} at data version {}", name, version);
+            }
+        } catch (final RuntimeException ex) {
+            log.error("Failed to build {}, the database will be used instead", name, ex);
+        }
+    }
+
+    /**
+     * Stop the rebuild thread.
+     */
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    private static final class Built<T> {
+        private final long version;
+        private final T value;
+
+        private Built(final long version, final T value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -1,47 +1,74 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.entity.Audit;
+import uk.gov.hmcts.dts.fact.entity.AuditType;
+import uk.gov.hmcts.dts.fact.model.admin.AuditSlice;
 import uk.gov.hmcts.dts.fact.repositories.AuditRepository;
 import uk.gov.hmcts.dts.fact.repositories.AuditTypeRepository;
+import uk.gov.hmcts.dts.fact.util.AuditDataEncoding;
+import uk.gov.hmcts.dts.fact.util.JsonPatch;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Service for audit data.
  */
+@Slf4j
 @Service
 @SuppressWarnings("PMD.UseObjectForClearerAPI")
 public class AdminAuditService {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
     private final AuditRepository auditRepository;
     private final AuditTypeRepository auditTypeRepository;
+    private final AuditWriter auditWriter;
+    private final AuditArchive auditArchive;
+    private final Map<String, Integer> auditTypeIds = new ConcurrentHashMap<>();
+    private final boolean deltaEncoding;
 
     /**
      * Constructor for the AdminAuditService.
      * @param auditRepository The repository for audit
      * @param auditTypeRepository The repository for audit type
+     * @param auditWriter The writer to write audits with
+     * @param auditArchive The archive of old audits
+     * @param deltaEncoding Whether to store the data before a change as a patch against the data after it
      */
     @Autowired
-    public AdminAuditService(AuditRepository auditRepository, AuditTypeRepository auditTypeRepository) {
+    public AdminAuditService(AuditRepository auditRepository, AuditTypeRepository auditTypeRepository,
+                             final AuditWriter auditWriter, final AuditArchive auditArchive,
+                             @Value("${audit.delta-encoding:true}") final boolean deltaEncoding) {
         this.auditRepository = auditRepository;
         this.auditTypeRepository = auditTypeRepository;
+        this.auditWriter = auditWriter;
+        this.auditArchive = auditArchive;
+        this.deltaEncoding = deltaEncoding;
     }
 
     /**
-     * Get all audit data. Creation time will be returned as GMT/BST instead of UTC.
+     * Get all audit data. Creation time will be returned as GMT/BST instead of UTC. Once the recent audits run out,
+     * the page carries on with the {@link AuditArchive} if the date range reaches back into it.
      * @param page The page number
      * @param size The page size
      * @param location The location
@@ -56,29 +83,80 @@ public class AdminAuditService {
                                                                          Optional<LocalDateTime> dateFrom,
                                                                          Optional<LocalDateTime> dateTo) {
 
-        Page<Audit> auditPage = dateFrom.isPresent() && dateTo.isPresent()
+        auditWriter.flush();
+        Slice<Audit> auditPage = dateFrom.isPresent() && dateTo.isPresent()
             ? auditRepository.findAllByLocationContainingAndUserEmailContainingAndCreationTimeBetweenOrderByCreationTimeDesc(
             location.orElse(""), email.orElse(""), dateFrom.get(), dateTo.get(), PageRequest.of(page, size))
             : auditRepository.findAllByLocationContainingAndUserEmailContainingOrderByCreationTimeDesc(
             location.orElse(""), email.orElse(""), PageRequest.of(page, size));
 
-        return auditPage
+        final List<Audit> audits = new ArrayList<>(auditPage.getContent());
+        if (!auditPage.hasNext() && audits.size() < size && reachesArchive(dateFrom, dateTo)) {
+            // The archived audits are all older than the recent ones, so follow on from the last of those
+            final long recentCount = audits.isEmpty() && page > 0
+                ? countRecent(location, email, dateFrom, dateTo)
+                : (long) page * size + audits.size();
+            final int archiveOffset = (int) ((long) page * size + audits.size() - recentCount);
+            final List<Audit> archived = findArchived(location, email, dateFrom, dateTo, AuditCursor.FIRST,
+                                                      archiveOffset + size - audits.size());
+            audits.addAll(archived.subList(Math.min(archiveOffset, archived.size()), archived.size()));
+        }
+
+        return audits
             .stream()
-            .map(audit -> {
-                // Convert UTC LocalDateTime to ZonedDateTime for Europe/London
-                ZonedDateTime creationTimeInUk = audit.getCreationTime()
-                    .atZone(ZoneId.of("UTC"))
-                    .withZoneSameInstant(ZoneId.of("Europe/London")); // show as GMT/BST
-                // Map to the DTO, adjusting the creation time
-                uk.gov.hmcts.dts.fact.model.admin.Audit dto = new uk.gov.hmcts.dts.fact.model.admin.Audit(audit);
-                dto.setCreationTime(creationTimeInUk.toLocalDateTime()); // Update creation time
-                return dto;
-            })
+            .map(AdminAuditService::toModel)
             .collect(Collectors.toList());
     }
 
     /**
-     * Save audit data.
+     * Get the page of audit data after a cursor, newest first. Unlike {@link #getAllAuditData} the page is found
+     * from the creation time index rather than by skipping the earlier rows, so later pages are as quick as the
+     * first. Creation time will be returned as GMT/BST instead of UTC. Once the recent audits run out, the page
+     * carries on with the {@link AuditArchive} if the date range reaches back into it.
+     * @param cursor The cursor token returned with the previous page, or empty for the first page
+     * @param size The page size
+     * @param location The location
+     * @param email The email
+     * @param dateFrom The date from
+     * @param dateTo The date to
+     * @return The page of audit data, with the cursor for the next page if there is one
+     * @throws IllegalArgumentException if the cursor token is not valid
+     */
+    public AuditSlice getAuditDataAfter(String cursor, int size,
+                                        Optional<String> location,
+                                        Optional<String> email,
+                                        Optional<LocalDateTime> dateFrom,
+                                        Optional<LocalDateTime> dateTo) {
+
+        final AuditCursor after = AuditCursor.fromToken(cursor);
+        auditWriter.flush();
+        Slice<Audit> auditSlice = dateFrom.isPresent() && dateTo.isPresent()
+            ? auditRepository.findAllBetweenBefore(location.orElse(""), email.orElse(""), dateFrom.get(), dateTo.get(),
+                                                   after.getCreationTime(), after.getId(), PageRequest.ofSize(size))
+            : auditRepository.findAllBefore(location.orElse(""), email.orElse(""),
+                                            after.getCreationTime(), after.getId(), PageRequest.ofSize(size));
+
+        final List<Audit> audits = new ArrayList<>(auditSlice.getContent());
+        boolean hasNext = auditSlice.hasNext();
+        if (!hasNext && reachesArchive(dateFrom, dateTo)) {
+            final int remaining = size - audits.size();
+            final List<Audit> archived = findArchived(location, email, dateFrom, dateTo,
+                                                      audits.isEmpty() ? after : AuditCursor.after(audits.get(audits.size() - 1)),
+                                                      remaining + 1);
+            hasNext = archived.size() > remaining;
+            audits.addAll(archived.subList(0, Math.min(remaining, archived.size())));
+        }
+        final String nextCursor = hasNext
+            ? AuditCursor.after(audits.get(audits.size() - 1)).toToken()
+            : null;
+        return new AuditSlice(audits.stream().map(AdminAuditService::toModel).collect(Collectors.toList()), nextCursor);
+    }
+
+    /**
+     * Save audit data. The data is serialised straight away, and the audit is written to the outbox of the
+     * {@link AuditWriter}. Within a transaction the audit is written in that transaction, so a change that is rolled
+     * back isn't audited, and one that commits always is. With delta encoding on, the data before is stored as a JSON Patch against the data after
+     * whenever that is shorter, which it is for most changes.
      * @param auditType The audit type
      * @param auditDataBefore The audit data before
      * @param auditDataAfter The audit data after
@@ -86,14 +164,82 @@ public class AdminAuditService {
      */
     @SneakyThrows
     public void saveAudit(String auditType, Object auditDataBefore, Object auditDataAfter, String auditLocation) {
-        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
-        auditRepository.save(new Audit(
+        final JsonNode before = OBJECT_MAPPER.valueToTree(auditDataBefore);
+        final JsonNode after = OBJECT_MAPPER.valueToTree(auditDataAfter);
+        String actionDataBefore = OBJECT_MAPPER.writeValueAsString(before);
+        AuditDataEncoding encoding = AuditDataEncoding.FULL;
+        if (deltaEncoding) {
+            final String patch = OBJECT_MAPPER.writeValueAsString(JsonPatch.diff(after, before));
+            if (patch.length() < actionDataBefore.length()) {
+                actionDataBefore = patch;
+                encoding = AuditDataEncoding.PATCH;
+            }
+        }
+
+        final PendingAudit audit = new PendingAudit(
             SecurityContextHolder.getContext().getAuthentication().getName(),
-            auditTypeRepository.findByName(auditType),
-            objectMapper.writeValueAsString(auditDataBefore),
-            objectMapper.writeValueAsString(auditDataAfter),
+            auditTypeIds.computeIfAbsent(auditType, this::findAuditTypeId),
+            actionDataBefore,
+            OBJECT_MAPPER.writeValueAsString(after),
             auditLocation,
-            LocalDateTime.now()
-        ));
+            LocalDateTime.now(),
+            encoding
+        );
+        auditWriter.write(audit);
+    }
+
+    private boolean reachesArchive(Optional<LocalDateTime> dateFrom, Optional<LocalDateTime> dateTo) {
+        return auditArchive.findHotFrom()
+            .map(hotFrom -> dateFrom.isEmpty() || dateTo.isEmpty() || dateFrom.get().isBefore(hotFrom))
+            .orElse(false);
+    }
+
+    private long countRecent(Optional<String> location, Optional<String> email,
+                             Optional<LocalDateTime> dateFrom, Optional<LocalDateTime> dateTo) {
+        return dateFrom.isPresent() && dateTo.isPresent()
+            ? auditRepository.countByLocationContainingAndUserEmailContainingAndCreationTimeBetween(
+            location.orElse(""), email.orElse(""), dateFrom.get(), dateTo.get())
+            : auditRepository.countByLocationContainingAndUserEmailContaining(location.orElse(""), email.orElse(""));
+    }
+
+    private List<Audit> findArchived(Optional<String> location, Optional<String> email,
+                                     Optional<LocalDateTime> dateFrom, Optional<LocalDateTime> dateTo,
+                                     AuditCursor after, int limit) {
+        final boolean dateRange = dateFrom.isPresent() && dateTo.isPresent();
+        return auditArchive.find(location.orElse(""), email.orElse(""),
+                                 dateRange ? dateFrom : Optional.empty(), dateRange ? dateTo : Optional.empty(),
+                                 after, limit);
+    }
+
+    private static uk.gov.hmcts.dts.fact.model.admin.Audit toModel(final Audit audit) {
+        // Convert UTC LocalDateTime to ZonedDateTime for Europe/London
+        ZonedDateTime creationTimeInUk = audit.getCreationTime()
+            .atZone(ZoneId.of("UTC"))
+            .withZoneSameInstant(ZoneId.of("Europe/London")); // show as GMT/BST
+        // Map to the DTO, adjusting the creation time
+        uk.gov.hmcts.dts.fact.model.admin.Audit dto = new uk.gov.hmcts.dts.fact.model.admin.Audit(audit);
+        dto.setCreationTime(creationTimeInUk.toLocalDateTime()); // Update creation time
+        if (audit.getActionDataEncoding() == AuditDataEncoding.PATCH) {
+            dto.setActionDataBefore(applyPatch(audit));
+        }
+        return dto;
+    }
+
+    private static String applyPatch(final Audit audit) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(JsonPatch.apply(
+                OBJECT_MAPPER.readTree(audit.getActionDataBefore()),
+                OBJECT_MAPPER.readTree(audit.getActionDataAfter())
+            ));
+        } catch (JsonProcessingException | IllegalArgumentException ex) {
+            log.warn("Could not rebuild the data before audit {}, returning its patch", audit.getId(), ex);
+            return audit.getActionDataBefore();
+        }
+    }
+
+    private Integer findAuditTypeId(final String auditType) {
+        return Optional.ofNullable(auditTypeRepository.findByName(auditType))
+            .map(AuditType::getId)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown audit type: " + auditType));
     }
 }
@@ -3,6 +3,8 @@ package uk.gov.hmcts.dts.fact.services.admin;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.model.admin.County;
 import uk.gov.hmcts.dts.fact.repositories.CountyRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 
 import java.util.Comparator;
 import java.util.List;
@@ -17,13 +19,16 @@ import static java.util.stream.Collectors.toMap;
 @Service
 public class AdminCountyService {
     private final CountyRepository countyRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the AdminCountyService.
      * @param countyRepository The repository for county
+     * @param referenceDataCatalogue The catalogue to get counties from while it is up to date
      */
-    public AdminCountyService(CountyRepository countyRepository) {
+    public AdminCountyService(CountyRepository countyRepository, ReferenceDataCatalogue referenceDataCatalogue) {
         this.countyRepository = countyRepository;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -31,7 +36,7 @@ public class AdminCountyService {
      * @return A list of counties
      */
     public List<County> getAllCounties() {
-        return countyRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getCounties, countyRepository::findAll)
             .stream()
             .map(County::new)
             .sorted(Comparator.comparing(County::getName))
@@ -11,6 +11,8 @@ import uk.gov.hmcts.dts.fact.model.admin.ContactType;
 import uk.gov.hmcts.dts.fact.repositories.ContactTypeRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtContactRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 
 import java.util.ArrayList;
@@ -30,6 +32,7 @@ public class AdminCourtContactService {
     private final CourtContactRepository courtContactRepository;
     private final ContactTypeRepository contactTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the AdminCourtContactService.
@@ -37,16 +40,19 @@ public class AdminCourtContactService {
      * @param courtContactRepository The repository for court contact
      * @param contactTypeRepository The repository for contact type
      * @param adminAuditService The service for admin audit
+     * @param referenceDataCatalogue The catalogue to get contact types from while it is up to date
      */
     @Autowired
     public AdminCourtContactService(final CourtRepository courtRepository,
                                     final CourtContactRepository courtContactRepository,
                                     final ContactTypeRepository contactTypeRepository,
-                                    final AdminAuditService adminAuditService) {
+                                    final AdminAuditService adminAuditService,
+                                    final ReferenceDataCatalogue referenceDataCatalogue) {
         this.courtRepository = courtRepository;
         this.courtContactRepository = courtContactRepository;
         this.contactTypeRepository = contactTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -88,7 +94,7 @@ public class AdminCourtContactService {
      * @return A list of contact types
      */
     public List<ContactType> getAllCourtContactTypes() {
-        return contactTypeRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getContactTypes, contactTypeRepository::findAll)
             .stream()
             .map(ContactType::new)
             .sorted(Comparator.comparing(ContactType::getType))
@@ -0,0 +1,144 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.model.CourtForDownload;
+import uk.gov.hmcts.dts.fact.repositories.CourtExportRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Service to export the court data for download, writing it to the response as it is read.
+ *
+ * <p>Courts are read in name order a chunk at a time, with the collections the export shows loaded for the whole
+ * chunk at once. Each chunk is written and flushed before the next is read, and the persistence context is cleared
+ * between chunks, so memory use doesn't grow with the number of courts.</p>
+ */
+@Service
+public class AdminCourtExportService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectWriter NDJSON_WRITER = OBJECT_MAPPER.writerFor(CourtForDownload.class)
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private static final TypeReference<LinkedHashMap<String, Object>> CSV_ROW = new TypeReference<>() {};
+    private static final Collection<String> CSV_HEADER =
+        OBJECT_MAPPER.convertValue(new CourtForDownload(), CSV_ROW).keySet();
+    private static final String LINE_END = "\r\n";
+
+    private final CourtExportRepository courtExportRepository;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+
+    /**
+     * Constructor for the AdminCourtExportService.
+     * @param courtExportRepository The repository to read courts a chunk at a time
+     * @param entityManager The entity manager to clear between chunks
+     * @param chunkSize The number of courts read and written at a time
+     */
+    @Autowired
+    public AdminCourtExportService(final CourtExportRepository courtExportRepository,
+                                   final EntityManager entityManager,
+                                   @Value("${admin.export.chunk-size:100}") final int chunkSize) {
+        this.courtExportRepository = courtExportRepository;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Write the court data for download, in name order, with one row for each court.
+     * @param format The format to write the courts in
+     * @param outputStream The stream to write the courts to, which is left open
+     * @throws IOException if the courts can't be written
+     */
+    @Transactional(readOnly = true)
+    public void exportCourts(final CourtExportFormat format, final OutputStream outputStream) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+        if (format == CourtExportFormat.CSV) {
+            writeCsvLine(writer, CSV_HEADER);
+        }
+
+        final Pageable chunk = PageRequest.ofSize(chunkSize);
+        List<Court> courts = courtExportRepository.findFirstChunk(chunk);
+        while (!courts.isEmpty()) {
+            fetchCollections(courts);
+            for (final Court court : courts) {
+                write(format, writer, new CourtForDownload(court));
+            }
+            writer.flush();
+
+            final Court last = courts.get(courts.size() - 1);
+            entityManager.clear();
+            courts = courts.size() < chunkSize
+                ? List.of()
+                : courtExportRepository.findChunkAfter(last.getName(), last.getId(), chunk);
+        }
+        writer.flush();
+    }
+
+    private void fetchCollections(final List<Court> courts) {
+        final List<Integer> ids = courts.stream().map(Court::getId).collect(toList());
+        courtExportRepository.fetchAddresses(ids);
+        courtExportRepository.fetchAreasOfLaw(ids);
+        courtExportRepository.fetchCourtTypes(ids);
+        courtExportRepository.fetchFacilities(ids);
+        courtExportRepository.fetchEmails(ids);
+        courtExportRepository.fetchContacts(ids);
+        courtExportRepository.fetchOpeningTimes(ids);
+        courtExportRepository.fetchApplicationUpdates(ids);
+        courtExportRepository.fetchDxCodes(ids);
+    }
+
+    private void write(final CourtExportFormat format, final Writer writer,
+                       final CourtForDownload court) throws IOException {
+        if (format == CourtExportFormat.CSV) {
+            writeCsvLine(writer, OBJECT_MAPPER.convertValue(court, CSV_ROW).values());
+        } else {
+            NDJSON_WRITER.writeValue(writer, court);
+            writer.write('\n');
+        }
+    }
+
+    private static void writeCsvLine(final Writer writer, final Collection<?> values) throws IOException {
+        boolean first = true;
+        for (final Object value : values) {
+            if (!first) {
+                writer.write(',');
+            }
+            writer.write(csvField(value));
+            first = false;
+        }
+        writer.write(LINE_END);
+    }
+
+    private static String csvField(final Object value) {
+        if (value == null) {
+            return "";
+        }
+        final String field = value.toString();
+        return field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")
+            ? '"' + field.replace("\"", "\"\"") + '"'
+            : field;
+    }
+}
@@ -4,15 +4,11 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import uk.gov.hmcts.dts.fact.exception.LockExistsException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.CourtLock;
 import uk.gov.hmcts.dts.fact.repositories.CourtLockRepository;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,18 +21,21 @@ import java.util.stream.Collectors;
 public class AdminCourtLockService {
     private final CourtLockRepository courtLockRepository;
     private final AdminAuditService adminAuditService;
-    private static final int LOCK_AMOUNT_PER_COURT = 1;
+    private final CourtLockManager courtLockManager;
 
     /**
      * Constructor for the AdminCourtLockService.
      * @param courtLockRepository The repository for court lock
      * @param adminAuditService The service for admin audit
+     * @param courtLockManager The manager of court lock leases
      */
     @Autowired
     public AdminCourtLockService(final CourtLockRepository courtLockRepository,
-                                 final AdminAuditService adminAuditService) {
+                                 final AdminAuditService adminAuditService,
+                                 final CourtLockManager courtLockManager) {
         this.courtLockRepository = courtLockRepository;
         this.adminAuditService = adminAuditService;
+        this.courtLockManager = courtLockManager;
     }
 
     /**
@@ -59,55 +58,18 @@ public class AdminCourtLockService {
     }
 
     /**
-     * <p>Add the new court lock to the database.</p>
+     * <p>Take the lock on a court for a user.</p>
      *
-     * <p>Exceptions will occur if a lock already exists for a court and a different user is
-     * attempting to retrieve that lock (by calling this method).</p>
+     * <p>Exceptions will occur if another user holds an unexpired lock for the court.</p>
      *
-     * <p>If the same user is hitting the logic that calls this method, then we simply update their
-     * timestamp on the database by calling updateCourtLock.</p>
-     *
-     * <p>Otherwise we add them to the database</p>
+     * <p>If the same user already holds the lock, it is renewed by the {@link CourtLockManager}, which only
+     * writes the new time to the database now and then. Only taking the lock is audited, not renewing it.</p>
      *
      * @param courtLock the new CourtLock object to add to the database.
      * @return The new CourtLock object that has been added to the database.
      */
     public CourtLock addNewCourtLock(CourtLock courtLock) {
-        String courtSlug = courtLock.getCourtSlug();
-        String courtUserEmail = courtLock.getUserEmail();
-        List<uk.gov.hmcts.dts.fact.entity.CourtLock> courtLockEntityList =
-            courtLockRepository.findCourtLockByCourtSlug(courtSlug);
-        int courtListSize = courtLockEntityList.size();
-
-        if (courtListSize == LOCK_AMOUNT_PER_COURT && !courtLockEntityList.get(0).getUserEmail().equals(courtUserEmail)) {
-            // If the name doesn't match, but we have a lock for the court, return with an error code
-            throw new LockExistsException(String.format("Lock for court '%s' is currently held by user '%s'",
-                                                        courtSlug, courtLockEntityList.get(0).getUserEmail()
-            ));
-        } else if (courtListSize == LOCK_AMOUNT_PER_COURT && courtLockEntityList.get(0).getUserEmail().equals(courtUserEmail)) {
-            // If we have one row, and the name is the same as the incoming name, update it
-            log.debug("Updating court lock for slug {} and user {}", courtSlug, courtUserEmail);
-            return updateCourtLock(courtSlug, courtUserEmail);
-        } else if (courtListSize > LOCK_AMOUNT_PER_COURT) {
-            throw new LockExistsException(String.format(
-                "More than one lock exists for %s: %s",
-                courtSlug,
-                Arrays.toString(courtLockEntityList.toArray())
-            ));
-        } else {
-            // If it exists, delete and update the resource
-            log.debug("Creating court lock for slug {} and user {}", courtSlug, courtUserEmail);
-            courtLock.setLockAcquired(LocalDateTime.now(ZoneOffset.UTC));
-            CourtLock savedCourtLock = new CourtLock(courtLockRepository.save(new uk.gov.hmcts.dts.fact.entity.CourtLock(
-                courtLock)));
-            adminAuditService.saveAudit(
-                AuditType.findByName("Create court lock"),
-                courtLockEntityList,
-                savedCourtLock,
-                courtLock.getCourtSlug()
-            );
-            return savedCourtLock;
-        }
+        return acquire(courtLock.getCourtSlug(), courtLock.getUserEmail());
     }
 
     /**
@@ -136,6 +98,7 @@ public class AdminCourtLockService {
         for (uk.gov.hmcts.dts.fact.entity.CourtLock courtLock : courtLockList) {
             courtLockRepository.delete(courtLock);
         }
+        courtLockManager.forget(courtSlug);
         adminAuditService.saveAudit(
             AuditType.findByName("Delete court lock"),
             courtLockList,
@@ -159,6 +122,7 @@ public class AdminCourtLockService {
     public List<CourtLock> deleteCourtLockByEmail(String userEmail) {
         List<uk.gov.hmcts.dts.fact.entity.CourtLock> courtLockList =
             courtLockRepository.deleteAllByUserEmail(userEmail);
+        courtLockManager.forgetUser(userEmail);
         adminAuditService.saveAudit(
             AuditType.findByName("Delete court lock"),
             courtLockList,
@@ -177,50 +141,28 @@ public class AdminCourtLockService {
      *
      * <p>The timeout for a lock is based upon the most recent action time of the user who has it allocated to them.
      * This is to ensure that if a user quits the admin portal by closing their browser, that
-     * the lock is not indefinitely attributed to them.</p>
+     * the lock is not indefinitely attributed to them. If no one holds the lock, or it has timed out, the user
+     * takes it.</p>
      *
      * @param courtSlug the court slug.
      * @param userEmail the users email, for example kupocat@justice.cat.meow.
      * @return The updated court lock object.
      */
     public CourtLock updateCourtLock(String courtSlug, String userEmail) {
-        List<uk.gov.hmcts.dts.fact.entity.CourtLock> courtLockList =
-            courtLockRepository.findCourtLockByCourtSlugAndUserEmail(courtSlug, userEmail);
+        return acquire(courtSlug, userEmail);
+    }
 
-        if (courtLockList.isEmpty()) {
-            // If a user attempts to update a lock, and no row exists for the slug at all,
-            // apply the lock to them
-            log.debug("When updating user: {}, no row was found. Creating lock now for court: {}",
-                      userEmail, courtSlug
+    private CourtLock acquire(String courtSlug, String userEmail) {
+        final CourtLockLease lease = courtLockManager.acquire(courtSlug, userEmail);
+        final CourtLock courtLock = new CourtLock(lease.getCourtLock());
+        if (lease.isAcquired()) {
+            adminAuditService.saveAudit(
+                AuditType.findByName("Create court lock"),
+                lease.getPrevious().map(List::of).orElse(List.of()),
+                courtLock,
+                courtSlug
             );
-            return addNewCourtLock(new CourtLock(
-                LocalDateTime.now(ZoneOffset.UTC),
-                courtSlug,
-                userEmail
-            ));
-        } else if (courtLockList.size() > LOCK_AMOUNT_PER_COURT) {
-            throw new LockExistsException(String.format(
-                "More than one lock exists for %s: %s",
-                courtSlug,
-                Arrays.toString(courtLockList.toArray())
-            ));
         }
-        LocalDateTime newTime = LocalDateTime.now(ZoneOffset.UTC);
-        adminAuditService.saveAudit(
-            AuditType.findByName("Update court lock"),
-            String.format(
-                "User %s has a lock acquired time (before) of: %s",
-                courtLockList.get(0).getUserEmail(),
-                courtLockList.get(0).getLockAcquired()
-            ),
-            String.format(
-                "User %s has a lock acquired time (after) of: %s",
-                courtLockList.get(0).getUserEmail(),
-                newTime
-            ),
-            courtSlug
-        );
-        courtLockList.get(0).setLockAcquired(newTime);
-        return new CourtLock(courtLockRepository.save(courtLockList.get(0)));
+        return courtLock;
     }
 }
@@ -10,6 +10,8 @@ import uk.gov.hmcts.dts.fact.model.admin.OpeningTime;
 import uk.gov.hmcts.dts.fact.model.admin.OpeningType;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.OpeningTypeRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 
 import java.util.ArrayList;
@@ -28,20 +30,24 @@ public class AdminCourtOpeningTimeService {
     private final CourtRepository courtRepository;
     private final OpeningTypeRepository openingTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the AdminCourtOpeningTimeService.
      * @param courtRepository The repository for court
      * @param openingTypeRepository The repository for opening type
      * @param adminAuditService The service for admin audit
+     * @param referenceDataCatalogue The catalogue to get opening types from while it is up to date
      */
     @Autowired
     public AdminCourtOpeningTimeService(final CourtRepository courtRepository,
                                         final OpeningTypeRepository openingTypeRepository,
-                                        final AdminAuditService adminAuditService) {
+                                        final AdminAuditService adminAuditService,
+                                        final ReferenceDataCatalogue referenceDataCatalogue) {
         this.courtRepository = courtRepository;
         this.openingTypeRepository = openingTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -83,7 +89,7 @@ public class AdminCourtOpeningTimeService {
      * @return The opening types for a court
      */
     public List<OpeningType> getAllCourtOpeningTypes() {
-        return openingTypeRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getOpeningTypes, openingTypeRepository::findAll)
             .stream()
             .map(OpeningType::new)
             .sorted(Comparator.comparing(OpeningType::getType))
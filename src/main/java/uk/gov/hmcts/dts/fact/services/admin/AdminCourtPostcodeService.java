@@ -10,16 +10,22 @@ import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeExistedException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeNotFoundException;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeImport;
 import uk.gov.hmcts.dts.fact.repositories.CourtPostcodeRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 import uk.gov.hmcts.dts.fact.util.Utils;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.dts.fact.util.Utils.distinctPostcodes;
 import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
 
 /**
@@ -29,22 +35,28 @@ import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
 @Slf4j
 @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
 public class AdminCourtPostcodeService {
+    private static final String POSTCODE_COUNT = "postcode_count";
+
     private final CourtRepository courtRepository;
     private final CourtPostcodeRepository courtPostcodeRepository;
+    private final CourtPostcodeWriter courtPostcodeWriter;
     private final AdminAuditService adminAuditService;
 
     /**
      * Constructor for the AdminCourtPostcodeService.
      * @param courtRepository The repository for court
      * @param courtPostcodeRepository The repository for court postcode
+     * @param courtPostcodeWriter The set-based writer for court postcodes
      * @param adminAuditService The service for admin audit
      */
     @Autowired
     public AdminCourtPostcodeService(final CourtRepository courtRepository,
                                      final CourtPostcodeRepository courtPostcodeRepository,
+                                     final CourtPostcodeWriter courtPostcodeWriter,
                                      final AdminAuditService adminAuditService) {
         this.courtRepository = courtRepository;
         this.courtPostcodeRepository = courtPostcodeRepository;
+        this.courtPostcodeWriter = courtPostcodeWriter;
         this.adminAuditService = adminAuditService;
     }
 
@@ -117,18 +129,9 @@ public class AdminCourtPostcodeService {
     @Transactional()
     public List<String> addCourtPostcodes(final String slug, final List<String> postcodes) {
         final Court courtEntity = getCourtEntity(slug);
-        final List<String> originalPostcodes = courtEntity.getCourtPostcodes()
-            .stream()
-            .map(CourtPostcode::getPostcode)
-            .collect(toList());
-        List<String> newPostcodes = createNewCourtPostcodesEntity(courtEntity, postcodes).stream()
-            .filter(p -> !postcodeExists(
-                courtEntity,
-                p.getPostcode()
-            )) // If the same valid postcode entered more than once, we only add a single one
-            .map(courtPostcodeRepository::save)
-            .map(CourtPostcode::getPostcode)
-            .collect(toList());
+        final List<String> originalPostcodes = getPostcodes(courtEntity);
+        // If the same valid postcode entered more than once, we only add a single one
+        final List<String> newPostcodes = courtPostcodeWriter.insert(courtEntity.getId(), distinctPostcodes(postcodes));
         adminAuditService.saveAudit(
             AuditType.findByName("Create court postcodes"),
             originalPostcodes,
@@ -136,6 +139,37 @@ public class AdminCourtPostcodeService {
         return newPostcodes;
     }
 
+    /**
+     * Import postcodes to a court by slug, such as a whole catchment. Postcodes the court already has are skipped
+     * rather than rejected, and the import is audited as a summary rather than with every postcode of the court.
+     * @param slug The slug of the court
+     * @param postcodes The postcodes to import
+     * @return The postcodes added to the court, and those it already had
+     */
+    @Transactional()
+    public PostcodeImport importCourtPostcodes(final String slug, final List<String> postcodes) {
+        final Court courtEntity = getCourtEntity(slug);
+        final long originalCount = courtPostcodeRepository.countByCourtId(courtEntity.getId());
+        final List<String> distinct = distinctPostcodes(postcodes);
+        final List<String> added = courtPostcodeWriter.insert(courtEntity.getId(), distinct);
+        final Set<String> addedPostcodes = new HashSet<>(added);
+        final List<String> alreadyPresent = distinct.stream()
+            .filter(p -> !addedPostcodes.contains(p))
+            .collect(toList());
+
+        final Map<String, Object> auditBefore = new LinkedHashMap<>();
+        auditBefore.put(POSTCODE_COUNT, originalCount);
+        final Map<String, Object> auditAfter = new LinkedHashMap<>();
+        auditAfter.put(POSTCODE_COUNT, originalCount + added.size());
+        auditAfter.put("added", added);
+        auditAfter.put("already_present", alreadyPresent.size());
+        adminAuditService.saveAudit(
+            AuditType.findByName("Create court postcodes"),
+            auditBefore,
+            auditAfter, slug);
+        return new PostcodeImport(distinct.size(), added, alreadyPresent);
+    }
+
     /**
      * Delete postcodes from a court by slug.
      * @param slug The slug of the court
@@ -145,25 +179,20 @@ public class AdminCourtPostcodeService {
     @Transactional()
     public int deleteCourtPostcodes(final String slug, final List<String> postcodes) {
         final Court courtEntity = getCourtEntity(slug);
-        final List<String> originalPostcodes = courtEntity.getCourtPostcodes()
-            .stream()
-            .map(CourtPostcode::getPostcode)
-            .collect(toList());
+        final List<String> originalPostcodes = getPostcodes(courtEntity);
 
-        int deletedPostcodes = postcodes.stream()
-            .map(p -> courtPostcodeRepository.deleteByCourtIdAndPostcode(
-                courtEntity.getId(),
-                upperCaseAndStripAllSpaces(p)
-            ))
-            .mapToInt(List::size)
-            .sum();
+        final Set<String> deletedPostcodes = new HashSet<>(
+            courtPostcodeWriter.delete(courtEntity.getId(), distinctPostcodes(postcodes))
+        );
 
         adminAuditService.saveAudit(
             AuditType.findByName("Delete court postcodes"),
             originalPostcodes,
-            getCourtPostcodesBySlug(slug),
+            originalPostcodes.stream()
+                .filter(p -> !deletedPostcodes.contains(p))
+                .collect(toList()),
             null);
-        return deletedPostcodes;
+        return deletedPostcodes.size();
     }
 
     /**
@@ -175,9 +204,9 @@ public class AdminCourtPostcodeService {
      */
     @Transactional()
     public List<String> moveCourtPostcodes(String sourceSlug, String destinationSlug, List<String> postcodes) {
-        // Check that the postcodes for the source court exists in the database, and retrieve the court id back
-        List<CourtPostcode> sourceCourtPostcodes = getCourtPostcodes(sourceSlug, postcodes);
-        checkPostcodesExist(sourceCourtPostcodes, postcodes);
+        // Check that the postcodes for the source court exists in the database
+        final Court sourceCourt = getCourtEntity(sourceSlug);
+        checkPostcodesExist(getCourtPostcodes(sourceCourt, postcodes), postcodes);
 
         // As a part of the above, check that the court where the postcodes will be moved to, do not already
         // contain one or more postcodes from the source court
@@ -186,13 +215,11 @@ public class AdminCourtPostcodeService {
         // Move the postcodes from the source court, to the destination court, based on the
         // destination courts court id
         final Court destCourt = getCourtEntity(destinationSlug);
-        for (CourtPostcode courtPostcode : sourceCourtPostcodes) {
-            courtPostcode.setCourt(destCourt);
-        }
-        final List<String> postcodesMoved = courtPostcodeRepository.saveAll(sourceCourtPostcodes)
-            .stream()
-            .map(CourtPostcode::getPostcode)
-            .collect(toList());
+        final List<String> postcodesMoved = courtPostcodeWriter.move(
+            sourceCourt.getId(),
+            destCourt.getId(),
+            distinctPostcodes(postcodes)
+        );
         HashMap<String, String> auditData = new HashMap<>();
         auditData.put("moved-from", sourceSlug);
         auditData.put("moved-to", destinationSlug);
@@ -206,27 +233,14 @@ public class AdminCourtPostcodeService {
     }
 
     /**
-     * Update postcodes for a court by slug.
-     * @param slug The slug of the court
-     * @param postcodes The postcodes to update
-     * @return The updated postcodes for the court
-     */
-    private boolean postcodeExists(final Court court, final String postcode) {
-        return !courtPostcodeRepository.findByCourtIdAndPostcode(
-            court.getId(),
-            upperCaseAndStripAllSpaces(postcode)
-        ).isEmpty();
-    }
-
-    /**
-     * Create new court postcodes entity.
+     * Get the postcodes of a court.
      * @param court The court entity
-     * @param postcodes The postcodes to create
-     * @return The new court postcodes entity
+     * @return The postcodes of the court
      */
-    private List<CourtPostcode> createNewCourtPostcodesEntity(final Court court, final List<String> postcodes) {
-        return postcodes.stream()
-            .map(p -> new CourtPostcode(upperCaseAndStripAllSpaces(p), court))
+    private List<String> getPostcodes(final Court court) {
+        return court.getCourtPostcodes()
+            .stream()
+            .map(CourtPostcode::getPostcode)
             .collect(toList());
     }
 
@@ -251,10 +265,19 @@ public class AdminCourtPostcodeService {
      * @return The court postcodes
      */
     private List<CourtPostcode> getCourtPostcodes(String slug, List<String> postcodes) {
-        final Court courtEntity = getCourtEntity(slug);
+        return getCourtPostcodes(getCourtEntity(slug), postcodes);
+    }
+
+    /**
+     * Get the court postcodes by court and postcodes.
+     * @param court The court entity
+     * @param postcodes The postcodes
+     * @return The court postcodes
+     */
+    private List<CourtPostcode> getCourtPostcodes(Court court, List<String> postcodes) {
         final List<String> postcodesToRetrieve = postcodes.stream()
             .map(Utils::upperCaseAndStripAllSpaces)
             .collect(toList());
-        return courtPostcodeRepository.findByCourtIdAndPostcodeIn(courtEntity.getId(), postcodesToRetrieve);
+        return courtPostcodeRepository.findByCourtIdAndPostcodeIn(court.getId(), postcodesToRetrieve);
     }
 }
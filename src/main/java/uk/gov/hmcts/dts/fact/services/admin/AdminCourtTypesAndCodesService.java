@@ -11,6 +11,8 @@ import uk.gov.hmcts.dts.fact.model.admin.DxCode;
 import uk.gov.hmcts.dts.fact.repositories.CourtDxCodesRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtTypeRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 import uk.gov.hmcts.dts.fact.util.MapCourtCode;
 
 import java.util.List;
@@ -26,6 +28,7 @@ public class AdminCourtTypesAndCodesService {
     private final CourtTypeRepository courtTypeRepository;
     private final MapCourtCode mapCourtCode;
     private final CourtDxCodesRepository courtDxCodesRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the AdminCourtTypesAndCodesService.
@@ -33,14 +36,17 @@ public class AdminCourtTypesAndCodesService {
      * @param courtTypeRepository The repository for court type
      * @param mapCourtCode The utility for mapping court codes
      * @param courtDxCodesRepository The repository for court dx codes
+     * @param referenceDataCatalogue The catalogue to get court types from while it is up to date
      */
     @Autowired
     public AdminCourtTypesAndCodesService(final CourtRepository courtRepository, final CourtTypeRepository courtTypeRepository,
-                                          final MapCourtCode mapCourtCode, final CourtDxCodesRepository courtDxCodesRepository) {
+                                          final MapCourtCode mapCourtCode, final CourtDxCodesRepository courtDxCodesRepository,
+                                          final ReferenceDataCatalogue referenceDataCatalogue) {
         this.courtRepository = courtRepository;
         this.courtTypeRepository = courtTypeRepository;
         this.mapCourtCode = mapCourtCode;
         this.courtDxCodesRepository = courtDxCodesRepository;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -48,7 +54,7 @@ public class AdminCourtTypesAndCodesService {
      * @return The court types
      */
     public List<CourtType> getAllCourtTypes() {
-        return  courtTypeRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getCourtTypes, courtTypeRepository::findAll)
             .stream()
             .map(CourtType::new)
             .collect(toList());
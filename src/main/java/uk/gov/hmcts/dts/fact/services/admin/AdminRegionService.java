@@ -3,6 +3,8 @@ package uk.gov.hmcts.dts.fact.services.admin;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.model.admin.Region;
 import uk.gov.hmcts.dts.fact.repositories.RegionRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 
 import java.util.Comparator;
 import java.util.List;
@@ -17,13 +19,16 @@ import static java.util.stream.Collectors.toMap;
 @Service
 public class AdminRegionService {
     private final RegionRepository regionRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the AdminRegionService.
      * @param regionRepository The repository for region
+     * @param referenceDataCatalogue The catalogue to get regions from while it is up to date
      */
-    public AdminRegionService(RegionRepository regionRepository) {
+    public AdminRegionService(RegionRepository regionRepository, ReferenceDataCatalogue referenceDataCatalogue) {
         this.regionRepository = regionRepository;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -31,7 +36,7 @@ public class AdminRegionService {
      * @return The regions
      */
     public List<Region> getAllRegions() {
-        return regionRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getRegions, regionRepository::findAll)
             .stream()
             .map(Region::new)
             .sorted(Comparator.comparing(Region::getName))
@@ -86,7 +86,7 @@ public class AdminService {
      */
     public List<CourtReference> getAllCourtReferences() {
         return courtRepository
-            .findAll()
+            .findAllForList()
             .stream()
             .map(CourtReference::new)
             .collect(toList());
@@ -98,7 +98,7 @@ public class AdminService {
      */
     public List<CourtForDownload> getAllCourtsForDownload() {
         return courtRepository
-            .findAll()
+            .findAllForDownload()
             .stream()
             .map(CourtForDownload::new)
             .sorted(Comparator.comparing(CourtForDownload::getName))
@@ -0,0 +1,27 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import uk.gov.hmcts.dts.fact.util.AuditDataEncoding;
+
+import java.time.LocalDateTime;
+
+/**
+ * An audit row as kept in the {@link AuditArchive}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedAudit {
+    private Integer id;
+    private String userEmail;
+    private Integer auditTypeId;
+    private String actionDataBefore;
+    private String actionDataAfter;
+    private String location;
+    private LocalDateTime creationTime;
+    private AuditDataEncoding actionDataEncoding = AuditDataEncoding.FULL;
+}
@@ -0,0 +1,264 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.entity.Audit;
+import uk.gov.hmcts.dts.fact.entity.AuditType;
+import uk.gov.hmcts.dts.fact.repositories.AuditTypeRepository;
+import uk.gov.hmcts.dts.fact.util.AuditDataEncoding;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Cold storage for audits, in the {@code admin_audit_archive} table.
+ *
+ * <p>{@code admin_audit} is partitioned by month. Once a month is old enough, the {@link AuditRetentionJob} moves
+ * its partition here: the rows are stored as a single gzipped block of JSON lines, and the partition is detached and
+ * dropped in the same transaction. Every archived month is older than every month still in {@code admin_audit}, so
+ * audit searches only read the archive once they have run out of recent audits.</p>
+ *
+ * <p>Reading the archive unpacks whole months and filters them in memory, which is slow compared with the indexed
+ * partitions but only happens when a search reaches back past the retention age.</p>
+ */
+@Slf4j
+@Component
+public class AuditArchive {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+    private static final ObjectWriter WRITER = OBJECT_MAPPER.writerFor(ArchivedAudit.class);
+    private static final ObjectReader READER = OBJECT_MAPPER.readerFor(ArchivedAudit.class);
+    private static final String PARTITION_PREFIX = "admin_audit_p";
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditTypeRepository auditTypeRepository;
+
+    /**
+     * Constructor for the AuditArchive.
+     * @param jdbcTemplate The JDBC template for the audit tables
+     * @param auditTypeRepository The repository for audit types, to attach to archived audits when read
+     */
+    public AuditArchive(final JdbcTemplate jdbcTemplate, final AuditTypeRepository auditTypeRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditTypeRepository = auditTypeRepository;
+    }
+
+    /**
+     * Get the monthly partitions of {@code admin_audit}, oldest first.
+     * @return the months with a partition
+     */
+    public List<YearMonth> findPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i"
+                    + " JOIN pg_class c ON c.oid = i.inhrelid"
+                    + " JOIN pg_class p ON p.oid = i.inhparent"
+                    + " WHERE p.relname = 'admin_audit' AND c.relname LIKE 'admin\\_audit\\_p%'",
+                String.class
+            ).stream()
+            .map(name -> YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_MONTH))
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Create the partition for a month, if it doesn't already exist.
+     * @param month The month
+     */
+    public void createPartition(final YearMonth month) {
+        jdbcTemplate.queryForList("SELECT public.create_admin_audit_partition(?)", Date.valueOf(month.atDay(1)));
+    }
+
+    /**
+     * Move the audits of a month from its partition to the archive, and drop the partition. If the month has been
+     * archived before, its audits are added to those already archived. Nothing is archived if the partition doesn't
+     * exist, or another instance is archiving.
+     * @param month The month
+     * @return the number of audits archived
+     */
+    @Transactional
+    public int archive(final YearMonth month) {
+        final String partition = PARTITION_PREFIX + month.format(PARTITION_MONTH);
+        // Another instance may be archiving, or have just archived, the same month
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT pg_try_advisory_xact_lock(hashtext('admin_audit_archive'))", Boolean.class))
+            || !Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                                                                 "public." + partition))) {
+            return 0;
+        }
+        final List<ArchivedAudit> audits = new ArrayList<>(read(month));
+        final int previouslyArchived = audits.size();
+        audits.addAll(jdbcTemplate.query(
+            "SELECT id, user_email, action_id, action_data_before, action_data_after, location, creation_time,"
+                + " action_data_encoding FROM "
+                + partition + " ORDER BY creation_time, id",
+            AuditArchive::mapRow
+        ));
+
+        jdbcTemplate.update(
+            "INSERT INTO admin_audit_archive (month, audit_count, audits) VALUES (?, ?, ?)"
+                + " ON CONFLICT (month) DO UPDATE SET audit_count = EXCLUDED.audit_count, audits = EXCLUDED.audits,"
+                + " archived_at = now()",
+            Date.valueOf(month.atDay(1)), audits.size(), compress(audits)
+        );
+        jdbcTemplate.execute("ALTER TABLE admin_audit DETACH PARTITION " + partition);
+        jdbcTemplate.execute("DROP TABLE " + partition);
+
+        final int archived = audits.size() - previouslyArchived;
+        log.info("Archived {} audits from {}", archived, partition);
+        return archived;
+    }
+
+    /**
+     * Get the time from which audits are still in {@code admin_audit}, if any have been archived.
+     * @return the start of the month after the latest archived month, or empty if nothing has been archived
+     */
+    public Optional<LocalDateTime> findHotFrom() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT MAX(month) FROM admin_audit_archive", Date.class))
+            .map(month -> YearMonth.from(month.toLocalDate()).plusMonths(1).atDay(1).atStartOfDay());
+    }
+
+    /**
+     * Find archived audits, newest first, with the same matching as the audit search: the location and email are
+     * substrings, and the date range is inclusive.
+     * @param location The text the location contains
+     * @param email The text the email contains
+     * @param dateFrom The earliest creation time, if any
+     * @param dateTo The latest creation time, if any
+     * @param after The position to start after
+     * @param limit The most audits to return
+     * @return the matching audits
+     */
+    @SuppressWarnings("PMD.UseObjectForClearerAPI")
+    public List<Audit> find(final String location, final String email, final Optional<LocalDateTime> dateFrom,
+                            final Optional<LocalDateTime> dateTo, final AuditCursor after, final int limit) {
+        final LocalDateTime until = dateTo.filter(to -> to.isBefore(after.getCreationTime()))
+            .orElse(after.getCreationTime());
+        final List<Date> months = jdbcTemplate.queryForList(
+            "SELECT month FROM admin_audit_archive WHERE month >= ? AND month <= ? ORDER BY month DESC",
+            Date.class,
+            Date.valueOf(dateFrom.map(from -> YearMonth.from(from).atDay(1)).orElse(LocalDate.of(1, 1, 1))),
+            Date.valueOf(until.toLocalDate())
+        );
+        if (months.isEmpty()) {
+            return List.of();
+        }
+
+        final Map<Integer, AuditType> auditTypes = auditTypeRepository.findAll().stream()
+            .collect(Collectors.toMap(AuditType::getId, Function.identity()));
+        final List<Audit> found = new ArrayList<>();
+        for (final Date month : months) {
+            final List<ArchivedAudit> audits = read(YearMonth.from(month.toLocalDate()));
+            for (int i = audits.size() - 1; i >= 0 && found.size() < limit; i--) {
+                if (matches(audits.get(i), location, email, dateFrom, dateTo, after)) {
+                    found.add(toEntity(audits.get(i), auditTypes));
+                }
+            }
+            if (found.size() >= limit) {
+                break;
+            }
+        }
+        return found;
+    }
+
+    private List<ArchivedAudit> read(final YearMonth month) {
+        final List<byte[]> blocks = jdbcTemplate.queryForList(
+            "SELECT audits FROM admin_audit_archive WHERE month = ?", byte[].class, Date.valueOf(month.atDay(1))
+        );
+        return blocks.isEmpty() ? List.of() : decompress(blocks.get(0));
+    }
+
+    @SuppressWarnings("PMD.UseObjectForClearerAPI")
+    private static boolean matches(final ArchivedAudit audit, final String location, final String email,
+                                   final Optional<LocalDateTime> dateFrom, final Optional<LocalDateTime> dateTo,
+                                   final AuditCursor after) {
+        final LocalDateTime creationTime = audit.getCreationTime();
+        return audit.getLocation() != null && audit.getLocation().contains(location)
+            && audit.getUserEmail().contains(email)
+            && dateFrom.map(from -> !creationTime.isBefore(from)).orElse(true)
+            && dateTo.map(to -> !creationTime.isAfter(to)).orElse(true)
+            && (creationTime.isBefore(after.getCreationTime())
+                || (creationTime.isEqual(after.getCreationTime()) && audit.getId() < after.getId()));
+    }
+
+    private static Audit toEntity(final ArchivedAudit audit, final Map<Integer, AuditType> auditTypes) {
+        final Audit entity = new Audit(audit.getUserEmail(), auditTypes.get(audit.getAuditTypeId()),
+                                       audit.getActionDataBefore(), audit.getActionDataAfter(),
+                                       audit.getLocation(), audit.getCreationTime());
+        entity.setId(audit.getId());
+        entity.setActionDataEncoding(audit.getActionDataEncoding());
+        return entity;
+    }
+
+    private static ArchivedAudit mapRow(final ResultSet resultSet, final int rowNumber) throws SQLException {
+        return new ArchivedAudit(
+            resultSet.getInt("id"),
+            resultSet.getString("user_email"),
+            resultSet.getInt("action_id"),
+            resultSet.getString("action_data_before"),
+            resultSet.getString("action_data_after"),
+            resultSet.getString("location"),
+            resultSet.getTimestamp("creation_time").toLocalDateTime(),
+            AuditDataEncoding.valueOf(resultSet.getString("action_data_encoding"))
+        );
+    }
+
+    static byte[] compress(final List<ArchivedAudit> audits) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), UTF_8)) {
+            for (final ArchivedAudit audit : audits) {
+                writer.write(WRITER.writeValueAsString(audit));
+                writer.write('\n');
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Could not compress audits", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    static List<ArchivedAudit> decompress(final byte[] block) {
+        final List<ArchivedAudit> audits = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(new ByteArrayInputStream(block)), UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                if (!line.isBlank()) {
+                    audits.add(READER.readValue(line));
+                }
+                line = reader.readLine();
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Could not decompress audits", ex);
+        }
+        return audits;
+    }
+}
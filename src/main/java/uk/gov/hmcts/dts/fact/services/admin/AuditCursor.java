@@ -0,0 +1,83 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import uk.gov.hmcts.dts.fact.entity.Audit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the audit list, which is ordered newest first by creation time and then by id. The next page starts
+ * with the audit after the position, so pages stay stable while new audits are written and are read through the
+ * index rather than by skipping every earlier row.
+ *
+ * <p>The cursor is handed to clients as an opaque URL-safe token.</p>
+ */
+@Getter
+@EqualsAndHashCode
+public final class AuditCursor {
+
+    /**
+     * The position before the newest audit, for the first page.
+     */
+    public static final AuditCursor FIRST = new AuditCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Integer.MAX_VALUE);
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime creationTime;
+    private final int id;
+
+    /**
+     * Constructor for the AuditCursor.
+     * @param creationTime The creation time, in UTC as stored, of the last audit read
+     * @param id The id of the last audit read
+     */
+    public AuditCursor(final LocalDateTime creationTime, final int id) {
+        this.creationTime = creationTime;
+        this.id = id;
+    }
+
+    /**
+     * Get the position after an audit.
+     * @param audit The last audit read
+     * @return the cursor
+     */
+    public static AuditCursor after(final Audit audit) {
+        return new AuditCursor(audit.getCreationTime(), audit.getId());
+    }
+
+    /**
+     * Read a cursor from its token. An empty token is the first page.
+     * @param token The token, as returned by {@link #toToken()}
+     * @return the cursor
+     * @throws IllegalArgumentException if the token is not a cursor
+     */
+    public static AuditCursor fromToken(final String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            final String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            final int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid audit cursor: " + token);
+            }
+            return new AuditCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                                   Integer.parseInt(decoded.substring(separator + 1)));
+        } catch (final DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid audit cursor: " + token, ex);
+        }
+    }
+
+    /**
+     * Get the token for the cursor.
+     * @return the URL-safe token
+     */
+    public String toToken() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((creationTime + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
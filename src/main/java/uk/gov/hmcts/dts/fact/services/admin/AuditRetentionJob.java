@@ -0,0 +1,66 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/**
+ * Keeps the monthly partitions of {@code admin_audit} in order: creates the partitions for the coming months, and
+ * moves the months older than the retention age to the {@link AuditArchive}.
+ */
+@Slf4j
+@Component
+public class AuditRetentionJob {
+
+    static final int MONTHS_AHEAD = 3;
+
+    private final AuditArchive auditArchive;
+    private final int hotMonths;
+
+    /**
+     * Constructor for the AuditRetentionJob.
+     * @param auditArchive The archive to move old months to
+     * @param hotMonths The number of months, including the current one, kept in {@code admin_audit}
+     */
+    public AuditRetentionJob(final AuditArchive auditArchive,
+                             @Value("${audit.retention.hot-months:24}") final int hotMonths) {
+        if (hotMonths < 1) {
+            throw new IllegalArgumentException("At least the current month of audits must be kept, not " + hotMonths);
+        }
+        this.auditArchive = auditArchive;
+        this.hotMonths = hotMonths;
+    }
+
+    /**
+     * Create the coming partitions and archive the old ones. A month that fails is logged and tried again on the
+     * next run.
+     */
+    @Scheduled(cron = "${audit.retention.cron:0 30 2 * * *}")
+    public void run() {
+        final YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        for (int ahead = 0; ahead <= MONTHS_AHEAD; ahead++) {
+            final YearMonth month = currentMonth.plusMonths(ahead);
+            try {
+                auditArchive.createPartition(month);
+            } catch (final DataAccessException ex) {
+                log.error("Could not create the audit partition for {}", month, ex);
+            }
+        }
+
+        final YearMonth oldestHotMonth = currentMonth.minusMonths(hotMonths - 1L);
+        for (final YearMonth month : auditArchive.findPartitions()) {
+            if (month.isBefore(oldestHotMonth)) {
+                try {
+                    auditArchive.archive(month);
+                } catch (final DataAccessException ex) {
+                    log.error("Could not archive the audits for {}", month, ex);
+                }
+            }
+        }
+    }
+}
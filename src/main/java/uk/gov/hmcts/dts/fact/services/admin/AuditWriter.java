@@ -0,0 +1,158 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Writes audits to the database through an outbox, moving them into the audit table in batches, off the admin
+ * request.
+ *
+ * <p>An audit is inserted into {@code admin_audit_outbox} on the calling thread, in the transaction of the change it
+ * records, so it is committed or rolled back with that change and is never lost once the change has committed. The
+ * outbox has no index but its key, so the insert is much cheaper than one into the partitioned and indexed
+ * {@code admin_audit}. A background thread moves the outbox into {@code admin_audit} in batches, each with a single
+ * statement that deletes the batch from the outbox and inserts it into the audit table, so an audit is moved
+ * exactly once. A batch that can't be moved stays in the outbox and is moved on a later flush, by this instance or
+ * another, as the batches are locked with {@code SKIP LOCKED}. Audits left in the outbox when an instance stops,
+ * however it stops, are moved by the next one to flush.</p>
+ *
+ * <p>The outbox depth is published as {@code audit.writer.queue.depth}, the time to move a batch as
+ * {@code audit.writer.flush}, and the number of flushes that failed and were left for a later one as
+ * {@code audit.writer.retried}.</p>
+ */
+@Slf4j
+@Component
+@SuppressWarnings("PMD.DoNotUseThreads")
+public class AuditWriter {
+
+    static final String INSERT = "INSERT INTO admin_audit_outbox"
+        + " (user_email, action_id, action_data_before, action_data_after, location, creation_time, action_data_encoding)"
+        + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    static final String MOVE_BATCH = "WITH moved AS ("
+        + "DELETE FROM admin_audit_outbox WHERE id IN ("
+        + "SELECT id FROM admin_audit_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) "
+        + "RETURNING id, user_email, action_id, action_data_before, action_data_after, location, creation_time, "
+        + "action_data_encoding) "
+        + "INSERT INTO admin_audit"
+        + " (user_email, action_id, action_data_before, action_data_after, location, creation_time, action_data_encoding)"
+        + " SELECT user_email, action_id, action_data_before, action_data_after, location, creation_time,"
+        + " action_data_encoding FROM moved ORDER BY id";
+
+    private static final String COUNT = "SELECT count(*) FROM admin_audit_outbox";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Timer flushTimer;
+    private final Counter retriedCounter;
+    private final ScheduledExecutorService flusher;
+    private final Object flushLock = new Object();
+
+    /**
+     * Constructor for the AuditWriter.
+     * @param jdbcTemplate The JDBC template to insert and move audits with
+     * @param meterRegistry The registry to publish the writer metrics to
+     * @param batchSize The most audits moved in one batch
+     * @param flushInterval How often the outbox is moved into the audit table
+     */
+    @Autowired
+    public AuditWriter(final JdbcTemplate jdbcTemplate,
+                       final MeterRegistry meterRegistry,
+                       @Value("${audit.writer.batch-size:100}") final int batchSize,
+                       @Value("${audit.writer.flush-interval:PT0.2S}") final Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        Gauge.builder("audit.writer.queue.depth", this, AuditWriter::outboxDepth).register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.writer.flush").register(meterRegistry);
+        this.retriedCounter = Counter.builder("audit.writer.retried").register(meterRegistry);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long interval = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushInBackground, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Write an audit to the outbox, in the caller's transaction if there is one.
+     * @param audit The audit
+     */
+    public void write(final PendingAudit audit) {
+        jdbcTemplate.update(INSERT,
+                            audit.getUserEmail(),
+                            audit.getAuditTypeId(),
+                            audit.getActionDataBefore(),
+                            audit.getActionDataAfter(),
+                            audit.getLocation(),
+                            Timestamp.valueOf(audit.getCreationTime()),
+                            audit.getActionDataEncoding().name());
+    }
+
+    /**
+     * Move every audit in the outbox into the audit table now, so that the audits of earlier admin writes can be
+     * read back. If a batch can't be moved, it is left in the outbox for the next flush.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            final Supplier<Integer> moveBatch = () -> jdbcTemplate.update(MOVE_BATCH, batchSize);
+            try {
+                int moved;
+                do {
+                    moved = flushTimer.record(moveBatch);
+                } while (moved == batchSize);
+            } catch (final DataAccessException ex) {
+                retriedCounter.increment();
+                log.error("Could not move audits from the outbox, leaving them for the next flush", ex);
+            }
+        }
+    }
+
+    /**
+     * Stop the background writer and move what is in the outbox. Anything that can't be moved stays in the outbox
+     * for the next instance to flush.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (final RuntimeException ex) {
+            log.error("Could not move audits from the outbox", ex);
+        }
+    }
+
+    private double outboxDepth() {
+        try {
+            final Long depth = jdbcTemplate.queryForObject(COUNT, Long.class);
+            return depth == null ? 0 : depth;
+        } catch (final DataAccessException ex) {
+            return Double.NaN;
+        }
+    }
+}
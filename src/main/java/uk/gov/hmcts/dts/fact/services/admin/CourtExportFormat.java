@@ -0,0 +1,18 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Formats the court data can be exported in.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public enum CourtExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String fileExtension;
+}
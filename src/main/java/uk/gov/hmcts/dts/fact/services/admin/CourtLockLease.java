@@ -0,0 +1,31 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import uk.gov.hmcts.dts.fact.entity.CourtLock;
+
+import java.util.Optional;
+
+/**
+ * A court lock held by a user, as returned by the {@link CourtLockManager}.
+ */
+@Getter
+@AllArgsConstructor
+public class CourtLockLease {
+    /**
+     * The lock.
+     */
+    private final CourtLock courtLock;
+    /**
+     * Whether the user has just taken the lock, rather than renewed a lock they already held.
+     */
+    private final boolean acquired;
+    /**
+     * The expired lock of another user that was taken over, if any.
+     */
+    private final CourtLock previous;
+
+    public Optional<CourtLock> getPrevious() {
+        return Optional.ofNullable(previous);
+    }
+}
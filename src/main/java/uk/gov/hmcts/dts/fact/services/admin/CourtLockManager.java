@@ -0,0 +1,150 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.entity.CourtLock;
+import uk.gov.hmcts.dts.fact.exception.LockExistsException;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out the court locks as leases that expire after a period without activity.
+ *
+ * <p>A lock is taken or renewed with a single {@code INSERT ... ON CONFLICT (court_slug)} statement. It only updates
+ * the existing lock if the same user holds it or it has expired, so two admins can never both hold a court, whichever
+ * instance they are on.</p>
+ *
+ * <p>Renewals are cheap: each instance remembers the leases it last wrote, and only writes a renewal to the
+ * database once the stored time is older than the renewal interval. Until then a renewal only reads whether the
+ * user still holds the lock, as another instance may have deleted it or handed it to another user. The time other
+ * users see for a lock can therefore be behind by up to the renewal interval, which is kept well below the lease
+ * time.</p>
+ */
+@Slf4j
+@Component
+public class CourtLockManager {
+
+    static final String ACQUIRE = "WITH previous AS ("
+        + "SELECT id, lock_acquired, user_email, court_slug FROM admin_courtlock WHERE court_slug = ?)"
+        + " INSERT INTO admin_courtlock (lock_acquired, user_email, court_slug) VALUES (?, ?, ?)"
+        + " ON CONFLICT (court_slug) DO UPDATE"
+        + " SET lock_acquired = EXCLUDED.lock_acquired, user_email = EXCLUDED.user_email"
+        + " WHERE admin_courtlock.user_email = EXCLUDED.user_email OR admin_courtlock.lock_acquired < ?"
+        + " RETURNING id, lock_acquired, user_email, court_slug,"
+        + " (SELECT id FROM previous) AS previous_id,"
+        + " (SELECT lock_acquired FROM previous) AS previous_lock_acquired,"
+        + " (SELECT user_email FROM previous) AS previous_user_email";
+
+    static final String HELD = "SELECT id FROM admin_courtlock WHERE court_slug = ? AND user_email = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration leaseTime;
+    private final Duration renewalInterval;
+    private final Map<String, CourtLock> leases = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for the CourtLockManager.
+     * @param jdbcTemplate The JDBC template for the court locks
+     * @param leaseTime How long a lock is held after the user's last activity
+     * @param renewalInterval How often a renewal of the same lock is written to the database
+     */
+    public CourtLockManager(final JdbcTemplate jdbcTemplate,
+                            @Value("${admin.court-lock.lease-time:PT20M}") final Duration leaseTime,
+                            @Value("${admin.court-lock.renewal-interval:PT1M}") final Duration renewalInterval) {
+        if (renewalInterval.compareTo(leaseTime) >= 0) {
+            throw new IllegalArgumentException("The court lock renewal interval must be shorter than the lease time");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaseTime = leaseTime;
+        this.renewalInterval = renewalInterval;
+    }
+
+    /**
+     * Take or renew the lock on a court for a user.
+     * @param courtSlug The court slug
+     * @param userEmail The user's email
+     * @return the lease, saying whether the lock was newly taken
+     * @throws LockExistsException if another user holds an unexpired lock on the court
+     */
+    public CourtLockLease acquire(final String courtSlug, final String userEmail) {
+        final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        final CourtLock remembered = leases.get(courtSlug);
+        if (remembered != null && remembered.getUserEmail().equals(userEmail)
+            && remembered.getLockAcquired().isAfter(now.minus(renewalInterval))) {
+            if (!jdbcTemplate.queryForList(HELD, Integer.class, courtSlug, userEmail).isEmpty()) {
+                return new CourtLockLease(remembered, false, null);
+            }
+            leases.remove(courtSlug, remembered);
+        }
+
+        final List<CourtLockLease> written = jdbcTemplate.query(
+            ACQUIRE, (resultSet, rowNumber) -> toLease(resultSet, userEmail),
+            courtSlug, Timestamp.valueOf(now), userEmail, courtSlug, Timestamp.valueOf(now.minus(leaseTime))
+        );
+        if (written.isEmpty()) {
+            leases.remove(courtSlug);
+            final List<String> holders = jdbcTemplate.queryForList(
+                "SELECT user_email FROM admin_courtlock WHERE court_slug = ?", String.class, courtSlug
+            );
+            throw new LockExistsException(String.format("Lock for court '%s' is currently held by user '%s'",
+                                                        courtSlug, holders.isEmpty() ? "unknown" : holders.get(0)));
+        }
+
+        final CourtLockLease lease = written.get(0);
+        leases.put(courtSlug, lease.getCourtLock());
+        if (lease.isAcquired()) {
+            log.debug("Court lock for slug {} acquired by {}", courtSlug, userEmail);
+        }
+        return lease;
+    }
+
+    /**
+     * Forget the lease on a court, once its lock has been deleted. Locks deleted on other instances are found by
+     * the next renewal instead.
+     * @param courtSlug The court slug
+     */
+    public void forget(final String courtSlug) {
+        leases.remove(courtSlug);
+    }
+
+    /**
+     * Forget the leases held by a user, once their locks have been deleted.
+     * @param userEmail The user's email
+     */
+    public void forgetUser(final String userEmail) {
+        leases.values().removeIf(lock -> lock.getUserEmail().equals(userEmail));
+    }
+
+    private static CourtLockLease toLease(final ResultSet resultSet, final String userEmail) throws SQLException {
+        final CourtLock courtLock = new CourtLock(
+            resultSet.getInt("id"),
+            resultSet.getTimestamp("lock_acquired").toLocalDateTime(),
+            resultSet.getString("user_email"),
+            resultSet.getString("court_slug")
+        );
+        final String previousUserEmail = resultSet.getString("previous_user_email");
+        if (previousUserEmail == null) {
+            return new CourtLockLease(courtLock, true, null);
+        }
+        if (previousUserEmail.equals(userEmail)) {
+            return new CourtLockLease(courtLock, false, null);
+        }
+        final CourtLock previous = new CourtLock(
+            resultSet.getInt("previous_id"),
+            resultSet.getTimestamp("previous_lock_acquired").toLocalDateTime(),
+            previousUserEmail,
+            courtLock.getCourtSlug()
+        );
+        return new CourtLockLease(courtLock, true, previous);
+    }
+}
@@ -0,0 +1,91 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Adds, deletes and moves the postcodes of a court with one set-based statement each, however many postcodes there
+ * are, rather than one round trip per postcode.
+ *
+ * <p>The postcodes are passed as a single array parameter and expanded with {@code unnest}, so the statements stay
+ * the same size for a whole catchment. The statements join the surrounding transaction, and return the postcodes
+ * they changed. The postcodes must already be upper case without spaces, as they are stored.</p>
+ */
+@Component
+public class CourtPostcodeWriter {
+
+    static final String INSERT = "INSERT INTO search_courtpostcode (postcode, court_id)"
+        + " SELECT postcode, ? FROM unnest(?) AS postcode"
+        + " ON CONFLICT (court_id, postcode) DO NOTHING"
+        + " RETURNING postcode";
+    static final String DELETE = "DELETE FROM search_courtpostcode"
+        + " WHERE court_id = ? AND postcode = ANY(?)"
+        + " RETURNING postcode";
+    static final String MOVE = "UPDATE search_courtpostcode SET court_id = ?"
+        + " WHERE court_id = ? AND postcode = ANY(?)"
+        + " RETURNING postcode";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor for the CourtPostcodeWriter.
+     * @param jdbcTemplate The JDBC template for the court postcodes
+     */
+    public CourtPostcodeWriter(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Add postcodes to a court, skipping those it already has.
+     * @param courtId The id of the court
+     * @param postcodes The postcodes to add
+     * @return the postcodes added
+     */
+    public List<String> insert(final Integer courtId, final Collection<String> postcodes) {
+        return write(INSERT, postcodes, courtId);
+    }
+
+    /**
+     * Delete postcodes from a court.
+     * @param courtId The id of the court
+     * @param postcodes The postcodes to delete
+     * @return the postcodes deleted
+     */
+    public List<String> delete(final Integer courtId, final Collection<String> postcodes) {
+        return write(DELETE, postcodes, courtId);
+    }
+
+    /**
+     * Move postcodes from one court to another.
+     * @param sourceCourtId The id of the court the postcodes are moved from
+     * @param destinationCourtId The id of the court the postcodes are moved to
+     * @param postcodes The postcodes to move
+     * @return the postcodes moved
+     */
+    public List<String> move(final Integer sourceCourtId, final Integer destinationCourtId,
+                             final Collection<String> postcodes) {
+        return write(MOVE, postcodes, destinationCourtId, sourceCourtId);
+    }
+
+    private List<String> write(final String sql, final Collection<String> postcodes, final Object... courtIds) {
+        if (postcodes.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(
+            connection -> {
+                final PreparedStatement statement = connection.prepareStatement(sql);
+                for (int i = 0; i < courtIds.length; i++) {
+                    statement.setObject(i + 1, courtIds[i]);
+                }
+                statement.setArray(courtIds.length + 1,
+                                   connection.createArrayOf("varchar", postcodes.toArray(new String[0])));
+                return statement;
+            },
+            (resultSet, rowNumber) -> resultSet.getString("postcode")
+        );
+    }
+}
@@ -3,6 +3,8 @@ package uk.gov.hmcts.dts.fact.services.admin.list;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.model.admin.AddressType;
 import uk.gov.hmcts.dts.fact.repositories.AddressTypeRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 
 import java.util.List;
 import java.util.Map;
@@ -16,9 +18,12 @@ import static java.util.stream.Collectors.toMap;
 @Service
 public class AdminAddressTypeService {
     private final AddressTypeRepository addressTypeRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
-    public AdminAddressTypeService(AddressTypeRepository addressTypeRepository) {
+    public AdminAddressTypeService(AddressTypeRepository addressTypeRepository,
+                                   ReferenceDataCatalogue referenceDataCatalogue) {
         this.addressTypeRepository = addressTypeRepository;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -26,7 +31,7 @@ public class AdminAddressTypeService {
      * @return The address types
      */
     public List<AddressType> getAllAddressTypes() {
-        return addressTypeRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getAddressTypes, addressTypeRepository::findAll)
             .stream()
             .map(AddressType::new)
             .collect(toList());
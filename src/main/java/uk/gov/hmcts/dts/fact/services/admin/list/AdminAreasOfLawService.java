@@ -12,6 +12,8 @@ import uk.gov.hmcts.dts.fact.repositories.AreasOfLawRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtLocalAuthorityAreaOfLawRepository;
 import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 import uk.gov.hmcts.dts.fact.services.admin.AdminAuditService;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 
@@ -31,6 +33,7 @@ public class AdminAreasOfLawService {
     private final CourtAreaOfLawRepository courtAreaOfLawRepository;
     private final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepo;
     private final ServiceAreaRepository serviceAreaRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the AdminAreasOfLawService.
@@ -39,6 +42,7 @@ public class AdminAreasOfLawService {
      * @param courtLocalAuthorityAreaOfLawRepo The repository for court local authority area of law
      * @param serviceAreaRepository The repository for service area
      * @param adminAuditService The service for admin audit
+     * @param referenceDataCatalogue The catalogue to get areas of law from while it is up to date
      */
     @Autowired
     public AdminAreasOfLawService(
@@ -46,13 +50,15 @@ public class AdminAreasOfLawService {
         final CourtAreaOfLawRepository courtAreaOfLawRepository,
         final CourtLocalAuthorityAreaOfLawRepository courtLocalAuthorityAreaOfLawRepo,
         final ServiceAreaRepository serviceAreaRepository,
-        final AdminAuditService adminAuditService) {
+        final AdminAuditService adminAuditService,
+        final ReferenceDataCatalogue referenceDataCatalogue) {
 
         this.areasOfLawRepository = areasOfLawRepository;
         this.courtAreaOfLawRepository = courtAreaOfLawRepository;
         this.courtLocalAuthorityAreaOfLawRepo = courtLocalAuthorityAreaOfLawRepo;
         this.serviceAreaRepository = serviceAreaRepository;
         this.adminAuditService = adminAuditService;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -73,7 +79,7 @@ public class AdminAreasOfLawService {
      * @return The areas of law
      */
     public List<AreaOfLaw> getAllAreasOfLaw() {
-        return areasOfLawRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getAreasOfLaw, areasOfLawRepository::findAll)
             .stream()
             .map(AreaOfLaw::new)
             .collect(toList());
@@ -102,7 +108,7 @@ public class AdminAreasOfLawService {
         AreaOfLaw newAreaOfLaw = new AreaOfLaw(areasOfLawRepository.save(entity));
         adminAuditService.saveAudit(AuditType.findByName("Update area of law"),
                                     originalAreasOfLaw,
-                                    getAllAreasOfLaw(),
+                                    areasOfLawRepository.findAll().stream().map(AreaOfLaw::new).collect(toList()),
                                     null);
         return newAreaOfLaw;
     }
@@ -14,6 +14,8 @@ import uk.gov.hmcts.dts.fact.repositories.ContactRepository;
 import uk.gov.hmcts.dts.fact.repositories.ContactTypeRepository;
 import uk.gov.hmcts.dts.fact.repositories.EmailRepository;
 import uk.gov.hmcts.dts.fact.repositories.EmailTypeRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 
 import java.util.Comparator;
 import java.util.List;
@@ -31,6 +33,7 @@ public class AdminContactTypeService {
     private final ContactRepository contactRepository;
     private final EmailRepository emailRepository;
     private final EmailTypeRepository emailTypeRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the AdminContactTypeService.
@@ -38,16 +41,19 @@ public class AdminContactTypeService {
      * @param contactRepository The repository for contact
      * @param emailRepository The repository for email
      * @param emailTypeRepository The repository for email type
+     * @param referenceDataCatalogue The catalogue to get contact types from while it is up to date
      */
     @Autowired
     public AdminContactTypeService(final ContactTypeRepository contactTypeRepository,
                                    final ContactRepository contactRepository,
                                    final EmailRepository emailRepository,
-                                   final EmailTypeRepository emailTypeRepository) {
+                                   final EmailTypeRepository emailTypeRepository,
+                                   final ReferenceDataCatalogue referenceDataCatalogue) {
         this.contactTypeRepository = contactTypeRepository;
         this.contactRepository = contactRepository;
         this.emailRepository = emailRepository;
         this.emailTypeRepository = emailTypeRepository;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -55,7 +61,7 @@ public class AdminContactTypeService {
      * @return The contact types
      */
     public List<ContactType> getAllContactTypes() {
-        return contactTypeRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getContactTypes, contactTypeRepository::findAll)
             .stream()
             .map(ContactType::new)
             .sorted(Comparator.comparing(ContactType::getType))
@@ -10,6 +10,8 @@ import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.FacilityType;
 import uk.gov.hmcts.dts.fact.repositories.FacilityRepository;
 import uk.gov.hmcts.dts.fact.repositories.FacilityTypeRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 
 import java.util.Comparator;
 import java.util.List;
@@ -27,17 +29,21 @@ public class AdminFacilityService {
     private final FacilityTypeRepository facilityTypeRepository;
 
     private final FacilityRepository facilityRepository;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the AdminFacilityService.
      * @param facilityTypeRepository The repository for facility type
      * @param facilityRepository The repository for facility
+     * @param referenceDataCatalogue The catalogue to get facility types from while it is up to date
      */
     @Autowired
     public AdminFacilityService(
-        final FacilityTypeRepository facilityTypeRepository, final FacilityRepository facilityRepository) {
+        final FacilityTypeRepository facilityTypeRepository, final FacilityRepository facilityRepository,
+        final ReferenceDataCatalogue referenceDataCatalogue) {
         this.facilityTypeRepository = facilityTypeRepository;
         this.facilityRepository = facilityRepository;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -45,7 +51,7 @@ public class AdminFacilityService {
      * @return The facility types
      */
     public List<FacilityType> getAllFacilityTypes() {
-        return facilityTypeRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getFacilityTypes, facilityTypeRepository::findAll)
             .stream()
             .map(FacilityType::new)
             .collect(toList());
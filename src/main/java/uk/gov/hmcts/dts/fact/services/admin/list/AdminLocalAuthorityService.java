@@ -7,6 +7,8 @@ import uk.gov.hmcts.dts.fact.exception.DuplicatedListItemException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.LocalAuthority;
 import uk.gov.hmcts.dts.fact.repositories.LocalAuthorityRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 import uk.gov.hmcts.dts.fact.services.admin.AdminAuditService;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 
@@ -23,17 +25,21 @@ public class AdminLocalAuthorityService {
 
     private final LocalAuthorityRepository localAuthorityRepository;
     private final AdminAuditService adminAuditService;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the AdminLocalAuthorityService.
      * @param localAuthorityRepository The repository for local authority
      * @param adminAuditService The service for admin audit
+     * @param referenceDataCatalogue The catalogue to get local authorities from while it is up to date
      */
     @Autowired
     public AdminLocalAuthorityService(final LocalAuthorityRepository localAuthorityRepository,
-                                      final AdminAuditService adminAuditService) {
+                                      final AdminAuditService adminAuditService,
+                                      final ReferenceDataCatalogue referenceDataCatalogue) {
         this.localAuthorityRepository = localAuthorityRepository;
         this.adminAuditService = adminAuditService;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -41,7 +47,7 @@ public class AdminLocalAuthorityService {
      * @return The local authorities
      */
     public List<LocalAuthority> getAllLocalAuthorities() {
-        return localAuthorityRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getLocalAuthorities, localAuthorityRepository::findAll)
             .stream()
             .map(LocalAuthority::new)
             .collect(toList());
@@ -73,7 +79,7 @@ public class AdminLocalAuthorityService {
         adminAuditService.saveAudit(
             AuditType.findByName("Update local authority"),
             originalList,
-            getAllLocalAuthorities(),
+            localAuthorityRepository.findAll().stream().map(LocalAuthority::new).collect(toList()),
             null);
         return newLocalAuthority;
     }
@@ -13,6 +13,8 @@ import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.OpeningType;
 import uk.gov.hmcts.dts.fact.repositories.OpeningTimeRepository;
 import uk.gov.hmcts.dts.fact.repositories.OpeningTypeRepository;
+import uk.gov.hmcts.dts.fact.services.ReferenceData;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
 import uk.gov.hmcts.dts.fact.services.admin.AdminAuditService;
 import uk.gov.hmcts.dts.fact.util.AuditType;
 
@@ -31,20 +33,24 @@ public class AdminOpeningTypeService {
     private final OpeningTimeRepository openingTimeRepository;
     private final OpeningTypeRepository openingTypeRepository;
     private final AdminAuditService adminAuditService;
+    private final ReferenceDataCatalogue referenceDataCatalogue;
 
     /**
      * Constructor for the AdminOpeningTypeService.
      * @param openingTimeRepository The repository for opening time
      * @param openingTypeRepository The repository for opening type
      * @param adminAuditService The service for admin audit
+     * @param referenceDataCatalogue The catalogue to get opening types from while it is up to date
      */
     @Autowired
     public AdminOpeningTypeService(final OpeningTimeRepository openingTimeRepository,
                                    final OpeningTypeRepository openingTypeRepository,
-                                   final AdminAuditService adminAuditService) {
+                                   final AdminAuditService adminAuditService,
+                                   final ReferenceDataCatalogue referenceDataCatalogue) {
         this.openingTimeRepository = openingTimeRepository;
         this.openingTypeRepository = openingTypeRepository;
         this.adminAuditService = adminAuditService;
+        this.referenceDataCatalogue = referenceDataCatalogue;
     }
 
     /**
@@ -52,7 +58,7 @@ public class AdminOpeningTypeService {
      * @return The opening types
      */
     public List<OpeningType> getAllOpeningTypes() {
-        return openingTypeRepository.findAll()
+        return referenceDataCatalogue.get(ReferenceData::getOpeningTypes, openingTypeRepository::findAll)
             .stream()
             .map(OpeningType::new)
             .sorted(Comparator.comparing(OpeningType::getType))
@@ -4,7 +4,6 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 
@@ -16,17 +15,17 @@ import static java.util.stream.Collectors.toList;
 @Component
 public class CivilSearch implements Search {
 
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtSpatialIndex courtSpatialIndex;
     private final FallbackProximitySearch fallbackProximitySearch;
 
     /**
      * Constructor for the CivilSearch.
-     * @param courtWithDistanceRepository The repository for court with distance
+     * @param courtSpatialIndex The spatial index of courts
      * @param fallbackProximitySearch The fallback proximity search
      */
-    public CivilSearch(final CourtWithDistanceRepository courtWithDistanceRepository,
+    public CivilSearch(final CourtSpatialIndex courtSpatialIndex,
                        final FallbackProximitySearch fallbackProximitySearch) {
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+        this.courtSpatialIndex = courtSpatialIndex;
         this.fallbackProximitySearch = fallbackProximitySearch;
     }
 
@@ -43,38 +42,16 @@ public class CivilSearch implements Search {
 
         final String areaOfLaw = serviceArea.getAreaOfLaw().getName();
 
-        List<CourtWithDistance> courtsWithDistance = courtWithDistanceRepository
-            .findNearestTenByAreaOfLawAndCourtPostcode(mapitData.getLat(), mapitData.getLon(), areaOfLaw, postcode, includeClosed);
+        // Try the full postcode, then the postcode minus the unit code, the outcode and finally the area code
+        final List<String> postcodes = List.of(
+            postcode,
+            postcode.substring(0, postcode.length() - 2),
+            postcode.substring(0, postcode.length() - 3).trim(),
+            postcode.split("\\d")[0]
+        );
 
-        if (courtsWithDistance.isEmpty()) {
-            final String postCodeMinusUnitCode = postcode.substring(0, postcode.length() - 2);
-            courtsWithDistance = courtWithDistanceRepository
-                .findNearestTenByAreaOfLawAndCourtPostcode(
-                    mapitData.getLat(),
-                    mapitData.getLon(),
-                    areaOfLaw,
-                    postCodeMinusUnitCode,
-                    includeClosed
-                );
-        }
-
-        if (courtsWithDistance.isEmpty()) {
-            final String outcode = postcode.substring(0, postcode.length() - 3);
-            courtsWithDistance = courtWithDistanceRepository
-                .findNearestTenByAreaOfLawAndCourtPostcode(
-                    mapitData.getLat(),
-                    mapitData.getLon(),
-                    areaOfLaw,
-                    outcode.trim(),
-                    includeClosed
-                );
-        }
-
-        if (courtsWithDistance.isEmpty()) {
-            final String areacode = postcode.split("\\d")[0];
-            courtsWithDistance = courtWithDistanceRepository
-                .findNearestTenByAreaOfLawAndCourtPostcode(mapitData.getLat(), mapitData.getLon(), areaOfLaw, areacode, includeClosed);
-        }
+        List<CourtWithDistance> courtsWithDistance = courtSpatialIndex
+            .findNearestByAreaOfLawAndCourtPostcodes(mapitData.getLat(), mapitData.getLon(), areaOfLaw, postcodes, includeClosed);
 
         courtsWithDistance = fallbackProximitySearch.fallbackIfEmpty(courtsWithDistance, areaOfLaw, includeClosed, mapitData);
 
@@ -0,0 +1,236 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Immutable k-d tree of courts, keyed on their position on the unit sphere.
+ *
+ * <p>Courts are stored as 3D unit vectors so that the straight line (chord) distance between two points
+ * increases with the great circle distance, which lets the tree prune on axis-aligned planes. The results are
+ * ranked the same way as the database queries in
+ * {@link uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository}: by the earthdistance {@code <@>}
+ * distance in statute miles, then by name, with courts that have no coordinates last.</p>
+ */
+final class CourtKdTree {
+
+    /** The radius used by the Postgres earthdistance extension for the {@code <@>} operator. */
+    static final double EARTH_RADIUS_MILES = 3958.747;
+
+    private static final int DIMENSIONS = 3;
+    private static final double PRUNING_TOLERANCE = 1e-12;
+    /** Orders court names the way the database orders them. */
+    static final Comparator<String> NAME_ORDER =
+        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder()));
+
+    private final Node root;
+    private final List<CourtWithDistance> courtsWithoutCoordinates;
+    private final int courtCount;
+
+    /**
+     * Build a tree of the given courts.
+     * @param courts The courts to index
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    CourtKdTree(final Collection<CourtWithDistance> courts) {
+        final List<Node> nodes = new ArrayList<>(courts.size());
+        final List<CourtWithDistance> withoutCoordinates = new ArrayList<>();
+        for (final CourtWithDistance court : courts) {
+            if (court.getLat() == null || court.getLon() == null) {
+                withoutCoordinates.add(court);
+            } else {
+                nodes.add(new Node(court));
+            }
+        }
+        withoutCoordinates.sort(Comparator.comparing(CourtWithDistance::getName, NAME_ORDER));
+        this.courtsWithoutCoordinates = List.copyOf(withoutCoordinates);
+        this.root = build(nodes, 0, nodes.size(), 0);
+        this.courtCount = courts.size();
+    }
+
+    /**
+     * Get the number of courts in the tree.
+     * @return the number of courts
+     */
+    int size() {
+        return courtCount;
+    }
+
+    /**
+     * Find the nearest courts to a point.
+     * @param lat The latitude of the point
+     * @param lon The longitude of the point
+     * @param limit The maximum number of courts to return
+     * @param filter Only courts matching the filter are returned
+     * @return copies of the nearest courts, with their distance in miles set, nearest first
+     */
+    List<CourtWithDistance> nearest(final double lat, final double lon, final int limit,
+                                    final Predicate<CourtWithDistance> filter) {
+        final double[] target = toUnitVector(lat, lon);
+        final PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, Candidate.ORDER.reversed());
+        search(root, target, lat, lon, limit, filter, best);
+
+        final List<Candidate> ordered = new ArrayList<>(best);
+        ordered.sort(Candidate.ORDER);
+        final List<CourtWithDistance> results = ordered.stream()
+            .map(c -> c.court.withDistance(c.distance))
+            .collect(toList());
+
+        for (final CourtWithDistance court : courtsWithoutCoordinates) {
+            if (results.size() >= limit) {
+                break;
+            }
+            if (filter.test(court)) {
+                results.add(court.withDistance(null));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Order courts the same way as {@link #nearest}, without a tree. Used for the small sets of courts that are
+     * matched some other way, such as by postcode.
+     * @param courts The courts to order
+     * @param lat The latitude of the point
+     * @param lon The longitude of the point
+     * @return copies of the courts, with their distance in miles set, nearest first
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    static List<CourtWithDistance> byDistance(final Collection<CourtWithDistance> courts, final double lat,
+                                              final double lon) {
+        final List<Candidate> withCoordinates = new ArrayList<>(courts.size());
+        final List<CourtWithDistance> withoutCoordinates = new ArrayList<>();
+        for (final CourtWithDistance court : courts) {
+            if (court.getLat() == null || court.getLon() == null) {
+                withoutCoordinates.add(court);
+            } else {
+                withCoordinates.add(new Candidate(court, distanceInMiles(lat, lon, court.getLat(), court.getLon())));
+            }
+        }
+        withCoordinates.sort(Candidate.ORDER);
+        withoutCoordinates.sort(Comparator.comparing(CourtWithDistance::getName, NAME_ORDER));
+
+        final List<CourtWithDistance> results = withCoordinates.stream()
+            .map(c -> c.court.withDistance(c.distance))
+            .collect(toList());
+        withoutCoordinates.forEach(court -> results.add(court.withDistance(null)));
+        return results;
+    }
+
+    @SuppressWarnings("PMD.AvoidDeeplyNestedIfStmts")
+    private void search(final Node node, final double[] target, final double lat, final double lon, final int limit,
+                        final Predicate<CourtWithDistance> filter, final PriorityQueue<Candidate> best) {
+        if (node == null) {
+            return;
+        }
+
+        if (filter.test(node.court)) {
+            final Candidate candidate = new Candidate(node.court, distanceInMiles(lat, lon, node.lat, node.lon));
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (Candidate.ORDER.compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+
+        final double difference = target[node.axis] - node.point[node.axis];
+        final Node near = difference < 0 ? node.left : node.right;
+        final Node far = difference < 0 ? node.right : node.left;
+
+        search(near, target, lat, lon, limit, filter, best);
+        if (best.size() < limit || difference * difference <= chordSquared(best.peek().distance) + PRUNING_TOLERANCE) {
+            search(far, target, lat, lon, limit, filter, best);
+        }
+    }
+
+    private static Node build(final List<Node> nodes, final int from, final int to, final int depth) {
+        if (from >= to) {
+            return null;
+        }
+        final int axis = depth % DIMENSIONS;
+        nodes.subList(from, to).sort(Comparator.comparingDouble(n -> n.point[axis]));
+        final int median = (from + to) >>> 1;
+        final Node node = nodes.get(median);
+        node.axis = axis;
+        node.left = build(nodes, from, median, depth + 1);
+        node.right = build(nodes, median + 1, to, depth + 1);
+        return node;
+    }
+
+    /**
+     * Great circle distance in statute miles, calculated the same way as the earthdistance {@code <@>} operator.
+     * @param lat1 The latitude of the first point
+     * @param lon1 The longitude of the first point
+     * @param lat2 The latitude of the second point
+     * @param lon2 The longitude of the second point
+     * @return the distance in miles
+     */
+    static double distanceInMiles(final double lat1, final double lon1, final double lat2, final double lon2) {
+        final double lat1Radians = Math.toRadians(lat1);
+        final double lat2Radians = Math.toRadians(lat2);
+        double longitudeDifference = Math.abs(Math.toRadians(lon1) - Math.toRadians(lon2));
+        if (longitudeDifference > Math.PI) {
+            longitudeDifference = 2 * Math.PI - longitudeDifference;
+        }
+        final double halfLatitudeSine = Math.sin(Math.abs(lat1Radians - lat2Radians) / 2);
+        final double halfLongitudeSine = Math.sin(longitudeDifference / 2);
+        final double sino = Math.min(1.0, Math.sqrt(halfLatitudeSine * halfLatitudeSine
+            + Math.cos(lat1Radians) * Math.cos(lat2Radians) * halfLongitudeSine * halfLongitudeSine));
+        return 2 * EARTH_RADIUS_MILES * Math.asin(sino);
+    }
+
+    private static double chordSquared(final double distanceInMiles) {
+        final double halfChord = Math.sin(Math.min(Math.PI / 2, distanceInMiles / (2 * EARTH_RADIUS_MILES)));
+        return 4 * halfChord * halfChord;
+    }
+
+    private static double[] toUnitVector(final double lat, final double lon) {
+        final double latRadians = Math.toRadians(lat);
+        final double lonRadians = Math.toRadians(lon);
+        return new double[] {
+            Math.cos(latRadians) * Math.cos(lonRadians),
+            Math.cos(latRadians) * Math.sin(lonRadians),
+            Math.sin(latRadians)
+        };
+    }
+
+    private static final class Node {
+        private final CourtWithDistance court;
+        private final double lat;
+        private final double lon;
+        private final double[] point;
+        private int axis;
+        private Node left;
+        private Node right;
+
+        private Node(final CourtWithDistance court) {
+            this.court = court;
+            this.lat = court.getLat();
+            this.lon = court.getLon();
+            this.point = toUnitVector(lat, lon);
+        }
+    }
+
+    private static final class Candidate {
+        private static final Comparator<Candidate> ORDER = Comparator
+            .comparingDouble((Candidate c) -> c.distance)
+            .thenComparing(c -> c.court.getName(), NAME_ORDER);
+
+        private final CourtWithDistance court;
+        private final double distance;
+
+        private Candidate(final CourtWithDistance court, final double distance) {
+            this.court = court;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository.CourtPostcodeValue;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * Immutable prefix trie of the postcodes courts are registered against in {@code search_courtpostcode}.
+ *
+ * <p>Court postcodes can be full postcodes, sectors, outward codes or areas, so each one marks a node of the trie
+ * rather than a leaf. Postcodes are normalised the same way as the repository query compares them: upper-cased,
+ * with spaces removed. A single walk along a searched postcode visits every node for its prefixes, so the court
+ * postcode cascade in {@link CivilSearch} is answered without revisiting the trie for each level.</p>
+ */
+final class CourtPostcodeTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Build a trie of court postcodes.
+     * @param courtPostcodes The court postcodes
+     * @param courtsById The courts, keyed on their id
+     */
+    CourtPostcodeTrie(final Collection<CourtPostcodeValue> courtPostcodes,
+                      final Map<Integer, CourtWithDistance> courtsById) {
+        for (final CourtPostcodeValue courtPostcode : courtPostcodes) {
+            final CourtWithDistance court = courtsById.get(courtPostcode.getCourtId());
+            if (court != null && courtPostcode.getPostcode() != null) {
+                insert(normalise(courtPostcode.getPostcode()), court);
+            }
+        }
+    }
+
+    /**
+     * Find the courts registered against the first of the postcodes that has any court matching the filter.
+     * @param postcodes The postcodes to try, in order
+     * @param filter Only courts matching the filter are returned
+     * @return the matching courts, or an empty set if none of the postcodes has any
+     */
+    Set<CourtWithDistance> firstMatch(final List<String> postcodes, final Predicate<CourtWithDistance> filter) {
+        if (postcodes.isEmpty()) {
+            return emptySet();
+        }
+        final String longest = normalise(postcodes.get(0));
+        final Node[] path = walk(longest);
+
+        for (final String postcode : postcodes) {
+            final String normalised = normalise(postcode);
+            // The postcodes tried are normally prefixes of the first one, so are already on the walked path
+            final Node node = longest.startsWith(normalised)
+                ? path[normalised.length()]
+                : walk(normalised)[normalised.length()];
+            if (node != null && !node.courts.isEmpty()) {
+                final Set<CourtWithDistance> matching = new LinkedHashSet<>();
+                for (final CourtWithDistance court : node.courts) {
+                    if (filter.test(court)) {
+                        matching.add(court);
+                    }
+                }
+                if (!matching.isEmpty()) {
+                    return matching;
+                }
+            }
+        }
+        return emptySet();
+    }
+
+    /**
+     * Walk the trie along a key.
+     * @param key The normalised key
+     * @return the node for each prefix length of the key, from the root, with null once the key leaves the trie
+     */
+    private Node[] walk(final String key) {
+        final Node[] path = new Node[key.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+            path[i + 1] = node;
+        }
+        return path;
+    }
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private void insert(final String key, final CourtWithDistance court) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        node.courts.add(court);
+    }
+
+    /**
+     * Normalise a postcode the way the court postcode query does, with {@code UPPER(REPLACE(postcode, ' ', ''))}.
+     * @param postcode The postcode
+     * @return the normalised postcode
+     */
+    static String normalise(final String postcode) {
+        return postcode.replace(" ", "").toUpperCase(Locale.ROOT);
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private final Set<CourtWithDistance> courts = new LinkedHashSet<>();
+    }
+}
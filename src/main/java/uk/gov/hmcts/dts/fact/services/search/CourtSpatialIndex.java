@@ -0,0 +1,220 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.VersionedSnapshot;
+import uk.gov.hmcts.dts.fact.util.SingleFlight;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * In-memory spatial index answering the nearest court queries of {@link CourtWithDistanceRepository} without a
+ * database round trip.
+ *
+ * <p>The index is built from the database at startup and rebuilt in the background whenever the
+ * {@link DataVersion} moves on, which happens after every admin write. Until a build for the current version
+ * is available the queries are passed through to the repository, so search results never lag behind an admin
+ * change.</p>
+ *
+ * <p>As every search goes to the database until the rebuild is done, identical queries made at the same time share
+ * one database query, see {@link SingleFlight}. Each caller gets its own copy of the courts found.</p>
+ */
+@Component
+public class CourtSpatialIndex {
+
+    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtSpatialIndexLoader courtSpatialIndexLoader;
+    private final DataVersion dataVersion;
+    private final VersionedSnapshot<CourtSpatialPartitions> partitions;
+    private final SingleFlight<List<Object>, List<CourtWithDistance>> repositoryQueries;
+
+    /**
+     * Constructor for the CourtSpatialIndex.
+     * @param courtWithDistanceRepository The repository for court with distance, used until the index is built
+     * @param courtSpatialIndexLoader The loader for the index
+     * @param dataVersion The version of the court data
+     * @param meterRegistry The registry to publish the number of shared repository queries to
+     */
+    public CourtSpatialIndex(final CourtWithDistanceRepository courtWithDistanceRepository,
+                             final CourtSpatialIndexLoader courtSpatialIndexLoader,
+                             final DataVersion dataVersion,
+                             final MeterRegistry meterRegistry) {
+        this.courtWithDistanceRepository = courtWithDistanceRepository;
+        this.courtSpatialIndexLoader = courtSpatialIndexLoader;
+        this.dataVersion = dataVersion;
+        this.partitions = new VersionedSnapshot<>("court-spatial-index", dataVersion, courtSpatialIndexLoader::load);
+        this.repositoryQueries = new SingleFlight<>("court-spatial-index", meterRegistry);
+    }
+
+    /**
+     * Build the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        partitions.scheduleRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partitions.shutdown();
+    }
+
+    /**
+     * Find the ten nearest open courts.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @return A list of courts with distance
+     */
+    public List<CourtWithDistance> findNearestTen(final Double lat, final Double lon) {
+        return current()
+            .map(p -> p.findNearestTen(lat, lon))
+            .orElseGet(() -> fromRepository(() -> courtWithDistanceRepository.findNearestTen(lat, lon),
+                                            "nearest", lat, lon));
+    }
+
+    /**
+     * Find the ten nearest courts for an area of law.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @param areaOfLaw The area of law
+     * @param includeClosed A boolean indicating if closed courts should be included
+     * @return A list of courts with distance
+     */
+    public List<CourtWithDistance> findNearestTenByAreaOfLaw(final Double lat, final Double lon,
+                                                             final String areaOfLaw, final Boolean includeClosed) {
+        return current()
+            .map(p -> p.findNearestTenByAreaOfLaw(lat, lon, areaOfLaw, includeClosed))
+            .orElseGet(() -> fromRepository(
+                () -> courtWithDistanceRepository.findNearestTenByAreaOfLaw(lat, lon, areaOfLaw, includeClosed),
+                "area-of-law", lat, lon, areaOfLaw, includeClosed));
+    }
+
+    /**
+     * Find the courts for an area of law registered against the first of the given postcodes that has any, nearest
+     * first. Without the index each postcode is a separate query, in order, until one returns courts.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @param areaOfLaw The area of law
+     * @param postcodes The postcodes to try, in order
+     * @param includeClosed A boolean indicating if closed courts should be included
+     * @return A list of courts with distance
+     */
+    public List<CourtWithDistance> findNearestByAreaOfLawAndCourtPostcodes(final Double lat, final Double lon,
+                                                                           final String areaOfLaw,
+                                                                           final List<String> postcodes,
+                                                                           final Boolean includeClosed) {
+        return current()
+            .map(p -> p.findNearestByAreaOfLawAndCourtPostcodes(lat, lon, areaOfLaw, postcodes, includeClosed))
+            .orElseGet(() -> fromRepository(() -> {
+                for (final String postcode : postcodes) {
+                    final List<CourtWithDistance> courts = courtWithDistanceRepository
+                        .findNearestTenByAreaOfLawAndCourtPostcode(lat, lon, areaOfLaw, postcode, includeClosed);
+                    if (!courts.isEmpty()) {
+                        return courts;
+                    }
+                }
+                return emptyList();
+            }, "court-postcodes", lat, lon, areaOfLaw, postcodes, includeClosed));
+    }
+
+    /**
+     * Find the ten nearest courts for an area of law that cover a local authority.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @param areaOfLaw The area of law
+     * @param localAuthority The local authority
+     * @param includeClosed A boolean indicating if closed courts should be included
+     * @return A list of courts with distance
+     */
+    public List<CourtWithDistance> findNearestTenByAreaOfLawAndLocalAuthority(final Double lat, final Double lon,
+                                                                              final String areaOfLaw,
+                                                                              final String localAuthority,
+                                                                              final Boolean includeClosed) {
+        return current()
+            .map(p -> p.findNearestTenByAreaOfLawAndLocalAuthority(lat, lon, areaOfLaw, localAuthority, includeClosed))
+            .orElseGet(() -> fromRepository(
+                () -> courtWithDistanceRepository
+                    .findNearestTenByAreaOfLawAndLocalAuthority(lat, lon, areaOfLaw, localAuthority, includeClosed),
+                "local-authority", lat, lon, areaOfLaw, localAuthority, includeClosed));
+    }
+
+    /**
+     * Find the nearest regional court for an area of law that covers a local authority.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @param areaOfLaw The area of law
+     * @param localAuthority The local authority
+     * @return A list containing at most one court
+     */
+    public List<CourtWithDistance> findNearestRegionalByAreaOfLawAndLocalAuthority(final Double lat, final Double lon,
+                                                                                   final String areaOfLaw,
+                                                                                   final String localAuthority) {
+        return current()
+            .map(p -> p.findNearestRegionalByAreaOfLawAndLocalAuthority(lat, lon, areaOfLaw, localAuthority))
+            .orElseGet(() -> fromRepository(
+                () -> courtWithDistanceRepository
+                    .findNearestRegionalByAreaOfLawAndLocalAuthority(lat, lon, areaOfLaw, localAuthority),
+                "regional-local-authority", lat, lon, areaOfLaw, localAuthority));
+    }
+
+    /**
+     * Find the nearest regional court for an area of law.
+     * @param lat The latitude
+     * @param lon The longitude
+     * @param areaOfLaw The area of law
+     * @return A list containing at most one court
+     */
+    public List<CourtWithDistance> findNearestRegionalByAreaOfLaw(final Double lat, final Double lon,
+                                                                  final String areaOfLaw) {
+        return current()
+            .map(p -> p.findNearestRegionalByAreaOfLaw(lat, lon, areaOfLaw))
+            .orElseGet(() -> fromRepository(
+                () -> courtWithDistanceRepository.findNearestRegionalByAreaOfLaw(lat, lon, areaOfLaw),
+                "regional", lat, lon, areaOfLaw));
+    }
+
+    /**
+     * Get the partitions if they are up to date with the data version, otherwise schedule a rebuild.
+     * @return the current partitions, or empty if the repository should be used instead
+     */
+    private Optional<CourtSpatialPartitions> current() {
+        return partitions.current();
+    }
+
+    /**
+     * Run a query against the repository, sharing it with the callers making the same query at the same time. The
+     * data version is part of the key, so a query started before an admin change isn't shared after it.
+     * @param query The query
+     * @param key The name of the query and its parameters
+     * @return a copy of the courts found
+     */
+    private List<CourtWithDistance> fromRepository(final Supplier<List<CourtWithDistance>> query,
+                                                   final Object... key) {
+        final List<Object> queryKey = new ArrayList<>(key.length + 1);
+        queryKey.add(dataVersion.current());
+        queryKey.addAll(Arrays.asList(key));
+        return repositoryQueries.execute(queryKey, () -> courtSpatialIndexLoader.query(query)).stream()
+            .map(court -> court.withDistance(court.getDistance()))
+            .collect(toList());
+    }
+
+    /**
+     * Rebuild the index for the current data version.
+     */
+    void rebuild() {
+        partitions.rebuild();
+    }
+}
@@ -0,0 +1,76 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.entity.CourtAddress;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Loads the courts for the {@link CourtSpatialIndex} in a read-only transaction of its own, initialising every
+ * collection the search results are converted from so the courts can be used once they are detached.
+ */
+@Component
+public class CourtSpatialIndexLoader {
+
+    private final CourtWithDistanceRepository courtWithDistanceRepository;
+
+    /**
+     * Constructor for the CourtSpatialIndexLoader.
+     * @param courtWithDistanceRepository The repository for court with distance
+     */
+    public CourtSpatialIndexLoader(final CourtWithDistanceRepository courtWithDistanceRepository) {
+        this.courtWithDistanceRepository = courtWithDistanceRepository;
+    }
+
+    /**
+     * Load every court, its catchments and its postcodes.
+     * @param version The data version the load is for
+     * @return the partitioned courts
+     */
+    @Transactional(readOnly = true)
+    public CourtSpatialPartitions load(final long version) {
+        final List<CourtWithDistance> courts = courtWithDistanceRepository.findAllWithoutDistance();
+        courts.forEach(CourtSpatialIndexLoader::initialise);
+        return new CourtSpatialPartitions(
+            version,
+            courts,
+            courtWithDistanceRepository.findAllLocalAuthorityCatchments(),
+            courtWithDistanceRepository.findRegionalCourtIds(),
+            courtWithDistanceRepository.findAllCourtPostcodes()
+        );
+    }
+
+    /**
+     * Run a nearest court query against the database, for when the index isn't up to date, initialising the
+     * courts found as the index's courts are, so they can be shared with searches on other threads.
+     * @param query The query
+     * @return the courts found
+     */
+    @Transactional(readOnly = true)
+    public List<CourtWithDistance> query(final Supplier<List<CourtWithDistance>> query) {
+        final List<CourtWithDistance> courts = query.get();
+        courts.forEach(CourtSpatialIndexLoader::initialise);
+        return courts;
+    }
+
+    private static void initialise(final CourtWithDistance court) {
+        Hibernate.initialize(court.getAreasOfLaw());
+        Hibernate.initialize(court.getCourtTypes());
+        Hibernate.initialize(court.getEmails());
+        Hibernate.initialize(court.getContacts());
+        Hibernate.initialize(court.getDxCodes());
+        Hibernate.initialize(court.getOpeningTimes());
+        Hibernate.initialize(court.getFacilities());
+        Hibernate.initialize(court.getAddresses());
+        // The getter maps the lazy collection to area of law names, which initialises it
+        court.getAreasOfLawSpoe();
+        for (final CourtAddress address : court.getAddresses()) {
+            Hibernate.initialize(address.getCourtSecondaryAddressType());
+        }
+    }
+}
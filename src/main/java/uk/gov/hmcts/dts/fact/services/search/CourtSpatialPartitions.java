@@ -0,0 +1,192 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository.CourtPostcodeValue;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository.LocalAuthorityCatchment;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toMap;
+
+/**
+ * An immutable snapshot of every court, split into k-d trees by area of law, local authority and regional
+ * catchment so that each of the nearest court queries only has to look at the courts it could return, along with a
+ * trie of the postcodes the courts are registered against.
+ */
+public final class CourtSpatialPartitions {
+
+    private static final int TEN = 10;
+    private static final int ONE = 1;
+    private static final String KEY_SEPARATOR = "\u0000";
+
+    private final long version;
+    private final CourtKdTree allCourts;
+    private final Map<String, CourtKdTree> byAreaOfLaw;
+    private final Map<String, CourtKdTree> byAreaOfLawAndLocalAuthority;
+    private final Map<String, CourtKdTree> regionalByAreaOfLaw;
+    private final Map<String, CourtKdTree> regionalByAreaOfLawAndLocalAuthority;
+    private final CourtPostcodeTrie courtPostcodes;
+
+    /**
+     * Build the partitions.
+     * @param version The data version the courts were read at
+     * @param courts Every court, with its collections initialised
+     * @param catchments The local authority catchments of the courts
+     * @param regionalCourtIds The ids of the courts with a regional catchment
+     * @param courtPostcodes The postcodes the courts are registered against
+     */
+    CourtSpatialPartitions(final long version,
+                           final List<CourtWithDistance> courts,
+                           final List<LocalAuthorityCatchment> catchments,
+                           final Collection<Integer> regionalCourtIds,
+                           final List<CourtPostcodeValue> courtPostcodes) {
+        this.version = version;
+
+        final Map<Integer, CourtWithDistance> courtsById = courts.stream()
+            .collect(toMap(CourtWithDistance::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+        final Set<Integer> regional = Set.copyOf(regionalCourtIds);
+
+        final Map<String, Set<CourtWithDistance>> areaOfLawGroups = new HashMap<>();
+        for (final CourtWithDistance court : courtsById.values()) {
+            for (final AreaOfLaw areaOfLaw : court.getAreasOfLaw()) {
+                group(areaOfLawGroups, key(areaOfLaw.getName()), court);
+            }
+        }
+
+        final Map<String, Set<CourtWithDistance>> areaOfLawAndLocalAuthorityGroups = new HashMap<>();
+        final Map<String, Set<CourtWithDistance>> regionalAreaOfLawGroups = new HashMap<>();
+        final Map<String, Set<CourtWithDistance>> regionalAreaOfLawAndLocalAuthorityGroups = new HashMap<>();
+        for (final LocalAuthorityCatchment catchment : catchments) {
+            final CourtWithDistance court = courtsById.get(catchment.getCourtId());
+            if (court == null) {
+                continue;
+            }
+            final String localAuthorityKey = key(catchment.getAreaOfLaw(), catchment.getLocalAuthority());
+            group(areaOfLawAndLocalAuthorityGroups, localAuthorityKey, court);
+            if (regional.contains(court.getId())) {
+                // The regional queries filter on the area of law of the local authority catchment, not the court's
+                group(regionalAreaOfLawGroups, key(catchment.getAreaOfLaw()), court);
+                group(regionalAreaOfLawAndLocalAuthorityGroups, localAuthorityKey, court);
+            }
+        }
+
+        this.allCourts = new CourtKdTree(courtsById.values());
+        this.byAreaOfLaw = toTrees(areaOfLawGroups);
+        this.byAreaOfLawAndLocalAuthority = toTrees(areaOfLawAndLocalAuthorityGroups);
+        this.regionalByAreaOfLaw = toTrees(regionalAreaOfLawGroups);
+        this.regionalByAreaOfLawAndLocalAuthority = toTrees(regionalAreaOfLawAndLocalAuthorityGroups);
+        this.courtPostcodes = new CourtPostcodeTrie(courtPostcodes, courtsById);
+    }
+
+    /**
+     * Get the data version these partitions were built at.
+     * @return the data version
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the number of courts in the snapshot.
+     * @return the number of courts
+     */
+    int size() {
+        return allCourts.size();
+    }
+
+    List<CourtWithDistance> findNearestTen(final double lat, final double lon) {
+        return allCourts.nearest(lat, lon, TEN, CourtSpatialPartitions::isDisplayed);
+    }
+
+    List<CourtWithDistance> findNearestTenByAreaOfLaw(final double lat, final double lon, final String areaOfLaw,
+                                                      final Boolean includeClosed) {
+        return nearest(byAreaOfLaw.get(key(areaOfLaw)), lat, lon, TEN, includeClosedFilter(includeClosed));
+    }
+
+    List<CourtWithDistance> findNearestTenByAreaOfLawAndLocalAuthority(final double lat, final double lon,
+                                                                       final String areaOfLaw, final String localAuthority,
+                                                                       final Boolean includeClosed) {
+        return nearest(byAreaOfLawAndLocalAuthority.get(key(areaOfLaw, localAuthority)), lat, lon, TEN,
+                       includeClosedFilter(includeClosed));
+    }
+
+    List<CourtWithDistance> findNearestRegionalByAreaOfLawAndLocalAuthority(final double lat, final double lon,
+                                                                            final String areaOfLaw,
+                                                                            final String localAuthority) {
+        return nearest(regionalByAreaOfLawAndLocalAuthority.get(key(areaOfLaw, localAuthority)), lat, lon, ONE,
+                       CourtSpatialPartitions::isDisplayed);
+    }
+
+    List<CourtWithDistance> findNearestRegionalByAreaOfLaw(final double lat, final double lon, final String areaOfLaw) {
+        return nearest(regionalByAreaOfLaw.get(key(areaOfLaw)), lat, lon, ONE, CourtSpatialPartitions::isDisplayed);
+    }
+
+    List<CourtWithDistance> findNearestByAreaOfLawAndCourtPostcodes(final double lat, final double lon,
+                                                                    final String areaOfLaw,
+                                                                    final List<String> postcodes,
+                                                                    final Boolean includeClosed) {
+        final Predicate<CourtWithDistance> filter = includeClosedFilter(includeClosed)
+            .and(court -> hasAreaOfLaw(court, areaOfLaw));
+        return CourtKdTree.byDistance(courtPostcodes.firstMatch(postcodes, filter), lat, lon);
+    }
+
+    private static List<CourtWithDistance> nearest(final CourtKdTree tree, final double lat, final double lon,
+                                                   final int limit, final Predicate<CourtWithDistance> filter) {
+        return tree == null ? emptyList() : tree.nearest(lat, lon, limit, filter);
+    }
+
+    /**
+     * Mirrors the {@code WHERE CASE WHEN :includeClosed ...} clause of the repository queries.
+     */
+    private static Predicate<CourtWithDistance> includeClosedFilter(final Boolean includeClosed) {
+        return Boolean.TRUE.equals(includeClosed)
+            ? court -> court.getDisplayed() != null
+            : CourtSpatialPartitions::isDisplayed;
+    }
+
+    /**
+     * Mirrors the {@code AND UPPER(aol.name) = UPPER(:aol)} clause of the repository queries.
+     */
+    private static boolean hasAreaOfLaw(final CourtWithDistance court, final String areaOfLaw) {
+        final String key = key(areaOfLaw);
+        for (final AreaOfLaw courtAreaOfLaw : court.getAreasOfLaw()) {
+            if (key.equals(key(courtAreaOfLaw.getName()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDisplayed(final CourtWithDistance court) {
+        return Boolean.TRUE.equals(court.getDisplayed());
+    }
+
+    private static void group(final Map<String, Set<CourtWithDistance>> groups, final String key,
+                              final CourtWithDistance court) {
+        groups.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(court);
+    }
+
+    private static Map<String, CourtKdTree> toTrees(final Map<String, Set<CourtWithDistance>> groups) {
+        return groups.entrySet().stream()
+            .collect(toMap(Map.Entry::getKey, e -> new CourtKdTree(e.getValue())));
+    }
+
+    private static String key(final String value) {
+        return value == null ? "" : value.toUpperCase(Locale.ROOT);
+    }
+
+    private static String key(final String areaOfLaw, final String localAuthority) {
+        return key(areaOfLaw) + KEY_SEPARATOR + key(localAuthority);
+    }
+}
@@ -0,0 +1,107 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.VersionedSnapshot;
+
+import java.util.List;
+
+/**
+ * In-memory text index answering the court name, address, town, postcode and court code queries of
+ * {@link CourtRepository} without a database round trip.
+ *
+ * <p>The index is built from the database at startup and rebuilt in the background whenever the
+ * {@link DataVersion} moves on, which happens after every admin write. Until a build for the current version
+ * is available the queries are passed through to the repository, so search results never lag behind an admin
+ * change.</p>
+ */
+@Component
+public class CourtTextIndex {
+
+    private final CourtRepository courtRepository;
+    private final VersionedSnapshot<CourtTextSearch> search;
+
+    /**
+     * Constructor for the CourtTextIndex.
+     * @param courtRepository The repository for courts, used until the index is built
+     * @param courtTextIndexLoader The loader for the index
+     * @param dataVersion The version of the court data
+     */
+    public CourtTextIndex(final CourtRepository courtRepository,
+                          final CourtTextIndexLoader courtTextIndexLoader,
+                          final DataVersion dataVersion) {
+        this.courtRepository = courtRepository;
+        this.search = new VersionedSnapshot<>("court-text-index", dataVersion, courtTextIndexLoader::load);
+    }
+
+    /**
+     * Build the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        search.scheduleRebuild();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        search.shutdown();
+    }
+
+    /**
+     * Find the displayed courts with a crown, county or magistrates court code.
+     * @param code The court code
+     * @return the courts, ordered by name
+     */
+    public List<Court> findCourtByCourtCode(final Integer code) {
+        return search.current()
+            .map(s -> s.findByCourtCode(code))
+            .orElseGet(() -> courtRepository.findCourtByCourtCode(code));
+    }
+
+    /**
+     * Find the displayed courts with an address at a full postcode.
+     * @param postcode The postcode
+     * @return the courts, ordered by name
+     */
+    public List<Court> findCourtByFullPostcode(final String postcode) {
+        return search.current()
+            .map(s -> s.findByFullPostcode(postcode))
+            .orElseGet(() -> courtRepository.findCourtByFullPostcode(postcode));
+    }
+
+    /**
+     * Find the displayed courts whose name, address, town or postcode contain the query, ignoring punctuation and
+     * case.
+     * @param query The query, with punctuation removed
+     * @return the courts, ranked as by {@link CourtRepository#findCourtByNameAddressTownOrPartialPostcodeExactMatch}
+     */
+    public List<Court> findCourtByNameAddressTownOrPartialPostcodeExactMatch(final String query) {
+        return search.current()
+            .map(s -> s.findByNameAddressTownOrPartialPostcodeExactMatch(query))
+            .orElseGet(() -> courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(query));
+    }
+
+    /**
+     * Find the displayed courts whose name or address is similar to the query, or whose town is within a few typos
+     * of it.
+     * @param query The query
+     * @return the courts, ranked as by {@link CourtRepository#findCourtByNameAddressOrTownFuzzyMatch}
+     */
+    public List<Court> findCourtByNameAddressOrTownFuzzyMatch(final String query) {
+        return search.current()
+            .map(s -> s.findByNameAddressOrTownFuzzyMatch(query))
+            .orElseGet(() -> courtRepository.findCourtByNameAddressOrTownFuzzyMatch(query));
+    }
+
+    /**
+     * Rebuild the index for the current data version.
+     */
+    void rebuild() {
+        search.rebuild();
+    }
+}
@@ -0,0 +1,39 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.util.List;
+
+/**
+ * Loads the courts for the {@link CourtTextIndex} in a read-only transaction of its own, initialising their
+ * addresses so the courts can be searched once they are detached.
+ */
+@Component
+public class CourtTextIndexLoader {
+
+    private final CourtRepository courtRepository;
+
+    /**
+     * Constructor for the CourtTextIndexLoader.
+     * @param courtRepository The repository for courts
+     */
+    public CourtTextIndexLoader(final CourtRepository courtRepository) {
+        this.courtRepository = courtRepository;
+    }
+
+    /**
+     * Load every court and its addresses.
+     * @param version The data version the load is for
+     * @return the text search over the courts
+     */
+    @Transactional(readOnly = true)
+    public CourtTextSearch load(final long version) {
+        final List<Court> courts = courtRepository.findAll();
+        courts.forEach(court -> Hibernate.initialize(court.getAddresses()));
+        return new CourtTextSearch(courts);
+    }
+}
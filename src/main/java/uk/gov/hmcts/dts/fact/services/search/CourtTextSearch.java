@@ -0,0 +1,397 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.entity.CourtAddress;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.dts.fact.services.search.CourtKdTree.NAME_ORDER;
+import static uk.gov.hmcts.dts.fact.services.search.PostgresTextFunctions.ilike;
+import static uk.gov.hmcts.dts.fact.services.search.PostgresTextFunctions.levenshtein;
+import static uk.gov.hmcts.dts.fact.services.search.PostgresTextFunctions.trigrams;
+import static uk.gov.hmcts.dts.fact.services.search.PostgresTextFunctions.wordSimilarity;
+
+/**
+ * Immutable in-memory text search over the displayed courts, answering the court name, address, town and postcode
+ * queries of {@link uk.gov.hmcts.dts.fact.repositories.CourtRepository} with the same matching and ranking rules,
+ * which are documented on the repository methods.
+ *
+ * <p>Like the repository queries, the search works on court and address pairs: a court is matched once for each
+ * of its addresses (other than the excluded address type), or once with no address if it has none, so a court can
+ * be returned more than once. Two inverted indexes narrow down the pairs checked for each query: one of the
+ * three character substrings of the normalised texts used by the exact match search, and one of the
+ * {@code pg_trgm} trigrams of the court names and addresses used by the fuzzy match search.</p>
+ */
+public final class CourtTextSearch {
+
+    private static final int EXCLUDED_ADDRESS_TYPE_ID = 5881;
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^A-Za-z0-9]+");
+    private static final Pattern SURROUNDING_SPACES = Pattern.compile("^ +| +$");
+    private static final int SUBSTRING_LENGTH = 3;
+    private static final double WORD_SIMILARITY_THRESHOLD = 0.6;
+    private static final double FIRST_WORD_SIMILARITY_THRESHOLD = 0.5;
+    private static final double GOOD_WORD_SIMILARITY = 0.85;
+    private static final double TOWN_MATCH_RATE = 0.79;
+
+    private final List<Row> rows;
+    private final Map<String, BitSet> substringIndex = new HashMap<>();
+    private final Map<String, BitSet> trigramIndex = new HashMap<>();
+
+    /**
+     * Build the search over the displayed courts. The addresses of the courts must be loaded.
+     * @param courts The courts, displayed or not
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    CourtTextSearch(final Collection<Court> courts) {
+        final List<Row> built = new ArrayList<>();
+        courts.stream()
+            .filter(court -> Boolean.TRUE.equals(court.getDisplayed()))
+            .sorted(Comparator.comparing(Court::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+            .forEach(court -> {
+                final List<CourtAddress> addresses = court.getAddresses() == null ? List.of() : court.getAddresses()
+                    .stream()
+                    .filter(a -> a.getAddressType() != null
+                        && !Objects.equals(a.getAddressType().getId(), EXCLUDED_ADDRESS_TYPE_ID))
+                    .sorted(Comparator.comparing(CourtAddress::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .collect(toList());
+                if (addresses.isEmpty()) {
+                    built.add(new Row(court, null));
+                } else {
+                    addresses.forEach(address -> built.add(new Row(court, address)));
+                }
+            });
+        this.rows = List.copyOf(built);
+
+        for (int index = 0; index < rows.size(); index++) {
+            final Row row = rows.get(index);
+            for (final String normalised : row.normalised) {
+                if (normalised != null) {
+                    addSubstrings(index, normalised.toLowerCase(Locale.ROOT));
+                }
+            }
+            for (final String[] trigrams : List.of(row.nameTrigrams, row.nameCyTrigrams,
+                                                   row.addressTrigrams, row.addressCyTrigrams)) {
+                for (final String trigram : trigrams) {
+                    trigramIndex.computeIfAbsent(trigram, t -> new BitSet()).set(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the courts with a crown, county or magistrates court code.
+     * @param code The court code
+     * @return the courts, ordered by name
+     */
+    List<Court> findByCourtCode(final Integer code) {
+        return sortedByName(row -> code.equals(row.court.getCciCode())
+            || code.equals(row.court.getNumber())
+            || code.equals(row.court.getMagistrateCode()));
+    }
+
+    /**
+     * Find the courts with an address at a full postcode.
+     * @param postcode The postcode
+     * @return the courts, ordered by name
+     */
+    List<Court> findByFullPostcode(final String postcode) {
+        final String normalised = postcode.replace(" ", "").toUpperCase(Locale.ROOT);
+        return sortedByName(row -> row.postcode != null && row.postcode.replace(" ", "").equals(normalised));
+    }
+
+    /**
+     * Find the courts whose name, address, town or postcode, with punctuation removed, contain the query.
+     * @param query The query, with punctuation removed
+     * @return the courts, with name matches first, then town matches, then address matches, then the rest, each
+     *     ordered by name
+     */
+    List<Court> findByNameAddressTownOrPartialPostcodeExactMatch(final String query) {
+        final Predicate<String> matches = ilike("%" + query + "%");
+        final List<ExactMatch> found = new ArrayList<>();
+        final BitSet candidates = substringCandidates(query);
+        for (int index = candidates.nextSetBit(0); index >= 0; index = candidates.nextSetBit(index + 1)) {
+            final Row row = rows.get(index);
+            if (row.anyNormalised(matches)) {
+                found.add(new ExactMatch(index, row, matches));
+            }
+        }
+        found.sort(ExactMatch.ORDER);
+        return found.stream().map(match -> match.row.court).collect(toList());
+    }
+
+    /**
+     * Find the courts whose name or address is similar to the query, or whose town is within a few typos of it.
+     * @param query The query
+     * @return the courts, with good name matches first, then by the typos in the town, then good address matches,
+     *     then name matches on the first word of the query, then the rest, each ordered by name
+     */
+    List<Court> findByNameAddressOrTownFuzzyMatch(final String query) {
+        final String[] queryTrigrams = trigrams(query);
+        final String lowerQuery = query.toLowerCase(Locale.ROOT);
+        // btrim only removes spaces
+        final String trimmed = SURROUNDING_SPACES.matcher(query).replaceAll("");
+        final Predicate<String> containsFirstWord = ilike("%" + beforeFirstSpace(trimmed) + "%");
+        final Predicate<String> startsWithFirstPart = ilike(beforeFirstSpace(query) + "%");
+
+        final BitSet similar = new BitSet(rows.size());
+        for (final String trigram : queryTrigrams) {
+            final BitSet posting = trigramIndex.get(trigram);
+            if (posting != null) {
+                similar.or(posting);
+            }
+        }
+
+        final List<FuzzyMatch> found = new ArrayList<>();
+        for (int index = 0; index < rows.size(); index++) {
+            final Row row = rows.get(index);
+            final boolean isSimilar = similar.get(index);
+            final float name = isSimilar ? wordSimilarity(queryTrigrams, row.nameTrigrams) : 0;
+            final float nameCy = isSimilar ? wordSimilarity(queryTrigrams, row.nameCyTrigrams) : 0;
+            final float address = isSimilar ? wordSimilarity(queryTrigrams, row.addressTrigrams) : 0;
+            final float addressCy = isSimilar ? wordSimilarity(queryTrigrams, row.addressCyTrigrams) : 0;
+
+            if (containsFirstWord.test(row.court.getName())
+                || containsFirstWord.test(row.court.getNameCy())
+                || name > WORD_SIMILARITY_THRESHOLD
+                || nameCy > WORD_SIMILARITY_THRESHOLD
+                || (startsWithFirstPart.test(row.court.getName()) && name > FIRST_WORD_SIMILARITY_THRESHOLD)
+                || (startsWithFirstPart.test(row.court.getNameCy()) && nameCy > FIRST_WORD_SIMILARITY_THRESHOLD)
+                || address > WORD_SIMILARITY_THRESHOLD
+                || addressCy > WORD_SIMILARITY_THRESHOLD
+                || isTownMatch(row.town, lowerQuery)
+                || isTownMatch(row.townCy, lowerQuery)) {
+                found.add(new FuzzyMatch(
+                    index,
+                    row,
+                    name > GOOD_WORD_SIMILARITY || nameCy > GOOD_WORD_SIMILARITY,
+                    townDifference(row, lowerQuery),
+                    address > GOOD_WORD_SIMILARITY || addressCy > GOOD_WORD_SIMILARITY,
+                    startsWithFirstPart.test(orEmpty(row.court.getName()))
+                        || startsWithFirstPart.test(orEmpty(row.court.getNameCy()))
+                ));
+            }
+        }
+        found.sort(FuzzyMatch.ORDER);
+        return found.stream().map(match -> match.row.court).collect(toList());
+    }
+
+    /**
+     * Get the number of court and address pairs searched.
+     * @return the number of pairs
+     */
+    int size() {
+        return rows.size();
+    }
+
+    private List<Court> sortedByName(final Predicate<Row> filter) {
+        return rows.stream()
+            .filter(filter)
+            .sorted(Comparator.comparing((Row row) -> row.court.getName(), NAME_ORDER))
+            .map(row -> row.court)
+            .collect(toList());
+    }
+
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    private void addSubstrings(final int index, final String text) {
+        for (int start = 0; start + SUBSTRING_LENGTH <= text.length(); start++) {
+            substringIndex.computeIfAbsent(text.substring(start, start + SUBSTRING_LENGTH), s -> new BitSet())
+                .set(index);
+        }
+    }
+
+    /**
+     * Get the pairs that may contain a query: those with every substring of the query in one of their texts. The
+     * substrings of a text can span two texts of a pair, so the candidates still have to be checked.
+     * @param query The query
+     * @return the candidate pairs
+     */
+    private BitSet substringCandidates(final String query) {
+        final BitSet candidates = new BitSet(rows.size());
+        candidates.set(0, rows.size());
+        if (!NON_ALPHANUMERIC.matcher(query).find()) {
+            final String lowerQuery = query.toLowerCase(Locale.ROOT);
+            for (int start = 0; start + SUBSTRING_LENGTH <= lowerQuery.length() && !candidates.isEmpty(); start++) {
+                final BitSet posting = substringIndex.get(lowerQuery.substring(start, start + SUBSTRING_LENGTH));
+                if (posting == null) {
+                    candidates.clear();
+                } else {
+                    candidates.and(posting);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Check if a town is within a few typos of the query: the proportion of its characters left once the typos are
+     * taken away has to be over the match rate.
+     * @param town The town
+     * @param lowerQuery The lower-cased query
+     * @return true if the town matches
+     */
+    private static boolean isTownMatch(final String town, final String lowerQuery) {
+        if (town == null || town.isEmpty()) {
+            return false;
+        }
+        final int length = town.codePointCount(0, town.length());
+        final int typos = levenshtein(town.toLowerCase(Locale.ROOT), lowerQuery,
+                                      (int) Math.ceil(length * (1 - TOWN_MATCH_RATE)));
+        return (double) (length - typos) / length > TOWN_MATCH_RATE;
+    }
+
+    /**
+     * Get the number of typos between the query and the town of a pair, or the closer of its English and Welsh
+     * towns.
+     * @param row The pair
+     * @param lowerQuery The lower-cased query
+     * @return the number of typos, or null if the pair has no address
+     */
+    private static Integer townDifference(final Row row, final String lowerQuery) {
+        final boolean hasTown = row.town != null && !row.town.isEmpty();
+        final boolean hasTownCy = row.townCy != null && !row.townCy.isEmpty();
+        final Integer town = row.town == null ? null : levenshtein(row.town.toLowerCase(Locale.ROOT), lowerQuery);
+        final Integer townCy = row.townCy == null ? null : levenshtein(row.townCy.toLowerCase(Locale.ROOT), lowerQuery);
+        if (hasTown && !hasTownCy) {
+            return town;
+        } else if (hasTownCy && !hasTown) {
+            return townCy;
+        } else if (town == null || townCy == null) {
+            return town == null ? townCy : town;
+        }
+        return Math.min(town, townCy);
+    }
+
+    private static String beforeFirstSpace(final String text) {
+        final int space = text.indexOf(' ');
+        return space < 0 ? text : text.substring(0, space);
+    }
+
+    private static String orEmpty(final String text) {
+        return text == null ? "" : text;
+    }
+
+    private static String normalise(final String text) {
+        return text == null ? null : NON_ALPHANUMERIC.matcher(text).replaceAll("");
+    }
+
+    /**
+     * A court and one of its addresses, with the texts the searches match on.
+     */
+    private static final class Row {
+        private final Court court;
+        private final String town;
+        private final String townCy;
+        private final String postcode;
+        private final String normalisedName;
+        private final String normalisedNameCy;
+        private final String normalisedTown;
+        private final String normalisedTownCy;
+        private final String normalisedAddress;
+        private final String normalisedAddressCy;
+        private final String[] normalised;
+        private final String[] nameTrigrams;
+        private final String[] nameCyTrigrams;
+        private final String[] addressTrigrams;
+        private final String[] addressCyTrigrams;
+
+        private Row(final Court court, final CourtAddress address) {
+            this.court = court;
+            this.town = address == null ? null : address.getTownName();
+            this.townCy = address == null ? null : address.getTownNameCy();
+            this.postcode = address == null ? null : address.getPostcode();
+            final String addressText = address == null ? null : address.getAddress();
+            final String addressCyText = address == null ? null : address.getAddressCy();
+
+            this.normalisedName = normalise(court.getName());
+            this.normalisedNameCy = normalise(court.getNameCy());
+            this.normalisedTown = normalise(town);
+            this.normalisedTownCy = normalise(townCy);
+            this.normalisedAddress = normalise(addressText);
+            this.normalisedAddressCy = normalise(addressCyText);
+            this.normalised = new String[] {normalisedName, normalisedNameCy, normalisedAddress,
+                normalisedAddressCy, normalisedTown, normalisedTownCy, normalise(postcode)};
+
+            this.nameTrigrams = trigrams(court.getName());
+            this.nameCyTrigrams = trigrams(court.getNameCy());
+            this.addressTrigrams = trigrams(addressText);
+            this.addressCyTrigrams = trigrams(addressCyText);
+        }
+
+        private boolean anyNormalised(final Predicate<String> matches) {
+            for (final String text : normalised) {
+                if (matches.test(text)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A pair found by the exact match search, with the sort keys of the repository query.
+     */
+    private static final class ExactMatch {
+        private static final Comparator<ExactMatch> ORDER = Comparator
+            .comparing((ExactMatch m) -> !m.name)
+            .thenComparing(m -> !m.town)
+            .thenComparing(m -> !m.address)
+            .thenComparing(m -> m.row.court.getName(), NAME_ORDER)
+            .thenComparingInt(m -> m.index);
+
+        private final int index;
+        private final Row row;
+        private final boolean name;
+        private final boolean town;
+        private final boolean address;
+
+        private ExactMatch(final int index, final Row row, final Predicate<String> matches) {
+            this.index = index;
+            this.row = row;
+            this.name = matches.test(orEmpty(row.normalisedName)) || matches.test(orEmpty(row.normalisedNameCy));
+            this.town = matches.test(orEmpty(row.normalisedTown)) || matches.test(orEmpty(row.normalisedTownCy));
+            this.address = matches.test(orEmpty(row.normalisedAddress))
+                || matches.test(orEmpty(row.normalisedAddressCy));
+        }
+    }
+
+    /**
+     * A pair found by the fuzzy match search, with the sort keys of the repository query.
+     */
+    private static final class FuzzyMatch {
+        private static final Comparator<FuzzyMatch> ORDER = Comparator
+            .comparing((FuzzyMatch m) -> !m.goodName)
+            .thenComparing(m -> m.townDifference, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(m -> !m.goodAddress)
+            .thenComparing(m -> !m.startsWithFirstWord)
+            .thenComparing(m -> m.row.court.getName(), NAME_ORDER)
+            .thenComparingInt(m -> m.index);
+
+        private final int index;
+        private final Row row;
+        private final boolean goodName;
+        private final Integer townDifference;
+        private final boolean goodAddress;
+        private final boolean startsWithFirstWord;
+
+        private FuzzyMatch(final int index, final Row row, final boolean goodName, final Integer townDifference,
+                           final boolean goodAddress, final boolean startsWithFirstWord) {
+            this.index = index;
+            this.row = row;
+            this.goodName = goodName;
+            this.townDifference = townDifference;
+            this.goodAddress = goodAddress;
+            this.startsWithFirstWord = startsWithFirstWord;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package uk.gov.hmcts.dts.fact.services.search;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 
@@ -13,14 +12,14 @@ import java.util.List;
 @Component
 public class FallbackProximitySearch {
 
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtSpatialIndex courtSpatialIndex;
 
     /**
      * Constructor for the FallbackProximitySearch.
-     * @param courtWithDistanceRepository The repository for court with distance
+     * @param courtSpatialIndex The spatial index of courts
      */
-    public FallbackProximitySearch(final CourtWithDistanceRepository courtWithDistanceRepository) {
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+    public FallbackProximitySearch(final CourtSpatialIndex courtSpatialIndex) {
+        this.courtSpatialIndex = courtSpatialIndex;
     }
 
     /**
@@ -36,7 +35,7 @@ public class FallbackProximitySearch {
                                                    final Boolean includeClosed,
                                                    final MapitData mapitData) {
         if (courts.isEmpty()) {
-            return courtWithDistanceRepository
+            return courtSpatialIndex
                 .findNearestTenByAreaOfLaw(mapitData.getLat(), mapitData.getLon(), areaOfLaw, includeClosed);
         }
 
@@ -4,7 +4,6 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 
@@ -16,17 +15,17 @@ import static java.util.Collections.emptyList;
 @Component
 public class FamilyNonRegionalSearch implements Search {
 
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtSpatialIndex courtSpatialIndex;
     private final FallbackProximitySearch fallbackProximitySearch;
 
     /**
      * Constructor for the FamilyNonRegionalSearch.
-     * @param courtWithDistanceRepository The repository for court with distance
+     * @param courtSpatialIndex The spatial index of courts
      * @param fallbackProximitySearch The fallback proximity search
      */
-    public FamilyNonRegionalSearch(final CourtWithDistanceRepository courtWithDistanceRepository,
+    public FamilyNonRegionalSearch(final CourtSpatialIndex courtSpatialIndex,
                                    final FallbackProximitySearch fallbackProximitySearch) {
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+        this.courtSpatialIndex = courtSpatialIndex;
         this.fallbackProximitySearch = fallbackProximitySearch;
     }
 
@@ -44,7 +43,7 @@ public class FamilyNonRegionalSearch implements Search {
         final String areaOfLaw = serviceArea.getAreaOfLaw().getName();
 
         final List<CourtWithDistance> courtsWithDistance = mapitData.getLocalAuthority()
-            .map(localAuthority -> courtWithDistanceRepository
+            .map(localAuthority -> courtSpatialIndex
                 .findNearestTenByAreaOfLawAndLocalAuthority(mapitData.getLat(), mapitData.getLon(), areaOfLaw, localAuthority, includeClosed))
             .orElse(emptyList());
 
@@ -4,7 +4,6 @@ import org.springframework.stereotype.Component;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 
@@ -16,14 +15,14 @@ import static java.util.Collections.emptyList;
 @Component
 public class FamilyRegionalSearch implements Search {
 
-    private final CourtWithDistanceRepository courtWithDistanceRepository;
+    private final CourtSpatialIndex courtSpatialIndex;
 
     /**
      * Constructor for the FamilyRegionalSearch.
-     * @param courtWithDistanceRepository The repository for court with distance
+     * @param courtSpatialIndex The spatial index of courts
      */
-    public FamilyRegionalSearch(final CourtWithDistanceRepository courtWithDistanceRepository) {
-        this.courtWithDistanceRepository = courtWithDistanceRepository;
+    public FamilyRegionalSearch(final CourtSpatialIndex courtSpatialIndex) {
+        this.courtSpatialIndex = courtSpatialIndex;
     }
 
     /**
@@ -40,7 +39,7 @@ public class FamilyRegionalSearch implements Search {
         final String areaOfLaw = serviceArea.getAreaOfLaw().getName();
 
         final List<CourtWithDistance> courtsWithDistance = mapitData.getLocalAuthority()
-            .map(localAuthority -> courtWithDistanceRepository
+            .map(localAuthority -> courtSpatialIndex
                 .findNearestRegionalByAreaOfLawAndLocalAuthority(mapitData.getLat(), mapitData.getLon(), areaOfLaw, localAuthority))
             .orElse(emptyList());
 
@@ -58,7 +57,7 @@ public class FamilyRegionalSearch implements Search {
                                                     final String areaOfLaw,
                                                     final MapitData mapitData) {
         if (courts.isEmpty()) {
-            return courtWithDistanceRepository
+            return courtSpatialIndex
                 .findNearestRegionalByAreaOfLaw(mapitData.getLat(), mapitData.getLon(), areaOfLaw);
         }
 
@@ -0,0 +1,236 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Java versions of the Postgres text functions used by the court search queries of
+ * {@link uk.gov.hmcts.dts.fact.repositories.CourtRepository}, so that {@link CourtTextSearch} ranks courts the
+ * same way the database does.
+ *
+ * <p>{@link #trigrams} and {@link #wordSimilarity} follow {@code pg_trgm}: the text is lower-cased and split into
+ * words of letters and digits, and each word is padded with two spaces in front and one behind before being cut
+ * into trigrams. {@link #levenshtein} follows {@code fuzzystrmatch} with unit costs, and {@link #ilike} follows
+ * {@code ILIKE} with the default escape character.</p>
+ */
+final class PostgresTextFunctions {
+
+    private static final String[] NO_TRIGRAMS = new String[0];
+
+    private PostgresTextFunctions() {
+    }
+
+    /**
+     * Get the trigrams of a text, in the order they appear and including duplicates.
+     * @param text The text
+     * @return the trigrams, empty if the text is null or has no letters or digits
+     */
+    @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+    static String[] trigrams(final String text) {
+        if (text == null) {
+            return NO_TRIGRAMS;
+        }
+        final int[] codePoints = text.toLowerCase(Locale.ROOT).codePoints().toArray();
+        final List<String> trigrams = new ArrayList<>();
+        int start = 0;
+        while (start < codePoints.length) {
+            if (!Character.isLetterOrDigit(codePoints[start])) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < codePoints.length && Character.isLetterOrDigit(codePoints[end])) {
+                end++;
+            }
+            final int[] padded = new int[end - start + 3];
+            padded[0] = ' ';
+            padded[1] = ' ';
+            System.arraycopy(codePoints, start, padded, 2, end - start);
+            padded[padded.length - 1] = ' ';
+            for (int i = 0; i + 3 <= padded.length; i++) {
+                trigrams.add(new String(padded, i, 3));
+            }
+            start = end;
+        }
+        return trigrams.toArray(NO_TRIGRAMS);
+    }
+
+    /**
+     * Get the {@code word_similarity} of a query and a text: the greatest similarity between the trigrams of the
+     * query and any continuous extent of the trigrams of the text. This is a port of the non-strict
+     * {@code iterate_word_similarity} of {@code pg_trgm}, so that values on either side of the thresholds used by
+     * the search queries agree with the database.
+     * @param query The trigrams of the query
+     * @param text The trigrams of the text
+     * @return the word similarity, from 0 to 1
+     */
+    @SuppressWarnings({"PMD.AvoidDeeplyNestedIfStmts", "PMD.CognitiveComplexity"})
+    static float wordSimilarity(final String[] query, final String[] text) {
+        // Number each distinct trigram, marking the ones found in the query
+        final Map<String, Integer> ids = new HashMap<>();
+        for (final String trigram : query) {
+            ids.putIfAbsent(trigram, ids.size());
+        }
+        final int queryLength = ids.size();
+        final int[] textIds = new int[text.length];
+        for (int i = 0; i < text.length; i++) {
+            textIds[i] = ids.computeIfAbsent(text[i], t -> ids.size());
+        }
+
+        final int[] lastPosition = new int[ids.size()];
+        Arrays.fill(lastPosition, -1);
+        int extentLength = 0;
+        int count = 0;
+        int lower = -1;
+        float max = 0;
+
+        for (int i = 0; i < text.length; i++) {
+            final int id = textIds[i];
+            final boolean found = id < queryLength;
+            if (lower >= 0 || found) {
+                if (lastPosition[id] < 0) {
+                    extentLength++;
+                    if (found) {
+                        count++;
+                    }
+                }
+                lastPosition[id] = i;
+            }
+            if (!found) {
+                continue;
+            }
+            final int upper = i;
+            if (lower == -1) {
+                lower = i;
+                extentLength = 1;
+            }
+
+            // Try to move the lower bound of the extent up for a greater similarity
+            float current = similarity(count, queryLength, extentLength);
+            int tmpCount = count;
+            int tmpExtentLength = extentLength;
+            final int previousLower = lower;
+            for (int tmpLower = lower; tmpLower <= upper; tmpLower++) {
+                final float tmp = similarity(tmpCount, queryLength, tmpExtentLength);
+                if (tmp > current) {
+                    current = tmp;
+                    extentLength = tmpExtentLength;
+                    lower = tmpLower;
+                    count = tmpCount;
+                }
+                final int tmpId = textIds[tmpLower];
+                if (lastPosition[tmpId] == tmpLower) {
+                    tmpExtentLength--;
+                    if (tmpId < queryLength) {
+                        tmpCount--;
+                    }
+                }
+            }
+            max = Math.max(max, current);
+
+            for (int tmpLower = previousLower; tmpLower < lower; tmpLower++) {
+                final int tmpId = textIds[tmpLower];
+                if (lastPosition[tmpId] == tmpLower) {
+                    lastPosition[tmpId] = -1;
+                }
+            }
+        }
+        return max;
+    }
+
+    private static float similarity(final int count, final int length1, final int length2) {
+        return (float) count / (float) (length1 + length2 - count);
+    }
+
+    /**
+     * Get the Levenshtein distance between two texts, with unit costs.
+     * @param source The first text
+     * @param target The second text
+     * @return the number of single character insertions, deletions and substitutions between the texts
+     */
+    static int levenshtein(final String source, final String target) {
+        return levenshtein(source, target, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the Levenshtein distance between two texts, with unit costs, giving up once it is over a bound.
+     * @param source The first text
+     * @param target The second text
+     * @param bound The greatest distance of interest
+     * @return the distance, or {@code bound + 1} if the distance is greater than the bound
+     */
+    static int levenshtein(final String source, final String target, final int bound) {
+        final int[] s = source.codePoints().toArray();
+        final int[] t = target.codePoints().toArray();
+        final int over = bound == Integer.MAX_VALUE ? bound : bound + 1;
+        if (Math.abs(s.length - t.length) > bound) {
+            return over;
+        }
+        int[] previous = new int[t.length + 1];
+        int[] current = new int[t.length + 1];
+        for (int j = 0; j <= t.length; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= s.length; i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= t.length; j++) {
+                final int substitution = previous[j - 1] + (s[i - 1] == t[j - 1] ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > bound) {
+                return over;
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[t.length], over);
+    }
+
+    /**
+     * Get a case-insensitive matcher for an {@code ILIKE} pattern, where {@code %} matches any text, {@code _}
+     * matches any one character and a backslash escapes the character after it.
+     * @param pattern The pattern
+     * @return a predicate matching texts against the pattern, never matching null
+     */
+    static Predicate<String> ilike(final String pattern) {
+        final int length = pattern.length();
+        if (length >= 2 && pattern.charAt(0) == '%' && pattern.charAt(length - 1) == '%'
+            && pattern.substring(1, length - 1).chars().noneMatch(c -> c == '%' || c == '_' || c == '\\')) {
+            // The patterns built by the search queries are nearly always a plain substring search
+            final String needle = pattern.substring(1, length - 1).toLowerCase(Locale.ROOT);
+            return text -> text != null && text.toLowerCase(Locale.ROOT).contains(needle);
+        }
+
+        final StringBuilder regex = new StringBuilder(length + 8);
+        final StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < length) {
+            final char c = pattern.charAt(i);
+            if (c == '\\' && i + 1 < length) {
+                literal.append(pattern.charAt(i + 1));
+                i += 2;
+                continue;
+            }
+            if (c == '%' || c == '_') {
+                regex.append(Pattern.quote(literal.toString())).append(c == '%' ? ".*" : ".");
+                literal.setLength(0);
+            } else {
+                literal.append(c);
+            }
+            i++;
+        }
+        regex.append(Pattern.quote(literal.toString()));
+        final Pattern compiled = Pattern.compile(
+            regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE | Pattern.DOTALL);
+        return text -> text != null && compiled.matcher(text).matches();
+    }
+}
@@ -0,0 +1,49 @@
+package uk.gov.hmcts.dts.fact.services.validation;
+
+import uk.gov.hmcts.dts.fact.mapit.MapitLookup;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
+
+/**
+ * The partial postcode lookups made while validating one list of postcodes. Postcodes in the same outcode or sector
+ * fall back to the same partial postcodes, so each partial postcode is looked up once for the whole list. Checks
+ * that need a partial postcode while it is being looked up wait for that lookup rather than making their own.
+ */
+public final class PartialPostcodeLookups {
+
+    private final Map<String, CompletableFuture<MapitLookup>> lookups = new ConcurrentHashMap<>();
+
+    /**
+     * Get the lookup of a partial postcode, looking it up if no check for the list has yet.
+     * @param partialPostcode The partial postcode
+     * @param lookUp Looks the partial postcode up
+     * @return the lookup
+     */
+    MapitLookup lookUp(final String partialPostcode, final Function<String, MapitLookup> lookUp) {
+        final CompletableFuture<MapitLookup> lookup = new CompletableFuture<>();
+        final CompletableFuture<MapitLookup> existing =
+            lookups.putIfAbsent(upperCaseAndStripAllSpaces(partialPostcode), lookup);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (final CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : ex;
+            }
+        }
+
+        try {
+            final MapitLookup result = lookUp.apply(partialPostcode);
+            lookup.complete(result);
+            return result;
+        } catch (final RuntimeException ex) {
+            lookup.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package uk.gov.hmcts.dts.fact.services.validation;
 
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import uk.gov.hmcts.dts.fact.exception.PostcodeCheckUnavailableException;
+import uk.gov.hmcts.dts.fact.mapit.MapitLookup;
 import uk.gov.hmcts.dts.fact.services.MapitService;
 import uk.gov.hmcts.dts.fact.util.PostcodeArea;
 
@@ -11,13 +15,15 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Validates postcodes.
+ * Validates postcodes. A postcode that can't be looked up in mapit isn't known to be invalid, so the checks throw
+ * {@link PostcodeCheckUnavailableException} for it rather than failing it.
  */
 @Slf4j
 @Component
 public class PostcodeValidator {
 
     private final MapitService mapitService;
+    private final RateLimiter mapitRateLimiter;
     private static final String FULL_POSTCODE = "([Gg][Ii][Rr] 0[Aa]{2})|((([A-Za-z]\\d{1,2})|(([A-Za-z]"
         + "[A-Ha-hJ-Yj-y]\\d{1,2})|(([A-Za-z]\\d[A-Za-z])|([A-Za-z][A-Ha-hJ-Yj-y]"
         + "\\d[A-Za-z]?))))\\s?\\d[A-Za-z]{2})";
@@ -27,11 +33,15 @@ public class PostcodeValidator {
         + "(^[A-Za-z]{2}([0-9]{1}[A-Za-z][0-9]?)$)";
 
     /**
-     * Constructor for the PostcodeValidator.
+     * Constructor for the PostcodeValidator. Calls to mapit are limited by the {@code mapit} rate limiter, so a
+     * large upload being validated doesn't use up the mapit quota.
+     * @param mapitService The service to get mapit data from
+     * @param rateLimiterRegistry The registry of the rate limiters
      */
     @Autowired
-    public PostcodeValidator(MapitService mapitService) {
+    public PostcodeValidator(MapitService mapitService, RateLimiterRegistry rateLimiterRegistry) {
         this.mapitService = mapitService;
+        this.mapitRateLimiter = rateLimiterRegistry.rateLimiter("mapit");
     }
 
     /**
@@ -47,8 +57,20 @@ public class PostcodeValidator {
      * Checks if a postcode data exists.
      * @param postcode the postcode to check
      * @return true if the postcode exists, false otherwise
+     * @throws PostcodeCheckUnavailableException if mapit couldn't be asked about the postcode
      */
     public boolean postcodeDataExists(final String postcode) {
+        return postcodeDataExists(postcode, new PartialPostcodeLookups());
+    }
+
+    /**
+     * Checks if a postcode data exists, sharing the partial postcode lookups with the other postcodes of a list.
+     * @param postcode the postcode to check
+     * @param partialLookups the partial postcode lookups made for the list the postcode is in
+     * @return true if the postcode exists, false otherwise
+     * @throws PostcodeCheckUnavailableException if mapit couldn't be asked about the postcode
+     */
+    public boolean postcodeDataExists(final String postcode, final PartialPostcodeLookups partialLookups) {
 
         if (StringUtils.isBlank(postcode)) {
             return false;
@@ -71,13 +93,19 @@ public class PostcodeValidator {
         //  - Or sub part can be one number, and one letter
         //  - Or sub part can be one number, and one letter, and one number
         return PostcodeArea.isValidArea(postcode)
-            || partialPostcodeValid(PARTIAL_POSTCODE_NUMERIC, postcode, 1)
+            || partialPostcodeValid(PARTIAL_POSTCODE_NUMERIC, postcode, 1, partialLookups)
             // Check first two characters of the postcode, which will determine the result group we need
             || (postcode.substring(0, 2).matches(PARTIAL_POSTCODE_SEARCH)
-                ? partialPostcodeValid(PARTIAL_POSTCODE_EDGECASE, postcode, 2) : // if two letter proceed
-                partialPostcodeValid(PARTIAL_POSTCODE_EDGECASE, postcode, 1));   // if one letters proceeds
+                ? partialPostcodeValid(PARTIAL_POSTCODE_EDGECASE, postcode, 2, partialLookups) : // if two letter proceed
+                partialPostcodeValid(PARTIAL_POSTCODE_EDGECASE, postcode, 1, partialLookups));   // if one letters proceeds
     }
 
+    /**
+     * Checks if a full postcode is valid and its data exists.
+     * @param postcode the postcode to check
+     * @return true if the postcode exists, false otherwise
+     * @throws PostcodeCheckUnavailableException if mapit couldn't be asked about the postcode
+     */
     public boolean fullPostcodeValid(String postcode) {
         if (StringUtils.isNotBlank(postcode) && isFullPostcodeFormat(postcode)) {
             return fullPostCodeDataExists(postcode);
@@ -88,7 +116,7 @@ public class PostcodeValidator {
 
     private boolean fullPostCodeDataExists(String postcode) {
         log.info("Full postcode search of mapit data for: {}", postcode);
-        boolean mapitDataExists = mapitService.getMapitData(postcode).isPresent();
+        boolean mapitDataExists = isFound(postcode, mapitService.lookUpPostcode(postcode, mapitRateLimiter));
 
         if (mapitDataExists) {
             return true;
@@ -98,7 +126,8 @@ public class PostcodeValidator {
         return false;
     }
 
-    private boolean partialPostcodeValid(String regex, String postcode, int resultGroup) {
+    private boolean partialPostcodeValid(String regex, String postcode, int resultGroup,
+                                         PartialPostcodeLookups partialLookups) {
         Matcher matcher = Pattern.compile(regex).matcher(postcode);
 
         if (matcher.find()) {
@@ -114,17 +143,20 @@ public class PostcodeValidator {
 
             // If we send across the partial postcode to mapit and no data is found, try with
             // the letters and remove the last number, as it may still be valid
-            return partialPostCodeDataExists(partialPostcode)
-                || partialPostCodeDataExists(partialPostcode.substring(0, partialPostcode.length() - 1));
+            return partialPostCodeDataExists(partialPostcode, partialLookups)
+                || partialPostCodeDataExists(
+                    partialPostcode.substring(0, partialPostcode.length() - 1), partialLookups);
         }
 
         log.info("Match failed for partial postcode search for: {}, based on regex {}", postcode, regex);
         return false;
     }
 
-    private boolean partialPostCodeDataExists(String postcode) {
+    private boolean partialPostCodeDataExists(String postcode, PartialPostcodeLookups partialLookups) {
         // We are only looking for the group with the outcode
-        if (mapitService.getMapitDataWithPartial(postcode).isPresent()) {
+        final MapitLookup lookup = partialLookups.lookUp(
+            postcode, partial -> mapitService.lookUpPartialPostcode(partial, mapitRateLimiter));
+        if (isFound(postcode, lookup)) {
             log.info("Partial postcode search of mapit data for {} was found", postcode);
             return true;
         }
@@ -132,4 +164,11 @@ public class PostcodeValidator {
         log.info("No mapit data exists for partial postcode specified for: {}", postcode);
         return false;
     }
+
+    private static boolean isFound(final String postcode, final MapitLookup lookup) {
+        if (lookup.isFailed()) {
+            throw new PostcodeCheckUnavailableException(postcode);
+        }
+        return lookup.getMapitData().isPresent();
+    }
 }
@@ -1,53 +1,121 @@
 package uk.gov.hmcts.dts.fact.services.validation;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import uk.gov.hmcts.dts.fact.exception.InvalidEpimIdException;
+import uk.gov.hmcts.dts.fact.exception.PostcodeCheckUnavailableException;
 import uk.gov.hmcts.dts.fact.model.admin.CourtAddress;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toList;
+import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
 
+/**
+ * Validates admin input, including postcodes against mapit.
+ *
+ * <p>Lists of postcodes, such as a catchment being uploaded, are validated in bulk. Postcodes are compared without
+ * spaces or case, and each distinct postcode is checked once, however often it is given. The checks run
+ * concurrently, each on a virtual thread, but at most {@code mapit.validation.concurrency} at a time across all
+ * requests, and the calls they make to mapit are limited by the {@code mapit} rate limiter. The partial postcode
+ * lookups are grouped for the list, see {@link PartialPostcodeLookups}, so postcodes in the same outcode or sector
+ * look each partial postcode up once.</p>
+ *
+ * <p>Postcodes that couldn't be checked, because mapit failed or its rate limiter or circuit breaker didn't permit
+ * the call, aren't reported as invalid. The whole list fails with {@link PostcodeCheckUnavailableException}
+ * instead, so it can be validated again once mapit is available.</p>
+ */
 @Service
+@SuppressWarnings("PMD.DoNotUseThreads")
 public class ValidationService {
 
     private final PostcodeValidator mapitPostcodeValidator;
     private final LocalAuthorityValidator mapitlocalAuthorityValidator;
+    private final Semaphore mapitPermits;
     private static final Pattern EPIM_ID_PATTERN = Pattern.compile("^[a-zA-Z0-9-]{0,30}$");
 
     /**
      * Constructor for the ValidationService.
      * @param mapitPostcodeValidator The postcode validator
      * @param mapitLocalAuthorityValidator The local authority validator
+     * @param mapitConcurrency The most postcodes checked against mapit at once
      */
     @Autowired
-    public ValidationService(PostcodeValidator mapitPostcodeValidator, LocalAuthorityValidator mapitLocalAuthorityValidator) {
+    public ValidationService(PostcodeValidator mapitPostcodeValidator, LocalAuthorityValidator mapitLocalAuthorityValidator,
+                             @Value("${mapit.validation.concurrency:8}") int mapitConcurrency) {
         this.mapitPostcodeValidator = mapitPostcodeValidator;
         this.mapitlocalAuthorityValidator = mapitLocalAuthorityValidator;
+        this.mapitPermits = new Semaphore(mapitConcurrency, true);
     }
 
     /**
      * Accepts an list of strings and checks for each if mapit data exists.
      * @param postcodes A list of strings which are postcodes
      * @return A list of strings which indicate which postcodes have failed to return geographical information
+     * @throws PostcodeCheckUnavailableException if any of the postcodes couldn't be checked
      */
     public List<String> validatePostcodes(List<String> postcodes) {
-        return postcodes.stream()
-            .filter(postcode -> !mapitPostcodeValidator.postcodeDataExists(postcode.replaceAll("\\s+","")))
-            .collect(toList());
+        final PartialPostcodeLookups partialLookups = new PartialPostcodeLookups();
+        return invalid(postcodes, checkPostcodes(
+            postcodes, postcode -> mapitPostcodeValidator.postcodeDataExists(postcode, partialLookups)));
     }
 
     /**
      * Accepts an list of full postcodes and checks for each if mapit data exists.
      * @param postcodes A list of strings which are postcodes
      * @return A list of strings which indicate which postcodes have failed to return geographical information
+     * @throws PostcodeCheckUnavailableException if any of the postcodes couldn't be checked
      */
     public List<String> validateFullPostcodes(List<String> postcodes) {
-        return postcodes.stream()
-            .filter(postcode -> !mapitPostcodeValidator.fullPostcodeValid(postcode.replaceAll("\\s+","")))
-            .collect(toList());
+        return invalid(postcodes, checkPostcodes(postcodes, mapitPostcodeValidator::fullPostcodeValid));
+    }
+
+    /**
+     * Checks each postcode in a list, checking each distinct postcode once and concurrently.
+     * @param postcodes The postcodes
+     * @param check The check, given a postcode without spaces
+     * @return Whether each postcode passed the check, in the order of the postcodes
+     * @throws PostcodeCheckUnavailableException naming every postcode the check couldn't be made for
+     */
+    public List<Boolean> checkPostcodes(final List<String> postcodes, final Predicate<String> check) {
+        final Map<String, CompletableFuture<Boolean>> checks = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final String postcode : postcodes) {
+                final String stripped = postcode.replaceAll("\\s+","");
+                checks.computeIfAbsent(upperCaseAndStripAllSpaces(postcode), key -> CompletableFuture.supplyAsync(
+                    () -> withMapitPermit(() -> check.test(stripped)), executor
+                ));
+            }
+            final List<Boolean> passed = new ArrayList<>(postcodes.size());
+            final List<String> unchecked = new ArrayList<>();
+            for (final String postcode : postcodes) {
+                try {
+                    passed.add(checks.get(upperCaseAndStripAllSpaces(postcode)).join());
+                } catch (final CompletionException ex) {
+                    if (!(ex.getCause() instanceof PostcodeCheckUnavailableException)) {
+                        throw ex;
+                    }
+                    unchecked.add(postcode);
+                }
+            }
+            if (!unchecked.isEmpty()) {
+                throw new PostcodeCheckUnavailableException(unchecked);
+            }
+            return passed;
+        }
     }
 
     /**
@@ -71,4 +139,25 @@ public class ValidationService {
             throw new InvalidEpimIdException(epimId);
         }
     }
+
+    private boolean withMapitPermit(final BooleanSupplier check) {
+        try {
+            mapitPermits.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting to check a postcode", ex);
+        }
+        try {
+            return check.getAsBoolean();
+        } finally {
+            mapitPermits.release();
+        }
+    }
+
+    private static List<String> invalid(final List<String> postcodes, final List<Boolean> valid) {
+        return IntStream.range(0, postcodes.size())
+            .filter(i -> !valid.get(i))
+            .mapToObj(postcodes::get)
+            .collect(toList());
+    }
 }
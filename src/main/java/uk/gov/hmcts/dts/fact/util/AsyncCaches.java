@@ -0,0 +1,87 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Loads values into Caffeine caches without holding a lock while they load.
+ *
+ * <p>A synchronous Caffeine cache loads a missing value inside {@code ConcurrentHashMap.compute}, which holds a
+ * monitor for as long as the load takes. A virtual thread blocked on I/O inside a monitor pins its carrier thread,
+ * so a few slow Mapit or database calls would stall every virtual thread. Here the cache only holds a future, and
+ * the value is loaded by the calling thread once the future is in the cache. Other callers for the same key wait
+ * on the future, which parks rather than pins.</p>
+ */
+public final class AsyncCaches {
+
+    private AsyncCaches() {
+    }
+
+    /**
+     * Get a value from a cache, loading it on the calling thread if it isn't cached. Caffeine removes values that
+     * load as null or fail, so they are loaded again by the next caller.
+     *
+     * @param cache the cache
+     * @param key the key
+     * @param loader loads the value. Returns null if the value shouldn't be cached
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return the value, or null if the loader returned null
+     */
+    public static <K, V> V get(final AsyncCache<K, V> cache, final K key, final Supplier<V> loader) {
+        return get(cache, key, loader, () -> { });
+    }
+
+    /**
+     * Get a value from a cache, as {@link #get(AsyncCache, Object, Supplier)} does, telling the caller when it
+     * waits for a load another caller has in progress.
+     *
+     * @param cache the cache
+     * @param key the key
+     * @param loader loads the value. Returns null if the value shouldn't be cached
+     * @param onCoalesced run when the value is already being loaded by another caller
+     * @param <K> the type of the keys
+     * @param <V> the type of the values
+     * @return the value, or null if the loader returned null
+     */
+    public static <K, V> V get(final AsyncCache<K, V> cache, final K key, final Supplier<V> loader,
+                               final Runnable onCoalesced) {
+        final CompletableFuture<V> loading = new CompletableFuture<>();
+        final CompletableFuture<V> future = cache.get(key, (k, executor) -> loading);
+        if (future == loading) {
+            try {
+                loading.complete(loader.get());
+            } catch (final RuntimeException ex) {
+                loading.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                // Only has an effect if the loader threw an error, so the other callers don't wait forever
+                loading.cancel(false);
+            }
+        } else if (!future.isDone()) {
+            onCoalesced.run();
+        }
+        return join(future);
+    }
+
+    /**
+     * Wait for a future, throwing the error it failed with rather than a {@link CompletionException}.
+     *
+     * @param future the future
+     * @param <V> the type of the value
+     * @return the value
+     */
+    public static <V> V join(final CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+}
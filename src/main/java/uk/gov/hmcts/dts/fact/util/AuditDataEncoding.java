@@ -0,0 +1,15 @@
+package uk.gov.hmcts.dts.fact.util;
+
+/**
+ * How the data before an audited change is stored.
+ */
+public enum AuditDataEncoding {
+    /**
+     * The whole JSON document.
+     */
+    FULL,
+    /**
+     * A JSON Patch that turns the data after the change back into the data before it.
+     */
+    PATCH
+}
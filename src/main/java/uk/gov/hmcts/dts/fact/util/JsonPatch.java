@@ -0,0 +1,212 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal JSON Patch (RFC 6902) support: works out the add, remove and replace operations that turn one document
+ * into another, and applies them.
+ *
+ * <p>Arrays are compared by skipping the elements they start and end with in common, so removing or adding a run
+ * of elements, such as a few postcodes from a list, is a short patch. Changes scattered through an array are
+ * described element by element.</p>
+ */
+public final class JsonPatch {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+    private static final String OP = "op";
+    private static final String PATH = "path";
+    private static final String VALUE = "value";
+    private static final String ADD = "add";
+    private static final String REMOVE = "remove";
+    private static final String REPLACE = "replace";
+
+    private JsonPatch() {
+    }
+
+    /**
+     * Work out the patch that turns the source document into the target document.
+     *
+     * @param source the document the patch applies to
+     * @param target the document the patch produces
+     * @return the patch, empty if the documents are equal
+     */
+    public static ArrayNode diff(final JsonNode source, final JsonNode target) {
+        final ArrayNode patch = NODES.arrayNode();
+        diff(source, target, "", patch);
+        return patch;
+    }
+
+    /**
+     * Apply a patch to a document. The document itself is not changed.
+     *
+     * @param patch the patch
+     * @param document the document
+     * @return the patched document
+     * @throws IllegalArgumentException if the patch is not a patch for the document
+     */
+    public static JsonNode apply(final JsonNode patch, final JsonNode document) {
+        if (!patch.isArray()) {
+            throw new IllegalArgumentException("A JSON patch must be an array");
+        }
+        JsonNode result = document.deepCopy();
+        for (final JsonNode operation : patch) {
+            result = applyOperation(operation, result);
+        }
+        return result;
+    }
+
+    private static void diff(final JsonNode source, final JsonNode target, final String path, final ArrayNode patch) {
+        if (source.equals(target)) {
+            return;
+        }
+        if (source.isObject() && target.isObject()) {
+            diffObjects((ObjectNode) source, (ObjectNode) target, path, patch);
+        } else if (source.isArray() && target.isArray()) {
+            diffArrays((ArrayNode) source, (ArrayNode) target, path, patch);
+        } else {
+            patch.add(operation(REPLACE, path).set(VALUE, target));
+        }
+    }
+
+    private static void diffObjects(final ObjectNode source, final ObjectNode target, final String path,
+                                    final ArrayNode patch) {
+        for (final Map.Entry<String, JsonNode> field : source.properties()) {
+            final String fieldPath = path + "/" + escape(field.getKey());
+            if (target.has(field.getKey())) {
+                diff(field.getValue(), target.get(field.getKey()), fieldPath, patch);
+            } else {
+                patch.add(operation(REMOVE, fieldPath));
+            }
+        }
+        for (final Map.Entry<String, JsonNode> field : target.properties()) {
+            if (!source.has(field.getKey())) {
+                patch.add(operation(ADD, path + "/" + escape(field.getKey())).set(VALUE, field.getValue()));
+            }
+        }
+    }
+
+    private static void diffArrays(final ArrayNode source, final ArrayNode target, final String path,
+                                   final ArrayNode patch) {
+        final int shorter = Math.min(source.size(), target.size());
+        int prefix = 0;
+        while (prefix < shorter && source.get(prefix).equals(target.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < shorter - prefix
+            && source.get(source.size() - 1 - suffix).equals(target.get(target.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        final int sourceMiddle = source.size() - prefix - suffix;
+        final int targetMiddle = target.size() - prefix - suffix;
+        final int common = Math.min(sourceMiddle, targetMiddle);
+        for (int i = prefix; i < prefix + common; i++) {
+            diff(source.get(i), target.get(i), path + "/" + i, patch);
+        }
+        for (int i = common; i < sourceMiddle; i++) {
+            patch.add(operation(REMOVE, path + "/" + (prefix + common)));
+        }
+        for (int i = prefix + common; i < prefix + targetMiddle; i++) {
+            patch.add(operation(ADD, path + "/" + i).set(VALUE, target.get(i)));
+        }
+    }
+
+    private static ObjectNode operation(final String op, final String path) {
+        return NODES.objectNode().put(OP, op).put(PATH, path);
+    }
+
+    private static JsonNode applyOperation(final JsonNode operation, final JsonNode document) {
+        final String op = operation.path(OP).asText();
+        final List<String> tokens = parse(operation.path(PATH).asText());
+        final JsonNode value = operation.has(VALUE) ? operation.get(VALUE).deepCopy() : null;
+        if (tokens.isEmpty()) {
+            if (REMOVE.equals(op) || value == null) {
+                throw new IllegalArgumentException("Unsupported JSON patch operation on the whole document: " + operation);
+            }
+            return value;
+        }
+
+        JsonNode parent = document;
+        for (final String token : tokens.subList(0, tokens.size() - 1)) {
+            parent = parent.isArray() ? parent.get(index(token, parent.size() - 1)) : parent.get(token);
+            if (parent == null) {
+                throw new IllegalArgumentException("JSON patch path not found: " + operation);
+            }
+        }
+        final String last = tokens.get(tokens.size() - 1);
+        if (parent.isObject()) {
+            applyToObject((ObjectNode) parent, op, last, value, operation);
+        } else if (parent.isArray()) {
+            applyToArray((ArrayNode) parent, op, last, value, operation);
+        } else {
+            throw new IllegalArgumentException("JSON patch path not found: " + operation);
+        }
+        return document;
+    }
+
+    private static void applyToObject(final ObjectNode parent, final String op, final String field,
+                                      final JsonNode value, final JsonNode operation) {
+        if (REMOVE.equals(op)) {
+            parent.remove(field);
+        } else if ((ADD.equals(op) || REPLACE.equals(op)) && value != null) {
+            parent.set(field, value);
+        } else {
+            throw new IllegalArgumentException("Unsupported JSON patch operation: " + operation);
+        }
+    }
+
+    private static void applyToArray(final ArrayNode parent, final String op, final String token,
+                                     final JsonNode value, final JsonNode operation) {
+        if (REMOVE.equals(op)) {
+            parent.remove(index(token, parent.size() - 1));
+        } else if (REPLACE.equals(op) && value != null) {
+            parent.set(index(token, parent.size() - 1), value);
+        } else if (ADD.equals(op) && value != null) {
+            if ("-".equals(token)) {
+                parent.add(value);
+            } else {
+                parent.insert(index(token, parent.size()), value);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported JSON patch operation: " + operation);
+        }
+    }
+
+    private static int index(final String token, final int max) {
+        try {
+            final int index = Integer.parseInt(token);
+            if (index < 0 || index > max) {
+                throw new IllegalArgumentException("JSON patch index out of range: " + token);
+            }
+            return index;
+        } catch (final NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid JSON patch array index: " + token, ex);
+        }
+    }
+
+    private static String escape(final String token) {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static List<String> parse(final String path) {
+        final List<String> tokens = new ArrayList<>();
+        if (path.isEmpty()) {
+            return tokens;
+        }
+        if (path.charAt(0) != '/') {
+            throw new IllegalArgumentException("Invalid JSON pointer: " + path);
+        }
+        for (final String token : path.substring(1).split("/", -1)) {
+            tokens.add(token.replace("~1", "/").replace("~0", "~"));
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,47 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import org.apache.commons.lang.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads postcodes from a CSV upload, one postcode per row in the first column.
+ *
+ * <p>The upload is read a line at a time, so only the postcodes are held in memory. Blank rows, a byte order mark,
+ * surrounding quotes and a {@code postcode} header row are ignored, and any further columns are skipped.</p>
+ */
+public final class PostcodeCsv {
+
+    private static final String HEADER = "postcode";
+
+    private PostcodeCsv() {
+    }
+
+    /**
+     * Read the postcodes from a CSV upload.
+     *
+     * @param csv the CSV, in UTF-8
+     * @return the postcodes, as given and in the order given
+     * @throws IOException if the CSV can't be read
+     */
+    public static List<String> read(final InputStream csv) throws IOException {
+        final List<String> postcodes = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                final String postcode = StringUtils.strip(StringUtils.substringBefore(line, ","), " \t\"\uFEFF");
+                if (StringUtils.isNotEmpty(postcode) && !HEADER.equalsIgnoreCase(postcode)) {
+                    postcodes.add(postcode);
+                }
+                line = reader.readLine();
+            }
+        }
+        return postcodes;
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shares a call between the callers that make it at the same time.
+ *
+ * <p>The first caller for a key makes the call on its own thread. Callers for the same key that arrive before it
+ * returns wait for its result, or its failure, instead of making the call again. Nothing is kept once the call
+ * returns, so the next caller makes the call afresh. As with {@link AsyncCaches}, the waiting callers park on a
+ * future rather than holding a lock. Calls made and calls shared are published to the meter registry as
+ * {@code singleflight.calls}, tagged with the name and a result of {@code executed} or {@code coalesced}.</p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the results
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    /**
+     * Constructor for the SingleFlight.
+     *
+     * @param name the name to publish the metrics under
+     * @param meterRegistry the registry to publish the metrics to
+     */
+    public SingleFlight(final String name, final MeterRegistry meterRegistry) {
+        this.executed = counter(name, "executed", meterRegistry);
+        this.coalesced = counter(name, "coalesced", meterRegistry);
+    }
+
+    /**
+     * Make a call, or wait for the same call if another caller is already making it.
+     *
+     * @param key the key of the call
+     * @param call makes the call
+     * @return the result of the call
+     */
+    public V execute(final K key, final Supplier<V> call) {
+        final CompletableFuture<V> flight = new CompletableFuture<>();
+        final CompletableFuture<V> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            coalesced.increment();
+            return AsyncCaches.join(inFlight);
+        }
+
+        executed.increment();
+        try {
+            final V value = call.get();
+            flight.complete(value);
+            return value;
+        } catch (final RuntimeException ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            flights.remove(key, flight);
+            // Only has an effect if the call threw an error, so the other callers don't wait forever
+            flight.cancel(false);
+        }
+    }
+
+    private static Counter counter(final String name, final String result, final MeterRegistry meterRegistry) {
+        return Counter.builder("singleflight.calls")
+            .description("Calls made, and calls that shared a call already being made")
+            .tag("name", name)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.context.i18n.LocaleContextHolder;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Locale;
@@ -59,8 +60,16 @@ public final class Utils {
      * @return the chosen string
      */
     public static String chooseString(String welsh, String english) {
-        boolean welshPreferred = "cy".equals(LocaleContextHolder.getLocale().getLanguage());
-        return welshPreferred && null != welsh && !welsh.isBlank() ? welsh : english;
+        return isWelshPreferred() && null != welsh && !welsh.isBlank() ? welsh : english;
+    }
+
+    /**
+     * Check if the current locale is Welsh.
+     *
+     * @return true if Welsh is preferred, false otherwise
+     */
+    public static boolean isWelshPreferred() {
+        return "cy".equals(LocaleContextHolder.getLocale().getLanguage());
     }
 
     /**
@@ -93,6 +102,20 @@ public final class Utils {
         return input.replaceAll("\\s+","").toUpperCase(Locale.getDefault());
     }
 
+    /**
+     * Convert postcodes as {@link #upperCaseAndStripAllSpaces(String)} does, dropping blanks and repeats.
+     *
+     * @param postcodes the postcodes to convert
+     * @return the distinct converted postcodes, in the order first given
+     */
+    public static List<String> distinctPostcodes(final Collection<String> postcodes) {
+        return postcodes.stream()
+            .filter(StringUtils::isNotBlank)
+            .map(Utils::upperCaseAndStripAllSpaces)
+            .distinct()
+            .collect(toList());
+    }
+
     /**
      * Construct a list of address lines from a single string.
      *
@@ -0,0 +1,44 @@
+-- Indexes for the native search queries in CourtRepository and CourtWithDistanceRepository, so they no longer
+-- scan every court, address and postcode. The indexed expressions are written exactly as the queries compare
+-- them, which lets Postgres 11 use them without generated columns.
+
+-- Court search (queryBy): substring matches on the court codes, towns and compacted postcodes. The court names
+-- and addresses are already covered by the trigram indexes from V116.
+CREATE INDEX IF NOT EXISTS trgm_idx_cci_code ON public.search_court USING GIN (CAST(cci_code AS text) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_number ON public.search_court USING GIN (CAST(number AS text) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_magistrate_code ON public.search_court USING GIN (CAST(magistrate_code AS text) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_town_name ON public.search_courtaddress USING GIN (town_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_town_name_cy ON public.search_courtaddress USING GIN (town_name_cy gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_postcode_compact ON public.search_courtaddress USING GIN (REPLACE(postcode, ' ', '') gin_trgm_ops);
+
+-- Exact match search: substring matches on the texts with punctuation removed
+CREATE INDEX IF NOT EXISTS trgm_idx_name_normalised ON public.search_court
+  USING GIN (regexp_replace(name, '[^A-Za-z0-9]+', '', 'g') gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_name_cy_normalised ON public.search_court
+  USING GIN (regexp_replace(name_cy, '[^A-Za-z0-9]+', '', 'g') gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_address_normalised ON public.search_courtaddress
+  USING GIN (regexp_replace(address, '[^A-Za-z0-9]+', '', 'g') gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_address_cy_normalised ON public.search_courtaddress
+  USING GIN (regexp_replace(address_cy, '[^A-Za-z0-9]+', '', 'g') gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_town_name_normalised ON public.search_courtaddress
+  USING GIN (regexp_replace(town_name, '[^A-Za-z0-9]+', '', 'g') gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_town_name_cy_normalised ON public.search_courtaddress
+  USING GIN (regexp_replace(town_name_cy, '[^A-Za-z0-9]+', '', 'g') gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_postcode_normalised ON public.search_courtaddress
+  USING GIN (regexp_replace(postcode, '[^A-Za-z0-9]+', '', 'g') gin_trgm_ops);
+
+-- Court code and full postcode searches
+CREATE INDEX IF NOT EXISTS search_court_cci_code_idx ON public.search_court USING btree (cci_code);
+CREATE INDEX IF NOT EXISTS search_court_number_idx ON public.search_court USING btree (number);
+CREATE INDEX IF NOT EXISTS search_court_magistrate_code_idx ON public.search_court USING btree (magistrate_code);
+CREATE INDEX IF NOT EXISTS search_courtaddress_postcode_compact_idx ON public.search_courtaddress
+  USING btree (REPLACE(postcode, ' ', ''));
+
+-- Nearest court searches: case-insensitive area of law, local authority and court postcode lookups
+CREATE INDEX IF NOT EXISTS search_areaoflaw_upper_name_idx ON public.search_areaoflaw USING btree (UPPER(name));
+CREATE INDEX IF NOT EXISTS search_localauthority_upper_name_idx ON public.search_localauthority USING btree (UPPER(name));
+CREATE INDEX IF NOT EXISTS search_courtpostcode_postcode_compact_idx ON public.search_courtpostcode
+  USING btree (UPPER(REPLACE(postcode, ' ', '')));
+
+-- Nearest court searches: ordering by distance from a point
+CREATE INDEX IF NOT EXISTS search_court_earth_idx ON public.search_court USING GiST (ll_to_earth(lat, lon));
@@ -0,0 +1,6 @@
+-- Indexes for the admin audit search. The location and email filters are substring matches, which the trigram
+-- indexes answer without scanning the table, and the audits are read newest first from the creation time index,
+-- which the keyset pages seek into instead of skipping every earlier row.
+CREATE INDEX IF NOT EXISTS trgm_idx_admin_audit_location ON public.admin_audit USING GIN (location gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_admin_audit_user_email ON public.admin_audit USING GIN (user_email gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS admin_audit_creation_time_id_idx ON public.admin_audit USING btree (creation_time DESC, id DESC);
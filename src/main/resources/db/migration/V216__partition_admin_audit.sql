@@ -0,0 +1,64 @@
+-- Partition admin_audit by month of creation_time, so the audit search only reads the recent partitions and old
+-- months can be moved to admin_audit_archive by the AuditRetentionJob without deleting rows from a large table.
+-- Partitioned tables need the partition key in the primary key, so it becomes (id, creation_time).
+
+ALTER SEQUENCE public.admin_audit_id_seq OWNED BY NONE;
+ALTER TABLE public.admin_audit RENAME TO admin_audit_unpartitioned;
+DROP INDEX IF EXISTS public.trgm_idx_admin_audit_location;
+DROP INDEX IF EXISTS public.trgm_idx_admin_audit_user_email;
+DROP INDEX IF EXISTS public.admin_audit_creation_time_id_idx;
+
+CREATE TABLE public.admin_audit (
+  id integer NOT NULL DEFAULT nextval('public.admin_audit_id_seq'::regclass),
+  user_email character varying(255) NOT NULL,
+  action_id integer NOT NULL,
+  action_data_before character varying,
+  action_data_after character varying,
+  location character varying(255),
+  creation_time timestamp NOT NULL,
+  PRIMARY KEY (id, creation_time)
+) PARTITION BY RANGE (creation_time);
+
+ALTER SEQUENCE public.admin_audit_id_seq OWNED BY public.admin_audit.id;
+
+-- Catches audits outside the monthly partitions, such as those written with a wrong clock
+CREATE TABLE public.admin_audit_default PARTITION OF public.admin_audit DEFAULT;
+
+-- Creates the partition for the month starting on month_start, named admin_audit_pYYYYMM, if it doesn't exist
+CREATE OR REPLACE FUNCTION public.create_admin_audit_partition(month_start date) RETURNS void AS $$
+BEGIN
+  EXECUTE format(
+    'CREATE TABLE IF NOT EXISTS public.%I PARTITION OF public.admin_audit FOR VALUES FROM (%L) TO (%L)',
+    'admin_audit_p' || to_char(month_start, 'YYYYMM'),
+    date_trunc('month', month_start)::date,
+    (date_trunc('month', month_start) + interval '1 month')::date
+  );
+END;
+$$ LANGUAGE plpgsql;
+
+-- A partition for every month from the oldest audit to three months ahead
+SELECT public.create_admin_audit_partition(month_start::date)
+FROM generate_series(
+  date_trunc('month', COALESCE((SELECT MIN(creation_time) FROM public.admin_audit_unpartitioned), now())),
+  date_trunc('month', now()) + interval '3 months',
+  interval '1 month'
+) AS month_start;
+
+INSERT INTO public.admin_audit (id, user_email, action_id, action_data_before, action_data_after, location, creation_time)
+SELECT id, user_email, action_id, action_data_before, action_data_after, location, creation_time
+FROM public.admin_audit_unpartitioned;
+
+DROP TABLE public.admin_audit_unpartitioned;
+
+-- The indexes from V215, created on every partition
+CREATE INDEX IF NOT EXISTS trgm_idx_admin_audit_location ON public.admin_audit USING GIN (location gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS trgm_idx_admin_audit_user_email ON public.admin_audit USING GIN (user_email gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS admin_audit_creation_time_id_idx ON public.admin_audit USING btree (creation_time DESC, id DESC);
+
+-- The archived months: the audits of each month as gzipped JSON lines, oldest first
+CREATE TABLE public.admin_audit_archive (
+  month date PRIMARY KEY NOT NULL,
+  audit_count integer NOT NULL,
+  audits bytea NOT NULL,
+  archived_at timestamp NOT NULL DEFAULT now()
+);
@@ -0,0 +1,3 @@
+-- How action_data_before is stored: FULL, the JSON document, or PATCH, a JSON Patch (RFC 6902) that turns
+-- action_data_after back into it. The existing audits hold full documents.
+ALTER TABLE public.admin_audit ADD COLUMN action_data_encoding character varying(10) NOT NULL DEFAULT 'FULL';
@@ -0,0 +1,9 @@
+-- One lock per court, so a lock can be taken or renewed with a single INSERT ... ON CONFLICT (court_slug).
+-- Where a court has more than one lock, the most recent is kept.
+DELETE FROM public.admin_courtlock older
+USING public.admin_courtlock newer
+WHERE older.court_slug = newer.court_slug
+  AND (older.lock_acquired < newer.lock_acquired
+       OR (older.lock_acquired = newer.lock_acquired AND older.id < newer.id));
+
+CREATE UNIQUE INDEX IF NOT EXISTS admin_courtlock_court_slug_idx ON public.admin_courtlock USING btree (court_slug);
@@ -0,0 +1,10 @@
+-- One row per postcode per court, so postcodes can be added with a single INSERT ... ON CONFLICT DO NOTHING.
+-- Where a court has the same postcode more than once, the first row is kept.
+DELETE FROM public.search_courtpostcode later
+USING public.search_courtpostcode earlier
+WHERE later.court_id = earlier.court_id
+  AND later.postcode = earlier.postcode
+  AND later.id > earlier.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS search_courtpostcode_court_id_postcode_idx
+  ON public.search_courtpostcode USING btree (court_id, postcode);
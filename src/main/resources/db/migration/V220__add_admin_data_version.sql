@@ -0,0 +1,8 @@
+-- A marker bumped by every admin write to court or reference data, so each instance of the application can tell
+-- when another instance has changed the data, and only then rebuild its in-memory copies of it.
+CREATE TABLE public.admin_data_version (
+  id integer PRIMARY KEY NOT NULL,
+  version bigint NOT NULL
+);
+
+INSERT INTO public.admin_data_version (id, version) VALUES (1, 0);
@@ -0,0 +1,13 @@
+-- Audits written in the transaction of the admin change they record, and moved to admin_audit in batches by the
+-- AuditWriter. Unlike admin_audit the outbox has no index but its key and isn't partitioned, so an admin write
+-- only pays for a narrow insert, and an audit is never lost once its change has committed.
+CREATE TABLE public.admin_audit_outbox (
+  id bigserial PRIMARY KEY,
+  user_email character varying(255) NOT NULL,
+  action_id integer NOT NULL,
+  action_data_before character varying,
+  action_data_after character varying,
+  location character varying(255),
+  creation_time timestamp NOT NULL,
+  action_data_encoding character varying(10) NOT NULL
+);
@@ -0,0 +1,107 @@
+package uk.gov.hmcts.dts.fact.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"PMD.CloseResource", "PMD.DoNotUseThreads"})
+class BoundedDataSourceTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(100);
+
+    private DataSource dataSource;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    void shouldCloseTheUnderlyingConnection() throws SQLException {
+        final BoundedDataSource boundedDataSource = new BoundedDataSource(dataSource, 1, 1, TIMEOUT);
+
+        boundedDataSource.getConnection().close();
+
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldTimeOutWhenEveryConnectionIsOpen() throws SQLException {
+        final BoundedDataSource boundedDataSource = new BoundedDataSource(dataSource, 1, 1, TIMEOUT);
+        final Connection open = boundedDataSource.getConnection();
+
+        assertThatThrownBy(boundedDataSource::getConnection)
+            .isInstanceOf(SQLTransientConnectionException.class)
+            .hasMessage("Timed out after 100ms waiting for one of 1 connections");
+
+        open.close();
+        assertThat(boundedDataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void shouldReleaseTheConnectionOnlyOnce() throws SQLException {
+        final BoundedDataSource boundedDataSource = new BoundedDataSource(dataSource, 1, 1, TIMEOUT);
+        final Connection open = boundedDataSource.getConnection();
+        open.close();
+        open.close();
+
+        boundedDataSource.getConnection();
+        assertThatThrownBy(boundedDataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void shouldReleaseThePermitIfTheConnectionCannotBeOpened() throws SQLException {
+        final BoundedDataSource boundedDataSource = new BoundedDataSource(dataSource, 1, 1, TIMEOUT);
+        when(dataSource.getConnection()).thenThrow(new SQLException("Connection refused")).thenReturn(connection);
+
+        assertThatThrownBy(boundedDataSource::getConnection).hasMessage("Connection refused");
+        assertThat(boundedDataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void shouldRejectStraightAwayWhenTooManyThreadsAreWaiting() throws Exception {
+        final BoundedDataSource boundedDataSource = new BoundedDataSource(dataSource, 1, 1, Duration.ofSeconds(10));
+        final Connection open = boundedDataSource.getConnection();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return boundedDataSource.getConnection();
+                } catch (final SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            }, executor);
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (boundedDataSource.getWaiting() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThatThrownBy(boundedDataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessage("1 threads are already waiting for one of 1 connections");
+
+            open.close();
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isNotNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1,22 +1,30 @@
 package uk.gov.hmcts.dts.fact.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import uk.gov.hmcts.dts.fact.entity.CourtHistory;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.http.EncodedJson;
+import uk.gov.hmcts.dts.fact.http.JsonResponseCache;
 import uk.gov.hmcts.dts.fact.model.Court;
 import uk.gov.hmcts.dts.fact.model.CourtReference;
 import uk.gov.hmcts.dts.fact.model.CourtReferenceWithHistoricalName;
 import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
 import uk.gov.hmcts.dts.fact.services.CourtService;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,13 +34,17 @@ import java.util.Optional;
 import static java.nio.file.Files.readAllBytes;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(CourtsController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import({JsonResponseCache.class, SimpleMeterRegistry.class})
 class CourtsControllerTest {
 
     private static final String URL = "/courts";
@@ -45,9 +57,20 @@ class CourtsControllerTest {
     @Autowired
     private transient MockMvc mockMvc;
 
+    @Autowired
+    private JsonResponseCache jsonResponseCache;
+
     @MockitoBean
     private CourtService courtService;
 
+    @MockitoBean
+    private DataVersion dataVersion;
+
+    @BeforeEach
+    void setUp() {
+        jsonResponseCache.invalidateAll();
+    }
+
     @Test
     void shouldFindCourtBySlugDeprecated() throws Exception {
 
@@ -114,7 +137,7 @@ class CourtsControllerTest {
         final Court court = OBJECT_MAPPER.readValue(path.toFile(), Court.class);
         final String searchSlug = "some-slug";
 
-        when(courtService.getCourtBySlug(searchSlug)).thenReturn(court);
+        when(courtService.getCourtBySlug(searchSlug)).thenReturn(encode(court));
 
         mockMvc.perform(get(String.format(URL + "/%s", searchSlug)))
             .andExpect(status().isOk())
@@ -174,4 +197,66 @@ class CourtsControllerTest {
             .andExpect(content().json(courtInfoJson))
             .andReturn();
     }
+
+    @Test
+    void shouldSetTheETagAndLastModifiedHeadersOfACourt() throws Exception {
+        final Court court = new Court();
+        court.setSlug("some-slug");
+        court.setLastModified(Instant.parse("2024-02-03T10:15:30Z"));
+        when(courtService.getCourtBySlug("some-slug")).thenReturn(encode(court));
+
+        mockMvc.perform(get(URL + "/some-slug"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Sat, 03 Feb 2024 10:15:30 GMT"))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_LANGUAGE));
+    }
+
+    @Test
+    void shouldRespondWithNotModifiedWhenTheETagMatches() throws Exception {
+        final Court court = new Court();
+        court.setSlug("some-slug");
+        when(courtService.getCourtBySlug("some-slug")).thenReturn(encode(court));
+
+        final String etag = mockMvc.perform(get(URL + "/some-slug"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(URL + "/some-slug").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag));
+        verify(courtService, times(1)).getCourtBySlug("some-slug");
+    }
+
+    @Test
+    void shouldEncodeEachLanguageSeparately() throws Exception {
+        final Court court = new Court();
+        court.setSlug("some-slug");
+        when(courtService.getCourtBySlug("some-slug")).thenReturn(encode(court));
+
+        mockMvc.perform(get(URL + "/some-slug").header(HttpHeaders.ACCEPT_LANGUAGE, "cy")).andExpect(status().isOk());
+        mockMvc.perform(get(URL + "/some-slug").header(HttpHeaders.ACCEPT_LANGUAGE, "en")).andExpect(status().isOk());
+        mockMvc.perform(get(URL + "/some-slug").header(HttpHeaders.ACCEPT_LANGUAGE, "cy")).andExpect(status().isOk());
+
+        verify(courtService, times(2)).getCourtBySlug("some-slug");
+    }
+
+    @Test
+    void shouldEncodeTheCourtAgainWhenTheDataVersionMovesOn() throws Exception {
+        final Court court = new Court();
+        court.setSlug("some-slug");
+        when(courtService.getCourtBySlug("some-slug")).thenReturn(encode(court));
+
+        mockMvc.perform(get(URL + "/some-slug")).andExpect(status().isOk());
+        when(dataVersion.current()).thenReturn(1L);
+        mockMvc.perform(get(URL + "/some-slug")).andExpect(status().isOk());
+
+        verify(courtService, times(2)).getCourtBySlug("some-slug");
+    }
+
+    private static EncodedJson encode(final Court court) {
+        return EncodedJson.encode(OBJECT_MAPPER, court, court.getLastModified());
+    }
 }
@@ -4,20 +4,28 @@ import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.dts.fact.model.PostcodeServiceAreaSearch;
+import uk.gov.hmcts.dts.fact.services.BatchSearchService;
 import uk.gov.hmcts.dts.fact.services.CourtService;
 import uk.gov.hmcts.dts.fact.util.Action;
 
+import java.util.List;
+
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SuppressWarnings("PMD.TooManyMethods")
@@ -33,6 +41,9 @@ class SearchControllerTest {
     @MockitoBean
     private CourtService courtService;
 
+    @MockitoBean
+    private BatchSearchService batchSearchService;
+
     @Autowired
     private transient MockMvc mockMvc;
 
@@ -81,7 +92,7 @@ class SearchControllerTest {
         mockMvc.perform(get(BASE_URL + "/results?postcode=OX1 1RZ&serviceArea=Crime&action="))
             .andExpect(status().isOk());
 
-        verify(courtService).getNearestCourtsByPostcodeSearch(POSTCODE, CRIME, false, Action.UNDEFINED);
+        verify(courtService).getNearestCourtsByPostcodeAndServiceArea(POSTCODE, CRIME, Action.UNDEFINED, false);
     }
 
     @Test
@@ -89,7 +100,7 @@ class SearchControllerTest {
         mockMvc.perform(get(BASE_URL + "/results?postcode=B1 1AA&serviceArea=childcare-arrangements&action="))
             .andExpect(status().isOk());
 
-        verify(courtService).getNearestCourtsByAreaOfLawSinglePointOfEntry("B1 1AA", "childcare-arrangements", CHILDREN, Action.UNDEFINED, false);
+        verify(courtService).getNearestCourtsByPostcodeAndServiceArea("B1 1AA", "childcare-arrangements", Action.UNDEFINED, false);
     }
 
     @Test
@@ -97,7 +108,7 @@ class SearchControllerTest {
         mockMvc.perform(get(BASE_URL + "/results?postcode=OX1 1RZ&serviceArea=Crime&action=nearest"))
             .andExpect(status().isOk());
 
-        verify(courtService).getNearestCourtsByPostcodeActionAndAreaOfLawSearch(POSTCODE, CRIME, Action.NEAREST, false);
+        verify(courtService).getNearestCourtsByPostcodeAndServiceArea(POSTCODE, CRIME, Action.NEAREST, false);
     }
 
     @Test
@@ -134,4 +145,24 @@ class SearchControllerTest {
         }
         verifyNoInteractions(courtService);
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSearchCourtsByBatchOfPostcodesAndServiceAreas() throws Exception {
+        mockMvc.perform(post(BASE_URL + "/results/batch")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[{\"postcode\":\"OX1 1RZ\",\"serviceArea\":\"money-claims\"},"
+                                         + "{\"postcode\":\"BN21 2BH\",\"serviceArea\":\"adoption\","
+                                         + "\"action\":\"nearest\",\"includeClosed\":true}]"))
+            .andExpect(status().isOk());
+
+        final ArgumentCaptor<List<PostcodeServiceAreaSearch>> searches = ArgumentCaptor.forClass(List.class);
+        verify(batchSearchService).getNearestCourtsByPostcodeSearches(searches.capture());
+        assertThat(searches.getValue())
+            .extracting("postcode", "serviceArea", "action", "includeClosed")
+            .containsExactly(
+                tuple(POSTCODE, "money-claims", null, false),
+                tuple("BN21 2BH", "adoption", "nearest", true)
+            );
+    }
 }
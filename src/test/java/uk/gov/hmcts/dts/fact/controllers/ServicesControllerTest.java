@@ -1,15 +1,21 @@
 package uk.gov.hmcts.dts.fact.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.http.JsonResponseCache;
 import uk.gov.hmcts.dts.fact.model.Service;
 import uk.gov.hmcts.dts.fact.model.ServiceArea;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
 import uk.gov.hmcts.dts.fact.services.ServiceService;
 
 import java.nio.file.Path;
@@ -22,10 +28,12 @@ import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(ServicesController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import({JsonResponseCache.class, SimpleMeterRegistry.class})
 class ServicesControllerTest {
 
     private static final String URL = "/services";
@@ -35,9 +43,20 @@ class ServicesControllerTest {
     @Autowired
     private transient MockMvc mockMvc;
 
+    @Autowired
+    private JsonResponseCache jsonResponseCache;
+
     @MockitoBean
     private ServiceService serviceService;
 
+    @MockitoBean
+    private DataVersion dataVersion;
+
+    @BeforeEach
+    void setUp() {
+        jsonResponseCache.invalidateAll();
+    }
+
     @Test
     void shouldGetServices() throws Exception {
 
@@ -48,7 +67,8 @@ class ServicesControllerTest {
         when(serviceService.getAllServices()).thenReturn(services);
         mockMvc.perform(get(URL + "/"))
             .andExpect(status().isOk())
-            .andExpect(content().json(expected));
+            .andExpect(content().json(expected))
+            .andExpect(header().exists(HttpHeaders.ETAG));
     }
 
     @Test
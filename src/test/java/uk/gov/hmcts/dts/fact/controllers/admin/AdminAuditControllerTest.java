@@ -14,6 +14,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import uk.gov.hmcts.dts.fact.entity.AuditType;
 import uk.gov.hmcts.dts.fact.model.admin.Audit;
+import uk.gov.hmcts.dts.fact.model.admin.AuditSlice;
 import uk.gov.hmcts.dts.fact.services.admin.AdminAuditService;
 
 import java.time.LocalDateTime;
@@ -49,6 +50,8 @@ class AdminAuditControllerTest {
     private static final String BASE_PATH = "/admin/audit?page=%d&size=%d";
     private static final String BASE_PATH_SEARCH_NO_DATE_RANGE = BASE_PATH + "&location=%s&email=%s";
     private static final String BASE_PATH_SEARCH_WITH_DATE_RANGE = BASE_PATH + "&location=%s&email=%s&dateFrom=%s&dateTo=%s";
+    private static final String CURSOR_PATH = "/admin/audit?cursor=%s&size=%d";
+    private static final String TEST_CURSOR = "MjAyNC0xMS0xMFQxMDoxMDoxMHwy";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static String auditJson;
 
@@ -154,4 +157,45 @@ class AdminAuditControllerTest {
             .andExpect(content().json(auditJsonWithLondonTime));
     }
 
+    @Test
+    void shouldRetrieveFirstPageOfAuditsWithEmptyCursor() throws Exception {
+        final AuditSlice auditSlice = new AuditSlice(AUDIT_LIST, TEST_CURSOR);
+        when(adminAuditService.getAuditDataAfter("", TEST_SIZE, Optional.empty(), Optional.empty(),
+                                                 Optional.empty(), Optional.empty())).thenReturn(auditSlice);
+
+        mockMvc.perform(get(String.format(CURSOR_PATH, "", TEST_SIZE)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(content().json(OBJECT_MAPPER.writeValueAsString(auditSlice)));
+    }
+
+    @Test
+    void shouldRetrieveAuditsAfterCursorWithLocationEmailAndDateRange() throws Exception {
+        final AuditSlice auditSlice = new AuditSlice(AUDIT_LIST, null);
+        when(adminAuditService.getAuditDataAfter(TEST_CURSOR, TEST_SIZE, Optional.of(TEST_LOCATION),
+                                                 Optional.of(TEST_EMAIL), Optional.of(TEST_DATE_FROM),
+                                                 Optional.of(TEST_DATE_TO))).thenReturn(auditSlice);
+
+        mockMvc.perform(get(String.format(CURSOR_PATH + "&location=%s&email=%s&dateFrom=%s&dateTo=%s", TEST_CURSOR,
+                                          TEST_SIZE, TEST_LOCATION, TEST_EMAIL, TEST_DATE_FROM, TEST_DATE_TO)))
+            .andExpect(status().isOk())
+            .andExpect(content().json(OBJECT_MAPPER.writeValueAsString(auditSlice)));
+    }
+
+    @Test
+    void shouldGetABadResponseForAnInvalidCursor() throws Exception {
+        when(adminAuditService.getAuditDataAfter("bad", TEST_SIZE, Optional.empty(), Optional.empty(),
+                                                 Optional.empty(), Optional.empty()))
+            .thenThrow(new IllegalArgumentException("Invalid audit cursor: bad"));
+
+        mockMvc.perform(get(String.format(CURSOR_PATH, "bad", TEST_SIZE)))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldGetABadResponseIfOneDateSpecifiedButNotTheOtherWithCursor() throws Exception {
+        mockMvc.perform(get(String.format(CURSOR_PATH + "&dateFrom=%s", TEST_CURSOR, TEST_SIZE, TEST_DATE_FROM)))
+            .andExpect(status().isBadRequest());
+    }
+
 }
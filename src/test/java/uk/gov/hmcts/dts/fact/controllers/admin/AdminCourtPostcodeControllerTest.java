@@ -15,6 +15,7 @@ import org.springframework.web.context.WebApplicationContext;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeExistedException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeNotFoundException;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeImport;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtLockService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtPostcodeService;
 import uk.gov.hmcts.dts.fact.services.validation.ValidationService;
@@ -46,6 +47,7 @@ import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
 class AdminCourtPostcodeControllerTest {
     private static final String BASE_PATH = "/admin/courts/";
     private static final String POSTCODE_PATH = "/postcodes";
+    private static final String IMPORT_PATH = "/postcodes/import";
     private static final String TEST_SLUG = "test-slug";
     private static final String SOURCE_SLUG = "source-slug";
     private static final String DESTINATION_SLUG = "destination-slug";
@@ -338,4 +340,54 @@ class AdminCourtPostcodeControllerTest {
             .andExpect(status().isConflict())
             .andExpect(content().json(expectedExistedPostcodesJson));
     }
+
+    @Test
+    void importPostcodesShouldDeduplicateBeforeValidating() throws Exception {
+        final PostcodeImport postcodeImport = new PostcodeImport(2, singletonList(TEST_POSTCODE1), EXISTED_POSTCODE);
+        final List<String> postcodes = Arrays.asList(TEST_POSTCODE1, TEST_POSTCODE2);
+        when(validationService.validatePostcodes(postcodes)).thenReturn(Collections.emptyList());
+        when(adminService.importCourtPostcodes(TEST_SLUG, postcodes)).thenReturn(postcodeImport);
+
+        mockMvc.perform(post(BASE_PATH + TEST_SLUG + IMPORT_PATH)
+                            .with(csrf())
+                            .content(OBJECT_MAPPER.writeValueAsString(
+                                Arrays.asList("m1 1aa", TEST_POSTCODE2, TEST_POSTCODE1)))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().json(OBJECT_MAPPER.writeValueAsString(postcodeImport)));
+
+        verify(adminCourtLockService, times(1)).updateCourtLock(TEST_SLUG, TEST_USER);
+    }
+
+    @Test
+    void importPostcodesShouldReadACsvUpload() throws Exception {
+        final PostcodeImport postcodeImport = new PostcodeImport(3, TEST_POSTCODES, Collections.emptyList());
+        when(validationService.validatePostcodes(TEST_POSTCODES)).thenReturn(Collections.emptyList());
+        when(adminService.importCourtPostcodes(TEST_SLUG, TEST_POSTCODES)).thenReturn(postcodeImport);
+
+        mockMvc.perform(post(BASE_PATH + TEST_SLUG + IMPORT_PATH)
+                            .with(csrf())
+                            .content("postcode\nM1 1AA\nM1 1BB\nM1 1CC\n")
+                            .contentType("text/csv")
+                            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(content().json(OBJECT_MAPPER.writeValueAsString(postcodeImport)));
+    }
+
+    @Test
+    void importPostcodesShouldReturnBadRequestForInvalidPostcodes() throws Exception {
+        when(validationService.validatePostcodes(TEST_POSTCODES)).thenReturn(INVALID_POSTCODE);
+
+        mockMvc.perform(post(BASE_PATH + TEST_SLUG + IMPORT_PATH)
+                            .with(csrf())
+                            .content(expectedPostcodeJson)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().json(JSON_INVALID_POSTCODE));
+
+        verify(adminService, never()).importCourtPostcodes(any(), any());
+        verify(adminCourtLockService, never()).updateCourtLock(any(), any());
+    }
 }
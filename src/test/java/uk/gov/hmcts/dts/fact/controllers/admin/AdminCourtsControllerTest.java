@@ -10,6 +10,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.context.WebApplicationContext;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.CourtForDownload;
@@ -18,10 +19,14 @@ import uk.gov.hmcts.dts.fact.model.admin.Court;
 import uk.gov.hmcts.dts.fact.model.admin.CourtInfoUpdate;
 import uk.gov.hmcts.dts.fact.model.admin.ImageFile;
 import uk.gov.hmcts.dts.fact.model.admin.NewCourt;
+import uk.gov.hmcts.dts.fact.services.admin.AdminCourtExportService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminCourtLockService;
 import uk.gov.hmcts.dts.fact.services.admin.AdminService;
+import uk.gov.hmcts.dts.fact.services.admin.CourtExportFormat;
 import uk.gov.hmcts.dts.fact.util.MvcSecurityUtil;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
@@ -31,17 +36,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_ADMIN;
@@ -75,6 +84,9 @@ class AdminCourtsControllerTest {
     @MockitoBean
     private AdminCourtLockService adminCourtLockService;
 
+    @MockitoBean
+    private AdminCourtExportService adminCourtExportService;
+
     @Autowired
     private WebApplicationContext context;
 
@@ -195,6 +207,36 @@ class AdminCourtsControllerTest {
             .andReturn();
     }
 
+    @Test
+    void shouldExportCourtsAsNdjson() throws Exception {
+        final String ndjson = "{\"name\":\"Aylesbury Court\"}\n{\"name\":\"Bedford Court\"}\n";
+        doAnswer(invocation -> {
+            invocation.getArgument(1, OutputStream.class).write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(adminCourtExportService).exportCourts(eq(CourtExportFormat.NDJSON), any());
+
+        final MvcResult result = mockMvc.perform(get(TEST_URL + "/export").accept("application/x-ndjson"))
+            .andExpect(status().isOk())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"courts.ndjson\""))
+            .andExpect(content().string(ndjson));
+    }
+
+    @Test
+    void shouldExportCourtsAsCsv() throws Exception {
+        final MvcResult result = mockMvc.perform(get(TEST_URL + "/export").accept("text/csv"))
+            .andExpect(status().isOk())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv"))
+            .andExpect(header().string("Content-Disposition", "attachment; filename=\"courts.csv\""));
+        verify(adminCourtExportService).exportCourts(eq(CourtExportFormat.CSV), any());
+    }
+
     @Test
     void shouldFindCourtBySlug() throws Exception {
 
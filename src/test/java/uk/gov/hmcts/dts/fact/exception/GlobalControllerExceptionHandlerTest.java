@@ -5,9 +5,11 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -41,4 +43,29 @@ class GlobalControllerExceptionHandlerTest {
         assertTrue(responseBody.containsKey("message"));
         assertEquals(EPIM_ERROR_MESSAGE, responseBody.get("message"));
     }
+
+    @Test
+    void shouldReturnGatewayTimeoutResponseForSearchTimeout() throws JsonProcessingException {
+
+        SearchTimeoutException exception = new SearchTimeoutException("Timed out");
+
+        ResponseEntity<String> response = exceptionHandler.searchTimeoutExceptionHandler(exception);
+
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, response.getStatusCode());
+        Map<String, String> responseBody = objectMapper.readValue(response.getBody(), new TypeReference<>() {});
+        assertEquals("Timed out", responseBody.get("message"));
+    }
+
+    @Test
+    void shouldReturnServiceUnavailableResponseForPostcodesThatCouldNotBeChecked() throws JsonProcessingException {
+
+        PostcodeCheckUnavailableException exception = new PostcodeCheckUnavailableException(List.of("OX1 1RZ"));
+
+        ResponseEntity<String> response = exceptionHandler.postcodeCheckUnavailableExceptionHandler(exception);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        Map<String, String> responseBody = objectMapper.readValue(response.getBody(), new TypeReference<>() {});
+        assertTrue(responseBody.get("message").contains("OX1 1RZ"));
+    }
 }
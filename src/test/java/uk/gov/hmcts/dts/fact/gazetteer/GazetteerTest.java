@@ -0,0 +1,127 @@
+package uk.gov.hmcts.dts.fact.gazetteer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class GazetteerTest {
+
+    private static final String CSV = String.join(
+        "\n",
+        "postcode,lat,lon,council_code,council_name,region_name,region_type",
+        "OX1 1RZ,51.7522,-1.2560,E07000178,Oxford City Council,South East,ER",
+        "OX1 2JD,51.7548,-1.2544,E07000178,Oxford City Council,South East,ER",
+        "OX10 0AA,51.6000,-1.1250,E07000179,South Oxfordshire District Council,South East,ER",
+        "CF10 1EP,51.4816,-3.1791,W06000015,Cardiff Council,South Wales Central,WAE",
+        "BS1 4DJ,51.4545,-2.5879,E06000023,\"Bristol, City of\",South West,ER",
+        "W1A 0AX,51.5186,-0.1438,,,,",
+        "SW1A 1AA,,,E09000033,Westminster City Council,London,ER",
+        "NOT A POSTCODE,51.0,-1.0,E1,Council,Region,ER"
+    );
+
+    private Gazetteer gazetteer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertThat(GazetteerFileWriter.write(new StringReader(CSV), output)).isEqualTo(6);
+        gazetteer = new Gazetteer(GazetteerFile.wrap(ByteBuffer.wrap(output.toByteArray())));
+    }
+
+    @Test
+    void shouldFindFullPostcodesIgnoringCaseAndSpaces() {
+        final Optional<MapitData> result = gazetteer.getMapitData("ox11rz");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getLat()).isCloseTo(51.7522, within(1e-5));
+        assertThat(result.get().getLon()).isCloseTo(-1.2560, within(1e-5));
+    }
+
+    @Test
+    void shouldReturnLocalAuthorityAndRegionInTheMapitFormat() {
+        final MapitData englishPostcode = gazetteer.getMapitData("OX1 1RZ").orElseThrow();
+        final MapitData welshPostcode = gazetteer.getMapitData("CF10 1EP").orElseThrow();
+
+        assertThat(englishPostcode.getLocalAuthority()).contains("Oxford City Council");
+        assertThat(englishPostcode.getRegionFromMapitData()).isEqualTo("South East");
+        assertThat(welshPostcode.getLocalAuthority()).contains("Cardiff Council");
+        assertThat(welshPostcode.getRegionFromMapitData()).isEqualTo("South Wales Central");
+    }
+
+    @Test
+    void shouldReadQuotedNames() {
+        assertThat(gazetteer.getMapitData("BS1 4DJ").flatMap(MapitData::getLocalAuthority))
+            .contains("Bristol, City of");
+    }
+
+    @Test
+    void shouldReturnPostcodesWithoutACouncil() {
+        final MapitData result = gazetteer.getMapitData("W1A 0AX").orElseThrow();
+
+        assertThat(result.hasLatAndLonValues()).isTrue();
+        assertThat(result.getLocalAuthority()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownOrInvalidPostcodes() {
+        assertThat(gazetteer.getMapitData("OX1 9ZZ")).isEmpty();
+        assertThat(gazetteer.getMapitData("SW1A 1AA")).isEmpty();
+        assertThat(gazetteer.getMapitData("NOT A POSTCODE")).isEmpty();
+        assertThat(gazetteer.getMapitData("")).isEmpty();
+    }
+
+    @Test
+    void shouldReturnTheCentreOfAnOutwardCode() {
+        final Optional<MapitData> result = gazetteer.getMapitDataWithPartial("ox1");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getLat()).isCloseTo(51.7535, within(1e-4));
+        assertThat(result.get().getLon()).isCloseTo(-1.2552, within(1e-4));
+    }
+
+    @Test
+    void shouldNotMatchLongerOutwardCodesForAPartialPostcode() {
+        assertThat(gazetteer.getMapitDataWithPartial("OX10").orElseThrow().getLat()).isCloseTo(51.6, within(1e-5));
+        assertThat(gazetteer.getMapitDataWithPartial("OX2")).isEmpty();
+        assertThat(gazetteer.getMapitDataWithPartial("OX1 1")).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNoFileIsConfigured() {
+        final Gazetteer unconfigured = new Gazetteer("");
+
+        assertThat(unconfigured.getMapitData("OX1 1RZ")).isEmpty();
+        assertThat(unconfigured.getMapitDataWithPartial("OX1")).isEmpty();
+    }
+
+    @Test
+    void shouldLoadAGazetteerFile(@TempDir final Path directory) throws IOException {
+        final Path file = directory.resolve("gazetteer.bin");
+        try (var output = Files.newOutputStream(file)) {
+            GazetteerFileWriter.write(new StringReader(CSV), output);
+        }
+
+        assertThat(new Gazetteer(file.toString()).getMapitData("OX1 2JD")).isPresent();
+    }
+
+    @Test
+    void shouldRejectDuplicatePostcodes() {
+        final String csv = CSV + "\nOX1 1RZ,51.0,-1.0,E07000178,Oxford City Council,South East,ER";
+
+        assertThatThrownBy(() -> GazetteerFileWriter.write(new StringReader(csv), new ByteArrayOutputStream()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package uk.gov.hmcts.dts.fact.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JsonResponseCacheTest {
+
+    private static final Instant EARLIER = Instant.parse("2024-02-03T10:15:30Z");
+    private static final Instant LATER = Instant.parse("2024-03-03T10:15:30Z");
+
+    private DataVersion dataVersion;
+    private JsonResponseCache jsonResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        dataVersion = mock(DataVersion.class);
+        jsonResponseCache = new JsonResponseCache(new ObjectMapper(), dataVersion, new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    void shouldEncodeTheBodyOncePerDataVersion() {
+        final AtomicInteger builds = new AtomicInteger();
+
+        final ResponseEntity<byte[]> first = jsonResponseCache.get("key", builds::incrementAndGet, v -> null);
+        final ResponseEntity<byte[]> second = jsonResponseCache.get("key", builds::incrementAndGet, v -> null);
+        when(dataVersion.current()).thenReturn(1L);
+        final ResponseEntity<byte[]> third = jsonResponseCache.get("key", builds::incrementAndGet, v -> null);
+
+        assertThat(new String(first.getBody(), StandardCharsets.UTF_8)).isEqualTo("1");
+        assertThat(second.getBody()).isEqualTo(first.getBody());
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        assertThat(new String(third.getBody(), StandardCharsets.UTF_8)).isEqualTo("2");
+        assertThat(third.getHeaders().getETag()).isNotEqualTo(first.getHeaders().getETag());
+    }
+
+    @Test
+    void shouldServeBodiesEncodedByTheCallerAsTheyAre() {
+        final EncodedJson encoded = EncodedJson.encode(new ObjectMapper(), "body", EARLIER);
+        final AtomicInteger builds = new AtomicInteger();
+
+        final ResponseEntity<byte[]> first = jsonResponseCache.getEncoded("key", () -> {
+            builds.incrementAndGet();
+            return encoded;
+        });
+        final ResponseEntity<byte[]> second = jsonResponseCache.getEncoded("key", () -> {
+            builds.incrementAndGet();
+            return encoded;
+        });
+
+        assertThat(builds).hasValue(1);
+        assertThat(second.getBody()).isSameAs(first.getBody()).isSameAs(encoded.toResponse().getBody());
+        assertThat(second.getHeaders().getLastModified()).isEqualTo(EARLIER.toEpochMilli());
+    }
+
+    @Test
+    void shouldNotCacheFailures() {
+        assertThatThrownBy(() -> jsonResponseCache.get("key", () -> {
+            throw new NotFoundException("key");
+        }, v -> null)).isInstanceOf(NotFoundException.class);
+
+        assertThat(jsonResponseCache.get("key", () -> "found", v -> null).getBody())
+            .isEqualTo("\"found\"".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldOnlySetLastModifiedWhenItIsKnown() {
+        assertThat(jsonResponseCache.get("known", () -> "body", v -> EARLIER).getHeaders().getLastModified())
+            .isEqualTo(EARLIER.toEpochMilli());
+        assertThat(jsonResponseCache.get("unknown", () -> "body", v -> null).getHeaders().getLastModified())
+            .isEqualTo(-1);
+    }
+
+    @Test
+    void shouldFindTheLatestLastModified() {
+        final Function<Instant, Instant> identity = Function.identity();
+
+        assertThat(JsonResponseCache.latest(List.of(EARLIER, LATER), identity)).isEqualTo(LATER);
+        assertThat(JsonResponseCache.latest(List.of(), identity)).isNull();
+    }
+}
@@ -1,5 +1,7 @@
 package uk.gov.hmcts.dts.fact.mapit;
 
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -13,6 +15,7 @@ import java.io.IOException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,9 +24,17 @@ class MapitHealthIndicatorTest {
     @Mock
     private MapItHealthService mapItService;
 
+    @Mock
+    private ResilientMapitClient mapitClient;
+
     @InjectMocks
     private MapitHealthIndicator healthIndicator;
 
+    @BeforeEach
+    void setUp() {
+        when(mapitClient.getCircuitBreakerState()).thenReturn(CircuitBreaker.State.CLOSED);
+    }
+
     @Test
     void shouldReturnHealthStatusUpWhenMapitServiceIsRunnning() throws IOException {
         when(mapItService.isUp()).thenReturn(true);
@@ -50,4 +61,20 @@ class MapitHealthIndicatorTest {
         assertThat(health.getStatus()).isEqualTo(Status.DOWN);
         assertThat(health.getDetails().get("error")).isEqualTo(MAPIT_USAGE_ERROR);
     }
+
+    @Test
+    void shouldIncludeTheCircuitBreakerState() throws IOException {
+        when(mapItService.isUp()).thenReturn(true);
+        assertThat(healthIndicator.health().getDetails().get("circuitBreaker"))
+            .isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldReturnHealthStatusDownWithoutCallingMapitWhenTheCircuitBreakerIsOpen() {
+        when(mapitClient.getCircuitBreakerState()).thenReturn(CircuitBreaker.State.OPEN);
+        final Health health = healthIndicator.health();
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails().get("circuitBreaker")).isEqualTo(CircuitBreaker.State.OPEN);
+        verifyNoInteractions(mapItService);
+    }
 }
@@ -0,0 +1,157 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MapitPostcodeCacheTest {
+
+    private static final String POSTCODE = "OX1 1RZ";
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Duration NEGATIVE_TTL = Duration.ofMinutes(1);
+    private static final Duration STALE_TTL = Duration.ofHours(2);
+    private static final MapitData MAPIT_DATA = new MapitData(51.7, -1.2, null, null);
+    private static final MapitData MOVED_MAPIT_DATA = new MapitData(51.8, -1.3, null, null);
+
+    private final AtomicLong time = new AtomicLong();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+    private MapitPostcodeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MapitPostcodeCache(meterRegistry, 100, TTL, NEGATIVE_TTL, STALE_TTL, time::get, Runnable::run);
+    }
+
+    @Test
+    void shouldLookUpPostcodesWithCoordinatesAgainAfterTheTtl() {
+        cache.getPostcode(POSTCODE, this::found);
+        advance(NEGATIVE_TTL.plusSeconds(1));
+        cache.getPostcode(POSTCODE, this::found);
+        assertThat(lookups).hasValue(1);
+
+        advance(TTL);
+        cache.getPostcode(POSTCODE, this::found);
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void shouldExpirePostcodesWithoutCoordinatesAfterTheNegativeTtl() {
+        cache.getPostcode(POSTCODE, this::notFound);
+        cache.getPostcode(POSTCODE, this::notFound);
+        assertThat(lookups).hasValue(1);
+
+        advance(NEGATIVE_TTL.plusSeconds(1));
+        cache.getPostcode(POSTCODE, this::notFound);
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void shouldAnswerStalePostcodesWhileLookingThemUpAgain() {
+        cache.getPostcode(POSTCODE, this::found);
+        advance(TTL);
+
+        assertThat(cache.getPostcode(POSTCODE, this::moved).getMapitData()).contains(MAPIT_DATA);
+        assertThat(cache.getPostcode(POSTCODE, this::moved).getMapitData()).contains(MOVED_MAPIT_DATA);
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void shouldKeepStalePostcodesIfTheyCannotBeLookedUpAgain() {
+        cache.getPostcode(POSTCODE, this::found);
+        advance(TTL);
+
+        assertThat(cache.getPostcode(POSTCODE, this::failed).getMapitData()).contains(MAPIT_DATA);
+        assertThat(cache.getPostcode(POSTCODE, this::failed).getMapitData()).contains(MAPIT_DATA);
+        assertThat(lookups).hasValue(3);
+    }
+
+    @Test
+    void shouldExpireStalePostcodesAfterTheStaleTtl() {
+        cache.getPostcode(POSTCODE, this::found);
+        advance(TTL.plus(STALE_TTL).plusSeconds(1));
+
+        assertThat(cache.getPostcode(POSTCODE, this::notFound).getResult()).isEqualTo(MapitLookup.Result.NOT_FOUND);
+    }
+
+    @Test
+    void shouldLookUpAStalePostcodeAgainOnlyOnceAtATime() {
+        final List<Runnable> revalidations = new ArrayList<>();
+        cache = new MapitPostcodeCache(meterRegistry, 100, TTL, NEGATIVE_TTL, STALE_TTL, time::get,
+                                       revalidations::add);
+        cache.getPostcode(POSTCODE, this::found);
+        advance(TTL);
+
+        cache.getPostcode(POSTCODE, this::moved);
+        cache.getPostcode(POSTCODE, this::moved);
+        assertThat(revalidations).hasSize(1);
+
+        revalidations.get(0).run();
+        assertThat(cache.getPostcode(POSTCODE, this::moved).getMapitData()).contains(MOVED_MAPIT_DATA);
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheFailedLookups() {
+        assertThat(cache.getPostcode(POSTCODE, this::failed).isFailed()).isTrue();
+        assertThat(cache.getPostcode(POSTCODE, this::failed).isFailed()).isTrue();
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    void shouldPublishHitAndMissMetrics() {
+        cache.getPostcode(POSTCODE, this::found);
+        cache.getPostcode(POSTCODE, this::found);
+        cache.getPartialPostcode("OX1", this::found);
+
+        assertThat(gets("mapit.postcode", "hit")).isEqualTo(1.0);
+        assertThat(gets("mapit.postcode", "miss")).isEqualTo(1.0);
+        assertThat(gets("mapit.partial-postcode", "miss")).isEqualTo(1.0);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", "mapit.postcode").functionCounter())
+            .isNotNull();
+        assertThat(meterRegistry.get("singleflight.calls").tag("name", "mapit.postcode").counter().count())
+            .isZero();
+    }
+
+    private double gets(final String cacheName, final String result) {
+        return meterRegistry.get("cache.gets")
+            .tag("cache", cacheName)
+            .tag("result", result)
+            .functionCounter()
+            .count();
+    }
+
+    private void advance(final Duration duration) {
+        time.addAndGet(duration.toNanos());
+    }
+
+    private MapitLookup found(final String postcode) {
+        lookups.incrementAndGet();
+        return MapitLookup.found(MAPIT_DATA);
+    }
+
+    private MapitLookup moved(final String postcode) {
+        lookups.incrementAndGet();
+        return MapitLookup.found(MOVED_MAPIT_DATA);
+    }
+
+    private MapitLookup notFound(final String postcode) {
+        lookups.incrementAndGet();
+        return MapitLookup.notFound();
+    }
+
+    private MapitLookup failed(final String postcode) {
+        lookups.incrementAndGet();
+        return MapitLookup.failed();
+    }
+}
@@ -0,0 +1,165 @@
+package uk.gov.hmcts.dts.fact.mapit;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("PMD.DoNotUseThreads")
+class ResilientMapitClientTest {
+
+    private static final String POSTCODE = "OX1 1RZ";
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(50);
+    private static final MapitData MAPIT_DATA = new MapitData(51.7, -1.2, null, null);
+
+    private final MapitClient mapitClient = mock(MapitClient.class);
+    private final CountDownLatch slowLookup = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private RateLimiter rateLimiter;
+    private ResilientMapitClient client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = CircuitBreaker.of("mapit", CircuitBreakerConfig.custom()
+            .slidingWindowSize(2)
+            .minimumNumberOfCalls(2)
+            .build());
+        rateLimiter = RateLimiter.of("mapit", RateLimiterConfig.custom()
+            .limitForPeriod(1)
+            .limitRefreshPeriod(Duration.ofHours(1))
+            .timeoutDuration(Duration.ZERO)
+            .build());
+        client = new ResilientMapitClient(
+            mapitClient, circuitBreaker, rateLimiter, meterRegistry, HEDGE_DELAY, HEDGE_DELAY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowLookup.countDown();
+        client.shutdown();
+    }
+
+    @Test
+    void shouldNotHedgeLookupsThatAnswerInTime() {
+        when(mapitClient.getMapitData(POSTCODE)).thenReturn(MAPIT_DATA);
+
+        assertThat(client.getMapitData(POSTCODE)).isEqualTo(MAPIT_DATA);
+        verify(mapitClient, times(1)).getMapitData(POSTCODE);
+        assertThat(meterRegistry.get("mapit.hedges").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldHedgeSlowLookups() {
+        when(mapitClient.getMapitDataWithPartial(POSTCODE)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                slowLookup.await();
+            }
+            return MAPIT_DATA;
+        });
+
+        assertThat(client.getMapitDataWithPartial(POSTCODE)).isEqualTo(MAPIT_DATA);
+        verify(mapitClient, times(2)).getMapitDataWithPartial(POSTCODE);
+        assertThat(meterRegistry.get("mapit.hedges").counter().count()).isEqualTo(1.0);
+        assertThat(rateLimiter.getMetrics().getAvailablePermissions()).isZero();
+    }
+
+    @Test
+    void shouldCancelTheSlowerLookup() throws InterruptedException {
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        when(mapitClient.getMapitData(POSTCODE)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    slowLookup.await();
+                } catch (final InterruptedException ex) {
+                    interrupted.countDown();
+                    throw ex;
+                }
+            }
+            return MAPIT_DATA;
+        });
+
+        assertThat(client.getMapitData(POSTCODE)).isEqualTo(MAPIT_DATA);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void shouldNotHedgeWithoutAFreePermit() {
+        rateLimiter.acquirePermission();
+        when(mapitClient.getMapitData(POSTCODE)).thenAnswer(invocation -> {
+            Thread.sleep(HEDGE_DELAY.multipliedBy(4).toMillis());
+            return MAPIT_DATA;
+        });
+
+        assertThat(client.getMapitData(POSTCODE)).isEqualTo(MAPIT_DATA);
+        verify(mapitClient, times(1)).getMapitData(POSTCODE);
+        assertThat(meterRegistry.get("mapit.hedges").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldFailOnceBothLookupsFail() {
+        when(mapitClient.getMapitData(POSTCODE)).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                Thread.sleep(HEDGE_DELAY.multipliedBy(4).toMillis());
+                throw new IllegalStateException("Slow failure");
+            }
+            throw new IllegalArgumentException("Fast failure");
+        });
+
+        assertThatThrownBy(() -> client.getMapitData(POSTCODE))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Slow failure");
+        verify(mapitClient, times(2)).getMapitData(POSTCODE);
+    }
+
+    @Test
+    void shouldNotHedgeLookupsThatFailInTime() {
+        when(mapitClient.getMapitData(POSTCODE)).thenThrow(new IllegalArgumentException("Not found"));
+
+        assertThatThrownBy(() -> client.getMapitData(POSTCODE)).isInstanceOf(IllegalArgumentException.class);
+        verify(mapitClient, times(1)).getMapitData(POSTCODE);
+    }
+
+    @Test
+    void shouldStopCallingMapitOnceTheCircuitBreakerOpens() {
+        when(mapitClient.getMapitData(POSTCODE)).thenThrow(new IllegalStateException("Unavailable"));
+
+        assertThatThrownBy(() -> client.getMapitData(POSTCODE)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> client.getMapitData(POSTCODE)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> client.getMapitData(POSTCODE)).isInstanceOf(CallNotPermittedException.class);
+        assertThatThrownBy(() -> client.getMapitDataForLocalAuthorities("Oxford", "MTD"))
+            .isInstanceOf(CallNotPermittedException.class);
+
+        verify(mapitClient, times(2)).getMapitData(POSTCODE);
+        assertThat(client.getCircuitBreakerState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void shouldUseTheMinimumHedgeDelayBeforeAnyLookups() {
+        final ResilientMapitClient hedging = new ResilientMapitClient(
+            mapitClient, circuitBreaker, rateLimiter, new SimpleMeterRegistry(), HEDGE_DELAY, Duration.ofSeconds(1));
+
+        assertThat(hedging.hedgeDelay()).isEqualTo(HEDGE_DELAY);
+        hedging.shutdown();
+    }
+}
@@ -0,0 +1,177 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.exception.NotFoundException;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.mapit.MapitLookup;
+import uk.gov.hmcts.dts.fact.model.PostcodeServiceAreaSearch;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.util.Action;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.nCopies;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = BatchSearchService.class)
+@TestPropertySource(properties = "search.batch.concurrency=" + BatchSearchServiceTest.MAPIT_CONCURRENCY)
+class BatchSearchServiceTest {
+
+    private static final String JE2_4BA = "JE2 4BA";
+    private static final String NN7_4EH = "NN7 4EH";
+    private static final String TAX = "tax";
+    private static final String SOME_SLUG = "some-slug";
+    static final int MAPIT_CONCURRENCY = 4;
+
+    @Autowired
+    private BatchSearchService batchSearchService;
+
+    @MockitoBean
+    private CourtService courtService;
+
+    @MockitoBean
+    private MapitService mapitService;
+
+    @MockitoBean
+    private RateLimiterRegistry rateLimiterRegistry;
+
+    @Test
+    void shouldAnswerEachSearchAsASingleSearchInSearchOrder() {
+        final ServiceAreaWithCourtReferencesWithDistance first = mock(ServiceAreaWithCourtReferencesWithDistance.class);
+        final ServiceAreaWithCourtReferencesWithDistance second = mock(ServiceAreaWithCourtReferencesWithDistance.class);
+        final ServiceAreaWithCourtReferencesWithDistance third = mock(ServiceAreaWithCourtReferencesWithDistance.class);
+
+        when(mapitService.lookUpPostcode(anyString(), any())).thenReturn(MapitLookup.found(new MapitData()));
+        when(courtService.getNearestCourtsByPostcodeAndServiceArea(JE2_4BA, TAX, Action.UNDEFINED, false))
+            .thenReturn(first);
+        when(courtService.getNearestCourtsByPostcodeAndServiceArea(NN7_4EH, TAX, Action.NEAREST, true))
+            .thenReturn(second);
+        when(courtService.getNearestCourtsByPostcodeAndServiceArea("je24ba", "TAX", Action.DOCUMENTS, false))
+            .thenReturn(third);
+
+        final List<ServiceAreaWithCourtReferencesWithDistance> results = batchSearchService
+            .getNearestCourtsByPostcodeSearches(asList(
+                new PostcodeServiceAreaSearch(JE2_4BA, TAX, null, false),
+                new PostcodeServiceAreaSearch(NN7_4EH, TAX, "nearest", true),
+                new PostcodeServiceAreaSearch("je24ba", "TAX", "documents", false)
+            ));
+
+        assertThat(results).containsExactly(first, second, third);
+    }
+
+    @Test
+    void shouldLookUpEachPostcodeOnce() {
+        when(mapitService.lookUpPostcode(anyString(), any())).thenReturn(MapitLookup.found(new MapitData()));
+
+        batchSearchService.getNearestCourtsByPostcodeSearches(asList(
+            new PostcodeServiceAreaSearch(JE2_4BA, TAX, null, false),
+            new PostcodeServiceAreaSearch("je24ba", "Tax", null, false),
+            new PostcodeServiceAreaSearch(NN7_4EH, TAX, null, true)
+        ));
+
+        verify(mapitService, times(2)).lookUpPostcode(anyString(), any());
+        verify(mapitService).lookUpPostcode(eq(JE2_4BA), any());
+        verify(mapitService).lookUpPostcode(eq(NN7_4EH), any());
+        verify(courtService, times(3))
+            .getNearestCourtsByPostcodeAndServiceArea(anyString(), anyString(), any(), anyBoolean());
+    }
+
+    @Test
+    void shouldReturnResultWithNoCourtsIfNoServiceAreaOrMapitData() {
+        when(mapitService.lookUpPostcode(eq(JE2_4BA), any())).thenReturn(MapitLookup.found(new MapitData()));
+        when(mapitService.lookUpPostcode(eq(NN7_4EH), any())).thenReturn(MapitLookup.notFound());
+        when(courtService.getNearestCourtsByPostcodeAndServiceArea(JE2_4BA, SOME_SLUG, Action.NEAREST, false))
+            .thenThrow(new NotFoundException(SOME_SLUG));
+
+        final List<ServiceAreaWithCourtReferencesWithDistance> results = batchSearchService
+            .getNearestCourtsByPostcodeSearches(asList(
+                new PostcodeServiceAreaSearch(JE2_4BA, SOME_SLUG, "nearest", false),
+                new PostcodeServiceAreaSearch(NN7_4EH, TAX, null, false)
+            ));
+
+        assertThat(results)
+            .extracting(ServiceAreaWithCourtReferencesWithDistance::getSlug)
+            .containsExactly(SOME_SLUG, TAX);
+        assertThat(results).allMatch(result -> result.getCourts() == null);
+        verify(courtService, times(1))
+            .getNearestCourtsByPostcodeAndServiceArea(anyString(), anyString(), any(), anyBoolean());
+    }
+
+    @Test
+    void shouldMarkSearchesWhosePostcodeCouldNotBeLookedUpAsUnavailable() {
+        final ServiceAreaWithCourtReferencesWithDistance found = new ServiceAreaWithCourtReferencesWithDistance(TAX);
+        when(mapitService.lookUpPostcode(eq(JE2_4BA), any())).thenReturn(MapitLookup.found(new MapitData()));
+        when(mapitService.lookUpPostcode(eq(NN7_4EH), any())).thenReturn(MapitLookup.failed());
+        when(courtService.getNearestCourtsByPostcodeAndServiceArea(JE2_4BA, TAX, Action.UNDEFINED, false))
+            .thenReturn(found);
+
+        final List<ServiceAreaWithCourtReferencesWithDistance> results = batchSearchService
+            .getNearestCourtsByPostcodeSearches(asList(
+                new PostcodeServiceAreaSearch(JE2_4BA, TAX, null, false),
+                new PostcodeServiceAreaSearch(NN7_4EH, TAX, null, false)
+            ));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0)).isSameAs(found);
+        assertThat(results.get(0).isPostcodeUnavailable()).isFalse();
+        assertThat(results.get(1).getSlug()).isEqualTo(TAX);
+        assertThat(results.get(1).getCourts()).isNull();
+        assertThat(results.get(1).isPostcodeUnavailable()).isTrue();
+        verify(courtService, never())
+            .getNearestCourtsByPostcodeAndServiceArea(eq(NN7_4EH), anyString(), any(), anyBoolean());
+    }
+
+    @Test
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    void shouldLookUpPostcodesConcurrentlyWithinThePermits() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger mostRunning = new AtomicInteger();
+        when(mapitService.lookUpPostcode(anyString(), any())).thenAnswer(invocation -> {
+            mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return MapitLookup.notFound();
+        });
+
+        batchSearchService.getNearestCourtsByPostcodeSearches(IntStream.range(0, 40)
+            .mapToObj(i -> new PostcodeServiceAreaSearch("SW1A " + i + "AA", TAX, null, false))
+            .collect(toList()));
+
+        verify(mapitService, times(40)).lookUpPostcode(anyString(), any());
+        assertThat(mostRunning.get()).isBetween(2, MAPIT_CONCURRENCY);
+    }
+
+    @Test
+    void shouldRejectBatchLargerThanMaximumSize() {
+        final List<PostcodeServiceAreaSearch> searches =
+            nCopies(201, new PostcodeServiceAreaSearch(JE2_4BA, TAX, null, false));
+
+        assertThatThrownBy(() -> batchSearchService.getNearestCourtsByPostcodeSearches(searches))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("A batch may hold at most 200 searches, but has 201");
+        verifyNoInteractions(mapitService);
+    }
+}
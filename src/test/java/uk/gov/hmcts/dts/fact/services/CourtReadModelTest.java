@@ -0,0 +1,136 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.http.EncodedJson;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CourtReadModelTest {
+
+    private static final String SLUG = "aberystwyth-justice-centre";
+    private static final String ENGLISH_NAME = "Aberystwyth Justice Centre";
+    private static final String WELSH_NAME = "Canolfan Gyfiawnder Aberystwyth";
+    private static final long VERSION = 1L;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private CourtRepository courtRepository;
+    private DataVersion dataVersion;
+    private CourtReadModel courtReadModel;
+
+    @BeforeEach
+    void setUp() {
+        courtRepository = mock(CourtRepository.class);
+        dataVersion = mock(DataVersion.class);
+        courtReadModel = new CourtReadModel(
+            courtRepository, new CourtReadModelLoader(courtRepository, OBJECT_MAPPER), dataVersion, OBJECT_MAPPER);
+
+        final Court court = mock(Court.class);
+        when(court.getSlug()).thenReturn(SLUG);
+        when(court.getName()).thenReturn(ENGLISH_NAME);
+        when(court.getNameCy()).thenReturn(WELSH_NAME);
+        when(courtRepository.findAllForDetails()).thenReturn(List.of(court));
+        when(courtRepository.findBySlug(SLUG)).thenReturn(Optional.of(court));
+        when(dataVersion.current()).thenReturn(VERSION);
+    }
+
+    @AfterEach
+    void tearDown() {
+        courtReadModel.shutdown();
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void shouldUseRepositoryUntilTheReadModelIsBuilt() {
+        assertThat(courtReadModel.findBySlug(SLUG))
+            .map(CourtReadModelTest::name)
+            .contains(ENGLISH_NAME);
+        verify(courtRepository).findBySlug(SLUG);
+    }
+
+    @Test
+    void shouldUseReadModelOnceBuilt() {
+        courtReadModel.rebuild();
+
+        assertThat(courtReadModel.findBySlug(SLUG))
+            .map(CourtReadModelTest::name)
+            .contains(ENGLISH_NAME);
+        assertThat(courtReadModel.findBySlug("unknown-court")).isEmpty();
+        verify(courtRepository, never()).findBySlug(any());
+    }
+
+    @Test
+    void shouldServeEveryCallerTheCourtEncodedWhenTheReadModelWasBuilt() {
+        courtReadModel.rebuild();
+
+        final EncodedJson first = courtReadModel.findBySlug(SLUG).orElseThrow();
+        final EncodedJson second = courtReadModel.findBySlug(SLUG).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(name(second)).isEqualTo(ENGLISH_NAME);
+    }
+
+    @Test
+    void shouldReturnTheWelshCourtForWelshRequests() {
+        courtReadModel.rebuild();
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("cy"));
+
+        assertThat(courtReadModel.findBySlug(SLUG))
+            .map(CourtReadModelTest::name)
+            .contains(WELSH_NAME);
+        verify(courtRepository, never()).findBySlug(any());
+    }
+
+    @Test
+    void shouldNotChangeTheLocaleOfTheThreadBuildingTheReadModel() {
+        LocaleContextHolder.setLocale(Locale.FRENCH);
+
+        courtReadModel.rebuild();
+
+        assertThat(LocaleContextHolder.getLocale()).isEqualTo(Locale.FRENCH);
+    }
+
+    @Test
+    void shouldUseRepositoryWhenTheDataVersionHasMovedOn() {
+        courtReadModel.rebuild();
+        when(dataVersion.current()).thenReturn(VERSION + 1);
+
+        courtReadModel.findBySlug(SLUG);
+
+        verify(courtRepository).findBySlug(SLUG);
+    }
+
+    @Test
+    void shouldKeepUsingRepositoryWhenTheBuildFails() {
+        when(courtRepository.findAllForDetails()).thenThrow(new IllegalStateException("Database unavailable"));
+        courtReadModel.rebuild();
+
+        courtReadModel.findBySlug(SLUG);
+
+        verify(courtRepository).findBySlug(SLUG);
+    }
+
+    private static String name(final EncodedJson court) {
+        try {
+            return OBJECT_MAPPER.readTree(court.toResponse().getBody()).get("name").asText();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
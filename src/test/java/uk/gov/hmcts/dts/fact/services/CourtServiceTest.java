@@ -1,14 +1,20 @@
 package uk.gov.hmcts.dts.fact.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.config.SearchExecutorConfiguration;
 import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.Contact;
 import uk.gov.hmcts.dts.fact.entity.ContactType;
@@ -30,25 +36,30 @@ import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
 import uk.gov.hmcts.dts.fact.model.deprecated.OldCourt;
 import uk.gov.hmcts.dts.fact.repositories.CourtHistoryRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.search.CourtSpatialIndex;
+import uk.gov.hmcts.dts.fact.services.search.CourtTextIndex;
+import uk.gov.hmcts.dts.fact.services.search.CourtTextIndexLoader;
 import uk.gov.hmcts.dts.fact.services.search.FallbackProximitySearch;
 import uk.gov.hmcts.dts.fact.services.search.ProximitySearch;
 import uk.gov.hmcts.dts.fact.services.search.Search;
 import uk.gov.hmcts.dts.fact.services.search.ServiceAreaSearchFactory;
 import uk.gov.hmcts.dts.fact.util.Action;
 
+import java.io.IOException;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -61,12 +72,16 @@ import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = CourtService.class)
+@ContextConfiguration(classes = {CourtService.class, CourtReadModel.class, CourtTextIndex.class, SearchLookups.class,
+    SearchExecutorConfiguration.class, ReferenceDataCatalogue.class, SearchResultCache.class, SimpleMeterRegistry.class,
+    JacksonAutoConfiguration.class})
+@TestPropertySource(properties = "search.result-cache.maximum-size=100")
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.AvoidInstantiatingObjectsInLoops", "PMD.ExcessiveImports"})
 class CourtServiceTest {
 
@@ -107,6 +122,9 @@ class CourtServiceTest {
     @Autowired
     private CourtService courtService;
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
     @MockitoBean
     private ProximitySearch proximitySearch;
 
@@ -114,7 +132,16 @@ class CourtServiceTest {
     private CourtRepository courtRepository;
 
     @MockitoBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
+
+    @MockitoBean
+    private CourtReadModelLoader courtReadModelLoader;
+
+    @MockitoBean
+    private CourtTextIndexLoader courtTextIndexLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
 
     @MockitoBean
     private MapitService mapitService;
@@ -143,6 +170,17 @@ class CourtServiceTest {
     @MockitoBean
     private CourtHistoryRepository courtHistoryRepository;
 
+    @Autowired
+    private SearchResultCache searchResultCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        searchResultCache.invalidateAll();
+    }
+
     @Test
     void shouldThrowSlugNotFoundException() {
         when(courtRepository.findBySlug(any())).thenReturn(empty());
@@ -156,9 +194,9 @@ class CourtServiceTest {
     }
 
     @Test
-    void shouldReturnCourtObject() {
+    void shouldReturnCourtObject() throws IOException {
         when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
-        assertThat(courtService.getCourtBySlug(SOME_SLUG)).isInstanceOf(uk.gov.hmcts.dts.fact.model.Court.class);
+        assertThat(getCourtBySlug(SOME_SLUG)).isInstanceOf(uk.gov.hmcts.dts.fact.model.Court.class);
     }
 
 
@@ -191,7 +229,8 @@ class CourtServiceTest {
 
     @ParameterizedTest
     @MethodSource("parametersForTypesTests")
-    void openingTypeInAdminTableShouldTakePrecedence(final String typeInOpeningTimeTable, final String typeInAdminTable, final String expectedType) {
+    void openingTypeInAdminTableShouldTakePrecedence(final String typeInOpeningTimeTable, final String typeInAdminTable, final String expectedType)
+        throws IOException {
         final OpeningTime openingTime = new OpeningTime();
         openingTime.setDescription(typeInOpeningTimeTable);
         if (typeInAdminTable != null) {
@@ -205,7 +244,7 @@ class CourtServiceTest {
         when(court.getCourtOpeningTimes()).thenReturn(courtOpeningTimes);
         when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
 
-        final uk.gov.hmcts.dts.fact.model.Court result = courtService.getCourtBySlug(SOME_SLUG);
+        final uk.gov.hmcts.dts.fact.model.Court result = getCourtBySlug(SOME_SLUG);
         assertThat(result).isInstanceOf(uk.gov.hmcts.dts.fact.model.Court.class);
         final List<uk.gov.hmcts.dts.fact.model.OpeningTime> openingTimes = result.getOpeningTimes();
         assertThat(openingTimes).hasSize(1);
@@ -214,7 +253,8 @@ class CourtServiceTest {
 
     @ParameterizedTest
     @MethodSource("parametersForTypesTests")
-    void contactInAdminTableShouldTakePrecedence(final String typeInContactTable, final String typeInAdminTable, final String expectedType) {
+    void contactInAdminTableShouldTakePrecedence(final String typeInContactTable, final String typeInAdminTable, final String expectedType)
+        throws IOException {
         final Contact contact = new Contact();
         contact.setDescription(typeInContactTable);
         if (typeInAdminTable != null) {
@@ -228,7 +268,7 @@ class CourtServiceTest {
         when(court.getCourtContacts()).thenReturn(courtContacts);
         when(courtRepository.findBySlug(SOME_SLUG)).thenReturn(Optional.of(court));
 
-        final uk.gov.hmcts.dts.fact.model.Court result = courtService.getCourtBySlug(SOME_SLUG);
+        final uk.gov.hmcts.dts.fact.model.Court result = getCourtBySlug(SOME_SLUG);
         assertThat(result).isInstanceOf(uk.gov.hmcts.dts.fact.model.Court.class);
         final List<uk.gov.hmcts.dts.fact.model.Contact> contacts = result.getContacts();
         assertThat(contacts).hasSize(1);
@@ -330,7 +370,7 @@ class CourtServiceTest {
         for (int i = 0; i < 10; i++) {
             courts.add(mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class));
         }
-        when(courtWithDistanceRepository.findNearestTen(anyDouble(), anyDouble())).thenReturn(courts);
+        when(courtSpatialIndex.findNearestTen(anyDouble(), anyDouble())).thenReturn(courts);
 
         final List<CourtWithDistance> results = courtService.getNearestCourtsByPostcode("OX1 1RZ");
         assertThat(results.size()).isEqualTo(10);
@@ -353,7 +393,7 @@ class CourtServiceTest {
             when(mock.getAreasOfLaw()).thenReturn(areasOfLaw);
             courts.add(mock);
         }
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndLocalAuthority(
+        when(courtSpatialIndex.findNearestTenByAreaOfLawAndLocalAuthority(
             LAT,
             LON,
             AREA_OF_LAW_NAME,
@@ -387,7 +427,7 @@ class CourtServiceTest {
             when(mock.getAreasOfLaw()).thenReturn(areasOfLaw);
             courts.add(mock);
         }
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndLocalAuthority(
+        when(courtSpatialIndex.findNearestTenByAreaOfLawAndLocalAuthority(
             LAT,
             LON,
             AREA_OF_LAW_NAME,
@@ -429,7 +469,7 @@ class CourtServiceTest {
             when(mock.getAreasOfLaw()).thenReturn(areasOfLaw);
             courts.add(mock);
         }
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(anyDouble(), anyDouble(), anyString(), anyBoolean())).thenReturn(
+        when(courtSpatialIndex.findNearestTenByAreaOfLaw(anyDouble(), anyDouble(), anyString(), anyBoolean())).thenReturn(
             courts);
 
         final List<CourtWithDistance> results = courtService.getNearestCourtsByPostcodeAndAreaOfLaw(
@@ -469,7 +509,7 @@ class CourtServiceTest {
             }
             courts.add(court);
         }
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(
+        when(courtSpatialIndex.findNearestTenByAreaOfLaw(
             anyDouble(),
             anyDouble(),
             eq(IMMIGRATION),
@@ -579,6 +619,38 @@ class CourtServiceTest {
         assertThat(results.getCourts().get(0)).isInstanceOf(CourtReferenceWithDistance.class);
     }
 
+    @Test
+    void shouldReuseNearestCourtsByPostcodeSearchUntilTheDataChanges() {
+        when(serviceArea.getSlug()).thenReturn(TAX);
+        when(serviceAreaRepository.findBySlugIgnoreCase(TAX)).thenReturn(Optional.of(serviceArea));
+        when(mapitService.getMapitData(JE2_4BA)).thenReturn(Optional.of(mapitData));
+        when(serviceAreaSearchFactory.getSearchFor(serviceArea, mapitData, Action.UNDEFINED)).thenReturn(search);
+        when(search.searchWith(serviceArea, mapitData, JE2_4BA, true))
+            .thenReturn(singletonList(mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class)));
+
+        final ServiceAreaWithCourtReferencesWithDistance first = courtService.getNearestCourtsByPostcodeSearch(
+            JE2_4BA, TAX, true, Action.UNDEFINED);
+        first.setCourts(emptyList());
+        final ServiceAreaWithCourtReferencesWithDistance second = courtService.getNearestCourtsByPostcodeSearch(
+            JE2_4BA, TAX, true, Action.UNDEFINED);
+        when(dataVersion.current()).thenReturn(1L);
+        courtService.getNearestCourtsByPostcodeSearch(JE2_4BA, TAX, true, Action.UNDEFINED);
+
+        assertThat(second.getCourts()).hasSize(1);
+        verify(mapitService, times(2)).getMapitData(JE2_4BA);
+        verify(search, times(2)).searchWith(serviceArea, mapitData, JE2_4BA, true);
+    }
+
+    @Test
+    void shouldNotReuseNearestCourtsByPostcodeSearchWithoutMapitData() {
+        when(mapitService.getMapitData(JE2_4BA)).thenReturn(empty());
+
+        assertThat(courtService.getNearestCourtReferencesByPostcode(JE2_4BA)).isEmpty();
+        assertThat(courtService.getNearestCourtReferencesByPostcode(JE2_4BA)).isEmpty();
+
+        verify(mapitService, times(2)).getMapitData(JE2_4BA);
+    }
+
     @Test
     void shouldReturnListForNearestCourtsByPostcodeActionAndAreaOfLawSearch() {
         final String serviceAreaSlug = "childcare-arrangements";
@@ -688,6 +760,29 @@ class CourtServiceTest {
         verifyNoInteractions(serviceAreaSearchFactory);
     }
 
+    @Test
+    void shouldLookUpPostcodeWhileReadingServiceArea() {
+        final CountDownLatch postcodeLookedUp = new CountDownLatch(1);
+        when(mapitService.getMapitData(JE2_4BA)).thenAnswer(invocation -> {
+            postcodeLookedUp.countDown();
+            return Optional.of(mapitData);
+        });
+        // The service area is only found once the postcode lookup has started on another thread
+        when(serviceAreaRepository.findBySlugIgnoreCase(TAX)).thenAnswer(invocation -> postcodeLookedUp.await(5, SECONDS)
+            ? Optional.of(serviceArea) : empty());
+        when(serviceAreaSearchFactory.getSearchFor(serviceArea, mapitData, Action.UNDEFINED)).thenReturn(search);
+        when(search.searchWith(serviceArea, mapitData, JE2_4BA, true)).thenReturn(emptyList());
+
+        final ServiceAreaWithCourtReferencesWithDistance results = courtService.getNearestCourtsByPostcodeSearch(
+            JE2_4BA,
+            TAX,
+            true,
+            Action.UNDEFINED
+        );
+
+        assertThat(results.getCourts()).isEmpty();
+    }
+
     @Test
     void shouldReturnNotFoundIfPostcodeNotExistsForMapit() {
         final String serviceAreaSlug = TAX;
@@ -748,6 +843,45 @@ class CourtServiceTest {
         assertThat(results.getCourts().get(0)).isInstanceOf(CourtReferenceWithDistance.class);
     }
 
+    @Test
+    void shouldSearchChildcareArrangementsForTheSinglePointOfEntryCourt() {
+        final String serviceAreaSlug = "childcare-arrangements";
+        final uk.gov.hmcts.dts.fact.entity.CourtWithDistance spoeCourt = mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class);
+        when(spoeCourt.getAreasOfLawSpoe()).thenReturn(singletonList(CHILDREN));
+
+        when(serviceArea.getSlug()).thenReturn(serviceAreaSlug);
+        when(serviceAreaRepository.findBySlugIgnoreCase(serviceAreaSlug)).thenReturn(Optional.of(serviceArea));
+        when(mapitService.getMapitData(JE2_4BA)).thenReturn(Optional.of(mapitData));
+        when(serviceAreaSearchFactory.getSearchFor(serviceArea, mapitData, Action.UNDEFINED)).thenReturn(search);
+        when(search.searchWith(serviceArea, mapitData, JE2_4BA, false))
+            .thenReturn(asList(mock(uk.gov.hmcts.dts.fact.entity.CourtWithDistance.class), spoeCourt, spoeCourt));
+
+        final ServiceAreaWithCourtReferencesWithDistance results = courtService.getNearestCourtsByPostcodeAndServiceArea(
+            JE2_4BA,
+            serviceAreaSlug,
+            Action.DOCUMENTS,
+            false
+        );
+
+        assertThat(results.getCourts()).hasSize(1);
+        assertThat(results.getCourts().get(0).getAreasOfLawSpoe()).containsExactly(CHILDREN);
+    }
+
+    @Test
+    void shouldOnlySearchWithTheNearestActionForNearestSearches() {
+        when(serviceArea.getSlug()).thenReturn(TAX);
+        when(serviceAreaRepository.findBySlugIgnoreCase(TAX)).thenReturn(Optional.of(serviceArea));
+        when(mapitService.getMapitData(JE2_4BA)).thenReturn(Optional.of(mapitData));
+        when(serviceAreaSearchFactory.getSearchFor(serviceArea, mapitData, Action.NEAREST)).thenReturn(search);
+        when(serviceAreaSearchFactory.getSearchFor(serviceArea, mapitData, Action.UNDEFINED)).thenReturn(search);
+
+        courtService.getNearestCourtsByPostcodeAndServiceArea(JE2_4BA, TAX, Action.NEAREST, false);
+        courtService.getNearestCourtsByPostcodeAndServiceArea(JE2_4BA, TAX, Action.DOCUMENTS, false);
+
+        verify(serviceAreaSearchFactory).getSearchFor(serviceArea, mapitData, Action.NEAREST);
+        verify(serviceAreaSearchFactory).getSearchFor(serviceArea, mapitData, Action.UNDEFINED);
+    }
+
     @Test
     void shouldBeAbleToGetCourtByHistoricalCourtName() {
 
@@ -785,4 +919,9 @@ class CourtServiceTest {
         assertThat(courtService.getCourtByCourtHistoryName(FAKE_COURT_NAME1))
             .isEmpty();
     }
+
+    private uk.gov.hmcts.dts.fact.model.Court getCourtBySlug(final String slug) throws IOException {
+        return objectMapper.readValue(
+            courtService.getCourtBySlug(slug).toResponse().getBody(), uk.gov.hmcts.dts.fact.model.Court.class);
+    }
 }
@@ -0,0 +1,71 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.dts.fact.services.DataVersion.BUMP_STORED_VERSION;
+import static uk.gov.hmcts.dts.fact.services.DataVersion.READ_STORED_VERSION;
+
+class DataVersionTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private DataVersion dataVersion;
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.queryForObject(READ_STORED_VERSION, Long.class)).thenReturn(3L);
+        dataVersion = new DataVersion(jdbcTemplate);
+    }
+
+    @Test
+    void shouldNotMoveOnIfTheStoredVersionHasNotChanged() {
+        dataVersion.scheduledRefresh();
+        dataVersion.scheduledRefresh();
+
+        assertThat(dataVersion.current()).isZero();
+    }
+
+    @Test
+    void shouldMoveOnOnceWhenAnotherInstanceChangesTheData() {
+        when(jdbcTemplate.queryForObject(READ_STORED_VERSION, Long.class)).thenReturn(5L);
+
+        dataVersion.scheduledRefresh();
+        dataVersion.scheduledRefresh();
+
+        assertThat(dataVersion.current()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotMoveOnAgainForItsOwnChanges() {
+        when(jdbcTemplate.queryForObject(BUMP_STORED_VERSION, Long.class)).thenReturn(4L);
+        when(jdbcTemplate.queryForObject(READ_STORED_VERSION, Long.class)).thenReturn(4L);
+
+        assertThat(dataVersion.increment()).isEqualTo(1L);
+        dataVersion.scheduledRefresh();
+
+        assertThat(dataVersion.current()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldMoveOnForItsOwnChangesIfTheStoredVersionCannotBeBumped() {
+        when(jdbcTemplate.queryForObject(BUMP_STORED_VERSION, Long.class))
+            .thenThrow(new QueryTimeoutException("timed out"));
+
+        assertThat(dataVersion.increment()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldKeepTheVersionIfTheStoredVersionCannotBeRead() {
+        when(jdbcTemplate.queryForObject(READ_STORED_VERSION, Long.class))
+            .thenThrow(new QueryTimeoutException("timed out"));
+
+        dataVersion.scheduledRefresh();
+
+        assertThat(dataVersion.current()).isZero();
+    }
+}
@@ -1,6 +1,12 @@
 package uk.gov.hmcts.dts.fact.services;
 
 import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -9,38 +15,62 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.gazetteer.Gazetteer;
 import uk.gov.hmcts.dts.fact.mapit.MapitArea;
-import uk.gov.hmcts.dts.fact.mapit.MapitClient;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.mapit.MapitPostcodeCache;
+import uk.gov.hmcts.dts.fact.mapit.ResilientMapitClient;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = MapitService.class)
+@ContextConfiguration(classes = {MapitService.class, MapitPostcodeCache.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = {
+    "mapit.cache.maximum-size=100",
+    "mapit.cache.ttl=PT1H",
+    "mapit.cache.negative-ttl=PT1M",
+    "mapit.cache.stale-ttl=PT1H"
+})
 class MapitServiceTest {
 
     private static final String RESPONSE_MESSAGE = "message";
 
     @MockitoBean
-    private MapitClient mapitClient;
+    private ResilientMapitClient mapitClient;
 
     @MockitoBean
     private Logger logger;
 
+    @MockitoBean
+    private Gazetteer gazetteer;
+
     @Autowired
     private MapitService mapitService;
 
+    @Autowired
+    private MapitPostcodeCache mapitPostcodeCache;
+
+    @BeforeEach
+    void setUp() {
+        mapitPostcodeCache.invalidateAll();
+    }
+
     @Test
     void shouldReturnOptionalOfCoordinatesForValidPostcode() {
         final String postcode = "OX1 1RZ";
@@ -119,6 +149,117 @@ class MapitServiceTest {
         verify(logger).warn("HTTP Status: {} Message: {}", 400, RESPONSE_MESSAGE, feignException);
     }
 
+    @Test
+    void shouldUseGazetteerBeforeMapit() {
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(gazetteer.getMapitData("OX1 1RZ")).thenReturn(Optional.of(mapitData));
+        when(gazetteer.getMapitDataWithPartial("OX1")).thenReturn(Optional.of(mapitData));
+
+        assertThat(mapitService.getMapitData("OX1 1RZ")).contains(mapitData);
+        assertThat(mapitService.getMapitDataWithPartial("OX1")).contains(mapitData);
+
+        verifyNoInteractions(mapitClient);
+    }
+
+    @Test
+    void shouldCachePostcodesByNormalisedPostcode() {
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(mapitClient.getMapitData("OX1 1RZ")).thenReturn(mapitData);
+
+        assertThat(mapitService.getMapitData("OX1 1RZ")).contains(mapitData);
+        assertThat(mapitService.getMapitData("ox11rz")).contains(mapitData);
+
+        verify(mapitClient, times(1)).getMapitData(any());
+    }
+
+    @Test
+    void shouldCacheFullAndPartialPostcodesSeparately() {
+        final MapitData fullPostcode = new MapitData(51.7, -1.2, null, null);
+        final MapitData partialPostcode = new MapitData(51.8, -1.3, null, null);
+        when(mapitClient.getMapitData("OX1")).thenReturn(fullPostcode);
+        when(mapitClient.getMapitDataWithPartial("OX1")).thenReturn(partialPostcode);
+
+        assertThat(mapitService.getMapitData("OX1")).contains(fullPostcode);
+        assertThat(mapitService.getMapitDataWithPartial("OX1")).contains(partialPostcode);
+        assertThat(mapitService.getMapitData("OX1")).contains(fullPostcode);
+        assertThat(mapitService.getMapitDataWithPartial("OX1")).contains(partialPostcode);
+
+        verify(mapitClient, times(1)).getMapitData("OX1");
+        verify(mapitClient, times(1)).getMapitDataWithPartial("OX1");
+    }
+
+    @Test
+    void shouldCachePostcodesWithoutCoordinates() {
+        final String postcode = "JE3 4BA";
+        when(mapitClient.getMapitData(postcode)).thenReturn(new MapitData(null, null, null, null));
+
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+
+        verify(mapitClient, times(1)).getMapitData(postcode);
+    }
+
+    @Test
+    void shouldCachePostcodesUnknownToMapit() {
+        final String postcode = "AB1 2CD";
+        final FeignException feignException = mock(FeignException.class);
+        when(mapitClient.getMapitData(postcode)).thenThrow(feignException);
+        when(feignException.status()).thenReturn(404);
+
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+
+        verify(mapitClient, times(1)).getMapitData(postcode);
+    }
+
+    @Test
+    void shouldNotCacheFailedLookups() {
+        final String postcode = "OX1 1RZ";
+        final FeignException feignException = mock(FeignException.class);
+        when(mapitClient.getMapitData(postcode)).thenThrow(feignException);
+        when(feignException.status()).thenReturn(503);
+
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+
+        verify(mapitClient, times(2)).getMapitData(postcode);
+    }
+
+    @Test
+    void shouldNotCacheLookupsWhileTheCircuitBreakerIsOpen() {
+        final String postcode = "OX1 1RZ";
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(mapitClient.getMapitData(postcode))
+            .thenThrow(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("mapit")))
+            .thenReturn(mapitData);
+
+        assertThat(mapitService.getMapitData(postcode)).isNotPresent();
+        assertThat(mapitService.getMapitData(postcode)).contains(mapitData);
+    }
+
+    @Test
+    void shouldOnlyCallMapitOnceTheRateLimiterPermits() {
+        final RateLimiter rateLimiter = RateLimiter.of("mapit", RateLimiterConfig.custom()
+            .limitForPeriod(1)
+            .limitRefreshPeriod(Duration.ofHours(1))
+            .timeoutDuration(Duration.ZERO)
+            .build());
+        final MapitData mapitData = new MapitData(51.7, -1.2, null, null);
+        when(mapitClient.getMapitData(anyString())).thenReturn(mapitData);
+        when(mapitClient.getMapitDataWithPartial(anyString())).thenReturn(mapitData);
+
+        assertThat(mapitService.lookUpPostcode("OX1 1RZ", rateLimiter).getMapitData()).contains(mapitData);
+        // Cached, so no permit is needed
+        assertThat(mapitService.lookUpPostcode("OX1 1RZ", rateLimiter).getMapitData()).contains(mapitData);
+        assertThat(mapitService.lookUpPostcode("OX1 1AA", rateLimiter).isFailed()).isTrue();
+        assertThat(mapitService.lookUpPartialPostcode("OX1", rateLimiter).isFailed()).isTrue();
+
+        verify(mapitClient, times(1)).getMapitData(anyString());
+        verify(mapitClient, never()).getMapitDataWithPartial(anyString());
+        // Lookups that weren't permitted aren't cached
+        assertThat(mapitService.getMapitData("OX1 1AA")).contains(mapitData);
+    }
+
     @Test
     void shouldReturnOptionalEmptyIfBlankPostcode() {
         final Optional<MapitData> result = mapitService.getMapitData("");
@@ -171,4 +312,12 @@ class MapitServiceTest {
         assertThat(mapitService.localAuthorityExists("Test Council")).isFalse();
         verify(logger).warn("Mapit API call (local authority validation) failed. HTTP Status: {} Message: {}", 400, RESPONSE_MESSAGE, feignException);
     }
+
+    @Test
+    void localAuthorityExistsShouldReturnFalseWhileTheCircuitBreakerIsOpen() {
+        when(mapitClient.getMapitDataForLocalAuthorities(any(), any()))
+            .thenThrow(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("mapit")));
+
+        assertThat(mapitService.localAuthorityExists("Test Council")).isFalse();
+    }
 }
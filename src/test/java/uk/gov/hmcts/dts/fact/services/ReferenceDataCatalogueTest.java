@@ -0,0 +1,123 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.Service;
+import uk.gov.hmcts.dts.fact.entity.ServiceArea;
+import uk.gov.hmcts.dts.fact.repositories.AddressTypeRepository;
+import uk.gov.hmcts.dts.fact.repositories.AreasOfLawRepository;
+import uk.gov.hmcts.dts.fact.repositories.ContactTypeRepository;
+import uk.gov.hmcts.dts.fact.repositories.CountyRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtTypeRepository;
+import uk.gov.hmcts.dts.fact.repositories.FacilityTypeRepository;
+import uk.gov.hmcts.dts.fact.repositories.LocalAuthorityRepository;
+import uk.gov.hmcts.dts.fact.repositories.OpeningTypeRepository;
+import uk.gov.hmcts.dts.fact.repositories.RegionRepository;
+import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.repositories.ServiceRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReferenceDataCatalogueTest {
+
+    private static final String SERVICE_AREA_SLUG = "money-claims";
+    private static final String SERVICE_SLUG = "money";
+    private static final long VERSION = 1L;
+
+    private final ServiceRepository serviceRepository = mock(ServiceRepository.class);
+    private final ServiceAreaRepository serviceAreaRepository = mock(ServiceAreaRepository.class);
+    private final AreasOfLawRepository areasOfLawRepository = mock(AreasOfLawRepository.class);
+    private final DataVersion dataVersion = mock(DataVersion.class);
+    private final AreaOfLaw areaOfLaw = mock(AreaOfLaw.class);
+    private final ServiceArea serviceArea = mock(ServiceArea.class);
+    private final Service service = mock(Service.class);
+
+    private ReferenceDataCatalogue catalogue;
+
+    @BeforeEach
+    void setUp() {
+        final ReferenceDataLoader loader = new ReferenceDataLoader(
+            serviceRepository,
+            serviceAreaRepository,
+            areasOfLawRepository,
+            mock(CourtTypeRepository.class),
+            mock(FacilityTypeRepository.class),
+            mock(ContactTypeRepository.class),
+            mock(OpeningTypeRepository.class),
+            mock(AddressTypeRepository.class),
+            mock(CountyRepository.class),
+            mock(RegionRepository.class),
+            mock(LocalAuthorityRepository.class)
+        );
+        catalogue = new ReferenceDataCatalogue(loader, dataVersion);
+
+        when(serviceArea.getSlug()).thenReturn(SERVICE_AREA_SLUG);
+        when(service.getSlug()).thenReturn(SERVICE_SLUG);
+        when(serviceAreaRepository.findAll()).thenReturn(List.of(serviceArea));
+        when(serviceRepository.findAll()).thenReturn(List.of(service));
+        when(areasOfLawRepository.findAll()).thenReturn(List.of(areaOfLaw));
+        when(dataVersion.current()).thenReturn(VERSION);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogue.shutdown();
+    }
+
+    @Test
+    void shouldUseDatabaseUntilTheCatalogueIsBuilt() {
+        assertThat(catalogue.get(ReferenceData::getAreasOfLaw, areasOfLawRepository::findAll))
+            .containsExactly(areaOfLaw);
+        verify(areasOfLawRepository).findAll();
+    }
+
+    @Test
+    void shouldUseCatalogueOnceBuilt() {
+        catalogue.rebuild();
+
+        assertThat(catalogue.get(ReferenceData::getAreasOfLaw, areasOfLawRepository::findAll))
+            .containsExactly(areaOfLaw);
+        assertThat(catalogue.get(ReferenceData::getServices, serviceRepository::findAll))
+            .containsExactly(service);
+        verify(areasOfLawRepository, times(1)).findAll();
+        verify(serviceRepository, times(1)).findAll();
+    }
+
+    @Test
+    void shouldFindServicesAndServiceAreasBySlugIgnoringCase() {
+        catalogue.rebuild();
+
+        assertThat(catalogue.get(data -> data.findServiceAreaBySlug("Money-Claims"), Optional::empty))
+            .contains(serviceArea);
+        assertThat(catalogue.get(data -> data.findServiceBySlug("MONEY"), Optional::empty))
+            .contains(service);
+        assertThat(catalogue.get(data -> data.findServiceAreaBySlug("unknown"), Optional::empty))
+            .isEmpty();
+    }
+
+    @Test
+    void shouldUseDatabaseOnceTheDataVersionMovesOn() {
+        catalogue.rebuild();
+        when(dataVersion.current()).thenReturn(VERSION + 1);
+
+        assertThat(catalogue.get(ReferenceData::getAreasOfLaw, List::of)).isEmpty();
+    }
+
+    @Test
+    void shouldNotLetTheCatalogueBeModified() {
+        catalogue.rebuild();
+
+        final List<AreaOfLaw> areasOfLaw = catalogue.get(ReferenceData::getAreasOfLaw, List::of);
+        assertThatThrownBy(areasOfLaw::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.exception.SearchTimeoutException;
+import uk.gov.hmcts.dts.fact.mapit.MapitData;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("PMD.DoNotUseThreads")
+class SearchLookupsTest {
+
+    private static final String POSTCODE = "OX1 1RZ";
+    private static final String OTHER_POSTCODE = "OX2 2AA";
+
+    private final MapitService mapitService = mock(MapitService.class);
+    private final MapitData mapitData = mock(MapitData.class);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldGiveTheResultOfALookup() {
+        when(mapitService.getMapitData(POSTCODE)).thenReturn(Optional.of(mapitData));
+
+        assertThat(lookups(Duration.ofSeconds(5)).lookUpPostcode(POSTCODE).await()).contains(mapitData);
+    }
+
+    @Test
+    void shouldPassOnTheFailureOfALookup() {
+        when(mapitService.getMapitData(POSTCODE)).thenThrow(new IllegalStateException("Failed"));
+
+        assertThatThrownBy(() -> lookups(Duration.ofSeconds(5)).lookUpPostcode(POSTCODE).await())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Failed");
+    }
+
+    @Test
+    void shouldTimeOutAtTheDeadline() {
+        when(mapitService.getMapitData(POSTCODE)).thenAnswer(invocation -> {
+            release.await(5, SECONDS);
+            return Optional.empty();
+        });
+
+        final long start = System.nanoTime();
+        assertThatThrownBy(() -> lookups(Duration.ofMillis(100)).lookUpPostcode(POSTCODE).await())
+            .isInstanceOf(SearchTimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldNotRunACancelledLookup() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        when(mapitService.getMapitData(POSTCODE)).thenAnswer(invocation -> {
+            started.countDown();
+            return release.await(5, SECONDS) ? Optional.of(mapitData) : Optional.empty();
+        });
+        final SearchLookups lookups = lookups(Duration.ofSeconds(5));
+
+        // The single executor thread is busy, so the second lookup is queued when it is cancelled
+        final SearchLookups.Lookup<Optional<MapitData>> running = lookups.lookUpPostcode(POSTCODE);
+        assertThat(started.await(5, SECONDS)).isTrue();
+        lookups.lookUpPostcode(OTHER_POSTCODE).cancel();
+        release.countDown();
+
+        assertThat(running.await()).contains(mapitData);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, SECONDS)).isTrue();
+        verify(mapitService, never()).getMapitData(OTHER_POSTCODE);
+    }
+
+    private SearchLookups lookups(final Duration timeout) {
+        return new SearchLookups(mapitService, executor, timeout);
+    }
+}
@@ -0,0 +1,122 @@
+package uk.gov.hmcts.dts.fact.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import uk.gov.hmcts.dts.fact.model.CourtReferenceWithDistance;
+import uk.gov.hmcts.dts.fact.model.ServiceAreaWithCourtReferencesWithDistance;
+import uk.gov.hmcts.dts.fact.util.Action;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SearchResultCacheTest {
+
+    private static final String SEARCH = "service-area";
+    private static final String POSTCODE = "JE2 4BA";
+    private static final String SLUG = "tax";
+
+    private final AtomicInteger searches = new AtomicInteger();
+    private DataVersion dataVersion;
+    private SearchResultCache searchResultCache;
+
+    @BeforeEach
+    void setUp() {
+        dataVersion = mock(DataVersion.class);
+        searchResultCache = new SearchResultCache(dataVersion, new SimpleMeterRegistry(), 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void shouldSearchOncePerDataVersion() {
+        searchNearest(this::nearestCourts);
+        searchNearest(this::nearestCourts);
+        when(dataVersion.current()).thenReturn(1L);
+        searchNearest(this::nearestCourts);
+
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void shouldKeySearchesOnTheirParameters() {
+        searchServiceArea(Action.NEAREST, true);
+        searchServiceArea(Action.NEAREST, false);
+        searchServiceArea(Action.DOCUMENTS, true);
+        searchServiceArea(Action.NEAREST, true);
+        searchResultCache.getServiceAreaSearch(
+            "other", POSTCODE, SLUG, Action.NEAREST, true, this::serviceAreaCourts);
+
+        assertThat(searches).hasValue(4);
+    }
+
+    @Test
+    void shouldKeySearchesOnTheLanguage() {
+        searchNearest(this::nearestCourts);
+        LocaleContextHolder.setLocale(new Locale("cy"));
+        searchNearest(this::nearestCourts);
+        searchNearest(this::nearestCourts);
+
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheSearchesWithoutAResult() {
+        assertThat(searchNearest(() -> {
+            searches.incrementAndGet();
+            return null;
+        })).isNull();
+        assertThat(searchNearest(this::nearestCourts)).hasSize(1);
+
+        assertThat(searches).hasValue(2);
+    }
+
+    @Test
+    void shouldGiveEachCallerItsOwnCopy() {
+        searchNearest(this::nearestCourts).clear();
+        assertThat(searchNearest(this::nearestCourts)).hasSize(1);
+
+        final ServiceAreaWithCourtReferencesWithDistance first = searchServiceArea(Action.NEAREST, true);
+        first.setCourts(null);
+        final ServiceAreaWithCourtReferencesWithDistance second = searchServiceArea(Action.NEAREST, true);
+
+        assertThat(second.getSlug()).isEqualTo(SLUG);
+        assertThat(second.getCourts()).hasSize(1);
+        assertThat(searches).hasValue(2);
+    }
+
+    private List<CourtReferenceWithDistance> searchNearest(final Supplier<List<CourtReferenceWithDistance>> search) {
+        return searchResultCache.getNearestCourtSearch(POSTCODE, search);
+    }
+
+    private ServiceAreaWithCourtReferencesWithDistance searchServiceArea(final Action action,
+                                                                         final Boolean includeClosed) {
+        return searchResultCache.getServiceAreaSearch(
+            SEARCH, POSTCODE, SLUG, action, includeClosed, this::serviceAreaCourts);
+    }
+
+    private List<CourtReferenceWithDistance> nearestCourts() {
+        searches.incrementAndGet();
+        final List<CourtReferenceWithDistance> courts = new ArrayList<>();
+        courts.add(new CourtReferenceWithDistance());
+        return courts;
+    }
+
+    private ServiceAreaWithCourtReferencesWithDistance serviceAreaCourts() {
+        final ServiceAreaWithCourtReferencesWithDistance result = new ServiceAreaWithCourtReferencesWithDistance(SLUG);
+        result.setCourts(nearestCourts());
+        return result;
+    }
+}
@@ -19,12 +19,18 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = ServiceAreaService.class)
+@ContextConfiguration(classes = {ServiceAreaService.class, ReferenceDataCatalogue.class})
 class ServiceAreaServiceTest {
 
     @Autowired
     private ServiceAreaService serviceAreaService;
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
+
     @MockitoBean
     private ServiceAreaRepository serviceAreaRepository;
 
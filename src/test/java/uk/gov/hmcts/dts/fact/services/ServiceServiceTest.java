@@ -24,7 +24,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = ServiceService.class)
+@ContextConfiguration(classes = {ServiceService.class, ReferenceDataCatalogue.class})
 class ServiceServiceTest {
 
     private static final String SERVICE_NAME = "serviceName";
@@ -32,6 +32,12 @@ class ServiceServiceTest {
     @Autowired
     private ServiceService serviceService;
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
+
     @MockitoBean
     private ServiceRepository serviceRepository;
 
@@ -1,22 +1,28 @@
 package uk.gov.hmcts.dts.fact.services.admin;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import uk.gov.hmcts.dts.fact.entity.Audit;
 import uk.gov.hmcts.dts.fact.entity.AuditType;
+import uk.gov.hmcts.dts.fact.model.admin.AuditSlice;
 import uk.gov.hmcts.dts.fact.repositories.AuditRepository;
 import uk.gov.hmcts.dts.fact.repositories.AuditTypeRepository;
+import uk.gov.hmcts.dts.fact.util.AuditDataEncoding;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -26,10 +32,13 @@ import java.util.Optional;
 
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,9 +55,16 @@ class AdminAuditServiceTest {
     @MockitoBean
     private AuditTypeRepository auditTypeRepository;
 
+    @MockitoBean
+    private AuditWriter auditWriter;
+
+    @MockitoBean
+    private AuditArchive auditArchive;
+
     private static final List<Audit> AUDIT_DATA = new ArrayList<>();
     private static final String TEST_LOCATION = "mosh court";
     private static final String TEST_EMAIL = "kupo email";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     @BeforeAll
     static void beforeAll() {
@@ -163,16 +179,237 @@ class AdminAuditServiceTest {
         assertThat(results.get(0).getCreationTime().toString()).isEqualTo("2024-12-21T14:30:10"); //as GMT
     }
 
+    @Test
+    void shouldFlushQueuedAuditsBeforeReadingThem() {
+        when(auditRepository.findAllByLocationContainingAndUserEmailContainingOrderByCreationTimeDesc(
+            TEST_LOCATION, TEST_EMAIL, PageRequest.of(0, 10))).thenReturn(new PageImpl<>(AUDIT_DATA));
+
+        adminAuditService.getAllAuditData(0, 10, Optional.of(TEST_LOCATION), Optional.of(TEST_EMAIL),
+                                          Optional.empty(), Optional.empty());
+
+        verify(auditWriter).flush();
+    }
+
+    @Test
+    void shouldGetFirstPageOfAuditDataAfterCursor() {
+        when(auditRepository.findAllBefore(TEST_LOCATION, TEST_EMAIL, AuditCursor.FIRST.getCreationTime(),
+                                           AuditCursor.FIRST.getId(), PageRequest.ofSize(2)))
+            .thenReturn(new SliceImpl<>(AUDIT_DATA, PageRequest.ofSize(2), true));
+
+        final AuditSlice results = adminAuditService.getAuditDataAfter("", 2, Optional.of(TEST_LOCATION),
+                                                                       Optional.of(TEST_EMAIL),
+                                                                       Optional.empty(), Optional.empty());
+
+        assertThat(results.getAudits()).containsExactly(
+            new uk.gov.hmcts.dts.fact.model.admin.Audit(AUDIT_DATA.get(0)),
+            new uk.gov.hmcts.dts.fact.model.admin.Audit(AUDIT_DATA.get(1))
+        );
+        assertThat(AuditCursor.fromToken(results.getNextCursor())).isEqualTo(AuditCursor.after(AUDIT_DATA.get(1)));
+        verify(auditWriter).flush();
+    }
+
+    @Test
+    void shouldGetLastPageOfAuditDataAfterCursorWithDateRange() {
+        final LocalDateTime dateFrom = LocalDateTime.of(1000, 10, 10, 10, 10);
+        final LocalDateTime dateTo = LocalDateTime.of(1000, 12, 10, 10, 10);
+        final AuditCursor cursor = new AuditCursor(LocalDateTime.of(1000, 11, 10, 10, 10), 5);
+        when(auditRepository.findAllBetweenBefore(TEST_LOCATION, TEST_EMAIL, dateFrom, dateTo,
+                                                  cursor.getCreationTime(), cursor.getId(), PageRequest.ofSize(10)))
+            .thenReturn(new SliceImpl<>(AUDIT_DATA, PageRequest.ofSize(10), false));
+
+        final AuditSlice results = adminAuditService.getAuditDataAfter(cursor.toToken(), 10,
+                                                                       Optional.of(TEST_LOCATION),
+                                                                       Optional.of(TEST_EMAIL),
+                                                                       Optional.of(dateFrom), Optional.of(dateTo));
+
+        assertThat(results.getAudits()).hasSize(2);
+        assertThat(results.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectAnInvalidCursor() {
+        assertThatThrownBy(() -> adminAuditService.getAuditDataAfter("not a cursor", 10, Optional.empty(),
+                                                                     Optional.empty(), Optional.empty(),
+                                                                     Optional.empty()))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(auditRepository, times(0)).findAllBefore(anyString(), anyString(), any(), anyInt(), any());
+    }
+
+    @Test
+    void shouldCarryOnWithArchivedAuditsOnceRecentAuditsRunOut() {
+        final Audit archived = new Audit("Archived", new AuditType(1, "test"), "before", "after",
+                                         "some court", LocalDateTime.of(2020, 1, 1, 10, 10, 10));
+        archived.setId(100);
+        when(auditRepository.findAllByLocationContainingAndUserEmailContainingOrderByCreationTimeDesc(
+            TEST_LOCATION, TEST_EMAIL, PageRequest.of(0, 3))).thenReturn(new PageImpl<>(AUDIT_DATA));
+        when(auditArchive.findHotFrom()).thenReturn(Optional.of(LocalDateTime.of(2020, 2, 1, 0, 0)));
+        when(auditArchive.find(TEST_LOCATION, TEST_EMAIL, Optional.empty(), Optional.empty(), AuditCursor.FIRST, 1))
+            .thenReturn(List.of(archived));
+
+        final List<uk.gov.hmcts.dts.fact.model.admin.Audit> results =
+            adminAuditService.getAllAuditData(0, 3, Optional.of(TEST_LOCATION), Optional.of(TEST_EMAIL),
+                                              Optional.empty(), Optional.empty());
+
+        assertThat(results).extracting(uk.gov.hmcts.dts.fact.model.admin.Audit::getId).containsExactly(0, 1, 100);
+    }
+
+    @Test
+    void shouldSkipArchivedAuditsOnPagesPastTheRecentAudits() {
+        final Audit archived = new Audit("Archived", new AuditType(1, "test"), "before", "after",
+                                         "some court", LocalDateTime.of(2020, 1, 1, 10, 10, 10));
+        archived.setId(100);
+        when(auditRepository.findAllByLocationContainingAndUserEmailContainingOrderByCreationTimeDesc(
+            TEST_LOCATION, TEST_EMAIL, PageRequest.of(2, 1))).thenReturn(new PageImpl<>(emptyList()));
+        when(auditRepository.countByLocationContainingAndUserEmailContaining(TEST_LOCATION, TEST_EMAIL))
+            .thenReturn(1L);
+        when(auditArchive.findHotFrom()).thenReturn(Optional.of(LocalDateTime.of(2020, 2, 1, 0, 0)));
+        when(auditArchive.find(TEST_LOCATION, TEST_EMAIL, Optional.empty(), Optional.empty(), AuditCursor.FIRST, 2))
+            .thenReturn(List.of(new Audit(), archived));
+
+        final List<uk.gov.hmcts.dts.fact.model.admin.Audit> results =
+            adminAuditService.getAllAuditData(2, 1, Optional.of(TEST_LOCATION), Optional.of(TEST_EMAIL),
+                                              Optional.empty(), Optional.empty());
+
+        assertThat(results).extracting(uk.gov.hmcts.dts.fact.model.admin.Audit::getId).containsExactly(100);
+    }
+
+    @Test
+    void shouldNotReadTheArchiveWhenTheDateRangeIsRecent() {
+        final LocalDateTime dateFrom = LocalDateTime.of(2024, 1, 1, 0, 0);
+        final LocalDateTime dateTo = LocalDateTime.of(2024, 12, 31, 0, 0);
+        when(auditRepository.findAllByLocationContainingAndUserEmailContainingAndCreationTimeBetweenOrderByCreationTimeDesc(
+            TEST_LOCATION, TEST_EMAIL, dateFrom, dateTo, PageRequest.of(0, 10))).thenReturn(new PageImpl<>(AUDIT_DATA));
+        when(auditArchive.findHotFrom()).thenReturn(Optional.of(LocalDateTime.of(2020, 2, 1, 0, 0)));
+
+        adminAuditService.getAllAuditData(0, 10, Optional.of(TEST_LOCATION), Optional.of(TEST_EMAIL),
+                                          Optional.of(dateFrom), Optional.of(dateTo));
+
+        verify(auditArchive, times(0)).find(anyString(), anyString(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldCarryOnWithArchivedAuditsAfterTheLastRecentAudit() {
+        final Audit archived = new Audit("Archived", new AuditType(1, "test"), "before", "after",
+                                         "some court", LocalDateTime.of(2020, 1, 1, 10, 10, 10));
+        archived.setId(100);
+        when(auditRepository.findAllBefore(TEST_LOCATION, TEST_EMAIL, AuditCursor.FIRST.getCreationTime(),
+                                           AuditCursor.FIRST.getId(), PageRequest.ofSize(2)))
+            .thenReturn(new SliceImpl<>(List.of(AUDIT_DATA.get(0)), PageRequest.ofSize(2), false));
+        when(auditArchive.findHotFrom()).thenReturn(Optional.of(LocalDateTime.of(2020, 2, 1, 0, 0)));
+        when(auditArchive.find(TEST_LOCATION, TEST_EMAIL, Optional.empty(), Optional.empty(),
+                               AuditCursor.after(AUDIT_DATA.get(0)), 2))
+            .thenReturn(List.of(archived, new Audit()));
+
+        final AuditSlice results = adminAuditService.getAuditDataAfter("", 2, Optional.of(TEST_LOCATION),
+                                                                       Optional.of(TEST_EMAIL),
+                                                                       Optional.empty(), Optional.empty());
+
+        assertThat(results.getAudits()).extracting(uk.gov.hmcts.dts.fact.model.admin.Audit::getId)
+            .containsExactly(0, 100);
+        assertThat(AuditCursor.fromToken(results.getNextCursor())).isEqualTo(AuditCursor.after(archived));
+    }
+
     @Test
     void shouldSaveAudit() {
         when(auditTypeRepository.findByName(anyString())).thenReturn(new AuditType(1, "test type"));
         Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn(TEST_EMAIL);
         SecurityContext securityContext = mock(SecurityContext.class);
         when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
+        adminAuditService.saveAudit("test type", List.of("before"), emptyList(), "some court");
+
+        final ArgumentCaptor<PendingAudit> audit = ArgumentCaptor.forClass(PendingAudit.class);
+        verify(auditWriter, atLeastOnce()).write(audit.capture());
+        assertThat(audit.getValue().getUserEmail()).isEqualTo(TEST_EMAIL);
+        assertThat(audit.getValue().getAuditTypeId()).isEqualTo(1);
+        assertThat(audit.getValue().getActionDataBefore()).isEqualTo("[\"before\"]");
+        assertThat(audit.getValue().getActionDataAfter()).isEqualTo("[]");
+        assertThat(audit.getValue().getLocation()).isEqualTo("some court");
+        assertThat(audit.getValue().getCreationTime()).isNotNull();
+    }
+
+    @Test
+    void shouldWriteTheAuditInTheTransactionOfTheChange() {
+        when(auditTypeRepository.findByName(anyString())).thenReturn(new AuditType(1, "test type"));
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(mock(Authentication.class));
+        SecurityContextHolder.setContext(securityContext);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            adminAuditService.saveAudit("test type", emptyList(), emptyList(), "some court");
+
+            verify(auditWriter).write(any(PendingAudit.class));
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldSaveTheDataBeforeAsAPatchWhenItIsShorter() throws Exception {
+        when(auditTypeRepository.findByName(anyString())).thenReturn(new AuditType(1, "test type"));
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(mock(Authentication.class));
+        SecurityContextHolder.setContext(securityContext);
+        final List<String> postcodes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            postcodes.add("OX" + i + " 1AA");
+        }
+
+        adminAuditService.saveAudit("test type", postcodes, postcodes.subList(1, postcodes.size()), "some court");
+
+        final ArgumentCaptor<PendingAudit> audit = ArgumentCaptor.forClass(PendingAudit.class);
+        verify(auditWriter).write(audit.capture());
+        assertThat(audit.getValue().getActionDataEncoding()).isEqualTo(AuditDataEncoding.PATCH);
+        assertThat(audit.getValue().getActionDataBefore())
+            .isEqualTo("[{\"op\":\"add\",\"path\":\"/0\",\"value\":\"OX0 1AA\"}]");
+        assertThat(audit.getValue().getActionDataAfter()).isEqualTo(OBJECT_MAPPER.writeValueAsString(
+            postcodes.subList(1, postcodes.size())));
+    }
+
+    @Test
+    void shouldRebuildTheDataBeforeFromItsPatch() {
+        final Audit audit = new Audit(5, TEST_EMAIL, new AuditType(1, "test"),
+                                      "[{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"Old name\"}]",
+                                      "{\"name\":\"New name\",\"slug\":\"court\"}", TEST_LOCATION,
+                                      LocalDateTime.of(2024, 1, 1, 10, 10));
+        audit.setActionDataEncoding(AuditDataEncoding.PATCH);
+        when(auditRepository.findAllByLocationContainingAndUserEmailContainingOrderByCreationTimeDesc(
+            TEST_LOCATION, TEST_EMAIL, PageRequest.of(0, 10))).thenReturn(new PageImpl<>(List.of(audit)));
+
+        final List<uk.gov.hmcts.dts.fact.model.admin.Audit> results =
+            adminAuditService.getAllAuditData(0, 10, Optional.of(TEST_LOCATION), Optional.of(TEST_EMAIL),
+                                              Optional.empty(), Optional.empty());
+
+        assertThat(results.get(0).getActionDataBefore()).isEqualTo("{\"name\":\"Old name\",\"slug\":\"court\"}");
+        assertThat(results.get(0).getActionDataAfter()).isEqualTo("{\"name\":\"New name\",\"slug\":\"court\"}");
+    }
+
+    @Test
+    void shouldLookUpEachAuditTypeOnce() {
+        when(auditTypeRepository.findByName("cached type")).thenReturn(new AuditType(2, "cached type"));
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(mock(Authentication.class));
+        SecurityContextHolder.setContext(securityContext);
+
+        adminAuditService.saveAudit("cached type", emptyList(), emptyList(), "some court");
+        adminAuditService.saveAudit("cached type", emptyList(), emptyList(), "some court");
 
-        adminAuditService.saveAudit("test type", AUDIT_DATA, emptyList(), "some court");
+        verify(auditTypeRepository, times(1)).findByName("cached type");
+        verify(auditWriter, times(2)).write(any(PendingAudit.class));
+    }
+
+    @Test
+    void shouldNotQueueAuditsOfAnUnknownType() {
+        SecurityContext securityContext = mock(SecurityContext.class);
+        when(securityContext.getAuthentication()).thenReturn(mock(Authentication.class));
+        SecurityContextHolder.setContext(securityContext);
 
-        verify(auditRepository, atLeastOnce()).save(any(Audit.class));
+        assertThatThrownBy(() -> adminAuditService.saveAudit("unknown type", emptyList(), emptyList(), "some court"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Unknown audit type: unknown type");
+        verify(auditWriter, times(0)).write(any(PendingAudit.class));
     }
 }
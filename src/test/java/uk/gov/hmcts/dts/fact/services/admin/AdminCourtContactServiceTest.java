@@ -17,6 +17,9 @@ import uk.gov.hmcts.dts.fact.model.admin.ContactType;
 import uk.gov.hmcts.dts.fact.repositories.ContactTypeRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtContactRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataLoader;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,7 +37,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
-@ContextConfiguration(classes = AdminCourtContactService.class)
+@ContextConfiguration(classes = {AdminCourtContactService.class, ReferenceDataCatalogue.class})
 class AdminCourtContactServiceTest {
     private static final String COURT_SLUG = "some slug";
     private static final int TEST_TYPE_ID1 = 1;
@@ -80,6 +83,12 @@ class AdminCourtContactServiceTest {
     @Autowired
     private AdminCourtContactService adminService;
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
+
     @MockitoBean
     private CourtRepository courtRepository;
 
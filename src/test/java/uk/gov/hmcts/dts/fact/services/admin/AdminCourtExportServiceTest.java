@@ -0,0 +1,109 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.repositories.CourtExportRepository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminCourtExportServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final PageRequest CHUNK = PageRequest.ofSize(CHUNK_SIZE);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final CourtExportRepository courtExportRepository = mock(CourtExportRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final AdminCourtExportService adminCourtExportService =
+        new AdminCourtExportService(courtExportRepository, entityManager, CHUNK_SIZE);
+
+    @Test
+    void shouldWriteCourtsAsNdjsonAChunkAtATime() throws IOException {
+        final Court aylesbury = court(1, "Aylesbury Court");
+        final Court bedford = court(2, "Bedford Court");
+        final Court cardiff = court(3, "Cardiff Court");
+        when(courtExportRepository.findFirstChunk(CHUNK)).thenReturn(List.of(aylesbury, bedford));
+        when(courtExportRepository.findChunkAfter("Bedford Court", 2, CHUNK)).thenReturn(List.of(cardiff));
+
+        final List<String> lines = export(CourtExportFormat.NDJSON).lines().toList();
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.stream().map(this::name)).containsExactly("Aylesbury Court", "Bedford Court", "Cardiff Court");
+        assertThat(OBJECT_MAPPER.readTree(lines.get(0)).get("open").asText()).isEqualTo("open");
+        verify(courtExportRepository).fetchAddresses(List.of(1, 2));
+        verify(courtExportRepository).fetchDxCodes(List.of(1, 2));
+        verify(courtExportRepository).fetchAddresses(List.of(3));
+        verify(courtExportRepository).fetchDxCodes(List.of(3));
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void shouldStopOnAnEmptyChunk() throws IOException {
+        final Court aylesbury = court(1, "Aylesbury Court");
+        final Court bedford = court(2, "Bedford Court");
+        when(courtExportRepository.findFirstChunk(CHUNK)).thenReturn(List.of(aylesbury, bedford));
+        when(courtExportRepository.findChunkAfter("Bedford Court", 2, CHUNK)).thenReturn(List.of());
+
+        assertThat(export(CourtExportFormat.NDJSON).lines()).hasSize(2);
+        verify(courtExportRepository, times(1)).fetchAddresses(any());
+    }
+
+    @Test
+    void shouldWriteCourtsAsCsvWithAHeader() throws IOException {
+        when(courtExportRepository.findFirstChunk(CHUNK)).thenReturn(List.of(court(1, "Court of \"Appeal\", Civil")));
+
+        final List<String> lines = export(CourtExportFormat.CSV).lines().toList();
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).startsWith("name,open,updated,addresses,areas_of_law,court_types,");
+        assertThat(lines.get(1)).startsWith("\"Court of \"\"Appeal\"\", Civil\",open,,,");
+        verify(courtExportRepository, never()).findChunkAfter(anyString(), anyInt(), any());
+    }
+
+    @Test
+    void shouldWriteOnlyTheCsvHeaderWhenThereAreNoCourts() throws IOException {
+        when(courtExportRepository.findFirstChunk(CHUNK)).thenReturn(List.of());
+
+        assertThat(export(CourtExportFormat.CSV).lines()).hasSize(1);
+        verify(courtExportRepository, never()).fetchAddresses(any());
+        verify(entityManager, never()).clear();
+    }
+
+    private String export(final CourtExportFormat format) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        adminCourtExportService.exportCourts(format, outputStream);
+        return outputStream.toString(UTF_8);
+    }
+
+    private String name(final String line) {
+        try {
+            return OBJECT_MAPPER.readTree(line).get("name").asText();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Court court(final int id, final String name) {
+        final Court court = new Court();
+        court.setId(id);
+        court.setName(name);
+        court.setDisplayed(true);
+        return court;
+    }
+}
@@ -2,8 +2,6 @@ package uk.gov.hmcts.dts.fact.services.admin;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
@@ -21,9 +19,7 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -39,12 +35,12 @@ class AdminCourtLockServiceTest {
     @MockitoBean
     private AdminAuditService adminAuditService;
 
+    @MockitoBean
+    private CourtLockManager courtLockManager;
+
     @Autowired
     private AdminCourtLockService adminCourtLockService;
 
-    @Captor
-    private ArgumentCaptor<CourtLock> captor;
-
     private static final String TEST_SLUG_1 = "mosh-slug";
     private static final String TEST_SLUG_2 = "kupo-slug";
     private static final String TEST_USER_2 = "kupo@cat.com";
@@ -86,60 +82,34 @@ class AdminCourtLockServiceTest {
 
     @Test
     void shouldThrowLockInUseExceptionWhenAddingLock() {
-        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2)).thenReturn(Collections.singletonList(
-            EXPECTED_COURT_LOCK_LIST.get(0)));
+        when(courtLockManager.acquire(TEST_SLUG_2, TEST_USER_2)).thenThrow(
+            new LockExistsException("Lock for court 'kupo-slug' is currently held by user 'mosh@cat.com'"));
         assertThatThrownBy(() -> adminCourtLockService.addNewCourtLock(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(
             ENTITY_COURT_LOCK_2)))
             .isInstanceOf(LockExistsException.class)
             .hasMessage("Lock for court 'kupo-slug' is currently held by user 'mosh@cat.com'");
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlug(TEST_SLUG_2);
+        verify(adminAuditService, never()).saveAudit(any(), any(), any(), any());
     }
 
     @Test
-    void shouldUpdateLockWhenAddingIfUserIsTheSame() {
-        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2)).thenReturn(Collections.singletonList(
-            EXPECTED_COURT_LOCK_LIST.get(1)));
-        when(courtLockRepository.findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2)).thenReturn(
-            Collections.singletonList(
-                EXPECTED_COURT_LOCK_LIST.get(1)));
-        when(courtLockRepository.save(any())).thenReturn(EXPECTED_COURT_LOCK_LIST.get(1));
+    void shouldRenewLockWithoutAuditingWhenAddingIfUserIsTheSame() {
+        when(courtLockManager.acquire(TEST_SLUG_2, TEST_USER_2))
+            .thenReturn(new CourtLockLease(ENTITY_COURT_LOCK_2, false, null));
 
         assertThat(adminCourtLockService.addNewCourtLock(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(
             ENTITY_COURT_LOCK_2))).isEqualTo(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2));
 
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlug(TEST_SLUG_2);
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2);
-        verify(courtLockRepository, times(1)).save(captor.capture());
-        verify(adminAuditService, times(1)).saveAudit(anyString(), anyString(), anyString(), anyString());
-
-        // Check that the edited court has a date larger than the original
-        List<CourtLock> courtLock = captor.getAllValues();
-        assertEquals(1, courtLock.size());
-        assertThat(courtLock.get(0).getLockAcquired()).isAfter(TEST_LOCK_ACQUIRED_2);
-    }
-
-    @Test
-    void shouldThrowLockInUseExceptionWhenMoreThanOneUserForCourt() {
-        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2)).thenReturn(Arrays.asList(
-            EXPECTED_COURT_LOCK_LIST.get(0), EXPECTED_COURT_LOCK_LIST.get(1)));
-        assertThatThrownBy(() -> adminCourtLockService.addNewCourtLock(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(
-            ENTITY_COURT_LOCK_2)))
-            .isInstanceOf(LockExistsException.class)
-            .hasMessage(String.format("More than one lock exists for kupo-slug: %s", Arrays.asList(
-                EXPECTED_COURT_LOCK_LIST.get(0), EXPECTED_COURT_LOCK_LIST.get(1))));
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlug(TEST_SLUG_2);
+        verify(adminAuditService, never()).saveAudit(any(), any(), any(), any());
     }
 
     @Test
     void shouldAddLockSuccess() {
-        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2)).thenReturn(Collections.emptyList());
-        when(courtLockRepository.save(any())).thenReturn(EXPECTED_COURT_LOCK_LIST.get(1));
+        when(courtLockManager.acquire(TEST_SLUG_2, TEST_USER_2))
+            .thenReturn(new CourtLockLease(ENTITY_COURT_LOCK_2, true, null));
 
         assertThat(adminCourtLockService.addNewCourtLock(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(
             ENTITY_COURT_LOCK_2))).isEqualTo(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2));
 
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlug(TEST_SLUG_2);
-        verify(courtLockRepository, times(1)).save(captor.capture());
         verify(adminAuditService, times(1))
             .saveAudit(
                 "Create court lock",
@@ -147,41 +117,32 @@ class AdminCourtLockServiceTest {
                 new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2),
                 TEST_SLUG_2
             );
-
-        List<CourtLock> courtLock = captor.getAllValues();
-        assertEquals(1, courtLock.size());
-        assertThat(courtLock.get(0).getLockAcquired()).isAfter(TEST_LOCK_ACQUIRED_2);
     }
 
     @Test
-    void shouldThrowLockInUseExceptionWhenMoreThanOneUserForCourtWhenUpdating() {
-        when(courtLockRepository.findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2)).thenReturn(
-            Arrays.asList(EXPECTED_COURT_LOCK_LIST.get(0), EXPECTED_COURT_LOCK_LIST.get(1)));
-        when(courtLockRepository.save(any())).thenReturn(EXPECTED_COURT_LOCK_LIST.get(1));
+    void shouldAuditTheExpiredLockTakenOver() {
+        when(courtLockManager.acquire(TEST_SLUG_2, TEST_USER_2))
+            .thenReturn(new CourtLockLease(ENTITY_COURT_LOCK_2, true, ENTITY_COURT_LOCK_1));
 
-        assertThatThrownBy(() -> adminCourtLockService.updateCourtLock(TEST_SLUG_2, TEST_USER_2))
-            .isInstanceOf(LockExistsException.class)
-            .hasMessage(String.format("More than one lock exists for kupo-slug: %s", Arrays.asList(
-                EXPECTED_COURT_LOCK_LIST.get(0), EXPECTED_COURT_LOCK_LIST.get(1))));
+        adminCourtLockService.addNewCourtLock(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2));
 
-        verify(courtLockRepository, times(1))
-            .findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2);
-        verify(courtLockRepository, never()).save(any());
+        verify(adminAuditService, times(1))
+            .saveAudit(
+                "Create court lock",
+                Collections.singletonList(ENTITY_COURT_LOCK_1),
+                new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2),
+                TEST_SLUG_2
+            );
     }
 
     @Test
     void shouldAddLockWhenUpdatingIfUserNotExistsAndSlugHasNoLocks() {
-        when(courtLockRepository.findCourtLockByCourtSlug(TEST_SLUG_2)).thenReturn(Collections.emptyList());
-        when(courtLockRepository.findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2)).thenReturn(
-            Collections.emptyList());
-        when(courtLockRepository.save(any())).thenReturn(EXPECTED_COURT_LOCK_LIST.get(1));
+        when(courtLockManager.acquire(TEST_SLUG_2, TEST_USER_2))
+            .thenReturn(new CourtLockLease(ENTITY_COURT_LOCK_2, true, null));
 
         assertThat(adminCourtLockService.updateCourtLock(TEST_SLUG_2, TEST_USER_2))
             .isEqualTo(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2));
 
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlug(TEST_SLUG_2);
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2);
-        verify(courtLockRepository, times(1)).save(captor.capture());
         verify(adminAuditService, times(1))
             .saveAudit(
                 "Create court lock",
@@ -193,31 +154,24 @@ class AdminCourtLockServiceTest {
 
     @Test
     void shouldUpdateLockSuccess() {
-        when(courtLockRepository.findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2)).thenReturn(
-            Collections.singletonList(
-                EXPECTED_COURT_LOCK_LIST.get(1)));
-        when(courtLockRepository.save(any())).thenReturn(EXPECTED_COURT_LOCK_LIST.get(1));
+        when(courtLockManager.acquire(TEST_SLUG_2, TEST_USER_2))
+            .thenReturn(new CourtLockLease(ENTITY_COURT_LOCK_2, false, null));
 
         assertThat(adminCourtLockService.updateCourtLock(TEST_SLUG_2, TEST_USER_2))
             .isEqualTo(new uk.gov.hmcts.dts.fact.model.admin.CourtLock(ENTITY_COURT_LOCK_2));
 
-        verify(courtLockRepository, times(1)).findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2);
-        verify(courtLockRepository, times(1)).save(captor.capture());
-        verify(adminAuditService, times(1))
-            .saveAudit(
-                "Update court lock",
-                String.format("User kupo@cat.com has a lock acquired time (before) of: %s", TEST_LOCK_ACQUIRED_2),
-                String.format(
-                    "User kupo@cat.com has a lock acquired time (after) of: %s",
-                    ENTITY_COURT_LOCK_2.getLockAcquired()
-                ),
-                TEST_SLUG_2
-            );
+        verify(courtLockManager, times(1)).acquire(TEST_SLUG_2, TEST_USER_2);
+        verify(adminAuditService, never()).saveAudit(any(), any(), any(), any());
+    }
 
-        // Check that the edited court has a date larger than the original
-        List<CourtLock> courtLock = captor.getAllValues();
-        assertEquals(1, courtLock.size());
-        assertThat(courtLock.get(0).getLockAcquired()).isAfter(TEST_LOCK_ACQUIRED_2);
+    @Test
+    void shouldThrowLockInUseExceptionWhenUpdating() {
+        when(courtLockManager.acquire(TEST_SLUG_2, TEST_USER_2)).thenThrow(
+            new LockExistsException("Lock for court 'kupo-slug' is currently held by user 'mosh@cat.com'"));
+
+        assertThatThrownBy(() -> adminCourtLockService.updateCourtLock(TEST_SLUG_2, TEST_USER_2))
+            .isInstanceOf(LockExistsException.class);
+        verify(adminAuditService, never()).saveAudit(any(), any(), any(), any());
     }
 
     @Test
@@ -233,6 +187,7 @@ class AdminCourtLockServiceTest {
             .findCourtLockByCourtSlugAndUserEmail(TEST_SLUG_2, TEST_USER_2);
         verify(courtLockRepository, times(1))
             .delete(EXPECTED_COURT_LOCK_LIST.get(0));
+        verify(courtLockManager, times(1)).forget(TEST_SLUG_2);
         verify(adminAuditService, times(1))
             .saveAudit(
                 "Delete court lock",
@@ -253,6 +208,7 @@ class AdminCourtLockServiceTest {
         );
         verify(courtLockRepository, times(1))
             .deleteAllByUserEmail(TEST_USER_2);
+        verify(courtLockManager, times(1)).forgetUser(TEST_USER_2);
         verify(adminAuditService, times(1))
             .saveAudit(
                 "Delete court lock",
@@ -15,6 +15,9 @@ import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.model.admin.OpeningTime;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.OpeningTypeRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataLoader;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,7 +35,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
-@ContextConfiguration(classes = AdminCourtOpeningTimeService.class)
+@ContextConfiguration(classes = {AdminCourtOpeningTimeService.class, ReferenceDataCatalogue.class})
 class AdminCourtOpeningTimeServiceTest {
     private static final String COURT_SLUG = "some slug";
     private static final int TEST_TYPE_ID1 = 1;
@@ -64,6 +67,12 @@ class AdminCourtOpeningTimeServiceTest {
     @Autowired
     private AdminCourtOpeningTimeService adminService;
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
+
     @MockitoBean
     private CourtRepository courtRepository;
 
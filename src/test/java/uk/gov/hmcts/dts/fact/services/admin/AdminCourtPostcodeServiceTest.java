@@ -13,11 +13,14 @@ import uk.gov.hmcts.dts.fact.entity.CourtPostcode;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeExistedException;
 import uk.gov.hmcts.dts.fact.exception.PostcodeNotFoundException;
+import uk.gov.hmcts.dts.fact.model.admin.PostcodeImport;
 import uk.gov.hmcts.dts.fact.repositories.CourtPostcodeRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.util.Arrays.asList;
@@ -27,7 +30,6 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -75,6 +77,9 @@ class AdminCourtPostcodeServiceTest {
     @MockitoBean
     private CourtPostcodeRepository courtPostcodeRepository;
 
+    @MockitoBean
+    private CourtPostcodeWriter courtPostcodeWriter;
+
     @MockitoBean
     private AdminAuditService adminAuditService;
 
@@ -112,9 +117,10 @@ class AdminCourtPostcodeServiceTest {
     @Test
     void shouldAddCourtPostcodes() {
         when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.of(court));
-        when(courtPostcodeRepository.save(any())).thenReturn(new CourtPostcode(NEW_POSTCODE, court));
+        when(court.getId()).thenReturn(TEST_COURT_ID);
+        when(courtPostcodeWriter.insert(TEST_COURT_ID, singletonList(NEW_POSTCODE))).thenReturn(singletonList(NEW_POSTCODE));
 
-        List<String> results = adminService.addCourtPostcodes(COURT_SLUG, singletonList(NEW_POSTCODE));
+        List<String> results = adminService.addCourtPostcodes(COURT_SLUG, asList(NEW_POSTCODE, "m 5"));
         assertThat(results)
             .hasSize(1)
             .containsExactly(NEW_POSTCODE);
@@ -123,6 +129,42 @@ class AdminCourtPostcodeServiceTest {
                                                            results, COURT_SLUG);
     }
 
+    @Test
+    void shouldImportCourtPostcodesWithASummaryAudit() {
+        when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.of(court));
+        when(court.getId()).thenReturn(TEST_COURT_ID);
+        when(courtPostcodeRepository.countByCourtId(TEST_COURT_ID)).thenReturn(4L);
+        when(courtPostcodeWriter.insert(TEST_COURT_ID, asList(TEST_POSTCODE1, NEW_POSTCODE)))
+            .thenReturn(singletonList(NEW_POSTCODE));
+
+        final PostcodeImport result = adminService.importCourtPostcodes(
+            COURT_SLUG, asList(TEST_POSTCODE1, NEW_POSTCODE, TEST_POSTCODE1));
+
+        assertThat(result.getPostcodeCount()).isEqualTo(2);
+        assertThat(result.getAdded()).containsExactly(NEW_POSTCODE);
+        assertThat(result.getAlreadyPresent()).containsExactly(TEST_POSTCODE1);
+        final Map<String, Object> auditBefore = new LinkedHashMap<>();
+        auditBefore.put("postcode_count", 4L);
+        final Map<String, Object> auditAfter = new LinkedHashMap<>();
+        auditAfter.put("postcode_count", 5L);
+        auditAfter.put("added", singletonList(NEW_POSTCODE));
+        auditAfter.put("already_present", 1);
+        verify(adminAuditService).saveAudit("Create court postcodes", auditBefore, auditAfter, COURT_SLUG);
+        verify(court, never()).getCourtPostcodes();
+    }
+
+    @Test
+    void shouldReturnNotFoundWhenImportingPostcodesForNonExistentCourt() {
+        when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> adminService.importCourtPostcodes(COURT_SLUG, POSTCODES))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage(NOT_FOUND + COURT_SLUG);
+
+        verifyNoInteractions(courtPostcodeWriter);
+        verify(adminAuditService, never()).saveAudit(anyString(), anyString(), anyString(), anyString());
+    }
+
     @Test
     void shouldReturnNotFoundWhenAddingPostcodesForNonExistentCourt() {
         when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.empty());
@@ -138,10 +180,9 @@ class AdminCourtPostcodeServiceTest {
     @Test
     void shouldDeleteCourtPostcodes() {
         when(courtRepository.findBySlug(COURT_SLUG)).thenReturn(Optional.of(court));
-        when(court.getCourtPostcodes()).thenReturn(courtPostcodes).thenReturn(emptyList());
+        when(court.getCourtPostcodes()).thenReturn(courtPostcodes);
         when(court.getId()).thenReturn(TEST_COURT_ID);
-        when(courtPostcodeRepository.deleteByCourtIdAndPostcode(TEST_COURT_ID, TEST_POSTCODE2)).thenReturn(singletonList(courtPostcodes.get(1)));
-        when(courtPostcodeRepository.deleteByCourtIdAndPostcode(TEST_COURT_ID, TEST_POSTCODE3)).thenReturn(singletonList(courtPostcodes.get(2)));
+        when(courtPostcodeWriter.delete(TEST_COURT_ID, POSTCODES_TO_BE_DELETED)).thenReturn(POSTCODES_TO_BE_DELETED);
 
         int rowsDeleted = adminService.deleteCourtPostcodes(COURT_SLUG, POSTCODES_TO_BE_DELETED);
         assertThat(rowsDeleted).isEqualTo(2);
@@ -149,7 +190,7 @@ class AdminCourtPostcodeServiceTest {
                                                            courtPostcodes.stream()
                                                                .map(CourtPostcode::getPostcode)
                                                                .collect(toList()),
-                                                           emptyList(),
+                                                           asList(TEST_POSTCODE1, TEST_POSTCODE4),
                                                            null);
     }
 
@@ -181,9 +222,7 @@ class AdminCourtPostcodeServiceTest {
         when(courtRepository.findBySlug(DESTINATION_COURT_SLUG)).thenReturn(Optional.of(destinationCourt));
         when(courtPostcodeRepository.findByCourtIdAndPostcodeIn(2, POSTCODES_TO_BE_MOVED)).thenReturn(emptyList());
 
-        courtPostcodes.get(0).setCourt(destinationCourt);
-        courtPostcodes.get(1).setCourt(destinationCourt);
-        when(courtPostcodeRepository.saveAll(courtPostcodes)).thenReturn(courtPostcodes);
+        when(courtPostcodeWriter.move(1, 2, POSTCODES_TO_BE_MOVED)).thenReturn(POSTCODES_TO_BE_MOVED);
 
         List<String> results = adminService.moveCourtPostcodes(SOURCE_COURT_SLUG, DESTINATION_COURT_SLUG, POSTCODES_TO_BE_MOVED);
         assertThat(results)
@@ -233,7 +272,7 @@ class AdminCourtPostcodeServiceTest {
             .isInstanceOf(PostcodeExistedException.class)
             .hasMessage("Postcodes already exist: " + POSTCODES_TO_BE_MOVED);
 
-        verify(courtPostcodeRepository, never()).saveAll(any());
+        verifyNoInteractions(courtPostcodeWriter);
         verify(adminAuditService, never()).saveAudit(anyString(), anyString(), anyString(), anyString());
     }
 
@@ -19,6 +19,9 @@ import uk.gov.hmcts.dts.fact.model.admin.DxCode;
 import uk.gov.hmcts.dts.fact.repositories.CourtDxCodesRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtTypeRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataLoader;
 import uk.gov.hmcts.dts.fact.util.MapCourtCode;
 
 import java.util.ArrayList;
@@ -36,7 +39,7 @@ import static org.mockito.Mockito.when;
 import static uk.gov.hmcts.dts.fact.services.admin.AdminRole.FACT_SUPER_ADMIN;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
-@ContextConfiguration(classes = AdminCourtTypesAndCodesService.class)
+@ContextConfiguration(classes = {AdminCourtTypesAndCodesService.class, ReferenceDataCatalogue.class})
 class AdminCourtTypesAndCodesServiceTest {
 
     private static final int COURT_TYPE_COUNT = 3;
@@ -73,6 +76,12 @@ class AdminCourtTypesAndCodesServiceTest {
 
 
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
+
     @MockitoBean
     private CourtRepository courtRepository;
 
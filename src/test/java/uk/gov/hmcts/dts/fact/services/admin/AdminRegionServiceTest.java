@@ -9,6 +9,9 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.repositories.RegionRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataLoader;
 
 import java.util.Arrays;
 import java.util.List;
@@ -17,7 +20,7 @@ import java.util.Map;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
-@ContextConfiguration(classes = AdminRegionService.class)
+@ContextConfiguration(classes = {AdminRegionService.class, ReferenceDataCatalogue.class})
 @SuppressWarnings("PMD.TooManyMethods")
 class AdminRegionServiceTest {
     private static final int REGION_ID1 = 1;
@@ -37,6 +40,12 @@ class AdminRegionServiceTest {
     @Autowired
     private AdminRegionService adminRegionService;
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
+
     @MockitoBean
     private RegionRepository regionRepository;
 
@@ -167,7 +167,7 @@ class AdminServiceTest {
     @Test
     void shouldReturnAllCourts() {
         final Court mock = mock(Court.class);
-        when(courtRepository.findAll()).thenReturn(singletonList(mock));
+        when(courtRepository.findAllForList()).thenReturn(singletonList(mock));
         final List<CourtReference> results = adminService.getAllCourtReferences();
         assertThat(results).hasSize(1);
         assertThat(results.get(0)).isInstanceOf(CourtReference.class);
@@ -176,7 +176,7 @@ class AdminServiceTest {
     @Test
     void shouldReturnAllCourtsForDownload() {
         final Court mock = mock(Court.class);
-        when(courtRepository.findAll()).thenReturn(singletonList(mock));
+        when(courtRepository.findAllForDownload()).thenReturn(singletonList(mock));
         final List<CourtForDownload> results = adminService.getAllCourtsForDownload();
         assertThat(results).hasSize(1);
         assertThat(results.get(0)).isInstanceOf(CourtForDownload.class);
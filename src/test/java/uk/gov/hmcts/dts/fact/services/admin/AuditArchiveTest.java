@@ -0,0 +1,41 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.util.AuditDataEncoding;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditArchiveTest {
+
+    @Test
+    void shouldReadBackCompressedAudits() {
+        final List<ArchivedAudit> audits = List.of(
+            new ArchivedAudit(1, "kupo email", 2, "[\"before\"]", "[]", "mosh court",
+                              LocalDateTime.of(2020, 1, 1, 10, 10, 10), AuditDataEncoding.FULL),
+            new ArchivedAudit(2, "kupo email 2", 3, null, "{\"name\":\"café\"}", null,
+                              LocalDateTime.of(2020, 1, 2, 10, 10, 10, 500_000), AuditDataEncoding.PATCH)
+        );
+
+        final List<ArchivedAudit> read = AuditArchive.decompress(AuditArchive.compress(audits));
+
+        assertThat(read).usingRecursiveFieldByFieldElementComparator().isEqualTo(audits);
+    }
+
+    @Test
+    void shouldCompressRepeatedSnapshots() {
+        final String snapshot = "{\"addresses\":[" + "{\"address_lines\":[\"1 High Street\"],\"town\":\"Town\"},".repeat(50)
+            + "{}]}";
+        final List<ArchivedAudit> audits = IntStream.range(0, 100)
+            .mapToObj(i -> new ArchivedAudit(i, "kupo email", 1, snapshot, snapshot, "mosh court",
+                                             LocalDateTime.of(2020, 1, 1, 0, 0).plusMinutes(i),
+                                             AuditDataEncoding.FULL))
+            .collect(Collectors.toList());
+
+        assertThat(AuditArchive.compress(audits).length).isLessThan(snapshot.length() * 2);
+    }
+}
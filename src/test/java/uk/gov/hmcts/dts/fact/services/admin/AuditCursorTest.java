@@ -0,0 +1,60 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.entity.Audit;
+import uk.gov.hmcts.dts.fact.entity.AuditType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditCursorTest {
+
+    private static final LocalDateTime CREATION_TIME = LocalDateTime.of(2024, 11, 10, 10, 10, 10, 123_000);
+
+    @Test
+    void shouldReadBackItsOwnToken() {
+        final AuditCursor cursor = new AuditCursor(CREATION_TIME, 42);
+
+        assertThat(AuditCursor.fromToken(cursor.toToken())).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldUseTheUrlSafeAlphabet() {
+        assertThat(new AuditCursor(CREATION_TIME, 42).toToken()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void shouldStartAfterTheLastAuditRead() {
+        final Audit audit = new Audit("kupo email", new AuditType(1, "test"), "before", "after",
+                                      "mosh court", CREATION_TIME);
+        audit.setId(7);
+
+        assertThat(AuditCursor.after(audit)).isEqualTo(new AuditCursor(CREATION_TIME, 7));
+    }
+
+    @Test
+    void shouldStartAtTheFirstPageForAnEmptyToken() {
+        assertThat(AuditCursor.fromToken("")).isEqualTo(AuditCursor.FIRST);
+        assertThat(AuditCursor.fromToken(null)).isEqualTo(AuditCursor.FIRST);
+    }
+
+    @Test
+    void shouldRejectInvalidTokens() {
+        assertThatThrownBy(() -> AuditCursor.fromToken("not base64!"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AuditCursor.fromToken(encode("no separator")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AuditCursor.fromToken(encode("yesterday|1")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AuditCursor.fromToken(encode(CREATION_TIME + "|one")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encode(final String value) {
+        return Base64.getUrlEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
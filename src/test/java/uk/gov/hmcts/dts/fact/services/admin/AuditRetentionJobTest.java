@@ -0,0 +1,68 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditRetentionJobTest {
+
+    private static final int HOT_MONTHS = 12;
+
+    private final AuditArchive auditArchive = mock(AuditArchive.class);
+    private final AuditRetentionJob job = new AuditRetentionJob(auditArchive, HOT_MONTHS);
+    private final YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+
+    @Test
+    void shouldCreateTheComingPartitions() {
+        job.run();
+
+        verify(auditArchive).createPartition(currentMonth);
+        verify(auditArchive).createPartition(currentMonth.plusMonths(AuditRetentionJob.MONTHS_AHEAD));
+        verify(auditArchive, times(AuditRetentionJob.MONTHS_AHEAD + 1)).createPartition(any());
+    }
+
+    @Test
+    void shouldArchiveOnlyTheMonthsPastTheRetentionAge() {
+        final YearMonth oldestHotMonth = currentMonth.minusMonths(HOT_MONTHS - 1);
+        when(auditArchive.findPartitions()).thenReturn(List.of(
+            oldestHotMonth.minusMonths(2), oldestHotMonth.minusMonths(1), oldestHotMonth, currentMonth
+        ));
+
+        job.run();
+
+        verify(auditArchive).archive(oldestHotMonth.minusMonths(2));
+        verify(auditArchive).archive(oldestHotMonth.minusMonths(1));
+        verify(auditArchive, never()).archive(oldestHotMonth);
+        verify(auditArchive, never()).archive(currentMonth);
+    }
+
+    @Test
+    void shouldCarryOnAfterAMonthFails() {
+        final YearMonth first = currentMonth.minusMonths(HOT_MONTHS + 1);
+        final YearMonth second = currentMonth.minusMonths(HOT_MONTHS);
+        when(auditArchive.findPartitions()).thenReturn(List.of(first, second));
+        doThrow(new DataAccessResourceFailureException("down")).when(auditArchive).archive(first);
+
+        job.run();
+
+        verify(auditArchive).archive(second);
+    }
+
+    @Test
+    void shouldKeepAtLeastTheCurrentMonth() {
+        assertThatThrownBy(() -> new AuditRetentionJob(auditArchive, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
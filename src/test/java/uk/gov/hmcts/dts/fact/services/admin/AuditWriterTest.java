@@ -0,0 +1,92 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import uk.gov.hmcts.dts.fact.util.AuditDataEncoding;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuditWriterTest {
+
+    private static final Duration NEVER = Duration.ofHours(1);
+    private static final LocalDateTime CREATION_TIME = LocalDateTime.of(2024, 2, 3, 10, 15, 30);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuditWriter auditWriter;
+
+    @AfterEach
+    void tearDown() {
+        auditWriter.shutdown();
+    }
+
+    @Test
+    void shouldWriteAuditsToTheOutboxOnTheCallingThread() {
+        auditWriter = new AuditWriter(jdbcTemplate, meterRegistry, 10, NEVER);
+
+        auditWriter.write(audit("written"));
+
+        verify(jdbcTemplate).update(AuditWriter.INSERT, "user@justice.gov.uk", 1, "[]", "[]", "written",
+                                    Timestamp.valueOf(CREATION_TIME), "PATCH");
+    }
+
+    @Test
+    void shouldMoveTheOutboxInBatchesUntilItIsEmpty() {
+        auditWriter = new AuditWriter(jdbcTemplate, meterRegistry, 2, NEVER);
+        when(jdbcTemplate.update(AuditWriter.MOVE_BATCH, 2)).thenReturn(2, 2, 1);
+
+        auditWriter.flush();
+
+        verify(jdbcTemplate, times(3)).update(AuditWriter.MOVE_BATCH, 2);
+        assertThat(meterRegistry.get("audit.writer.flush").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldLeaveTheOutboxForTheNextFlushWhenItCannotBeMoved() {
+        auditWriter = new AuditWriter(jdbcTemplate, meterRegistry, 10, NEVER);
+        when(jdbcTemplate.update(AuditWriter.MOVE_BATCH, 10))
+            .thenThrow(new DataAccessResourceFailureException("Database unavailable"))
+            .thenReturn(1);
+
+        auditWriter.flush();
+
+        assertThat(meterRegistry.get("audit.writer.retried").counter().count()).isEqualTo(1);
+
+        auditWriter.flush();
+
+        verify(jdbcTemplate, times(2)).update(AuditWriter.MOVE_BATCH, 10);
+        assertThat(meterRegistry.get("audit.writer.retried").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishTheOutboxDepth() {
+        auditWriter = new AuditWriter(jdbcTemplate, meterRegistry, 10, NEVER);
+        when(jdbcTemplate.queryForObject("SELECT count(*) FROM admin_audit_outbox", Long.class)).thenReturn(3L);
+
+        assertThat(meterRegistry.get("audit.writer.queue.depth").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldMoveTheOutboxOnShutdown() {
+        auditWriter = new AuditWriter(jdbcTemplate, meterRegistry, 10, NEVER);
+
+        auditWriter.shutdown();
+
+        verify(jdbcTemplate).update(AuditWriter.MOVE_BATCH, 10);
+    }
+
+    private static PendingAudit audit(final String location) {
+        return new PendingAudit("user@justice.gov.uk", 1, "[]", "[]", location, CREATION_TIME, AuditDataEncoding.PATCH);
+    }
+}
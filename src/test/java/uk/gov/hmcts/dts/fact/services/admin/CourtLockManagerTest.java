@@ -0,0 +1,134 @@
+package uk.gov.hmcts.dts.fact.services.admin;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import uk.gov.hmcts.dts.fact.entity.CourtLock;
+import uk.gov.hmcts.dts.fact.exception.LockExistsException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CourtLockManagerTest {
+
+    private static final String SLUG = "mosh-slug";
+    private static final String USER = "mosh@cat.com";
+    private static final String OTHER_USER = "kupo@cat.com";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CourtLockManager courtLockManager =
+        new CourtLockManager(jdbcTemplate, Duration.ofMinutes(20), Duration.ofMinutes(1));
+
+    @Test
+    void shouldRenewFromMemoryWithinTheRenewalInterval() {
+        final CourtLock courtLock = new CourtLock(1, LocalDateTime.now(ZoneOffset.UTC), USER, SLUG);
+        whenAcquiring().thenReturn(List.of(new CourtLockLease(courtLock, true, null)));
+        when(jdbcTemplate.queryForList(CourtLockManager.HELD, Integer.class, SLUG, USER)).thenReturn(List.of(1));
+
+        assertThat(courtLockManager.acquire(SLUG, USER).isAcquired()).isTrue();
+        final CourtLockLease renewed = courtLockManager.acquire(SLUG, USER);
+
+        assertThat(renewed.isAcquired()).isFalse();
+        assertThat(renewed.getCourtLock()).isSameAs(courtLock);
+        verifyAcquired(1);
+    }
+
+    @Test
+    void shouldTakeTheLockAgainIfItWasDeletedOnAnotherInstance() {
+        final CourtLock courtLock = new CourtLock(1, LocalDateTime.now(ZoneOffset.UTC), USER, SLUG);
+        final CourtLock retaken = new CourtLock(2, LocalDateTime.now(ZoneOffset.UTC), USER, SLUG);
+        whenAcquiring()
+            .thenReturn(List.of(new CourtLockLease(courtLock, true, null)))
+            .thenReturn(List.of(new CourtLockLease(retaken, true, null)));
+        when(jdbcTemplate.queryForList(CourtLockManager.HELD, Integer.class, SLUG, USER)).thenReturn(List.of());
+
+        courtLockManager.acquire(SLUG, USER);
+        final CourtLockLease lease = courtLockManager.acquire(SLUG, USER);
+
+        assertThat(lease.isAcquired()).isTrue();
+        assertThat(lease.getCourtLock()).isSameAs(retaken);
+        verifyAcquired(2);
+    }
+
+    @Test
+    void shouldNotRenewFromMemoryIfTheLockWasTakenOnAnotherInstance() {
+        final CourtLock courtLock = new CourtLock(1, LocalDateTime.now(ZoneOffset.UTC), USER, SLUG);
+        whenAcquiring().thenReturn(List.of(new CourtLockLease(courtLock, true, null))).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(CourtLockManager.HELD, Integer.class, SLUG, USER)).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(SLUG))).thenReturn(List.of(OTHER_USER));
+
+        courtLockManager.acquire(SLUG, USER);
+
+        assertThatThrownBy(() -> courtLockManager.acquire(SLUG, USER))
+            .isInstanceOf(LockExistsException.class)
+            .hasMessage("Lock for court 'mosh-slug' is currently held by user 'kupo@cat.com'");
+    }
+
+    @Test
+    void shouldWriteARenewalOnceTheRenewalIntervalHasPassed() {
+        final CourtLock courtLock = new CourtLock(1, LocalDateTime.now(ZoneOffset.UTC).minusMinutes(2), USER, SLUG);
+        whenAcquiring().thenReturn(List.of(new CourtLockLease(courtLock, true, null)));
+
+        courtLockManager.acquire(SLUG, USER);
+        courtLockManager.acquire(SLUG, USER);
+
+        verifyAcquired(2);
+    }
+
+    @Test
+    void shouldGoToTheDatabaseForAnotherUser() {
+        final CourtLock courtLock = new CourtLock(1, LocalDateTime.now(ZoneOffset.UTC), USER, SLUG);
+        whenAcquiring().thenReturn(List.of(new CourtLockLease(courtLock, true, null))).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(SLUG))).thenReturn(List.of(USER));
+
+        courtLockManager.acquire(SLUG, USER);
+
+        assertThatThrownBy(() -> courtLockManager.acquire(SLUG, OTHER_USER))
+            .isInstanceOf(LockExistsException.class)
+            .hasMessage("Lock for court 'mosh-slug' is currently held by user 'mosh@cat.com'");
+        verifyAcquired(2);
+    }
+
+    @Test
+    void shouldGoToTheDatabaseOnceTheLeaseIsForgotten() {
+        final CourtLock courtLock = new CourtLock(1, LocalDateTime.now(ZoneOffset.UTC), USER, SLUG);
+        whenAcquiring().thenReturn(List.of(new CourtLockLease(courtLock, true, null)));
+
+        courtLockManager.acquire(SLUG, USER);
+        courtLockManager.forget(SLUG);
+        courtLockManager.acquire(SLUG, USER);
+        courtLockManager.forgetUser(USER);
+        courtLockManager.acquire(SLUG, USER);
+
+        verifyAcquired(3);
+    }
+
+    @Test
+    void shouldRenewMoreOftenThanLeasesExpire() {
+        assertThatThrownBy(() -> new CourtLockManager(jdbcTemplate, Duration.ofMinutes(1), Duration.ofMinutes(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private OngoingStubbing<List<CourtLockLease>> whenAcquiring() {
+        return when(jdbcTemplate.query(eq(CourtLockManager.ACQUIRE), any(RowMapper.class), any(Object[].class)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyAcquired(final int times) {
+        verify(jdbcTemplate, times(times)).query(eq(CourtLockManager.ACQUIRE), any(RowMapper.class), any(Object[].class));
+    }
+}
@@ -9,6 +9,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.model.admin.AddressType;
 import uk.gov.hmcts.dts.fact.repositories.AddressTypeRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataLoader;
 
 import java.util.Arrays;
 import java.util.List;
@@ -17,7 +20,7 @@ import java.util.Map;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
-@ContextConfiguration(classes = AdminAddressTypeService.class)
+@ContextConfiguration(classes = {AdminAddressTypeService.class, ReferenceDataCatalogue.class})
 class AdminAddressTypeServiceTest {
     private static final int TEST_TYPE_ID1 = 1;
     private static final int TEST_TYPE_ID2 = 2;
@@ -37,6 +40,12 @@ class AdminAddressTypeServiceTest {
     @Autowired
     private AdminAddressTypeService adminService;
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
+
     @MockitoBean
     private AddressTypeRepository addressTypeRepository;
 
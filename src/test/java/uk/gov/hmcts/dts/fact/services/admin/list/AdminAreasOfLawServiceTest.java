@@ -21,6 +21,9 @@ import uk.gov.hmcts.dts.fact.repositories.AreasOfLawRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtAreaOfLawRepository;
 import uk.gov.hmcts.dts.fact.repositories.CourtLocalAuthorityAreaOfLawRepository;
 import uk.gov.hmcts.dts.fact.repositories.ServiceAreaRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataLoader;
 import uk.gov.hmcts.dts.fact.services.admin.AdminAuditService;
 
 import java.util.Arrays;
@@ -42,12 +45,18 @@ import static org.mockito.Mockito.when;
 
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.ExcessiveImports"})
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
-@ContextConfiguration(classes = AdminAreasOfLawService.class)
+@ContextConfiguration(classes = {AdminAreasOfLawService.class, ReferenceDataCatalogue.class})
 class AdminAreasOfLawServiceTest {
 
     @Autowired
     private AdminAreasOfLawService areasOfLawService;
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
+
     @MockitoBean
     private AreasOfLawRepository areasOfLawRepository;
 
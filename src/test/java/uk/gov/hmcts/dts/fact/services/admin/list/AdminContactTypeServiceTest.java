@@ -21,6 +21,9 @@ import uk.gov.hmcts.dts.fact.repositories.ContactRepository;
 import uk.gov.hmcts.dts.fact.repositories.ContactTypeRepository;
 import uk.gov.hmcts.dts.fact.repositories.EmailRepository;
 import uk.gov.hmcts.dts.fact.repositories.EmailTypeRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataLoader;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -39,7 +42,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
-@ContextConfiguration(classes = AdminContactTypeService.class)
+@ContextConfiguration(classes = {AdminContactTypeService.class, ReferenceDataCatalogue.class})
 @SuppressWarnings("PMD.ExcessiveImports")
 class AdminContactTypeServiceTest {
 
@@ -60,6 +63,12 @@ class AdminContactTypeServiceTest {
     @Autowired
     private AdminContactTypeService adminContactTypeService;
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
+
     @MockitoBean
     private EmailRepository emailRepository;
 
@@ -16,6 +16,9 @@ import uk.gov.hmcts.dts.fact.exception.ListItemInUseException;
 import uk.gov.hmcts.dts.fact.exception.NotFoundException;
 import uk.gov.hmcts.dts.fact.repositories.FacilityRepository;
 import uk.gov.hmcts.dts.fact.repositories.FacilityTypeRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataCatalogue;
+import uk.gov.hmcts.dts.fact.services.ReferenceDataLoader;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -35,7 +38,7 @@ import static org.mockito.Mockito.when;
 
 @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.TooManyMethods"})
 @ExtendWith({SpringExtension.class, MockitoExtension.class})
-@ContextConfiguration(classes = AdminFacilityService.class)
+@ContextConfiguration(classes = {AdminFacilityService.class, ReferenceDataCatalogue.class})
 class AdminFacilityServiceTest {
 
     private static final int FACILITY_TYPE_COUNT = 3;
@@ -43,6 +46,12 @@ class AdminFacilityServiceTest {
     @Autowired
     private AdminFacilityService adminFacilityService;
 
+    @MockitoBean
+    private ReferenceDataLoader referenceDataLoader;
+
+    @MockitoBean
+    private DataVersion dataVersion;
+
     @MockitoBean
     private FacilityTypeRepository facilityTypeRepository;
 
@@ -10,17 +10,13 @@ import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,12 +31,13 @@ class CivilSearchTest {
     private static final String JE2_4 = "JE2 4";
     private static final String JE2 = "JE2";
     private static final String JE = "JE";
+    private static final List<String> POSTCODES = List.of(JE2_4BA, JE2_4, JE2, JE);
 
     @Autowired
     private CivilSearch civilSearch;
 
     @MockitoBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
 
     @MockitoBean
     private FallbackProximitySearch fallbackProximitySearch;
@@ -48,164 +45,65 @@ class CivilSearchTest {
     @Test
     void shouldReturnCivilSearchResults() {
 
-        final MapitData mapitData = mock(MapitData.class);
-        final ServiceArea serviceArea = new ServiceArea();
-        final AreaOfLaw aol = new AreaOfLaw();
-        aol.setName(AREA_OF_LAW);
-        serviceArea.setAreaOfLaw(aol);
+        final MapitData mapitData = mapitData();
         final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
 
-        when(mapitData.getLat()).thenReturn(LAT);
-        when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true))
+        when(courtSpatialIndex.findNearestByAreaOfLawAndCourtPostcodes(LAT, LON, AREA_OF_LAW, POSTCODES, true))
             .thenReturn(courts);
         when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
+        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea(), mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true);
+        verify(courtSpatialIndex).findNearestByAreaOfLawAndCourtPostcodes(LAT, LON, AREA_OF_LAW, POSTCODES, true);
         verify(fallbackProximitySearch).fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData);
-        verify(courtWithDistanceRepository, times(1)).findNearestTenByAreaOfLawAndCourtPostcode(
-            any(),
-            any(),
-            any(),
-            any(),
-            anyBoolean()
-        );
     }
 
     @Test
-    void shouldReturnCivilSearchResultsWithPartialPostcodeMinusUnitCode() {
+    void shouldTryPostcodesWithoutSpaces() {
 
-        final MapitData mapitData = mock(MapitData.class);
-        final ServiceArea serviceArea = new ServiceArea();
-        final AreaOfLaw aol = new AreaOfLaw();
-        aol.setName(AREA_OF_LAW);
-        serviceArea.setAreaOfLaw(aol);
+        final MapitData mapitData = mapitData();
         final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
+        final List<String> postcodes = List.of("JE24BA", "JE24", "JE2", JE);
 
-        when(mapitData.getLat()).thenReturn(LAT);
-        when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4, true))
+        when(courtSpatialIndex.findNearestByAreaOfLawAndCourtPostcodes(LAT, LON, AREA_OF_LAW, postcodes, false))
             .thenReturn(courts);
-        when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData)).thenReturn(courts);
+        when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, false, mapitData)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
+        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea(), mapitData, "JE24BA", false);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true);
-        verify(courtWithDistanceRepository, times(2)).findNearestTenByAreaOfLawAndCourtPostcode(
-            any(),
-            any(),
-            any(),
-            any(),
-            anyBoolean()
-        );
+        verify(courtSpatialIndex).findNearestByAreaOfLawAndCourtPostcodes(LAT, LON, AREA_OF_LAW, postcodes, false);
     }
 
     @Test
-    void shouldReturnCivilSearchResultsWithPartialPostcodeOutcode() {
+    void shouldReturnCivilSearchResultsFallback() {
 
-        final MapitData mapitData = mock(MapitData.class);
-        final ServiceArea serviceArea = new ServiceArea();
-        final AreaOfLaw aol = new AreaOfLaw();
-        aol.setName(AREA_OF_LAW);
-        serviceArea.setAreaOfLaw(aol);
+        final MapitData mapitData = mapitData();
         final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
 
-        when(mapitData.getLat()).thenReturn(LAT);
-        when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4, true))
+        when(courtSpatialIndex.findNearestByAreaOfLawAndCourtPostcodes(LAT, LON, AREA_OF_LAW, POSTCODES, true))
             .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2, true))
-            .thenReturn(courts);
-        when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData)).thenReturn(courts);
+        when(fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData)).thenReturn(courts);
 
-        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
+        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea(), mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true);
-        verify(courtWithDistanceRepository, times(3)).findNearestTenByAreaOfLawAndCourtPostcode(
-            any(),
-            any(),
-            any(),
-            any(),
-            anyBoolean()
-        );
+        verify(fallbackProximitySearch).fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData);
     }
 
-    @Test
-    void shouldReturnCivilSearchResultsWithPartialPostcodeArea() {
-
+    private static MapitData mapitData() {
         final MapitData mapitData = mock(MapitData.class);
-        final ServiceArea serviceArea = new ServiceArea();
-        final AreaOfLaw aol = new AreaOfLaw();
-        aol.setName(AREA_OF_LAW);
-        serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
-
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE, true))
-            .thenReturn(courts);
-        when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData)).thenReturn(courts);
-
-        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
-
-        assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true);
-        verify(courtWithDistanceRepository, times(4)).findNearestTenByAreaOfLawAndCourtPostcode(
-            any(),
-            any(),
-            any(),
-            any(),
-            anyBoolean()
-        );
+        return mapitData;
     }
 
-    @Test
-    void shouldReturnCivilSearchResultsFallback() {
-
-        final MapitData mapitData = mock(MapitData.class);
+    private static ServiceArea serviceArea() {
         final ServiceArea serviceArea = new ServiceArea();
         final AreaOfLaw aol = new AreaOfLaw();
         aol.setName(AREA_OF_LAW);
         serviceArea.setAreaOfLaw(aol);
-        final List<CourtWithDistance> courts = singletonList(mock(CourtWithDistance.class));
-
-        when(mapitData.getLat()).thenReturn(LAT);
-        when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2, true))
-            .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE, true))
-            .thenReturn(emptyList());
-        when(fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData)).thenReturn(courts);
-
-        final List<CourtWithDistance> courtWithDistances = civilSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
-
-        assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, JE2_4BA, true);
-        verify(courtWithDistanceRepository, times(4)).findNearestTenByAreaOfLawAndCourtPostcode(
-            any(),
-            any(),
-            any(),
-            any(),
-            anyBoolean()
-        );
+        return serviceArea;
     }
 }
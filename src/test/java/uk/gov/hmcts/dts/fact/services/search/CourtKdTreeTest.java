@@ -0,0 +1,112 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class CourtKdTreeTest {
+
+    private static final double LONDON_LAT = 51.5074;
+    private static final double LONDON_LON = -0.1278;
+
+    @Test
+    void shouldReturnNearestCourtsInDistanceOrder() {
+        final List<CourtWithDistance> courts = List.of(
+            court(1, "Birmingham", 52.4862, -1.8904, true),
+            court(2, "Croydon", 51.3762, -0.0982, true),
+            court(3, "Manchester", 53.4808, -2.2426, true),
+            court(4, "Westminster", 51.4975, -0.1357, true)
+        );
+
+        final List<CourtWithDistance> results = new CourtKdTree(courts).nearest(LONDON_LAT, LONDON_LON, 3, c -> true);
+
+        assertThat(results).extracting(CourtWithDistance::getName)
+            .containsExactly("Westminster", "Croydon", "Birmingham");
+        assertThat(results.get(0).getDistance()).isCloseTo(0.76, within(0.01));
+    }
+
+    @Test
+    void shouldOrderCourtsAtTheSameLocationByName() {
+        final List<CourtWithDistance> courts = List.of(
+            court(1, "Zeta Court", 51.0, -1.0, true),
+            court(2, "alpha Court", 51.0, -1.0, true),
+            court(3, "Beta Court", 51.0, -1.0, true)
+        );
+
+        final List<CourtWithDistance> results = new CourtKdTree(courts).nearest(51.0, -1.0, 10, c -> true);
+
+        assertThat(results).extracting(CourtWithDistance::getName)
+            .containsExactly("alpha Court", "Beta Court", "Zeta Court");
+    }
+
+    @Test
+    void shouldApplyFilterAndPutCourtsWithoutCoordinatesLast() {
+        final List<CourtWithDistance> courts = List.of(
+            court(1, "Open", 51.5, -0.1, true),
+            court(2, "Closed", 51.5, -0.1, false),
+            court(3, "Service centre", null, null, true)
+        );
+
+        final List<CourtWithDistance> results = new CourtKdTree(courts)
+            .nearest(LONDON_LAT, LONDON_LON, 10, c -> Boolean.TRUE.equals(c.getDisplayed()));
+
+        assertThat(results).extracting(CourtWithDistance::getName).containsExactly("Open", "Service centre");
+        assertThat(results.get(1).getDistance()).isNull();
+    }
+
+    @Test
+    void shouldReturnCopiesOfTheIndexedCourts() {
+        final CourtWithDistance court = court(1, "Court", 51.5, -0.1, true);
+
+        final List<CourtWithDistance> results = new CourtKdTree(List.of(court)).nearest(LONDON_LAT, LONDON_LON, 1, c -> true);
+
+        assertThat(results.get(0)).isNotSameAs(court);
+        assertThat(results.get(0).getSlug()).isEqualTo(court.getSlug());
+        assertThat(court.getDistance()).isNull();
+    }
+
+    @Test
+    void shouldMatchBruteForceSearch() {
+        final Random random = new Random(42);
+        final List<CourtWithDistance> courts = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            courts.add(court(i, "Court " + i, 50 + random.nextDouble() * 5, -5 + random.nextDouble() * 6, true));
+        }
+        final CourtKdTree tree = new CourtKdTree(courts);
+
+        for (int i = 0; i < 50; i++) {
+            final double lat = 50 + random.nextDouble() * 5;
+            final double lon = -5 + random.nextDouble() * 6;
+            final List<String> expected = courts.stream()
+                .sorted(Comparator.comparingDouble(c -> CourtKdTree.distanceInMiles(lat, lon, c.getLat(), c.getLon())))
+                .limit(10)
+                .map(CourtWithDistance::getName)
+                .collect(toList());
+
+            assertThat(tree.nearest(lat, lon, 10, c -> true))
+                .extracting(CourtWithDistance::getName)
+                .containsExactlyElementsOf(expected);
+        }
+    }
+
+    private static CourtWithDistance court(final int id, final String name, final Double lat, final Double lon,
+                                           final boolean displayed) {
+        final CourtWithDistance court = new CourtWithDistance();
+        court.setId(id);
+        court.setName(name);
+        court.setSlug(name.toLowerCase(Locale.ROOT).replace(' ', '-'));
+        court.setLat(lat);
+        court.setLon(lon);
+        court.setDisplayed(displayed);
+        return court;
+    }
+}
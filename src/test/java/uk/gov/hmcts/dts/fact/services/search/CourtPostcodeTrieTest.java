@@ -0,0 +1,78 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository.CourtPostcodeValue;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CourtPostcodeTrieTest {
+
+    private static final List<String> POSTCODES = List.of("OX1 1RZ", "OX1 1", "OX1", "OX");
+
+    private CourtWithDistance fullPostcodeCourt;
+    private CourtWithDistance outcodeCourt;
+    private CourtWithDistance areaCourt;
+    private CourtPostcodeTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        fullPostcodeCourt = court(1, "Full postcode court", true);
+        outcodeCourt = court(2, "Outcode court", true);
+        areaCourt = court(3, "Area court", false);
+
+        trie = new CourtPostcodeTrie(
+            List.of(
+                courtPostcode(1, "ox1 1rz"),
+                courtPostcode(2, "OX1"),
+                courtPostcode(2, "O X 1"),
+                courtPostcode(3, "OX"),
+                courtPostcode(4, "OX1 1RZ")
+            ),
+            Map.of(1, fullPostcodeCourt, 2, outcodeCourt, 3, areaCourt)
+        );
+    }
+
+    @Test
+    void shouldReturnCourtsForTheLongestMatchingPostcode() {
+        assertThat(trie.firstMatch(POSTCODES, c -> true)).containsExactly(fullPostcodeCourt);
+    }
+
+    @Test
+    void shouldSkipPostcodesWithoutAnyCourtMatchingTheFilter() {
+        assertThat(trie.firstMatch(POSTCODES, c -> c.getId() != 1)).containsExactly(outcodeCourt);
+        assertThat(trie.firstMatch(POSTCODES, c -> !c.getDisplayed())).containsExactly(areaCourt);
+    }
+
+    @Test
+    void shouldMatchPostcodesThatAreNotPrefixesOfTheFirst() {
+        assertThat(trie.firstMatch(List.of("OX2 6NN", "OX"), c -> true)).containsExactly(areaCourt);
+    }
+
+    @Test
+    void shouldReturnNothingWhenNoPostcodeMatches() {
+        assertThat(trie.firstMatch(List.of("SW1A 1AA", "SW1A 1", "SW1A", "SW"), c -> true)).isEmpty();
+        assertThat(trie.firstMatch(List.of(), c -> true)).isEmpty();
+    }
+
+    private static CourtWithDistance court(final int id, final String name, final boolean displayed) {
+        final CourtWithDistance court = new CourtWithDistance();
+        court.setId(id);
+        court.setName(name);
+        court.setDisplayed(displayed);
+        return court;
+    }
+
+    private static CourtPostcodeValue courtPostcode(final int courtId, final String postcode) {
+        final CourtPostcodeValue courtPostcode = mock(CourtPostcodeValue.class);
+        when(courtPostcode.getCourtId()).thenReturn(courtId);
+        when(courtPostcode.getPostcode()).thenReturn(postcode);
+        return courtPostcode;
+    }
+}
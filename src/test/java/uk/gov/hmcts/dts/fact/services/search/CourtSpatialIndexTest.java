@@ -0,0 +1,193 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
+import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
+import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository.CourtPostcodeValue;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("PMD.DoNotUseThreads")
+class CourtSpatialIndexTest {
+
+    private static final double LAT = 51.5;
+    private static final double LON = -0.1;
+    private static final long VERSION = 1L;
+    private static final String AREA_OF_LAW = "Money claims";
+    private static final List<String> POSTCODES = List.of("JE2 4BA", "JE2 4", "JE2", "JE");
+
+    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndexLoader courtSpatialIndexLoader;
+    private DataVersion dataVersion;
+    private MeterRegistry meterRegistry;
+    private CourtSpatialIndex courtSpatialIndex;
+
+    @BeforeEach
+    void setUp() {
+        courtWithDistanceRepository = mock(CourtWithDistanceRepository.class);
+        courtSpatialIndexLoader = mock(CourtSpatialIndexLoader.class);
+        dataVersion = mock(DataVersion.class);
+        meterRegistry = new SimpleMeterRegistry();
+        courtSpatialIndex = new CourtSpatialIndex(courtWithDistanceRepository, courtSpatialIndexLoader, dataVersion,
+                                                  meterRegistry);
+
+        final CourtWithDistance court = new CourtWithDistance();
+        court.setId(1);
+        court.setName("Indexed court");
+        court.setLat(LAT);
+        court.setLon(LON);
+        court.setDisplayed(true);
+        final AreaOfLaw areaOfLaw = new AreaOfLaw();
+        areaOfLaw.setName(AREA_OF_LAW);
+        court.setAreasOfLaw(List.of(areaOfLaw));
+        final CourtPostcodeValue courtPostcode = mock(CourtPostcodeValue.class);
+        when(courtPostcode.getCourtId()).thenReturn(1);
+        when(courtPostcode.getPostcode()).thenReturn("JE2");
+        final CourtSpatialPartitions partitions =
+            new CourtSpatialPartitions(VERSION, List.of(court), emptyList(), emptyList(), List.of(courtPostcode));
+
+        when(dataVersion.current()).thenReturn(VERSION);
+        when(courtSpatialIndexLoader.load(anyLong())).thenReturn(partitions);
+        when(courtSpatialIndexLoader.query(any()))
+            .thenAnswer(invocation -> invocation.<Supplier<List<CourtWithDistance>>>getArgument(0).get());
+    }
+
+    @AfterEach
+    void tearDown() {
+        courtSpatialIndex.shutdown();
+    }
+
+    @Test
+    void shouldUseRepositoryUntilTheIndexIsBuilt() {
+        final List<CourtWithDistance> courts = List.of(new CourtWithDistance());
+        when(courtWithDistanceRepository.findNearestTen(LAT, LON)).thenReturn(courts);
+
+        assertThat(courtSpatialIndex.findNearestTen(LAT, LON))
+            .usingRecursiveFieldByFieldElementComparator()
+            .isEqualTo(courts);
+        verify(courtWithDistanceRepository).findNearestTen(LAT, LON);
+    }
+
+    @Test
+    void shouldUseIndexOnceBuilt() {
+        courtSpatialIndex.rebuild();
+
+        assertThat(courtSpatialIndex.findNearestTen(LAT, LON))
+            .extracting(CourtWithDistance::getName)
+            .containsExactly("Indexed court");
+        verify(courtWithDistanceRepository, times(0)).findNearestTen(LAT, LON);
+    }
+
+    @Test
+    void shouldUseRepositoryWhenTheDataVersionHasMovedOn() {
+        courtSpatialIndex.rebuild();
+        when(dataVersion.current()).thenReturn(VERSION + 1);
+
+        courtSpatialIndex.findNearestTen(LAT, LON);
+
+        verify(courtWithDistanceRepository).findNearestTen(LAT, LON);
+    }
+
+    @Test
+    void shouldKeepUsingRepositoryWhenTheBuildFails() {
+        when(courtSpatialIndexLoader.load(anyLong())).thenThrow(new IllegalStateException("Database unavailable"));
+        courtSpatialIndex.rebuild();
+
+        courtSpatialIndex.findNearestTen(LAT, LON);
+
+        verify(courtWithDistanceRepository).findNearestTen(LAT, LON);
+    }
+
+    @Test
+    void shouldQueryCourtPostcodesInOrderUntilOneMatchesBeforeTheIndexIsBuilt() {
+        final List<CourtWithDistance> courts = List.of(new CourtWithDistance());
+        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, "JE2 4BA", true))
+            .thenReturn(emptyList());
+        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndCourtPostcode(LAT, LON, AREA_OF_LAW, "JE2 4", true))
+            .thenReturn(courts);
+
+        assertThat(courtSpatialIndex.findNearestByAreaOfLawAndCourtPostcodes(LAT, LON, AREA_OF_LAW, POSTCODES, true))
+            .usingRecursiveFieldByFieldElementComparator()
+            .isEqualTo(courts);
+        verify(courtWithDistanceRepository, times(2))
+            .findNearestTenByAreaOfLawAndCourtPostcode(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldMatchCourtPostcodesFromTheIndexOnceBuilt() {
+        courtSpatialIndex.rebuild();
+
+        assertThat(courtSpatialIndex.findNearestByAreaOfLawAndCourtPostcodes(LAT, LON, AREA_OF_LAW, POSTCODES, false))
+            .extracting(CourtWithDistance::getName)
+            .containsExactly("Indexed court");
+        assertThat(courtSpatialIndex.findNearestByAreaOfLawAndCourtPostcodes(LAT, LON, "Divorce", POSTCODES, false))
+            .isEmpty();
+        verify(courtWithDistanceRepository, never())
+            .findNearestTenByAreaOfLawAndCourtPostcode(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldShareIdenticalRepositoryQueriesMadeAtTheSameTime() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CourtWithDistance court = new CourtWithDistance();
+        court.setName("Queried court");
+        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, false))
+            .thenAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS);
+                return List.of(court);
+            });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final CompletableFuture<List<CourtWithDistance>> first = CompletableFuture.supplyAsync(
+                () -> courtSpatialIndex.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, false), executor);
+            final CompletableFuture<List<CourtWithDistance>> second = CompletableFuture.supplyAsync(
+                () -> courtSpatialIndex.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, false), executor);
+            while (singleFlightCalls("coalesced") == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).extracting(CourtWithDistance::getName)
+                .containsExactly("Queried court");
+            assertThat(second.get(5, TimeUnit.SECONDS)).extracting(CourtWithDistance::getName)
+                .containsExactly("Queried court");
+            // Each caller has its own copy of the courts
+            assertThat(first.get().get(0)).isNotSameAs(second.get().get(0));
+            verify(courtWithDistanceRepository, times(1)).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, false);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private double singleFlightCalls(final String result) {
+        return meterRegistry.get("singleflight.calls")
+            .tag("name", "court-spatial-index")
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+}
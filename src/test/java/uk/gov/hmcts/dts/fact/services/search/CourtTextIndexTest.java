@@ -0,0 +1,102 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.entity.AddressType;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.entity.CourtAddress;
+import uk.gov.hmcts.dts.fact.repositories.CourtRepository;
+import uk.gov.hmcts.dts.fact.services.DataVersion;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CourtTextIndexTest {
+
+    private static final long VERSION = 1L;
+    private static final String QUERY = "Taylor";
+
+    private CourtRepository courtRepository;
+    private CourtTextIndexLoader courtTextIndexLoader;
+    private DataVersion dataVersion;
+    private CourtTextIndex courtTextIndex;
+    private Court court;
+
+    @BeforeEach
+    void setUp() {
+        courtRepository = mock(CourtRepository.class);
+        courtTextIndexLoader = mock(CourtTextIndexLoader.class);
+        dataVersion = mock(DataVersion.class);
+        courtTextIndex = new CourtTextIndex(courtRepository, courtTextIndexLoader, dataVersion);
+
+        final CourtAddress address = new CourtAddress();
+        address.setId(2);
+        address.setAddressType(new AddressType(5880, "Visit us", null));
+        address.setAddress("88 Rosebery Avenue");
+        address.setTownName("London");
+        address.setPostcode("EC1R 4QU");
+        court = new Court();
+        court.setId(1);
+        court.setName("Taylor House Tribunal");
+        court.setDisplayed(true);
+        court.setCciCode(123);
+        court.setAddresses(List.of(address));
+
+        when(dataVersion.current()).thenReturn(VERSION);
+        when(courtTextIndexLoader.load(anyLong())).thenReturn(new CourtTextSearch(List.of(court)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        courtTextIndex.shutdown();
+    }
+
+    @Test
+    void shouldUseRepositoryUntilTheIndexIsBuilt() {
+        final List<Court> courts = List.of(new Court());
+        when(courtRepository.findCourtByNameAddressTownOrPartialPostcodeExactMatch(QUERY)).thenReturn(courts);
+
+        assertThat(courtTextIndex.findCourtByNameAddressTownOrPartialPostcodeExactMatch(QUERY)).isEqualTo(courts);
+        verify(courtRepository).findCourtByNameAddressTownOrPartialPostcodeExactMatch(QUERY);
+    }
+
+    @Test
+    void shouldUseIndexOnceBuilt() {
+        courtTextIndex.rebuild();
+
+        assertThat(courtTextIndex.findCourtByNameAddressTownOrPartialPostcodeExactMatch(QUERY)).containsExactly(court);
+        assertThat(courtTextIndex.findCourtByNameAddressOrTownFuzzyMatch("Taylr House")).containsExactly(court);
+        assertThat(courtTextIndex.findCourtByCourtCode(123)).containsExactly(court);
+        assertThat(courtTextIndex.findCourtByFullPostcode("EC1R 4QU")).containsExactly(court);
+        verify(courtRepository, never()).findCourtByNameAddressTownOrPartialPostcodeExactMatch(anyString());
+        verify(courtRepository, never()).findCourtByNameAddressOrTownFuzzyMatch(anyString());
+    }
+
+    @Test
+    void shouldUseRepositoryWhenTheDataVersionHasMovedOn() {
+        courtTextIndex.rebuild();
+        when(dataVersion.current()).thenReturn(VERSION + 1);
+
+        courtTextIndex.findCourtByNameAddressOrTownFuzzyMatch(QUERY);
+
+        verify(courtRepository).findCourtByNameAddressOrTownFuzzyMatch(QUERY);
+    }
+
+    @Test
+    void shouldKeepUsingRepositoryWhenTheBuildFails() {
+        when(courtTextIndexLoader.load(anyLong())).thenThrow(new IllegalStateException("Database unavailable"));
+        courtTextIndex.rebuild();
+
+        courtTextIndex.findCourtByCourtCode(123);
+
+        verify(courtRepository).findCourtByCourtCode(123);
+    }
+}
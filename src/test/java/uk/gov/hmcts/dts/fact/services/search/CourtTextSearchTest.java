@@ -0,0 +1,129 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.dts.fact.entity.AddressType;
+import uk.gov.hmcts.dts.fact.entity.Court;
+import uk.gov.hmcts.dts.fact.entity.CourtAddress;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourtTextSearchTest {
+
+    private static final int VISIT_US = 5880;
+    private static final int EXCLUDED = 5881;
+    private static final String MANCHESTER = "Manchester";
+    private static final String OXFORD = "Oxford";
+
+    private int nextId;
+    private Court minshullStreet;
+    private Court manchesterMagistrates;
+    private Court salford;
+    private Court oxfordCombined;
+    private Court banbury;
+    private Court abingdon;
+    private Court reading;
+    private CourtTextSearch search;
+
+    @BeforeEach
+    void setUp() {
+        minshullStreet = court("Minshull Street Court", address("Minshull Street", MANCHESTER, "M1 3FS"));
+        manchesterMagistrates = court("Manchester Magistrates' Court", address("Crown Square", "Salford", "M3 3BE"));
+        salford = court("Salford Court", address("Bexley Square", MANCHESTER, "M3 6DJ"));
+        oxfordCombined = court("Oxford Combined Court",
+                               address("St. Aldate's", OXFORD, "OX1 1TL"),
+                               address("PO Box 1", OXFORD, "OX1 1ZZ"));
+        banbury = court("Banbury Court", address("Warwick Road", OXFORD, "OX16 2AW"));
+        abingdon = court("Abingdon Court", address("1 Oxford Road", "Abingdon", "OX14 1AB"));
+        reading = court("Reading Court");
+        final CourtAddress excludedAddress = address("Castle Street", "Reading", "RG1 7SB");
+        excludedAddress.setAddressType(new AddressType(EXCLUDED, "Excluded", null));
+        reading.getAddresses().add(excludedAddress);
+
+        final Court hidden = court("Oxford Magistrates' Court", address("Speedwell Street", OXFORD, "OX1 1RZ"));
+        hidden.setDisplayed(false);
+        hidden.setCciCode(100);
+
+        final Court coded = court("Bolton Court", address("Blackhorse Street", "Bolton", "BL1 1SU"));
+        coded.setCciCode(100);
+        minshullStreet.setMagistrateCode(100);
+        salford.setNumber(101);
+
+        search = new CourtTextSearch(List.of(
+            minshullStreet, manchesterMagistrates, salford, oxfordCombined, banbury, abingdon, reading, hidden, coded
+        ));
+    }
+
+    @Test
+    void shouldSearchEveryDisplayedCourtAndAddressPair() {
+        // Oxford Combined Court has two addresses, and Reading Court is searched once without its excluded address
+        assertThat(search.size()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldFindCourtsByAnyCourtCodeInNameOrder() {
+        assertThat(search.findByCourtCode(100)).extracting(Court::getName)
+            .containsExactly("Bolton Court", "Minshull Street Court");
+        assertThat(search.findByCourtCode(101)).containsExactly(salford);
+        assertThat(search.findByCourtCode(102)).isEmpty();
+    }
+
+    @Test
+    void shouldFindCourtsByFullPostcodeIgnoringSpacesAndCase() {
+        assertThat(search.findByFullPostcode("ox11tl")).containsExactly(oxfordCombined);
+        assertThat(search.findByFullPostcode("OX1 1RZ")).isEmpty();
+        assertThat(search.findByFullPostcode("RG1 7SB")).isEmpty();
+    }
+
+    @Test
+    void shouldRankExactMatchesOnNameThenTownThenAddress() {
+        // Oxford Combined Court is returned once for each of its addresses, as by the database
+        assertThat(search.findByNameAddressTownOrPartialPostcodeExactMatch(OXFORD))
+            .containsExactly(oxfordCombined, oxfordCombined, banbury, abingdon);
+    }
+
+    @Test
+    void shouldMatchExactlyIgnoringPunctuation() {
+        assertThat(search.findByNameAddressTownOrPartialPostcodeExactMatch("staldates")).containsExactly(oxfordCombined);
+        assertThat(search.findByNameAddressTownOrPartialPostcodeExactMatch("OX16")).containsExactly(banbury);
+        assertThat(search.findByNameAddressTownOrPartialPostcodeExactMatch("CastleStreet")).isEmpty();
+        assertThat(search.findByNameAddressTownOrPartialPostcodeExactMatch("Speedwell")).isEmpty();
+    }
+
+    @Test
+    void shouldRankFuzzyMatchesByTownTyposAfterGoodNameMatches() {
+        assertThat(search.findByNameAddressOrTownFuzzyMatch("Manchestr"))
+            .containsExactly(minshullStreet, salford, manchesterMagistrates);
+        assertThat(search.findByNameAddressOrTownFuzzyMatch("Salford"))
+            .containsExactly(salford, manchesterMagistrates);
+    }
+
+    @Test
+    void shouldFindFuzzyMatchesOnNameAndAddress() {
+        assertThat(search.findByNameAddressOrTownFuzzyMatch("Minshul Street")).containsExactly(minshullStreet);
+        assertThat(search.findByNameAddressOrTownFuzzyMatch("Bexley Sqare")).containsExactly(salford);
+        assertThat(search.findByNameAddressOrTownFuzzyMatch("Zzyzx")).isEmpty();
+    }
+
+    private Court court(final String name, final CourtAddress... addresses) {
+        final Court court = new Court();
+        court.setId(++nextId);
+        court.setName(name);
+        court.setDisplayed(true);
+        court.setAddresses(new ArrayList<>(List.of(addresses)));
+        return court;
+    }
+
+    private CourtAddress address(final String address, final String town, final String postcode) {
+        final CourtAddress courtAddress = new CourtAddress();
+        courtAddress.setId(++nextId);
+        courtAddress.setAddressType(new AddressType(VISIT_US, "Visit us", null));
+        courtAddress.setAddress(address);
+        courtAddress.setTownName(town);
+        courtAddress.setPostcode(postcode);
+        return courtAddress;
+    }
+}
@@ -10,7 +10,6 @@ import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 
@@ -32,7 +31,7 @@ class DefaultSearchTest {
     private DefaultSearch defaultSearch;
 
     @MockitoBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
 
     @Test
     void shouldReturnDefaultSearchResults() {
@@ -46,11 +45,11 @@ class DefaultSearchTest {
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true)).thenReturn(courts);
+        when(courtSpatialIndex.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true)).thenReturn(courts);
 
         final List<CourtWithDistance> courtWithDistances = defaultSearch.searchWith(serviceArea, mapitData, "JE2 4BA", true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true);
+        verify(courtSpatialIndex).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true);
     }
 }
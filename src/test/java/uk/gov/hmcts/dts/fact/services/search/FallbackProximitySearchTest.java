@@ -8,7 +8,6 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 
@@ -32,7 +31,7 @@ class FallbackProximitySearchTest {
     private FallbackProximitySearch fallbackProximitySearch;
 
     @MockitoBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
 
     @Test
     void shouldReturnFallbackSearchResultsIfCourtsEmpty() {
@@ -42,12 +41,12 @@ class FallbackProximitySearchTest {
 
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true)).thenReturn(courts);
+        when(courtSpatialIndex.findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true)).thenReturn(courts);
 
         final List<CourtWithDistance> courtWithDistances = fallbackProximitySearch.fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true);
+        verify(courtSpatialIndex).findNearestTenByAreaOfLaw(LAT, LON, AREA_OF_LAW, true);
     }
 
     @Test
@@ -59,6 +58,6 @@ class FallbackProximitySearchTest {
         final List<CourtWithDistance> courtWithDistances = fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verifyNoInteractions(courtWithDistanceRepository);
+        verifyNoInteractions(courtSpatialIndex);
     }
 }
@@ -10,7 +10,6 @@ import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 import java.util.Optional;
@@ -38,7 +37,7 @@ class FamilyNonRegionalSearchTest {
     private FamilyNonRegionalSearch familyNonRegionalSearch;
 
     @MockitoBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
 
     @MockitoBean
     private FallbackProximitySearch fallbackProximitySearch;
@@ -56,14 +55,14 @@ class FamilyNonRegionalSearchTest {
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
         when(mapitData.getLocalAuthority()).thenReturn(Optional.of(LOCAL_AUTHORITY_NAME));
-        when(courtWithDistanceRepository.findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME, true))
+        when(courtSpatialIndex.findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME, true))
             .thenReturn(courts);
         when(fallbackProximitySearch.fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData)).thenReturn(courts);
 
         final List<CourtWithDistance> courtWithDistances = familyNonRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME, true);
+        verify(courtSpatialIndex).findNearestTenByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME, true);
         verify(fallbackProximitySearch).fallbackIfEmpty(courts, AREA_OF_LAW, true, mapitData);
     }
 
@@ -86,6 +85,6 @@ class FamilyNonRegionalSearchTest {
 
         assertThat(courtWithDistances).isEqualTo(courts);
         verify(fallbackProximitySearch).fallbackIfEmpty(emptyList(), AREA_OF_LAW, true, mapitData);
-        verifyNoMoreInteractions(courtWithDistanceRepository);
+        verifyNoMoreInteractions(courtSpatialIndex);
     }
 }
@@ -10,7 +10,6 @@ import uk.gov.hmcts.dts.fact.entity.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.entity.CourtWithDistance;
 import uk.gov.hmcts.dts.fact.entity.ServiceArea;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
-import uk.gov.hmcts.dts.fact.repositories.CourtWithDistanceRepository;
 
 import java.util.List;
 import java.util.Optional;
@@ -38,7 +37,7 @@ class FamilyRegionalSearchTest {
     private FamilyRegionalSearch familyRegionalSearch;
 
     @MockitoBean
-    private CourtWithDistanceRepository courtWithDistanceRepository;
+    private CourtSpatialIndex courtSpatialIndex;
 
     @Test
     void shouldReturnFamilyRegionalSearchResults() {
@@ -53,13 +52,13 @@ class FamilyRegionalSearchTest {
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
         when(mapitData.getLocalAuthority()).thenReturn(Optional.of(LOCAL_AUTHORITY_NAME));
-        when(courtWithDistanceRepository.findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME))
+        when(courtSpatialIndex.findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME))
             .thenReturn(courts);
 
         final List<CourtWithDistance> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME);
+        verify(courtSpatialIndex).findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME);
     }
 
     @Test
@@ -75,15 +74,15 @@ class FamilyRegionalSearchTest {
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
         when(mapitData.getLocalAuthority()).thenReturn(Optional.of(LOCAL_AUTHORITY_NAME));
-        when(courtWithDistanceRepository.findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME))
+        when(courtSpatialIndex.findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME))
             .thenReturn(emptyList());
-        when(courtWithDistanceRepository.findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW)).thenReturn(courts);
+        when(courtSpatialIndex.findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW)).thenReturn(courts);
 
         final List<CourtWithDistance> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME);
-        verify(courtWithDistanceRepository).findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW);
+        verify(courtSpatialIndex).findNearestRegionalByAreaOfLawAndLocalAuthority(LAT, LON, AREA_OF_LAW, LOCAL_AUTHORITY_NAME);
+        verify(courtSpatialIndex).findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW);
     }
 
     @Test
@@ -99,12 +98,12 @@ class FamilyRegionalSearchTest {
         when(mapitData.getLat()).thenReturn(LAT);
         when(mapitData.getLon()).thenReturn(LON);
         when(mapitData.getLocalAuthority()).thenReturn(empty());
-        when(courtWithDistanceRepository.findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW)).thenReturn(courts);
+        when(courtSpatialIndex.findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW)).thenReturn(courts);
 
         final List<CourtWithDistance> courtWithDistances = familyRegionalSearch.searchWith(serviceArea, mapitData, JE2_4BA, true);
 
         assertThat(courtWithDistances).isEqualTo(courts);
-        verify(courtWithDistanceRepository).findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW);
-        verifyNoMoreInteractions(courtWithDistanceRepository);
+        verify(courtSpatialIndex).findNearestRegionalByAreaOfLaw(LAT, LON, AREA_OF_LAW);
+        verifyNoMoreInteractions(courtSpatialIndex);
     }
 }
@@ -0,0 +1,55 @@
+package uk.gov.hmcts.dts.fact.services.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.dts.fact.services.search.PostgresTextFunctions.ilike;
+import static uk.gov.hmcts.dts.fact.services.search.PostgresTextFunctions.levenshtein;
+import static uk.gov.hmcts.dts.fact.services.search.PostgresTextFunctions.trigrams;
+import static uk.gov.hmcts.dts.fact.services.search.PostgresTextFunctions.wordSimilarity;
+
+class PostgresTextFunctionsTest {
+
+    @Test
+    void shouldSplitTextIntoPaddedWordTrigrams() {
+        assertThat(trigrams("Hi, Bob")).containsExactly("  h", " hi", "hi ", "  b", " bo", "bob", "ob ");
+        assertThat(trigrams(" -- ")).isEmpty();
+        assertThat(trigrams(null)).isEmpty();
+    }
+
+    @Test
+    void shouldMatchDatabaseWordSimilarity() {
+        // Values given by word_similarity in pg_trgm
+        assertThat(wordSimilarity(trigrams("word"), trigrams("two words"))).isEqualTo(0.8f);
+        assertThat(wordSimilarity(trigrams("Taylor House"), trigrams("Taylor House Tribunal"))).isEqualTo(1f);
+        assertThat(wordSimilarity(trigrams("court"), trigrams("Bexley Square"))).isZero();
+        assertThat(wordSimilarity(trigrams(""), trigrams("Bexley Square"))).isZero();
+    }
+
+    @Test
+    void shouldCountEditsBetweenTexts() {
+        assertThat(levenshtein("kitten", "sitting")).isEqualTo(3);
+        assertThat(levenshtein("", "abc")).isEqualTo(3);
+        assertThat(levenshtein("manchester", "manchester")).isZero();
+    }
+
+    @Test
+    void shouldStopCountingEditsOverTheBound() {
+        assertThat(levenshtein("kitten", "sitting", 3)).isEqualTo(3);
+        assertThat(levenshtein("kitten", "sitting", 2)).isEqualTo(3);
+        assertThat(levenshtein("a", "abcdef", 1)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMatchLikeAnIlikePattern() {
+        assertThat(ilike("%ford%").test("OXFORD COMBINED COURT")).isTrue();
+        assertThat(ilike("%ford%").test("Banbury")).isFalse();
+        assertThat(ilike("%ford%").test(null)).isFalse();
+        assertThat(ilike("man%").test("Manchester")).isTrue();
+        assertThat(ilike("man%").test("Bowman")).isFalse();
+        assertThat(ilike("b_b").test("BOB")).isTrue();
+        assertThat(ilike("100\\%").test("100%")).isTrue();
+        assertThat(ilike("100\\%").test("1000")).isFalse();
+        assertThat(ilike("%%").test("")).isTrue();
+    }
+}
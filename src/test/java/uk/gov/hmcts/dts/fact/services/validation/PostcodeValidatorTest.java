@@ -1,5 +1,6 @@
 package uk.gov.hmcts.dts.fact.services.validation;
 
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,14 +11,19 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import uk.gov.hmcts.dts.fact.exception.PostcodeCheckUnavailableException;
 import uk.gov.hmcts.dts.fact.mapit.MapitData;
+import uk.gov.hmcts.dts.fact.mapit.MapitLookup;
 import uk.gov.hmcts.dts.fact.services.MapitService;
 
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -27,15 +33,18 @@ class PostcodeValidatorTest {
     @MockitoBean
     private MapitService mockMapitService;
 
+    @MockitoBean
+    private RateLimiterRegistry rateLimiterRegistry;
+
     @Autowired
     private PostcodeValidator postcodeValidator;
 
     @BeforeEach
     void beforeEach() {
-        when(mockMapitService.getMapitData(Mockito.anyString()))
-            .thenReturn(Optional.of(new MapitData()));
-        when(mockMapitService.getMapitDataWithPartial(Mockito.anyString()))
-            .thenReturn(Optional.of(new MapitData()));
+        when(mockMapitService.lookUpPostcode(Mockito.anyString(), Mockito.any()))
+            .thenReturn(MapitLookup.found(new MapitData()));
+        when(mockMapitService.lookUpPartialPostcode(Mockito.anyString(), Mockito.any()))
+            .thenReturn(MapitLookup.found(new MapitData()));
     }
 
     @Test
@@ -70,4 +79,38 @@ class PostcodeValidatorTest {
         assertThat(PostcodeValidator.isFullPostcodeFormat(input)).isFalse();
         assertThat(postcodeValidator.fullPostcodeValid(input)).isFalse();
     }
+
+    @Test
+    void testPostcodesThatCouldNotBeLookedUpAreNotInvalid() {
+        when(mockMapitService.lookUpPostcode(Mockito.anyString(), Mockito.any())).thenReturn(MapitLookup.failed());
+        when(mockMapitService.lookUpPartialPostcode(Mockito.anyString(), Mockito.any()))
+            .thenReturn(MapitLookup.failed());
+
+        assertThatThrownBy(() -> postcodeValidator.fullPostcodeValid("SW1A 1AA"))
+            .isInstanceOf(PostcodeCheckUnavailableException.class);
+        assertThatThrownBy(() -> postcodeValidator.postcodeDataExists("SA63"))
+            .isInstanceOf(PostcodeCheckUnavailableException.class);
+    }
+
+    @Test
+    void testPostcodesInOneOutcodeLookTheOutcodeUpOnce() {
+        when(mockMapitService.lookUpPartialPostcode(Mockito.anyString(), Mockito.any()))
+            .thenReturn(MapitLookup.notFound());
+        when(mockMapitService.lookUpPartialPostcode(Mockito.eq("SW1A"), Mockito.any()))
+            .thenReturn(MapitLookup.found(new MapitData()));
+        final ValidationService validationService = new ValidationService(postcodeValidator, null, 4);
+
+        assertThat(validationService.validatePostcodes(List.of("SW1A1", "SW1A2", "SW1A3", "SW1A4"))).isEmpty();
+
+        verify(mockMapitService).lookUpPartialPostcode(Mockito.eq("SW1A1"), Mockito.any());
+        verify(mockMapitService).lookUpPartialPostcode(Mockito.eq("SW1A4"), Mockito.any());
+        verify(mockMapitService, times(1)).lookUpPartialPostcode(Mockito.eq("SW1A"), Mockito.any());
+    }
+
+    @Test
+    void testPostcodesNotFoundAreInvalid() {
+        when(mockMapitService.lookUpPostcode(Mockito.anyString(), Mockito.any())).thenReturn(MapitLookup.notFound());
+
+        assertThat(postcodeValidator.fullPostcodeValid("SW1A 1AA")).isFalse();
+    }
 }
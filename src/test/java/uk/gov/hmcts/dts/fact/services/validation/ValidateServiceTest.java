@@ -4,9 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import uk.gov.hmcts.dts.fact.exception.InvalidEpimIdException;
+import uk.gov.hmcts.dts.fact.exception.PostcodeCheckUnavailableException;
 import uk.gov.hmcts.dts.fact.model.admin.AreaOfLaw;
 import uk.gov.hmcts.dts.fact.model.admin.CourtAddress;
 import uk.gov.hmcts.dts.fact.model.admin.CourtSecondaryAddressType;
@@ -15,21 +17,31 @@ import uk.gov.hmcts.dts.fact.model.admin.CourtType;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = ValidationService.class)
+@TestPropertySource(properties = "mapit.validation.concurrency=" + ValidateServiceTest.MAPIT_CONCURRENCY)
 class ValidateServiceTest {
 
+    static final int MAPIT_CONCURRENCY = 4;
+
     @MockitoBean
     private PostcodeValidator postcodeValidator;
 
@@ -94,7 +106,7 @@ class ValidateServiceTest {
     void testValidatePostcodesSuccess() {
         // Expect no strings to be returned if all checks have passed
         final List<String> testPostcodes = Arrays.asList("M0", "MO5", "MO53", "MO533");
-        when(postcodeValidator.postcodeDataExists(anyString())).thenReturn(true);
+        when(postcodeValidator.postcodeDataExists(anyString(), any(PartialPostcodeLookups.class))).thenReturn(true);
         assertThat(validationService.validatePostcodes(testPostcodes)).isEmpty();
     }
 
@@ -102,17 +114,74 @@ class ValidateServiceTest {
     void testValidatePostcodesInvalid() {
         // Expect an array of strings to be returned if one or more checks have failed
         // Note: this also tests that the stripping/trimming works, as else the mocking will not succeed
-        when(postcodeValidator.postcodeDataExists("avalidpostcode")).thenReturn(true);
-        when(postcodeValidator.postcodeDataExists("aninvalidpostcode")).thenReturn(false);
-        when(postcodeValidator.postcodeDataExists("anotherinvalidpostcode")).thenReturn(false);
+        when(postcodeValidator.postcodeDataExists(eq("avalidpostcode"), any(PartialPostcodeLookups.class))).thenReturn(true);
+        when(postcodeValidator.postcodeDataExists(eq("aninvalidpostcode"), any(PartialPostcodeLookups.class))).thenReturn(false);
+        when(postcodeValidator.postcodeDataExists(eq("anotherinvalidpostcode"), any(PartialPostcodeLookups.class))).thenReturn(false);
 
         final List<String> testPostcodes = Arrays.asList("a valid postcode", "an invalid postcode", "another invalid postcode");
         assertThat(validationService.validatePostcodes(testPostcodes))
             .containsExactly("an invalid postcode", "another invalid postcode");
 
-        verify(postcodeValidator).postcodeDataExists("avalidpostcode");
-        verify(postcodeValidator).postcodeDataExists("aninvalidpostcode");
-        verify(postcodeValidator).postcodeDataExists("anotherinvalidpostcode");
+        verify(postcodeValidator).postcodeDataExists(eq("avalidpostcode"), any(PartialPostcodeLookups.class));
+        verify(postcodeValidator).postcodeDataExists(eq("aninvalidpostcode"), any(PartialPostcodeLookups.class));
+        verify(postcodeValidator).postcodeDataExists(eq("anotherinvalidpostcode"), any(PartialPostcodeLookups.class));
+    }
+
+    @Test
+    void testValidatePostcodesChecksEachDistinctPostcodeOnce() {
+        when(postcodeValidator.postcodeDataExists(eq("M11AA"), any(PartialPostcodeLookups.class))).thenReturn(false);
+        when(postcodeValidator.postcodeDataExists(eq("B11AA"), any(PartialPostcodeLookups.class))).thenReturn(true);
+
+        assertThat(validationService.validatePostcodes(Arrays.asList("M1 1AA", "B1 1AA", "m11aa", "M11AA")))
+            .containsExactly("M1 1AA", "m11aa", "M11AA");
+
+        verify(postcodeValidator).postcodeDataExists(eq("M11AA"), any(PartialPostcodeLookups.class));
+        verify(postcodeValidator).postcodeDataExists(eq("B11AA"), any(PartialPostcodeLookups.class));
+        verify(postcodeValidator, never()).postcodeDataExists(eq("m11aa"), any(PartialPostcodeLookups.class));
+    }
+
+    @Test
+    void testValidatePostcodesSharesThePartialLookupsAcrossTheList() {
+        final List<PartialPostcodeLookups> partialLookups = new CopyOnWriteArrayList<>();
+        when(postcodeValidator.postcodeDataExists(anyString(), any(PartialPostcodeLookups.class)))
+            .thenAnswer(invocation -> {
+                partialLookups.add(invocation.getArgument(1));
+                return true;
+            });
+
+        assertThat(validationService.validatePostcodes(Arrays.asList("SW1A1", "SW1A2", "SW1A3"))).isEmpty();
+        assertThat(partialLookups).hasSize(3);
+        assertThat(partialLookups).allMatch(lookups -> lookups == partialLookups.get(0));
+    }
+
+    @Test
+    void testValidatePostcodesFailsForPostcodesThatCouldNotBeChecked() {
+        when(postcodeValidator.postcodeDataExists(eq("M11AA"), any(PartialPostcodeLookups.class))).thenReturn(false);
+        when(postcodeValidator.postcodeDataExists(eq("B11AA"), any(PartialPostcodeLookups.class))).thenThrow(new PostcodeCheckUnavailableException("B11AA"));
+
+        assertThatThrownBy(() -> validationService.validatePostcodes(Arrays.asList("M1 1AA", "B1 1AA")))
+            .isInstanceOf(PostcodeCheckUnavailableException.class)
+            .extracting("postcodes")
+            .isEqualTo(singletonList("B1 1AA"));
+    }
+
+    @Test
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    void testValidatePostcodesChecksConcurrentlyWithinThePermits() {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger mostRunning = new AtomicInteger();
+        when(postcodeValidator.postcodeDataExists(anyString(), any(PartialPostcodeLookups.class))).thenAnswer(invocation -> {
+            mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return true;
+        });
+        final List<String> testPostcodes = IntStream.range(0, 40)
+            .mapToObj(i -> "M" + i)
+            .collect(Collectors.toList());
+
+        assertThat(validationService.validatePostcodes(testPostcodes)).isEmpty();
+        assertThat(mostRunning.get()).isBetween(2, MAPIT_CONCURRENCY);
     }
 
     @Test
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("PMD.DoNotUseThreads")
+class AsyncCachesTest {
+
+    private static final String KEY = "key";
+    private static final String VALUE = "value";
+
+    private final AsyncCache<String, String> cache = Caffeine.newBuilder().buildAsync();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldLoadAValueOnce() {
+        assertThat(AsyncCaches.get(cache, KEY, this::load)).isEqualTo(VALUE);
+        assertThat(AsyncCaches.get(cache, KEY, this::load)).isEqualTo(VALUE);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldNotCacheNull() {
+        assertThat(AsyncCaches.<String, String>get(cache, KEY, () -> null)).isNull();
+        assertThat(AsyncCaches.get(cache, KEY, this::load)).isEqualTo(VALUE);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldPassOnAndNotCacheFailedLoads() {
+        assertThatThrownBy(() -> AsyncCaches.get(cache, KEY, () -> {
+            throw new IllegalStateException("Failed");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("Failed");
+
+        assertThat(AsyncCaches.get(cache, KEY, this::load)).isEqualTo(VALUE);
+    }
+
+    @Test
+    void shouldWaitForALoadInProgress() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> AsyncCaches.get(cache, KEY, () -> {
+                loading.countDown();
+                await(release);
+                return load();
+            }), executor);
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            final CompletableFuture<String> second = CompletableFuture.supplyAsync(
+                () -> AsyncCaches.get(cache, KEY, this::load), executor);
+
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(VALUE);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(VALUE);
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldTellTheCallerWhenItWaitsForALoadInProgress() throws Exception {
+        final AtomicInteger coalesced = new AtomicInteger();
+        final CompletableFuture<String> loading = new CompletableFuture<>();
+        cache.put(KEY, loading);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<String> waiting = CompletableFuture.supplyAsync(
+                () -> AsyncCaches.get(cache, KEY, this::load, coalesced::incrementAndGet), executor);
+            while (coalesced.get() == 0) {
+                Thread.sleep(1);
+            }
+
+            loading.complete(VALUE);
+
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo(VALUE);
+            assertThat(loads).hasValue(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotCountCachedValuesAsCoalesced() {
+        final AtomicInteger coalesced = new AtomicInteger();
+        AsyncCaches.get(cache, KEY, this::load, coalesced::incrementAndGet);
+        AsyncCaches.get(cache, KEY, this::load, coalesced::incrementAndGet);
+
+        assertThat(coalesced).hasValue(0);
+    }
+
+    private String load() {
+        loads.incrementAndGet();
+        return VALUE;
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonPatchTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "{\"a\":1,\"b\":{\"c\":\"d\"}}|{\"a\":2,\"b\":{\"e\":null},\"f/~\":[]}",
+        "[1,2,3,4,5]|[1,3,5]",
+        "[]|[1,2]",
+        "[1,2,3,2,1]|[1,2,9,9,2,1]",
+        "[1,2]|[2,1]",
+        "null|{\"a\":1}",
+        "{\"a\":1}|[1]"
+    })
+    void shouldTurnTheSourceIntoTheTarget(final String source, final String target) throws Exception {
+        final JsonNode sourceNode = OBJECT_MAPPER.readTree(source);
+        final JsonNode targetNode = OBJECT_MAPPER.readTree(target);
+
+        assertThat(JsonPatch.apply(JsonPatch.diff(sourceNode, targetNode), sourceNode)).isEqualTo(targetNode);
+        assertThat(sourceNode).isEqualTo(OBJECT_MAPPER.readTree(source));
+    }
+
+    @Test
+    void shouldDescribeEqualDocumentsWithAnEmptyPatch() throws Exception {
+        final JsonNode document = OBJECT_MAPPER.readTree("{\"a\":[1,{\"b\":2}]}");
+
+        assertThat(JsonPatch.diff(document, document.deepCopy())).isEmpty();
+    }
+
+    @Test
+    void shouldDescribeRemovingARunOfElementsByRemovingThem() throws Exception {
+        final JsonNode source = OBJECT_MAPPER.readTree("[\"A1\",\"A2\",\"A3\",\"A4\",\"A5\"]");
+        final JsonNode target = OBJECT_MAPPER.readTree("[\"A1\",\"A4\",\"A5\"]");
+
+        assertThat(JsonPatch.diff(source, target)).isEqualTo(OBJECT_MAPPER.readTree(
+            "[{\"op\":\"remove\",\"path\":\"/1\"},{\"op\":\"remove\",\"path\":\"/1\"}]"
+        ));
+    }
+
+    @Test
+    void shouldRejectPatchesThatDontFitTheDocument() throws Exception {
+        final JsonNode document = OBJECT_MAPPER.readTree("{\"a\":[1]}");
+
+        assertThatThrownBy(() -> JsonPatch.apply(OBJECT_MAPPER.readTree(
+            "[{\"op\":\"remove\",\"path\":\"/a/5\"}]"), document)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonPatch.apply(OBJECT_MAPPER.readTree(
+            "[{\"op\":\"replace\",\"path\":\"/b/c\",\"value\":1}]"), document)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonPatch.apply(OBJECT_MAPPER.readTree("{}"), document))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
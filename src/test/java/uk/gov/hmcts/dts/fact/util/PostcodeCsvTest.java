@@ -0,0 +1,28 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostcodeCsvTest {
+
+    @Test
+    void shouldReadThePostcodesFromTheFirstColumn() throws IOException {
+        assertThat(read("\uFEFFPostcode,Court\r\n\"B1 7PT\",birmingham\r\n\r\nM1\n  m 2 \n"))
+            .containsExactly("B1 7PT", "M1", "m 2");
+    }
+
+    @Test
+    void shouldReadAnEmptyUpload() throws IOException {
+        assertThat(read("")).isEmpty();
+    }
+
+    private static List<String> read(final String csv) throws IOException {
+        return PostcodeCsv.read(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,118 @@
+package uk.gov.hmcts.dts.fact.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SuppressWarnings("PMD.DoNotUseThreads")
+class SingleFlightTest {
+
+    private static final String NAME = "test";
+    private static final String KEY = "key";
+    private static final String VALUE = "value";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(NAME, meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareACallInProgress() throws Exception {
+        final CompletableFuture<String> first = execute(KEY, this::slowCall);
+        awaitCount("executed");
+        final CompletableFuture<String> second = execute(KEY, this::slowCall);
+        awaitCount("coalesced");
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(VALUE);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(VALUE);
+        assertThat(calls).hasValue(1);
+        assertThat(count("executed")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotShareCallsForDifferentKeys() throws Exception {
+        release.countDown();
+
+        assertThat(execute(KEY, this::slowCall).get(5, TimeUnit.SECONDS)).isEqualTo(VALUE);
+        assertThat(execute("other", this::slowCall).get(5, TimeUnit.SECONDS)).isEqualTo(VALUE);
+        assertThat(calls).hasValue(2);
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    void shouldNotKeepResultsOnceTheCallReturns() {
+        assertThat(singleFlight.execute(KEY, this::call)).isEqualTo(VALUE);
+        assertThat(singleFlight.execute(KEY, this::call)).isEqualTo(VALUE);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void shouldPassTheFailureOnToTheWaitingCallers() throws Exception {
+        final CompletableFuture<String> first = execute(KEY, () -> {
+            slowCall();
+            throw new IllegalStateException("Failed");
+        });
+        awaitCount("executed");
+        final CompletableFuture<String> second = execute(KEY, this::slowCall);
+        awaitCount("coalesced");
+
+        release.countDown();
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.execute(KEY, this::call)).isEqualTo(VALUE);
+    }
+
+    private CompletableFuture<String> execute(final String key, final Supplier<String> call) {
+        return CompletableFuture.supplyAsync(() -> singleFlight.execute(key, call), executor);
+    }
+
+    private void awaitCount(final String result) throws InterruptedException {
+        while (count(result) == 0) {
+            Thread.sleep(1);
+        }
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get("singleflight.calls")
+            .tag("name", NAME)
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+
+    private String slowCall() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return call();
+    }
+
+    private String call() {
+        calls.incrementAndGet();
+        return VALUE;
+    }
+}
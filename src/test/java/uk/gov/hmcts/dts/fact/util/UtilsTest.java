@@ -13,6 +13,7 @@ import static uk.gov.hmcts.dts.fact.util.Utils.chooseString;
 import static uk.gov.hmcts.dts.fact.util.Utils.constructAddressLines;
 import static uk.gov.hmcts.dts.fact.util.Utils.convertNameToSlug;
 import static uk.gov.hmcts.dts.fact.util.Utils.decodeUrlFromString;
+import static uk.gov.hmcts.dts.fact.util.Utils.distinctPostcodes;
 import static uk.gov.hmcts.dts.fact.util.Utils.formatServiceAreasForIntroPara;
 import static uk.gov.hmcts.dts.fact.util.Utils.upperCaseAndStripAllSpaces;
 
@@ -77,6 +78,12 @@ class UtilsTest {
         assertThat(upperCaseAndStripAllSpaces(" b 1 7Pt ")).isEqualTo("B17PT");
     }
 
+    @Test
+    void testDistinctPostcodes() {
+        assertThat(distinctPostcodes(Arrays.asList("b1 7pt", " ", "M1", "B17PT", "m 1")))
+            .containsExactly("B17PT", "M1");
+    }
+
     @Test
     void testConstructAddressLines() {
         final String address = "\r\n1 High Street\r\n\r\nLondon\r\n";